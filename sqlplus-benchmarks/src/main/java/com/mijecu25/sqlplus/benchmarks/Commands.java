@@ -0,0 +1,141 @@
+package com.mijecu25.sqlplus.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mijecu25.sqlplus.parser.ScriptReader;
+
+/**
+ * Commands parsed by the benchmarks. The shapes go from short statements to inserts with thousands of rows and where
+ * clauses with hundreds of conditions, so that changes to the parser can be measured on each kind of command.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.3
+ */
+public class Commands {
+
+    public static final String SHORT_SELECT = "short-select";
+    public static final String SELECT_WHERE = "select-where";
+    public static final String UPDATE = "update";
+    public static final String WHERE_16 = "where-16";
+    public static final String WHERE_256 = "where-256";
+    public static final String INSERT_100_ROWS = "insert-100-rows";
+    public static final String INSERT_10000_ROWS = "insert-10000-rows";
+
+    private static final String CORPUS = "benchmark-corpus.sql";
+    private static final String[] CONNECTIVES = { " and ", " or ", " and ", " xor " };
+
+    /**
+     * Return the command of a shape.
+     *
+     * @param shape the name of the shape.
+     *
+     * @return the command.
+     */
+    public static String command(String shape) {
+        switch(shape) {
+            case Commands.SHORT_SELECT:
+                return "select * from classes;";
+            case Commands.SELECT_WHERE:
+                return "select name, year from classes where year >= 2010 and name <> 'sql' or credits in (3, 4);";
+            case Commands.UPDATE:
+                return "update students set credits = 120, enrolled = true where id between 10 and 20;";
+            case Commands.WHERE_16:
+                return Commands.where(16);
+            case Commands.WHERE_256:
+                return Commands.where(256);
+            case Commands.INSERT_100_ROWS:
+                return Commands.insert(100);
+            case Commands.INSERT_10000_ROWS:
+                return Commands.insert(10000);
+            default:
+                throw new IllegalArgumentException("There is no command with the shape " + shape);
+        }
+    }
+
+    /**
+     * Return a select with a where clause that has a number of conditions of different kinds joined by AND, OR and
+     * XOR.
+     *
+     * @param conditions the number of conditions.
+     *
+     * @return the command.
+     */
+    public static String where(int conditions) {
+        StringBuilder command = new StringBuilder("select * from grades where ");
+
+        for(int i = 0; i < conditions; i++) {
+            if(i > 0) {
+                command.append(Commands.CONNECTIVES[i % Commands.CONNECTIVES.length]);
+            }
+
+            switch(i % 5) {
+                case 0:
+                    command.append("c").append(i).append(" = ").append(i);
+                    break;
+                case 1:
+                    command.append("not c").append(i).append(" > ").append(i).append(".5");
+                    break;
+                case 2:
+                    command.append("c").append(i).append(" <> 'v").append(i).append('\'');
+                    break;
+                case 3:
+                    command.append("c").append(i).append(" in (1, 2, 3, ").append(i).append(')');
+                    break;
+                default:
+                    command.append("c").append(i).append(" between ").append(i).append(" and ").append(i * 2);
+            }
+        }
+
+        return command.append(';').toString();
+    }
+
+    /**
+     * Return an insert with a number of rows, each with an integer, a string, a decimal and NULL.
+     *
+     * @param rows the number of rows.
+     *
+     * @return the command.
+     */
+    public static String insert(int rows) {
+        StringBuilder command = new StringBuilder("insert into grades (student, course, grade, comment) values ");
+
+        for(int i = 0; i < rows; i++) {
+            if(i > 0) {
+                command.append(", ");
+            }
+
+            command.append('(').append(i).append(", 'course").append(i % 100).append("', ").append(i % 5)
+                    .append(".5, null)");
+        }
+
+        return command.append(';').toString();
+    }
+
+    /**
+     * Return the commands of benchmark-corpus.sql, a mix of the statements that a session sends.
+     *
+     * @return the commands.
+     *
+     * @throws IOException if the corpus cannot be read.
+     */
+    public static List<String> corpus() throws IOException {
+        List<String> corpus = new ArrayList<String>();
+
+        try(ScriptReader reader = new ScriptReader(new InputStreamReader(
+                Commands.class.getResourceAsStream(Commands.CORPUS), StandardCharsets.UTF_8))) {
+            String command = reader.readCommand();
+
+            while(command != null) {
+                corpus.add(command);
+                command = reader.readCommand();
+            }
+        }
+
+        return corpus;
+    }
+
+}
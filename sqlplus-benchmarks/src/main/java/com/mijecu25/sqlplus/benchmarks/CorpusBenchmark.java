@@ -0,0 +1,94 @@
+package com.mijecu25.sqlplus.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.runtime.RecognitionException;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.mijecu25.sqlplus.parser.FastPathParser;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Throughput of parsing the mix of commands in benchmark-corpus.sql with the grammar alone and with the two stage
+ * engine, which tries the FastPathParser before the grammar. Each operation is one command. Commands with syntax
+ * errors are counted, since they are sent to the server as is.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+@OperationsPerInvocation(CorpusBenchmark.COMMANDS)
+public class CorpusBenchmark {
+
+    // Number of commands in benchmark-corpus.sql
+    static final int COMMANDS = 21;
+
+    private List<String> corpus;
+    private SessionParser sessionParser;
+    private FastPathParser fastPathParser;
+
+    @Setup
+    public void setup() throws IOException {
+        // The constructors of the statements and expressions log every object, which would dominate the measurement
+        Configurator.setRootLevel(Level.OFF);
+        this.corpus = Commands.corpus();
+        this.sessionParser = new SessionParser();
+        this.fastPathParser = new FastPathParser();
+
+        if(this.corpus.size() != CorpusBenchmark.COMMANDS) {
+            throw new IllegalStateException("The corpus has " + this.corpus.size() + " commands instead of "
+                    + CorpusBenchmark.COMMANDS);
+        }
+    }
+
+    @Benchmark
+    public void grammar(Blackhole blackhole) {
+        for(String command : this.corpus) {
+            try {
+                blackhole.consume(this.sessionParser.parse(command));
+            }
+            catch(RecognitionException re) {
+                blackhole.consume(re);
+            }
+        }
+    }
+
+    @Benchmark
+    public void twoStage(Blackhole blackhole) {
+        for(String command : this.corpus) {
+            Object statement = this.fastPathParser.parse(command);
+
+            if(statement == null) {
+                try {
+                    statement = this.sessionParser.parse(command);
+                }
+                catch(RecognitionException re) {
+                    statement = re;
+                }
+            }
+
+            blackhole.consume(statement);
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.mijecu25.sqlplus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.RecognitionException;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.parser.SQLPlusLex;
+import com.mijecu25.sqlplus.parser.SQLPlusParser;
+
+/**
+ * Latency of the first parse in a new JVM, which includes loading and initializing the classes of the lexer, the
+ * parser and the statements, and running them in the interpreter. Each fork parses a single command, so the score is
+ * the distribution of the cold latency over the forks.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Thread)
+public class FirstParseBenchmark {
+
+    @Param({ Commands.SHORT_SELECT, Commands.SELECT_WHERE, Commands.INSERT_10000_ROWS })
+    public String shape;
+
+    private String command;
+
+    @Setup
+    public void setup() {
+        // The constructors of the statements and expressions log every object, which would dominate the measurement
+        Configurator.setRootLevel(Level.OFF);
+        this.command = Commands.command(this.shape);
+    }
+
+    @Benchmark
+    public Statement firstParse() throws RecognitionException {
+        return new SQLPlusParser(new CommonTokenStream(new SQLPlusLex(new ANTLRStringStream(this.command)))).sqlplus();
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.mijecu25.sqlplus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.RecognitionException;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.parser.FastPathParser;
+import com.mijecu25.sqlplus.parser.SQLPlusLex;
+import com.mijecu25.sqlplus.parser.SQLPlusParser;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Throughput of lexing and parsing a single command of each shape. The grammar is measured with a new lexer and parser
+ * for every command, with a SessionParser that is reset onto each command, and behind the FastPathParser. The parse
+ * cache is not used. Run with the GC profiler to report the bytes allocated per parse:
+ *
+ *      java -jar sqlplus-benchmarks/target/benchmarks.jar ParserBenchmark -prof gc
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class ParserBenchmark {
+
+    @Param({ Commands.SHORT_SELECT, Commands.SELECT_WHERE, Commands.UPDATE, Commands.WHERE_16, Commands.WHERE_256,
+            Commands.INSERT_100_ROWS, Commands.INSERT_10000_ROWS })
+    public String shape;
+
+    private String command;
+    private SessionParser sessionParser;
+    private FastPathParser fastPathParser;
+
+    @Setup
+    public void setup() {
+        // The constructors of the statements and expressions log every object, which would dominate the measurement
+        Configurator.setRootLevel(Level.OFF);
+        this.command = Commands.command(this.shape);
+        this.sessionParser = new SessionParser();
+        this.fastPathParser = new FastPathParser();
+    }
+
+    /**
+     * Lex the command without parsing it.
+     *
+     * @return the number of tokens.
+     */
+    @Benchmark
+    public int lex() {
+        CommonTokenStream tokens = new CommonTokenStream(new SQLPlusLex(new ANTLRStringStream(this.command)));
+        tokens.fill();
+
+        return tokens.size();
+    }
+
+    /**
+     * Parse the command with a new lexer and parser.
+     *
+     * @return the statement.
+     *
+     * @throws RecognitionException if the command cannot be parsed.
+     */
+    @Benchmark
+    public Statement grammar() throws RecognitionException {
+        return new SQLPlusParser(new CommonTokenStream(new SQLPlusLex(new ANTLRStringStream(this.command)))).sqlplus();
+    }
+
+    /**
+     * Parse the command with the grammar of a SessionParser, which reuses its lexer and parser.
+     *
+     * @return the statement.
+     *
+     * @throws RecognitionException if the command cannot be parsed.
+     */
+    @Benchmark
+    public Statement sessionParser() throws RecognitionException {
+        return this.sessionParser.parse(this.command);
+    }
+
+    /**
+     * Parse the command with the FastPathParser and fall back to the grammar if the fast path rejects it.
+     *
+     * @return the statement.
+     *
+     * @throws RecognitionException if the command cannot be parsed.
+     */
+    @Benchmark
+    public Statement twoStage() throws RecognitionException {
+        Statement statement = this.fastPathParser.parse(this.command);
+
+        return statement != null ? statement : this.sessionParser.parse(this.command);
+    }
+
+}
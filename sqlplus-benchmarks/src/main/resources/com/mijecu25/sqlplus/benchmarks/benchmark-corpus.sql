@@ -0,0 +1,24 @@
+-- Commands used by CorpusBenchmark. Most of them have the shapes that the fast path handles, the rest are
+-- parsed by the grammar.
+use courses;
+USE university;
+select * from classes;
+select name, year from classes where year = 2016;
+select c.name as class, c.year from courses.classes where year >= 2010 and year < 2020;
+select name from students where not enrolled = true or credits > 120;
+select * from grades where grade <> 'F' and student = "ada" xor course = 101;
+select id from enrollments where student is not null;
+insert into classes (name, year) values ('sql', 2016);
+insert into classes values ('databases', 2017), ('compilers', 2018), ('networks', 2019);
+INSERT INTO grades (student, course, grade) VALUES (1, 101, 'A'), (2, 101, 'B'), (3, 102, -1.5), (4, 103, null);
+insert students (id, name, credits) values (10, 'grace', 1.2e2);
+update classes set year = 2017 where name = 'sql';
+update students set credits = credits, enrolled = true where id = 10;
+UPDATE grades SET grade = default WHERE student = 3 AND course = 102;
+select * from classes where year = (select max from years);
+select name from students where exists = 1;
+select * from t
+where a = 1;
+update classes set year = 2018 where id = 1 || id = 2;
+insert into classes (name, year) values ('os', 2020);
+select name, year from classes where year = 2017;
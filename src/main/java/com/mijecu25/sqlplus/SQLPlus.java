@@ -5,23 +5,28 @@ import java.io.Console;
 import java.io.FileReader;
 import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
-import com.mijecu25.sqlplus.compiler.core.statement.StatementDefault;
 import jline.console.UserInterruptException;
-import org.antlr.runtime.ANTLRStringStream;
-import org.antlr.runtime.CommonTokenStream;
-import org.antlr.runtime.RecognitionException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.mijecu25.messages.Messages;
+import com.mijecu25.sqlplus.compiler.core.expression.SubqueryCache;
+import com.mijecu25.sqlplus.compiler.core.statement.AlertRules;
 import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementAlert;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementDML;
 import com.mijecu25.sqlplus.connection.SQLPlusConnection;
 import com.mijecu25.sqlplus.connection.SQLPlusMySQLConnection;
-import com.mijecu25.sqlplus.parser.SQLPlusLex;
-import com.mijecu25.sqlplus.parser.SQLPlusParser;
+import com.mijecu25.sqlplus.parser.ParseCache;
+import com.mijecu25.sqlplus.parser.ParseStatistics;
+import com.mijecu25.sqlplus.parser.SessionParser;
+import com.mijecu25.sqlplus.parser.StatementSplitter;
 
 import jline.TerminalFactory;
 import jline.console.ConsoleReader;
@@ -30,7 +35,7 @@ import jline.console.ConsoleReader;
  * SQLPlus add alerts to your sql queries.
  *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.30
+ * @version 0.1.0.43
  */
 public class SQLPlus {
 
@@ -38,14 +43,26 @@ public class SQLPlus {
     private static final String EXIT = "exit";
     private static final String QUIT = "quit";
     private static final String PROMPT = "sqlplus> ";
-    private static final char END_OF_COMMAND = ';';
+    private static final char END_OF_COMMAND = StatementSplitter.END_OF_COMMAND;
     private static final String WAIT_FOR_END_OF_COMMAND = "      -> ";
+    private static final String NEW_LINE = "\n";
     private static final String LICENSE_FILE = "LICENSE";
     private static final String APPLICATION_PROPERTIES_FILE = "application.properties";
     private static final String APPLICATION_PROPERTIES_FILE_VERSION = "application.version";
+    private static final String DRY_RUN = "--dry-run";
+    private static final String FIXTURE = "--fixture";
+    private static final int PARSE_CACHE_CAPACITY = 1024;
+    private static final int SUBQUERY_CACHE_CAPACITY = 256;
+    private static final long SUBQUERY_CACHE_TIME_TO_LIVE_SECONDS = 60;
 
     private static SQLPlusConnection sqlPlusConnection;
     private static ConsoleReader console;
+    private static ParseCache parseCache = new ParseCache(SQLPlus.PARSE_CACHE_CAPACITY);
+    private static SessionParser sessionParser = new SessionParser(SQLPlus.parseCache);
+    private static StatementSplitter splitter = new StatementSplitter();
+    private static AlertRules alerts = new AlertRules();
+    private static SubqueryCache subqueryCache = new SubqueryCache(SQLPlus.SUBQUERY_CACHE_CAPACITY,
+            SQLPlus.SUBQUERY_CACHE_TIME_TO_LIVE_SECONDS, TimeUnit.SECONDS);
 
     private static final Logger logger = LogManager.getLogger(SQLPlus.class);
 
@@ -56,6 +73,36 @@ public class SQLPlus {
 
         SQLPlus.logger.info("Initializing " + SQLPlus.PROGRAM_NAME + " version " + properties.getProperty(SQLPlus.APPLICATION_PROPERTIES_FILE_VERSION));
 
+        if ((args.length == 2 || (args.length == 4 && args[2].equals(SQLPlus.FIXTURE))) && args[0].equals(SQLPlus.DRY_RUN)) {
+            // Run the script through the parser without connecting to a database
+            SQLPlus.logger.info("Dry run of the script " + args[1]);
+            SQLPlusDryRun dryRun = new SQLPlusDryRun();
+
+            if (args.length == 4) {
+                SQLPlus.logger.info("Using the fixture " + args[3]);
+                BufferedReader fixture = new BufferedReader(new FileReader(args[3]));
+
+                try {
+                    dryRun.loadFixture(fixture);
+                }
+                finally {
+                    fixture.close();
+                }
+            }
+
+            BufferedReader script = new BufferedReader(new FileReader(args[1]));
+
+            try {
+                dryRun.run(script);
+            }
+            finally {
+                script.close();
+            }
+
+            System.out.println(dryRun.getReport());
+            return;
+        }
+
         // Check if the user is using a valid console (i.e. not from Eclipse)
 //        if (System.console() == null) {
 //            SQLPlus.logger.fatal(Messages.FATAL + "A JVM Console object was not found. Try running " + SQLPlus.PROGRAM_NAME
@@ -125,7 +172,7 @@ public class SQLPlus {
 
         try {
             while (true) {
-                System.out.print(SQLPlus.PROMPT);
+                System.out.print(SQLPlus.splitter.isEmpty() ? SQLPlus.PROMPT : SQLPlus.WAIT_FOR_END_OF_COMMAND);
                 try {
                     line = SQLPlus.console.readLine().trim();
                 }
@@ -183,55 +230,62 @@ public class SQLPlus {
                     break;
                 }
 
-                // Use a StringBuilder since jline works weird when it has read a line. The issue we were having was with the
-                // end of command logic. jline does not keep the input from the user in the variable that was stored in. Each
-                // time jline reads a new line, the variable is empty
-                StringBuilder query = new StringBuilder();
-                query.append(line);
+                // Feed each line to the splitter since jline works weird when it has read a line. jline does not keep the
+                // input from the user in the variable that was stored in. Each time jline reads a new line, the variable
+                // is empty. The splitter keeps the unfinished command until its delimiter is found
+                List<String> commands = new ArrayList<String>();
+                SQLPlus.splitter.append(line, commands);
+                SQLPlus.splitter.append(SQLPlus.NEW_LINE, commands);
 
-                while (query.charAt(query.length() - 1) != SQLPlus.END_OF_COMMAND) {
+                while (commands.isEmpty() && !SQLPlus.splitter.isEmpty()) {
                     System.out.print(SQLPlus.WAIT_FOR_END_OF_COMMAND);
-                    query.append(" ");
-                    line = StringUtils.stripEnd(SQLPlus.console.readLine(), null);
-                    query.append(line);
-                }
+                    line = SQLPlus.console.readLine();
 
-                SQLPlus.logger.info("Raw input from the user: " + query);
+                    if (line == null) {
+                        // The user entered the end of line command in the middle of a command, so they want to quit
+                        // without finishing it
+                        SQLPlus.logger.warn(Messages.WARNING + "The input from the user ended before the end of the"
+                                + " command. The unfinished command " + SQLPlus.splitter.finish() + " is discarded.");
+                        SQLPlus.exitSQLPlus();
 
-                try {
-                    Statement statement;
+                        return;
+                    }
+
+                    line = StringUtils.stripEnd(line, null);
+                    SQLPlus.splitter.append(line, commands);
+                    SQLPlus.splitter.append(SQLPlus.NEW_LINE, commands);
+                }
+
+                for (String query : commands) {
+                    SQLPlus.logger.info("Raw input from the user: " + query);
 
                     try {
-                        SQLPlus.logger.info("Will parse the user input to determine what to execute");
-                        ANTLRStringStream input = new ANTLRStringStream(query.toString());
-                        SQLPlusLex lexer = new SQLPlusLex(input);
-                        CommonTokenStream tokens = new CommonTokenStream(lexer);
-                        SQLPlusParser parser = new SQLPlusParser(tokens);
-
-                        statement = parser.sqlplus();
-                        // TODO check if null so that we catch the exception
+                        Statement statement = SQLPlus.parse(query);
+
+                        try {
+                            SQLPlus.checkAlerts(statement);
+                            SQLPlus.sqlPlusConnection.execute(statement);
+
+                            if (statement instanceof StatementAlert
+                                    && SQLPlus.alerts.add((StatementAlert) statement) == AlertRules.Registration.UNSATISFIABLE) {
+                                System.out.println(Messages.WARNING + "No row can satisfy the condition of this alert, so it "
+                                        + "will never fire");
+                            }
+                        }
+                        finally {
+                            // The statement might have written to tables read by cached subqueries, even if it failed
+                            SQLPlus.subqueryCache.invalidate(statement);
+                        }
                     }
-                    catch (RecognitionException re) {
-                        // TODO move this to somehwere else
-//                        String message = Messages.WARNING + "You have an error in your SQL syntax. Check the manual"
-//                                + " that corresponds to your " + SQLPlus.sqlPlusConnection.getCurrentDatabase()
-//                                + " server or " + SQLPlus.PROGRAM_NAME + " for the correct syntax";
-//                        SQLPlus.logger.warn(message);
-//                        System.out.println(message);
-                        statement = new StatementDefault();
+                    catch (UnsupportedOperationException uoe) {
+                        // This exception can occur when the user entered a command allowed by the parsers, but not
+                        // currently supported by SQLPlus. This can occur because the parser is written in such a way that
+                        // supports the addition of features.
+                        SQLPlus.logger.warn(Messages.WARNING + uoe);
+                        System.out.println(Messages.WARNING + Messages.FATAL_EXCEPTION_ACTION(uoe.getClass().getSimpleName())
+                                + " " + Messages.CHECK_LOG_FILES);
+                        SQLPlus.logger.warn(Messages.WARNING + "The previous command is not currently supported.");
                     }
-
-                    statement.setStatement(query.toString());
-                    SQLPlus.sqlPlusConnection.execute(statement);
-                }
-                catch (UnsupportedOperationException uoe) {
-                    // This exception can occur when the user entered a command allowed by the parsers, but not currently
-                    // supported by SQLPlus. This can occur because the parser is written in such a way that supports
-                    // the addition of features.
-                    SQLPlus.logger.warn(Messages.WARNING + uoe);
-                    System.out.println(Messages.WARNING + Messages.FATAL_EXCEPTION_ACTION(uoe.getClass().getSimpleName())
-                            + " " + Messages.CHECK_LOG_FILES);
-                    SQLPlus.logger.warn(Messages.WARNING + "The previous command is not currently supported.");
                 }
 
             }
@@ -250,6 +304,59 @@ public class SQLPlus {
         }
     }
 
+    /**
+     * Parse a command into a statement. Commands that the grammar does not recognize are returned as a
+     * default statement, which is sent to the server as is.
+     *
+     * @param query the command to parse.
+     *
+     * @return the statement that represents the command.
+     */
+    public static Statement parse(String query) {
+        return SQLPlus.sessionParser.parseStatement(query);
+    }
+
+    /**
+     * Warn the user about the alerts of the session that might fire for a statement. Alerts whose condition cannot be
+     * satisfied by the rows matched by the statement are skipped, and so are the alerts that they subsume. The
+     * subqueries in the conditions are read through the subquery cache.
+     *
+     * @param statement the statement that will be executed.
+     */
+    private static void checkAlerts(Statement statement) {
+        if (!(statement instanceof StatementDML)) {
+            return;
+        }
+
+        for (StatementAlert alert : SQLPlus.alerts.mayFire((StatementDML) statement, SQLPlus.subqueryCache,
+                SQLPlus.sqlPlusConnection.getJDBCConnection())) {
+            SQLPlus.logger.info("The alert " + alert + " might fire for " + statement);
+            System.out.println(Messages.WARNING + "The alert " + alert.getTiming() + " "
+                    + alert.getDataManipulationLanguage() + " in " + alert.getTable() + " might fire for this command");
+        }
+    }
+
+    /**
+     * Return the cache of parsed statements.
+     *
+     * @return the cache of parsed statements.
+     */
+    public static ParseCache getParseCache() { return SQLPlus.parseCache; }
+
+    /**
+     * Return the number of commands and time spent in each stage of parsing.
+     *
+     * @return the statistics of the parser.
+     */
+    public static ParseStatistics getParseStatistics() { return SQLPlus.sessionParser.getStatistics(); }
+
+    /**
+     * Return the cache of the results of uncorrelated subqueries.
+     *
+     * @return the cache of subquery results.
+     */
+    public static SubqueryCache getSubqueryCache() { return SQLPlus.subqueryCache; }
+
     /**
      * Create an SQLPlusConnection by taking the credentials from the user.
      *
@@ -402,6 +509,9 @@ public class SQLPlus {
             SQLPlus.logger.info("Disconnected the SQLPlusConnection");
         }
 
+        SQLPlus.logger.info("Parse cache hit rate: " + SQLPlus.getParseCache().getHitRate() + " "
+                + SQLPlus.getParseCache());
+
         SQLPlus.logger.info("Reset the console from jline");
         SQLPlus.resetConsole();
 
@@ -0,0 +1,542 @@
+package com.mijecu25.sqlplus;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.messages.Messages;
+import com.mijecu25.sqlplus.compiler.core.expression.AdaptiveCondition;
+import com.mijecu25.sqlplus.compiler.core.expression.AssignedRow;
+import com.mijecu25.sqlplus.compiler.core.expression.RowAccessor;
+import com.mijecu25.sqlplus.compiler.core.expression.ValuesRow;
+import com.mijecu25.sqlplus.compiler.core.statement.AlertRules;
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementAlert;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSingleTableUpdateStatement;
+import com.mijecu25.sqlplus.parser.ParallelScriptParser;
+import com.mijecu25.sqlplus.parser.ParseStatistics;
+import com.mijecu25.sqlplus.parser.ScriptReader;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Run the commands of a SQL script through the parser without connecting to a database. The statements are
+ * only parsed, never executed. The commands are parsed in parallel by a {@link ParallelScriptParser} whose workers
+ * share the parse cache of the session. The report has the number of statements of each type, the parsing throughput,
+ * the hit rate of the parse cache, the statements parsed by each stage of the parser and the latency percentiles of
+ * parsing a single statement.
+ *
+ * The alerts created by the script are evaluated on the rows of the DML statements that follow them. The rows of an
+ * INSERT statement are its values. The rows of an UPDATE statement are the rows of a fixture that its where clause
+ * matches, since the rows in the server are not known. A fixture is a script of INSERT statements with a list of
+ * columns. An alert BEFORE an UPDATE is evaluated on the row before the set clause and an alert AFTER an UPDATE on the
+ * row after it. The report has the number of rows that matched each alert, the statements that the alert provably
+ * could not fire for, the statements that could not be evaluated, and the throughput and latency percentiles of
+ * evaluating the alert on a single row. The AND and OR chains of the alerts and of the where clauses are evaluated by
+ * an {@link AdaptiveCondition}, which runs the cheapest and most selective operands first. The report has the order
+ * that was chosen for each alert. An alert whose condition no row can satisfy is never evaluated and every statement
+ * that it is defined for is pruned.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.8
+ */
+public class SQLPlusDryRun {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final String UNSUPPORTED = "Unsupported";
+    private static final double NANOSECONDS_PER_SECOND = 1000000000.0;
+    private static final double NANOSECONDS_PER_MICROSECOND = 1000.0;
+
+    private static final Logger logger = LogManager.getLogger(SQLPlusDryRun.class);
+
+    private int workers;
+    private Map<String, Integer> statementCounts;
+    private ParseStatistics statistics;
+    private long[] latencies;
+    private int statements;
+    private long elapsedTime;
+    private List<Rule> rules;
+    private Map<String, List<StatementInsertStatement1>> fixture;
+
+    public SQLPlusDryRun(int workers) {
+        this.workers = workers;
+        this.statementCounts = new TreeMap<String, Integer>();
+        this.statistics = new ParseStatistics();
+        this.latencies = new long[SQLPlusDryRun.INITIAL_CAPACITY];
+        this.statements = 0;
+        this.elapsedTime = 0;
+        this.rules = new ArrayList<Rule>();
+        this.fixture = new HashMap<String, List<StatementInsertStatement1>>();
+        SQLPlusDryRun.logger.info("Created a SQLPlusDryRun with " + workers + " workers");
+    }
+
+    public SQLPlusDryRun() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Load the rows of a fixture, which are used to evaluate the alerts on UPDATE statements. The fixture is a script
+     * of INSERT statements with a list of columns. Other statements are ignored.
+     *
+     * @param fixture the reader with the INSERT statements.
+     *
+     * @throws IOException if there is an I/O error while reading the fixture.
+     */
+    public void loadFixture(Reader fixture) throws IOException {
+        SQLPlusDryRun.logger.info("Loading a fixture");
+        SessionParser sessionParser = new SessionParser();
+        ScriptReader scriptReader = new ScriptReader(fixture);
+        String command;
+
+        while ((command = scriptReader.readCommand()) != null) {
+            Statement statement;
+
+            try {
+                statement = sessionParser.parseStatement(command);
+            }
+            catch (UnsupportedOperationException uoe) {
+                SQLPlusDryRun.logger.warn(Messages.WARNING + "A command of the fixture is not currently supported", uoe);
+                continue;
+            }
+
+            if (!(statement instanceof StatementInsertStatement1)
+                    || ((StatementInsertStatement1) statement).getColumns() == null) {
+                SQLPlusDryRun.logger.warn(Messages.WARNING + "The fixture can only have INSERT statements with a list of "
+                        + "columns. Ignoring " + statement);
+                continue;
+            }
+
+            StatementInsertStatement1 insert = (StatementInsertStatement1) statement;
+            List<StatementInsertStatement1> rows = this.fixture.get(insert.getFirstTable());
+
+            if (rows == null) {
+                rows = new ArrayList<StatementInsertStatement1>();
+                this.fixture.put(insert.getFirstTable(), rows);
+            }
+
+            rows.add(insert);
+        }
+
+        SQLPlusDryRun.logger.info("Loaded a fixture with " + this.fixture.size() + " tables");
+    }
+
+    /**
+     * Parse every command in the script. The script is read one command at a time.
+     *
+     * @param script the reader with the commands.
+     *
+     * @throws IOException if there is an I/O error while reading the script.
+     */
+    public void run(Reader script) throws IOException {
+        SQLPlusDryRun.logger.info("Starting the dry run of a script");
+        long startTime = System.nanoTime();
+
+        try (ParallelScriptParser parser = new ParallelScriptParser(new ScriptReader(script), this.workers,
+                SQLPlus.getParseCache())) {
+            while (this.parse(parser)) {
+                // Each statement is recorded as it is parsed
+            }
+
+            this.statistics.add(parser.getStatistics());
+        }
+
+        this.elapsedTime += System.nanoTime() - startTime;
+        SQLPlusDryRun.logger.info("Finished the dry run of a script with " + this.statements + " statements");
+    }
+
+    /**
+     * Take the next parsed statement and record how long it took to parse it.
+     *
+     * @param parser the parser of the script.
+     *
+     * @return false if there are no more statements.
+     *
+     * @throws IOException if there is an I/O error while reading the script.
+     */
+    private boolean parse(ParallelScriptParser parser) throws IOException {
+        String type;
+
+        try {
+            Statement statement = parser.nextStatement();
+
+            if (statement == null) {
+                return false;
+            }
+
+            type = statement.getClass().getSimpleName();
+            this.evaluate(statement);
+        }
+        catch (UnsupportedOperationException uoe) {
+            // This exception can occur when the parser recognizes a command that is not currently supported
+            SQLPlusDryRun.logger.warn(Messages.WARNING + "A command is not currently supported", uoe);
+            type = SQLPlusDryRun.UNSUPPORTED;
+        }
+
+        if (this.statements == this.latencies.length) {
+            this.latencies = Arrays.copyOf(this.latencies, this.latencies.length * 2);
+        }
+
+        this.latencies[this.statements] = parser.getParseTime();
+        this.statements++;
+
+        Integer count = this.statementCounts.get(type);
+        this.statementCounts.put(type, count == null ? 1 : count + 1);
+
+        return true;
+    }
+
+    /**
+     * Evaluate the alerts on the rows of a statement. An alert is added to the alerts that are evaluated on the
+     * statements that follow it.
+     *
+     * @param statement the statement.
+     */
+    private void evaluate(Statement statement) {
+        if (statement instanceof StatementAlert) {
+            this.rules.add(new Rule((StatementAlert) statement));
+            return;
+        }
+
+        // The where clause is evaluated on the same fixture rows for every alert, so its order is shared
+        AdaptiveCondition whereClause = null;
+
+        if (statement instanceof StatementSingleTableUpdateStatement
+                && ((StatementSingleTableUpdateStatement) statement).getWhereClause() != null) {
+            whereClause = new AdaptiveCondition(((StatementSingleTableUpdateStatement) statement).getWhereClause());
+        }
+
+        for (Rule rule : this.rules) {
+            if (statement instanceof StatementInsertStatement1) {
+                this.evaluate(rule, (StatementInsertStatement1) statement);
+            }
+            else if (statement instanceof StatementSingleTableUpdateStatement) {
+                this.evaluate(rule, (StatementSingleTableUpdateStatement) statement, whereClause);
+            }
+        }
+    }
+
+    /**
+     * Evaluate an alert on the rows of an INSERT statement.
+     *
+     * @param rule the alert.
+     * @param insert the INSERT statement.
+     */
+    private void evaluate(Rule rule, StatementInsertStatement1 insert) {
+        if (!rule.alert.appliesTo(insert)) {
+            return;
+        }
+
+        if (rule.unsatisfiable) {
+            rule.pruned++;
+            return;
+        }
+
+        if (!rule.alert.isEvaluable() || insert.getColumns() == null) {
+            rule.skipped++;
+            return;
+        }
+
+        ValuesRow row = new ValuesRow(insert.getColumns(), insert.getValues());
+
+        for (int i = 0; i < insert.getValues().getRowCount(); i++) {
+            row.setRow(i);
+
+            if (!rule.evaluate(row)) {
+                rule.skipped++;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Evaluate an alert on the rows of the fixture that an UPDATE statement matches.
+     *
+     * @param rule the alert.
+     * @param update the UPDATE statement.
+     * @param whereClause the where clause of the statement or null if it does not have one.
+     */
+    private void evaluate(Rule rule, StatementSingleTableUpdateStatement update, AdaptiveCondition whereClause) {
+        if (!rule.alert.appliesTo(update)) {
+            return;
+        }
+
+        if (rule.unsatisfiable) {
+            rule.pruned++;
+            return;
+        }
+
+        if (!rule.alert.isEvaluable()) {
+            rule.skipped++;
+            return;
+        }
+
+        if (!rule.alert.mayFire(update)) {
+            rule.pruned++;
+            return;
+        }
+
+        List<StatementInsertStatement1> inserts = this.fixture.get(update.getFirstTable());
+
+        if (inserts == null) {
+            rule.skipped++;
+            return;
+        }
+
+        AssignedRow assignedRow = new AssignedRow(update.getColumnValues());
+
+        try {
+            for (StatementInsertStatement1 insert : inserts) {
+                ValuesRow row = new ValuesRow(insert.getColumns(), insert.getValues());
+                assignedRow.setRow(row);
+
+                for (int i = 0; i < insert.getValues().getRowCount(); i++) {
+                    row.setRow(i);
+
+                    if (whereClause != null && (!whereClause.evalBoolean(row) || row.wasNull())) {
+                        continue;
+                    }
+
+                    if (!rule.evaluate(rule.alert.getTiming().equals(StatementAlert.BEFORE) ? row : assignedRow)) {
+                        rule.skipped++;
+                        return;
+                    }
+                }
+            }
+        }
+        catch (UnsupportedOperationException uoe) {
+            // The where clause or the set clause cannot be evaluated without the server
+            SQLPlusDryRun.logger.info("Cannot evaluate " + update + " on the fixture", uoe);
+            rule.skipped++;
+        }
+    }
+
+    /**
+     * Return the latency of a percentile using the nearest rank method.
+     *
+     * @param sortedLatencies the sorted latencies.
+     * @param percentile the percentile from 0 to 100.
+     *
+     * @return the latency of the percentile in nanoseconds.
+     */
+    private long getPercentile(long[] sortedLatencies, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+
+        return sortedLatencies[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Return the number of statements of a type that were parsed.
+     *
+     * @param type the simple class name of the statement.
+     *
+     * @return the number of statements of that type.
+     */
+    public int getStatementCount(String type) {
+        Integer count = this.statementCounts.get(type);
+
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Return the number of statements that were parsed.
+     *
+     * @return the number of statements that were parsed.
+     */
+    public int getStatements() { return this.statements; }
+
+    /**
+     * Build the report of the dry run.
+     *
+     * @return a string with the report of the dry run.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("Dry run: ").append(this.statements).append(" statements parsed\n");
+
+        for (Map.Entry<String, Integer> entry : this.statementCounts.entrySet()) {
+            report.append("  ").append(entry.getKey()).append(": ").append(entry.getValue()).append("\n");
+        }
+
+        if (this.statements == 0) {
+            return report.toString();
+        }
+
+        long[] sortedLatencies = Arrays.copyOf(this.latencies, this.statements);
+        Arrays.sort(sortedLatencies);
+        long parseTime = 0;
+
+        for (long latency : sortedLatencies) {
+            parseTime += latency;
+        }
+
+        report.append(String.format("Throughput: %.2f statements/sec (%.2f sec parsing, %.2f sec total)\n",
+                this.statements / (parseTime / SQLPlusDryRun.NANOSECONDS_PER_SECOND),
+                parseTime / SQLPlusDryRun.NANOSECONDS_PER_SECOND, this.elapsedTime / SQLPlusDryRun.NANOSECONDS_PER_SECOND));
+        report.append(String.format("Parse cache: %d hits, %d misses (%.2f%% hit rate)\n", SQLPlus.getParseCache().getHits(),
+                SQLPlus.getParseCache().getMisses(), SQLPlus.getParseCache().getHitRate() * 100));
+        ParseStatistics statistics = this.statistics;
+        report.append(String.format("Parse stages: %d fast path (%.2f us avg), %d grammar (%.2f us avg), %d syntax errors, "
+                + "%d fast path misses (%.2f us avg)\n", statistics.getCount(ParseStatistics.Stage.FAST_PATH),
+                statistics.getAverageTime(ParseStatistics.Stage.FAST_PATH) / SQLPlusDryRun.NANOSECONDS_PER_MICROSECOND,
+                statistics.getCount(ParseStatistics.Stage.GRAMMAR),
+                statistics.getAverageTime(ParseStatistics.Stage.GRAMMAR) / SQLPlusDryRun.NANOSECONDS_PER_MICROSECOND,
+                statistics.getCount(ParseStatistics.Stage.GRAMMAR_FAILED),
+                statistics.getCount(ParseStatistics.Stage.FAST_PATH_MISS),
+                statistics.getAverageTime(ParseStatistics.Stage.FAST_PATH_MISS) / SQLPlusDryRun.NANOSECONDS_PER_MICROSECOND));
+        report.append(String.format("Latency: p50 %.2f us, p90 %.2f us, p99 %.2f us, max %.2f us",
+                this.getPercentile(sortedLatencies, 50) / SQLPlusDryRun.NANOSECONDS_PER_MICROSECOND,
+                this.getPercentile(sortedLatencies, 90) / SQLPlusDryRun.NANOSECONDS_PER_MICROSECOND,
+                this.getPercentile(sortedLatencies, 99) / SQLPlusDryRun.NANOSECONDS_PER_MICROSECOND,
+                sortedLatencies[sortedLatencies.length - 1] / SQLPlusDryRun.NANOSECONDS_PER_MICROSECOND));
+
+        for (Rule rule : this.rules) {
+            report.append("\n").append(rule.alert.getDescription())
+                    .append(rule.unsatisfiable ? " (unsatisfiable)" : "").append(": ").append(rule.matches)
+                    .append(" matches in ").append(rule.evaluations).append(" rows, ").append(rule.pruned)
+                    .append(" statements pruned, ").append(rule.skipped).append(" statements skipped");
+
+            if (rule.evaluations == 0) {
+                continue;
+            }
+
+            report.append(", order ").append(rule.condition.getCondition().toSQL());
+
+            long[] sortedRuleLatencies = Arrays.copyOf(rule.latencies, rule.evaluations);
+            Arrays.sort(sortedRuleLatencies);
+            long evaluationTime = 0;
+
+            for (long latency : sortedRuleLatencies) {
+                evaluationTime += latency;
+            }
+
+            report.append(String.format(", %.2f rows/sec, p50 %.2f us, p90 %.2f us, p99 %.2f us",
+                    rule.evaluations / (Math.max(evaluationTime, 1) / SQLPlusDryRun.NANOSECONDS_PER_SECOND),
+                    this.getPercentile(sortedRuleLatencies, 50) / SQLPlusDryRun.NANOSECONDS_PER_MICROSECOND,
+                    this.getPercentile(sortedRuleLatencies, 90) / SQLPlusDryRun.NANOSECONDS_PER_MICROSECOND,
+                    this.getPercentile(sortedRuleLatencies, 99) / SQLPlusDryRun.NANOSECONDS_PER_MICROSECOND));
+        }
+
+        return report.toString();
+    }
+
+    /**
+     * Return the number of rows that matched an alert.
+     *
+     * @param alert the index of the alert in the script.
+     *
+     * @return the number of rows that matched the alert.
+     */
+    public int getMatches(int alert) { return this.rules.get(alert).matches; }
+
+    /**
+     * Return the number of rows that an alert was evaluated on.
+     *
+     * @param alert the index of the alert in the script.
+     *
+     * @return the number of rows that the alert was evaluated on.
+     */
+    public int getEvaluations(int alert) { return this.rules.get(alert).evaluations; }
+
+    /**
+     * Return the number of statements that an alert provably could not fire for.
+     *
+     * @param alert the index of the alert in the script.
+     *
+     * @return the number of statements that were pruned.
+     */
+    public int getPruned(int alert) { return this.rules.get(alert).pruned; }
+
+    /**
+     * Return the number of statements that an alert could not be evaluated on.
+     *
+     * @param alert the index of the alert in the script.
+     *
+     * @return the number of statements that were skipped.
+     */
+    public int getSkipped(int alert) { return this.rules.get(alert).skipped; }
+
+    /**
+     * Return the condition of an alert with its AND and OR chains in the order in which they are evaluated.
+     *
+     * @param alert the index of the alert in the script.
+     *
+     * @return the reordered condition or null if the alert cannot be evaluated.
+     */
+    public String getOrder(int alert) {
+        Rule rule = this.rules.get(alert);
+
+        return rule.condition == null ? null : rule.condition.getCondition().toSQL();
+    }
+
+    /**
+     * The counts and the latencies of evaluating an alert of the script.
+     */
+    private static class Rule {
+        private final StatementAlert alert;
+        private final AdaptiveCondition condition;
+        private final boolean unsatisfiable;
+        private int evaluations;
+        private int matches;
+        private int pruned;
+        private int skipped;
+        private long[] latencies;
+
+        private Rule(StatementAlert alert) {
+            this.alert = alert;
+            this.condition = alert.isEvaluable() ? new AdaptiveCondition(alert.getCondition()) : null;
+            this.unsatisfiable = AlertRules.isUnsatisfiable(alert);
+            this.evaluations = 0;
+            this.matches = 0;
+            this.pruned = 0;
+            this.skipped = 0;
+            this.latencies = new long[SQLPlusDryRun.INITIAL_CAPACITY];
+        }
+
+        /**
+         * Evaluate the condition of the alert on a row and record whether it matched and how long it took.
+         *
+         * @param row the row.
+         *
+         * @return false if the condition cannot be evaluated without the server.
+         */
+        private boolean evaluate(RowAccessor row) {
+            long startTime = System.nanoTime();
+            boolean match;
+
+            try {
+                match = this.condition.evalBoolean(row) && !row.wasNull();
+            }
+            catch (UnsupportedOperationException uoe) {
+                SQLPlusDryRun.logger.info("Cannot evaluate " + this.alert + " without the server", uoe);
+                return false;
+            }
+
+            long latency = System.nanoTime() - startTime;
+
+            if (this.evaluations == this.latencies.length) {
+                this.latencies = Arrays.copyOf(this.latencies, this.latencies.length * 2);
+            }
+
+            this.latencies[this.evaluations] = latency;
+            this.evaluations++;
+
+            if (match) {
+                this.matches++;
+            }
+
+            return true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SQLPlusDryRun [statements=" + this.statements + "]";
+    }
+}
@@ -0,0 +1,253 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Condition that evaluates the operands of its AND and OR chains in the order that has been the cheapest so far. Each
+ * operand records how long it took and how often it decided the value of its chain, which an operand of an AND does
+ * when it is false and an operand of an OR does when it is true. Every {@link #REOPTIMIZE_INTERVAL} evaluations of a
+ * chain its operands are sorted by their average time divided by the rate at which they decide, so the cheapest and
+ * most selective operand runs first. The statistics are halved after each sort so that the order follows the rows.
+ *
+ * A chain inside an operand of the other operator, like the OR in a AND (b OR c), is reordered on its own. The value
+ * of the condition follows SQL three valued logic and does not depend on the order, since expressions have no side
+ * effects. The condition is not thread safe.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class AdaptiveCondition {
+    public static final int REOPTIMIZE_INTERVAL = 128;
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveCondition.class);
+
+    private final String operator;
+    private final boolean and;
+    private final Expression[] operands;
+    // The chains of the other operator inside the operands, or null for operands that are not chains
+    private final AdaptiveCondition[] chains;
+    private final long[] times;
+    private final long[] evaluations;
+    private final long[] decisions;
+    private final Integer[] order;
+    private int count;
+
+    public AdaptiveCondition(Expression condition) {
+        // A condition that is not a chain is evaluated like a chain with a single operand
+        this(condition, AdaptiveCondition.operator(condition) == null ? AdaptiveCondition.AND
+                : AdaptiveCondition.operator(condition));
+    }
+
+    /**
+     * Create the chain of an operator.
+     *
+     * @param condition the condition.
+     * @param operator the canonical operator of the chain.
+     */
+    private AdaptiveCondition(Expression condition, String operator) {
+        List<Expression> operands = new ArrayList<Expression>();
+        AdaptiveCondition.flatten(condition, operator, operands);
+
+        this.operator = operator;
+        this.and = operator.equals(AdaptiveCondition.AND);
+        this.operands = operands.toArray(new Expression[operands.size()]);
+        this.chains = new AdaptiveCondition[this.operands.length];
+        this.times = new long[this.operands.length];
+        this.evaluations = new long[this.operands.length];
+        this.decisions = new long[this.operands.length];
+        this.order = new Integer[this.operands.length];
+        this.count = 0;
+
+        for(int i = 0; i < this.operands.length; i++) {
+            String chain = AdaptiveCondition.operator(this.operands[i]);
+
+            if(chain != null && !chain.equals(operator)) {
+                this.chains[i] = new AdaptiveCondition(this.operands[i], chain);
+            }
+
+            this.order[i] = i;
+        }
+
+        AdaptiveCondition.logger.info("Created an AdaptiveCondition with " + this.operands.length + " operands");
+    }
+
+    /**
+     * Return the operator of the chain at the top of an expression.
+     *
+     * @param expression the expression.
+     *
+     * @return AND, OR or null if the expression is not a chain.
+     */
+    private static String operator(Expression expression) {
+        expression = AdaptiveCondition.unwrap(expression);
+
+        if(!(expression instanceof ExpressionBinary) || ((ExpressionBinary) expression).getRelationalOperator() == null) {
+            return null;
+        }
+
+        String operator = SQLWriter.canonicalOperator(((ExpressionBinary) expression).getRelationalOperator());
+
+        return operator.equals(AdaptiveCondition.AND) || operator.equals(AdaptiveCondition.OR) ? operator : null;
+    }
+
+    /**
+     * Return the child of an expression without an operator.
+     *
+     * @param expression the expression.
+     *
+     * @return the first descendant that is not a binary expression without an operator.
+     */
+    private static Expression unwrap(Expression expression) {
+        while(expression instanceof ExpressionBinary && ((ExpressionBinary) expression).getRelationalOperator() == null) {
+            ExpressionBinary wrapper = (ExpressionBinary) expression;
+            expression = wrapper.getRightExpression() == null ? wrapper.getLeftExpression()
+                    : wrapper.getRightExpression();
+        }
+
+        return expression;
+    }
+
+    /**
+     * Collect the operands of a chain of the same operator, such as a, b and c in a AND b AND c.
+     *
+     * @param expression the expression.
+     * @param operator the canonical operator of the chain.
+     * @param operands the list where the operands are added in order.
+     */
+    private static void flatten(Expression expression, String operator, List<Expression> operands) {
+        expression = AdaptiveCondition.unwrap(expression);
+
+        if(operator.equals(AdaptiveCondition.operator(expression))) {
+            AdaptiveCondition.flatten(((ExpressionBinary) expression).getLeftExpression(), operator, operands);
+            AdaptiveCondition.flatten(((ExpressionBinary) expression).getRightExpression(), operator, operands);
+        }
+        else {
+            operands.add(expression);
+        }
+    }
+
+    /**
+     * Evaluate the condition on a row. The NULL flag of the row is set if the condition is NULL.
+     *
+     * @param row the row.
+     *
+     * @return true if the condition is true.
+     */
+    public boolean evalBoolean(RowAccessor row) {
+        boolean isNull = false;
+
+        for(int operand : this.order) {
+            long startTime = System.nanoTime();
+            boolean value = this.chains[operand] == null ? this.operands[operand].evalBoolean(row)
+                    : this.chains[operand].evalBoolean(row);
+            boolean operandNull = row.wasNull();
+
+            this.times[operand] += System.nanoTime() - startTime;
+            this.evaluations[operand]++;
+
+            if(!operandNull && value != this.and) {
+                // A false operand of an AND or a true operand of an OR decides the value of the chain
+                this.decisions[operand]++;
+                this.evaluated();
+
+                return value;
+            }
+
+            isNull |= operandNull;
+        }
+
+        this.evaluated();
+        row.setWasNull(isNull);
+
+        return this.and && !isNull;
+    }
+
+    /**
+     * Count an evaluation of the chain and sort its operands if it is time to do so.
+     */
+    private void evaluated() {
+        this.count++;
+
+        if(this.count % AdaptiveCondition.REOPTIMIZE_INTERVAL == 0) {
+            this.reoptimize();
+        }
+    }
+
+    /**
+     * Sort the operands by their average time divided by the rate at which they decide the value of the chain. An
+     * operand that was never evaluated has no cost yet, so it runs first and gets measured.
+     */
+    private void reoptimize() {
+        final double[] ranks = new double[this.operands.length];
+
+        for(int i = 0; i < this.operands.length; i++) {
+            double time = this.evaluations[i] == 0 ? 0 : (double) this.times[i] / this.evaluations[i];
+            // The rate is smoothed so that an operand that never decided still has a finite rank
+            double rate = (this.decisions[i] + 1.0) / (this.evaluations[i] + 2.0);
+            ranks[i] = time / rate;
+
+            this.times[i] /= 2;
+            this.evaluations[i] /= 2;
+            this.decisions[i] /= 2;
+        }
+
+        Integer[] previous = this.order.clone();
+        Arrays.sort(this.order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer first, Integer second) {
+                return Double.compare(ranks[first], ranks[second]);
+            }
+        });
+
+        if(!Arrays.equals(previous, this.order)) {
+            AdaptiveCondition.logger.info("Reordered the operands of " + this.operator + " to " + this.getOrder());
+        }
+    }
+
+    /**
+     * Return the operands of the top chain in the order in which they are evaluated.
+     *
+     * @return the operands.
+     */
+    public List<Expression> getOrder() {
+        List<Expression> operands = new ArrayList<Expression>(this.operands.length);
+
+        for(int operand : this.order) {
+            operands.add(this.operands[operand]);
+        }
+
+        return operands;
+    }
+
+    /**
+     * Return the condition with the operands of every chain in the order in which they are evaluated.
+     *
+     * @return the reordered condition.
+     */
+    public Expression getCondition() {
+        Expression condition = null;
+
+        for(int operand : this.order) {
+            Expression expression = this.chains[operand] == null ? this.operands[operand]
+                    : this.chains[operand].getCondition();
+            condition = condition == null ? expression : ExpressionFactory.binary(this.operator, condition, expression);
+        }
+
+        return condition;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveCondition [condition=" + this.getCondition().toSQL() + "]";
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Row accessor over a row after the assignments of the set clause of an UPDATE statement. The new value of an assigned
+ * column is evaluated on the original row when it is read, and the other columns are read from the original row.
+ * Columns are found by their name ignoring case and a qualified name is found by its last part.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class AssignedRow extends RowAccessor {
+
+    private static final Logger logger = LogManager.getLogger(AssignedRow.class);
+
+    private final Map<String, Expression> assignments;
+    private RowAccessor row;
+
+    public AssignedRow(Map<String, Expression> assignments) {
+        this.assignments = new HashMap<String, Expression>();
+
+        for(Map.Entry<String, Expression> assignment : assignments.entrySet()) {
+            this.assignments.put(AssignedRow.name(assignment.getKey()), assignment.getValue());
+        }
+
+        this.row = null;
+        AssignedRow.logger.info("Created an AssignedRow with " + assignments.size() + " assignments");
+    }
+
+    /**
+     * Return the name of a column without its qualifier and in lower case.
+     *
+     * @param column the name of the column.
+     *
+     * @return the name used to find the column.
+     */
+    private static String name(String column) {
+        String name = column.toLowerCase();
+
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Set the original row.
+     *
+     * @param row the row before the assignments.
+     */
+    public void setRow(RowAccessor row) { this.row = row; }
+
+    @Override
+    public ExpressionLiteral.Type getType(String column) {
+        Expression value = this.assignments.get(AssignedRow.name(column));
+
+        return value == null ? this.row.getType(column) : value.evalType(this.row);
+    }
+
+    @Override
+    public long getLong(String column) {
+        Expression value = this.assignments.get(AssignedRow.name(column));
+        long result = value == null ? this.row.getLong(column) : value.evalLong(this.row);
+        this.setWasNull(this.row.wasNull());
+
+        return result;
+    }
+
+    @Override
+    public double getDouble(String column) {
+        Expression value = this.assignments.get(AssignedRow.name(column));
+        double result = value == null ? this.row.getDouble(column) : value.evalDouble(this.row);
+        this.setWasNull(this.row.wasNull());
+
+        return result;
+    }
+
+    @Override
+    public BigDecimal getDecimal(String column) {
+        Expression value = this.assignments.get(AssignedRow.name(column));
+        BigDecimal result = value == null ? this.row.getDecimal(column) : value.evalDecimal(this.row);
+        this.setWasNull(this.row.wasNull());
+
+        return result;
+    }
+
+    @Override
+    public String getString(String column) {
+        Expression value = this.assignments.get(AssignedRow.name(column));
+        String result = value == null ? this.row.getString(column) : value.evalString(this.row);
+        this.setWasNull(this.row.wasNull());
+
+        return result;
+    }
+
+}
@@ -0,0 +1,463 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Rows of values stored by column. Each column keeps the type of its values in a byte array, integers and booleans in
+ * a long array, approximate numbers in a double array, and strings, decimals and values that are not literals in an
+ * object array. NULL values are marked in a bitmap. The arrays are only created when a column has a value of their
+ * kind and grow as rows are added, so a large list of values does not need an object per row or per number.
+ *
+ * Every row must have the same number of values as the first one. This class is not thread safe.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class ColumnarValues {
+
+    private static final int INITIAL_CAPACITY = 4;
+    // The type of values that are not literals, such as column names
+    private static final byte EXPRESSION = -1;
+    private static final ExpressionLiteral.Type[] TYPES = ExpressionLiteral.Type.values();
+
+    private static final Logger logger = LogManager.getLogger(ColumnarValues.class);
+
+    private Column[] columns;
+    private int columnCount;
+    private int rowCount;
+    private int value;
+    private LiteralConverter converter;
+
+    public ColumnarValues() {
+        this.columns = new Column[ColumnarValues.INITIAL_CAPACITY];
+        this.columnCount = 0;
+        this.rowCount = 0;
+        this.value = 0;
+        this.converter = new LiteralConverter();
+        ColumnarValues.logger.info("Created a ColumnarValues");
+    }
+
+    /**
+     * Add a value to the current row.
+     *
+     * @param value the text of the value.
+     *
+     * @return false if the current row has more values than the first row, true otherwise.
+     */
+    public boolean add(String value) {
+        Column column = this.nextColumn();
+
+        if(column == null) {
+            return false;
+        }
+
+        if(this.converter.convert(value)) {
+            column.set(this.rowCount, this.converter);
+        }
+        else {
+            column.setExpression(this.rowCount, value);
+        }
+
+        return true;
+    }
+
+    /**
+     * Return the column of the next value in the current row, adding it if this is the first row.
+     *
+     * @return the column or null if the current row already has as many values as the first row.
+     */
+    private Column nextColumn() {
+        if(this.rowCount == 0 && this.value == this.columnCount) {
+            if(this.columnCount == this.columns.length) {
+                this.columns = Arrays.copyOf(this.columns, this.columnCount * 2);
+            }
+
+            this.columns[this.columnCount++] = new Column();
+        }
+        else if(this.value == this.columnCount) {
+            return null;
+        }
+
+        return this.columns[this.value++];
+    }
+
+    /**
+     * End the current row.
+     *
+     * @return false if the row has less values than the first row, true otherwise.
+     */
+    public boolean endRow() {
+        if(this.value != this.columnCount || this.columnCount == 0) {
+            return false;
+        }
+
+        this.rowCount++;
+        this.value = 0;
+
+        return true;
+    }
+
+    /**
+     * Create values with the same shape as these values, but with their literals replaced by the provided ones. The
+     * literals are consumed in the order in which they appear in the command. A sign in front of a number is kept.
+     *
+     * @param literals the new literals.
+     *
+     * @return the values with the new literals.
+     */
+    public ColumnarValues bind(Iterator<String> literals) {
+        ColumnarValues values = new ColumnarValues();
+
+        for(int row = 0; row < this.rowCount; row++) {
+            for(int columnIndex = 0; columnIndex < this.columnCount; columnIndex++) {
+                Column column = this.columns[columnIndex];
+                byte type = column.types[row];
+
+                if(type == ExpressionLiteral.Type.STRING.ordinal()) {
+                    values.add(literals.next());
+                }
+                else if(type == ExpressionLiteral.Type.LONG.ordinal() || type == ExpressionLiteral.Type.DECIMAL.ordinal()
+                        || type == ExpressionLiteral.Type.DOUBLE.ordinal()) {
+                    values.add(Column.isSet(column.negated, row) ? "-" + literals.next() : literals.next());
+                }
+                else {
+                    values.nextColumn().copy(values.rowCount, column, row);
+                }
+            }
+
+            values.endRow();
+        }
+
+        return values;
+    }
+
+    /**
+     * Return the number of complete rows.
+     *
+     * @return the number of rows.
+     */
+    public int getRowCount() { return this.rowCount; }
+
+    /**
+     * Return the number of values in each row.
+     *
+     * @return the number of columns.
+     */
+    public int getColumnCount() { return this.columnCount; }
+
+    /**
+     * Return whether a value is a literal.
+     *
+     * @param row the index of the row.
+     * @param column the index of the column.
+     *
+     * @return true if the value is a literal, false if it is an expression such as a column name.
+     */
+    public boolean isLiteral(int row, int column) {
+        return this.column(row, column).types[row] != ColumnarValues.EXPRESSION;
+    }
+
+    /**
+     * Return the type of a literal value.
+     *
+     * @param row the index of the row.
+     * @param column the index of the column.
+     *
+     * @return the type of the value or null if the value is not a literal.
+     */
+    public ExpressionLiteral.Type getType(int row, int column) {
+        byte type = this.column(row, column).types[row];
+
+        return type == ColumnarValues.EXPRESSION ? null : ColumnarValues.TYPES[type];
+    }
+
+    /**
+     * Return whether a value is NULL.
+     *
+     * @param row the index of the row.
+     * @param column the index of the column.
+     *
+     * @return true if the value is NULL.
+     */
+    public boolean isNull(int row, int column) { return Column.isSet(this.column(row, column).nulls, row); }
+
+    /**
+     * Return an integer or boolean value. Booleans are 1 and 0 like in MySQL.
+     *
+     * @param row the index of the row.
+     * @param column the index of the column.
+     *
+     * @return the value.
+     */
+    public long getLong(int row, int column) {
+        Column values = this.column(row, column);
+        byte type = values.types[row];
+
+        if(type != ExpressionLiteral.Type.LONG.ordinal() && type != ExpressionLiteral.Type.BOOLEAN.ordinal()) {
+            throw new UnsupportedOperationException("The value at " + row + ", " + column + " is not an integer");
+        }
+
+        return values.longs[row];
+    }
+
+    /**
+     * Return a number or boolean value as a double.
+     *
+     * @param row the index of the row.
+     * @param column the index of the column.
+     *
+     * @return the value.
+     */
+    public double getDouble(int row, int column) {
+        Column values = this.column(row, column);
+        byte type = values.types[row];
+
+        if(type == ExpressionLiteral.Type.DOUBLE.ordinal()) {
+            return values.doubles[row];
+        }
+
+        if(type == ExpressionLiteral.Type.DECIMAL.ordinal()) {
+            return ((BigDecimal) values.objects[row]).doubleValue();
+        }
+
+        return this.getLong(row, column);
+    }
+
+    /**
+     * Return a number or boolean value as an exact decimal.
+     *
+     * @param row the index of the row.
+     * @param column the index of the column.
+     *
+     * @return the value.
+     */
+    public BigDecimal getDecimal(int row, int column) {
+        Column values = this.column(row, column);
+        byte type = values.types[row];
+
+        if(type == ExpressionLiteral.Type.DOUBLE.ordinal()) {
+            return BigDecimal.valueOf(values.doubles[row]);
+        }
+
+        if(type == ExpressionLiteral.Type.DECIMAL.ordinal()) {
+            return (BigDecimal) values.objects[row];
+        }
+
+        return BigDecimal.valueOf(this.getLong(row, column));
+    }
+
+    /**
+     * Return a string value, without quotes and with its escape sequences resolved.
+     *
+     * @param row the index of the row.
+     * @param column the index of the column.
+     *
+     * @return the value.
+     */
+    public String getString(int row, int column) {
+        Column values = this.column(row, column);
+
+        if(values.types[row] != ExpressionLiteral.Type.STRING.ordinal()) {
+            throw new UnsupportedOperationException("The value at " + row + ", " + column + " is not a string");
+        }
+
+        return (String) values.objects[row];
+    }
+
+    /**
+     * Return the text of a value that is not a literal, such as a column name.
+     *
+     * @param row the index of the row.
+     * @param column the index of the column.
+     *
+     * @return the text of the value.
+     */
+    public String getExpression(int row, int column) {
+        Column values = this.column(row, column);
+
+        if(values.types[row] != ColumnarValues.EXPRESSION) {
+            throw new UnsupportedOperationException("The value at " + row + ", " + column + " is a literal");
+        }
+
+        return (String) values.objects[row];
+    }
+
+    /**
+     * Return a column after checking that the row and column exist.
+     *
+     * @param row the index of the row.
+     * @param column the index of the column.
+     *
+     * @return the column.
+     */
+    private Column column(int row, int column) {
+        if(row < 0 || row >= this.rowCount || column < 0 || column >= this.columnCount) {
+            throw new IndexOutOfBoundsException("There is no value at " + row + ", " + column);
+        }
+
+        return this.columns[column];
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarValues [rows=" + this.rowCount + ", columns=" + this.columnCount + "]";
+    }
+
+    /**
+     * The values of a single column. The value arrays are only created when a value of their kind is set.
+     */
+    private static class Column {
+        private byte[] types;
+        private long[] longs;
+        private double[] doubles;
+        private Object[] objects;
+        private long[] nulls;
+        private long[] negated;
+
+        private Column() {
+            this.types = new byte[ColumnarValues.INITIAL_CAPACITY];
+            this.nulls = new long[1];
+            this.negated = new long[1];
+        }
+
+        /**
+         * Set a literal value.
+         *
+         * @param row the index of the row.
+         * @param converter the converter with the literal.
+         */
+        private void set(int row, LiteralConverter converter) {
+            this.ensureCapacity(row);
+            this.types[row] = (byte) converter.type.ordinal();
+
+            switch(converter.type) {
+                case LONG:
+                case BOOLEAN:
+                    this.longs()[row] = converter.longValue;
+                    break;
+                case DOUBLE:
+                    this.doubles()[row] = converter.doubleValue;
+                    break;
+                case DECIMAL:
+                case STRING:
+                    this.objects()[row] = converter.objectValue;
+                    break;
+                case NULL:
+                    Column.set(this.nulls, row);
+                    break;
+                default:
+                    break;
+            }
+
+            if(converter.negative) {
+                Column.set(this.negated, row);
+            }
+        }
+
+        /**
+         * Set a value that is not a literal.
+         *
+         * @param row the index of the row.
+         * @param text the text of the value.
+         */
+        private void setExpression(int row, String text) {
+            this.ensureCapacity(row);
+            this.types[row] = ColumnarValues.EXPRESSION;
+            this.objects()[row] = text;
+        }
+
+        /**
+         * Copy a value from another column.
+         *
+         * @param row the index of the row.
+         * @param source the column with the value.
+         * @param sourceRow the index of the row of the value in the source column.
+         */
+        private void copy(int row, Column source, int sourceRow) {
+            this.ensureCapacity(row);
+            this.types[row] = source.types[sourceRow];
+
+            if(source.longs != null) {
+                this.longs()[row] = source.longs[sourceRow];
+            }
+
+            if(source.doubles != null) {
+                this.doubles()[row] = source.doubles[sourceRow];
+            }
+
+            if(source.objects != null) {
+                this.objects()[row] = source.objects[sourceRow];
+            }
+
+            if(Column.isSet(source.nulls, sourceRow)) {
+                Column.set(this.nulls, row);
+            }
+
+            if(Column.isSet(source.negated, sourceRow)) {
+                Column.set(this.negated, row);
+            }
+        }
+
+        /**
+         * Grow the arrays so that they can hold the provided row.
+         *
+         * @param row the index of the row.
+         */
+        private void ensureCapacity(int row) {
+            if(row < this.types.length) {
+                return;
+            }
+
+            int capacity = Math.max(this.types.length * 2, row + 1);
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.nulls = Arrays.copyOf(this.nulls, (capacity + 63) / 64);
+            this.negated = Arrays.copyOf(this.negated, (capacity + 63) / 64);
+
+            if(this.longs != null) {
+                this.longs = Arrays.copyOf(this.longs, capacity);
+            }
+
+            if(this.doubles != null) {
+                this.doubles = Arrays.copyOf(this.doubles, capacity);
+            }
+
+            if(this.objects != null) {
+                this.objects = Arrays.copyOf(this.objects, capacity);
+            }
+        }
+
+        private long[] longs() {
+            if(this.longs == null) {
+                this.longs = new long[this.types.length];
+            }
+
+            return this.longs;
+        }
+
+        private double[] doubles() {
+            if(this.doubles == null) {
+                this.doubles = new double[this.types.length];
+            }
+
+            return this.doubles;
+        }
+
+        private Object[] objects() {
+            if(this.objects == null) {
+                this.objects = new Object[this.types.length];
+            }
+
+            return this.objects;
+        }
+
+        private static boolean isSet(long[] bitmap, int row) { return (bitmap[row >>> 6] & (1L << row)) != 0; }
+
+        private static void set(long[] bitmap, int row) { bitmap[row >>> 6] |= 1L << row; }
+    }
+
+}
@@ -1,19 +1,204 @@
 package com.mijecu25.sqlplus.compiler.core.expression;
 
+import java.math.BigDecimal;
+import java.util.Iterator;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.mijecu25.messages.Messages;
+
 /**
  * This class represents an Expression used in the queries.
  *
+ * Expressions can be evaluated on a row with SQL three valued logic. Each evaluation method returns a primitive or
+ * the value converted to the requested type like MySQL does, and sets the NULL flag of the row, so that the value is
+ * NULL if {@link RowAccessor#wasNull()} is true afterwards. Expressions whose value is a truth value only implement
+ * {@link #evalType(RowAccessor)} and {@link #evalBoolean(RowAccessor)}, while the other expressions implement the
+ * methods of every type.
+ *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.1
+ * @version 0.1.0.4
  */
 public class Expression {
     private static final Logger logger = LogManager.getLogger(Expression.class);
 
+    private volatile String sql;
+
     public Expression() {
         Expression.logger.info("Parsed and created an Expression");
     }
 
+    /**
+     * Create an expression with the same shape as this expression, but with its literals replaced by the provided
+     * ones. The literals are consumed in the order in which they appear in the command.
+     *
+     * @param literals the new literals.
+     *
+     * @return an expression with the new literals.
+     */
+    public Expression bind(Iterator<String> literals) { return this; }
+
+    /**
+     * Return the canonical SQL of the expression. Expressions are immutable, so the SQL is written once and cached.
+     *
+     * @return the SQL of the expression.
+     */
+    public String toSQL() {
+        String sql = this.sql;
+
+        if(sql == null) {
+            sql = SQLWriter.write(this);
+            this.sql = sql;
+        }
+
+        return sql;
+    }
+
+    /**
+     * Return the SQL of the expression if it was already written.
+     *
+     * @return the SQL of the expression or null if it has not been written.
+     */
+    String getCachedSQL() { return this.sql; }
+
+    /**
+     * Return the type of the value of the expression in a row. Truth values are BOOLEAN.
+     *
+     * @param row the row.
+     *
+     * @return the type of the value.
+     */
+    public ExpressionLiteral.Type evalType(RowAccessor row) {
+        throw this.notEvaluable();
+    }
+
+    /**
+     * Evaluate the expression as a truth value. Numbers are true if they are not 0 and strings are read as numbers.
+     *
+     * @param row the row.
+     *
+     * @return true if the expression is true, false if it is false or NULL.
+     */
+    public boolean evalBoolean(RowAccessor row) {
+        switch(this.evalType(row)) {
+            case LONG:
+            case BOOLEAN:
+                return this.evalLong(row) != 0;
+            case DOUBLE:
+                return this.evalDouble(row) != 0;
+            case DECIMAL:
+                BigDecimal decimal = this.evalDecimal(row);
+
+                return !row.wasNull() && decimal.signum() != 0;
+            case STRING:
+                String string = this.evalString(row);
+
+                return !row.wasNull() && TypeCoercion.toDouble(string) != 0;
+            case NULL:
+                row.setWasNull(true);
+                return false;
+            default:
+                throw this.notEvaluable();
+        }
+    }
+
+    /**
+     * Evaluate the expression as an integer. Truth values are 1 and 0.
+     *
+     * @param row the row.
+     *
+     * @return the value or 0 if it is NULL.
+     */
+    public long evalLong(RowAccessor row) {
+        return this.evalBoolean(row) ? 1 : 0;
+    }
+
+    /**
+     * Evaluate the expression as an approximate number.
+     *
+     * @param row the row.
+     *
+     * @return the value or 0 if it is NULL.
+     */
+    public double evalDouble(RowAccessor row) {
+        return this.evalBoolean(row) ? 1 : 0;
+    }
+
+    /**
+     * Evaluate the expression as an exact decimal.
+     *
+     * @param row the row.
+     *
+     * @return the value or null if it is NULL.
+     */
+    public BigDecimal evalDecimal(RowAccessor row) {
+        boolean value = this.evalBoolean(row);
+
+        return row.wasNull() ? null : value ? BigDecimal.ONE : BigDecimal.ZERO;
+    }
+
+    /**
+     * Evaluate the expression as a string.
+     *
+     * @param row the row.
+     *
+     * @return the value or null if it is NULL.
+     */
+    public String evalString(RowAccessor row) {
+        boolean value = this.evalBoolean(row);
+
+        return row.wasNull() ? null : value ? "1" : "0";
+    }
+
+    /**
+     * Evaluate the expression as an object of its own type. Integers and truth values are longs, approximate numbers
+     * are doubles, exact decimals are big decimals and strings are strings. This method boxes its result, so the
+     * methods of each type should be used when many rows are evaluated.
+     *
+     * @param row the row.
+     *
+     * @return the value or null if it is NULL.
+     */
+    public Object eval(RowAccessor row) {
+        Object value;
+
+        switch(this.evalType(row)) {
+            case LONG:
+            case BOOLEAN:
+                value = this.evalLong(row);
+                break;
+            case DOUBLE:
+                value = this.evalDouble(row);
+                break;
+            case DECIMAL:
+                value = this.evalDecimal(row);
+                break;
+            case STRING:
+                value = this.evalString(row);
+                break;
+            case NULL:
+                row.setWasNull(true);
+                return null;
+            default:
+                throw this.notEvaluable();
+        }
+
+        return row.wasNull() ? null : value;
+    }
+
+    /**
+     * Return the exception thrown when the expression cannot be evaluated on the client.
+     *
+     * @return the exception.
+     */
+    UnsupportedOperationException notEvaluable() {
+        UnsupportedOperationException uoe = new UnsupportedOperationException();
+        Expression.logger.warn(Messages.WARNING + "The expression " + this + " cannot be evaluated on the client");
+        Expression.logger.warn(Messages.WARNING + "Throwing a " + uoe.getClass().getSimpleName()
+                + " to the calling class");
+
+        return uoe;
+    }
+
 }
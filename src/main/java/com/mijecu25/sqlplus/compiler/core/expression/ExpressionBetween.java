@@ -0,0 +1,130 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * This class represents a BETWEEN expression, which tests whether an operand is between a lower and an upper bound,
+ * both inclusive. The expression is immutable and its hash code is computed when it is created.
+ *
+ * The value of the expression is the value of operand &gt;= lower bound AND operand &lt;= upper bound, so it is false
+ * if the operand is outside of a bound that is known, even if the other bound is NULL.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class ExpressionBetween extends Expression {
+
+    private static final Logger logger = LogManager.getLogger(ExpressionBetween.class);
+
+    private final Expression operand;
+    private final Expression lowerBound;
+    private final Expression upperBound;
+    private final boolean negated;
+    private final int hashCode;
+
+    public ExpressionBetween(Expression operand, Expression lowerBound, Expression upperBound, boolean negated) {
+        super();
+
+        this.operand = operand;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.negated = negated;
+        this.hashCode = Objects.hash(this.operand, this.lowerBound, this.upperBound, this.negated);
+        ExpressionBetween.logger.info("Parsed and created an ExpressionBetween");
+    }
+
+    /**
+     * Return the expression that is tested.
+     *
+     * @return the operand.
+     */
+    public Expression getOperand() { return this.operand; }
+
+    /**
+     * Return the lower bound.
+     *
+     * @return the lower bound.
+     */
+    public Expression getLowerBound() { return this.lowerBound; }
+
+    /**
+     * Return the upper bound.
+     *
+     * @return the upper bound.
+     */
+    public Expression getUpperBound() { return this.upperBound; }
+
+    /**
+     * Return whether this is a NOT BETWEEN expression.
+     *
+     * @return true if the expression is negated.
+     */
+    public boolean isNegated() { return this.negated; }
+
+    @Override
+    public ExpressionLiteral.Type evalType(RowAccessor row) { return ExpressionLiteral.Type.BOOLEAN; }
+
+    @Override
+    public boolean evalBoolean(RowAccessor row) {
+        int lower = TypeCoercion.compare(this.operand, this.lowerBound, row);
+        boolean lowerNull = row.wasNull();
+
+        if(!lowerNull && lower < 0) {
+            return this.negated;
+        }
+
+        int upper = TypeCoercion.compare(this.operand, this.upperBound, row);
+        boolean upperNull = row.wasNull();
+
+        if(!upperNull && upper > 0) {
+            return this.negated;
+        }
+
+        if(lowerNull || upperNull) {
+            row.setWasNull(true);
+            return false;
+        }
+
+        return !this.negated;
+    }
+
+    @Override
+    public Expression bind(Iterator<String> literals) {
+        // The operand and the bounds appear in this order in the command
+        Expression operand = this.operand.bind(literals);
+        Expression lowerBound = this.lowerBound.bind(literals);
+        Expression upperBound = this.upperBound.bind(literals);
+
+        return ExpressionFactory.between(operand, lowerBound, upperBound, this.negated);
+    }
+
+    @Override
+    public int hashCode() { return this.hashCode; }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object) {
+            return true;
+        }
+
+        if(!(object instanceof ExpressionBetween)) {
+            return false;
+        }
+
+        ExpressionBetween other = (ExpressionBetween) object;
+
+        return this.hashCode == other.hashCode && this.negated == other.negated && this.operand.equals(other.operand)
+                && this.lowerBound.equals(other.lowerBound) && this.upperBound.equals(other.upperBound);
+    }
+
+    @Override
+    public String toString() {
+        return (this.negated ? "notbetween" : "between") + this.operand + "(" + this.lowerBound + ","
+                + this.upperBound + ")";
+    }
+
+}
@@ -1,30 +1,325 @@
 package com.mijecu25.sqlplus.compiler.core.expression;
 
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Objects;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.mijecu25.messages.Messages;
+
 /**
  * This class represents a Binary expression. It has two child expressions and an operator which may or may not be null.
+ * The expression is immutable and its hash code is computed when it is created.
+ *
+ * The value of an expression with an operator is a truth value. AND, OR, XOR and NOT follow SQL three valued logic
+ * and comparisons are NULL if either operand is NULL. An expression without an operator has the value of its child.
  *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.1
+ * @version 0.1.0.9
  */
 public class ExpressionBinary extends Expression {
+    // Operators resolved when the expression is created, so the evaluation does not compare strings
+    private static final int NONE = 0;
+    private static final int AND = 1;
+    private static final int OR = 2;
+    private static final int XOR = 3;
+    private static final int NOT = 4;
+    private static final int LIKE = 5;
+    private static final int EQUAL = 6;
+    private static final int NOT_EQUAL = 7;
+    private static final int LESS_THAN = 8;
+    private static final int LESS_THAN_EQUAL = 9;
+    private static final int GREATER_THAN = 10;
+    private static final int GREATER_THAN_EQUAL = 11;
+
     private static final Logger logger = LogManager.getLogger(ExpressionBinary.class);
 
-    private Expression leftExpression;
-    private String relationalOperator;
-    private Expression rightExpression;
+    private final Expression leftExpression;
+    private final String relationalOperator;
+    private final Expression rightExpression;
+    private final int hashCode;
+    private final int operator;
 
     public ExpressionBinary(String relationalOperator, Expression leftExpression, Expression rightExpression) {
         super();
         this.relationalOperator = relationalOperator;
         this.leftExpression = leftExpression;
         this.rightExpression = rightExpression;
+        this.hashCode = Objects.hash(this.relationalOperator, this.leftExpression, this.rightExpression);
+        this.operator = ExpressionBinary.operator(relationalOperator);
 
         ExpressionBinary.logger.info("Parsed and created an ExpressionBinary");
     }
 
+    /**
+     * Return the operator of the expression.
+     *
+     * @return the operator or null if there is none.
+     */
+    public String getRelationalOperator() { return this.relationalOperator; }
+
+    /**
+     * Return the left child of the expression.
+     *
+     * @return the left child or null if there is none.
+     */
+    public Expression getLeftExpression() { return this.leftExpression; }
+
+    /**
+     * Return the right child of the expression.
+     *
+     * @return the right child or null if there is none.
+     */
+    public Expression getRightExpression() { return this.rightExpression; }
+
+    /**
+     * Return whether the operator of the expression is AND or OR.
+     *
+     * @return true if the expression joins two conditions with AND or OR.
+     */
+    public boolean isAndOr() { return this.operator == ExpressionBinary.AND || this.operator == ExpressionBinary.OR; }
+
+    /**
+     * Return the code of an operator.
+     *
+     * @param relationalOperator the operator as written in the command or null.
+     *
+     * @return the code of the operator.
+     *
+     * @throws IllegalArgumentException if the operator is not supported.
+     */
+    private static int operator(String relationalOperator) {
+        if(relationalOperator == null) {
+            return ExpressionBinary.NONE;
+        }
+
+        switch(SQLWriter.canonicalOperator(relationalOperator)) {
+            case "AND":
+                return ExpressionBinary.AND;
+            case "OR":
+                return ExpressionBinary.OR;
+            case "XOR":
+                return ExpressionBinary.XOR;
+            case "NOT":
+                return ExpressionBinary.NOT;
+            case "LIKE":
+                return ExpressionBinary.LIKE;
+            case "=":
+                return ExpressionBinary.EQUAL;
+            case "<>":
+                return ExpressionBinary.NOT_EQUAL;
+            case "<":
+                return ExpressionBinary.LESS_THAN;
+            case "<=":
+                return ExpressionBinary.LESS_THAN_EQUAL;
+            case ">":
+                return ExpressionBinary.GREATER_THAN;
+            case ">=":
+                return ExpressionBinary.GREATER_THAN_EQUAL;
+            default:
+                IllegalArgumentException iae = new IllegalArgumentException();
+                ExpressionBinary.logger.fatal(Messages.FATAL + "The operator " + relationalOperator
+                        + " is not supported in a binary expression");
+                System.out.println(Messages.FATAL + Messages.FATAL_EXCEPTION_ACTION(iae.getClass().getSimpleName())
+                        + " " + Messages.CHECK_LOG_FILES);
+                ExpressionBinary.logger.warn(Messages.WARNING + "Throwing a " + iae.getClass().getSimpleName()
+                        + " to the calling class");
+                throw iae;
+        }
+    }
+
+    /**
+     * Return the child of an expression without an operator.
+     *
+     * @return the child expression.
+     */
+    private Expression child() {
+        return this.rightExpression == null ? this.leftExpression : this.rightExpression;
+    }
+
+    @Override
+    public ExpressionLiteral.Type evalType(RowAccessor row) {
+        if(this.operator == ExpressionBinary.NONE) {
+            return this.child().evalType(row);
+        }
+
+        return ExpressionLiteral.Type.BOOLEAN;
+    }
+
+    @Override
+    public long evalLong(RowAccessor row) {
+        return this.operator == ExpressionBinary.NONE ? this.child().evalLong(row) : super.evalLong(row);
+    }
+
+    @Override
+    public double evalDouble(RowAccessor row) {
+        return this.operator == ExpressionBinary.NONE ? this.child().evalDouble(row) : super.evalDouble(row);
+    }
+
+    @Override
+    public BigDecimal evalDecimal(RowAccessor row) {
+        return this.operator == ExpressionBinary.NONE ? this.child().evalDecimal(row) : super.evalDecimal(row);
+    }
+
+    @Override
+    public String evalString(RowAccessor row) {
+        return this.operator == ExpressionBinary.NONE ? this.child().evalString(row) : super.evalString(row);
+    }
+
+    @Override
+    public boolean evalBoolean(RowAccessor row) {
+        switch(this.operator) {
+            case ExpressionBinary.NONE:
+                return this.child().evalBoolean(row);
+            case ExpressionBinary.AND:
+                return this.evalAnd(row);
+            case ExpressionBinary.OR:
+                return this.evalOr(row);
+            case ExpressionBinary.XOR:
+                boolean left = this.leftExpression.evalBoolean(row);
+
+                if(row.wasNull()) {
+                    return false;
+                }
+
+                boolean right = this.rightExpression.evalBoolean(row);
+
+                return !row.wasNull() && left != right;
+            case ExpressionBinary.NOT:
+                boolean value = this.rightExpression.evalBoolean(row);
+
+                return !row.wasNull() && !value;
+            case ExpressionBinary.LIKE:
+                String string = this.leftExpression.evalString(row);
+
+                if(row.wasNull()) {
+                    return false;
+                }
+
+                String pattern = this.rightExpression.evalString(row);
+
+                return !row.wasNull() && TypeCoercion.like(string, pattern);
+            default:
+                return this.evalComparison(row);
+        }
+    }
+
+    /**
+     * Evaluate an AND operator. It is false if either operand is false, even if the other one is NULL.
+     *
+     * @param row the row.
+     *
+     * @return true if both operands are true.
+     */
+    private boolean evalAnd(RowAccessor row) {
+        boolean left = this.leftExpression.evalBoolean(row);
+        boolean leftNull = row.wasNull();
+
+        if(!left && !leftNull) {
+            return false;
+        }
+
+        boolean right = this.rightExpression.evalBoolean(row);
+        boolean rightNull = row.wasNull();
+
+        if(!right && !rightNull) {
+            return false;
+        }
+
+        row.setWasNull(leftNull || rightNull);
+
+        return !leftNull && !rightNull;
+    }
+
+    /**
+     * Evaluate an OR operator. It is true if either operand is true, even if the other one is NULL.
+     *
+     * @param row the row.
+     *
+     * @return true if either operand is true.
+     */
+    private boolean evalOr(RowAccessor row) {
+        boolean left = this.leftExpression.evalBoolean(row);
+        boolean leftNull = row.wasNull();
+
+        if(left) {
+            return true;
+        }
+
+        boolean right = this.rightExpression.evalBoolean(row);
+        boolean rightNull = row.wasNull();
+
+        if(right) {
+            return true;
+        }
+
+        row.setWasNull(leftNull || rightNull);
+
+        return false;
+    }
+
+    /**
+     * Evaluate a comparison.
+     *
+     * @param row the row.
+     *
+     * @return the result of the comparison or false if either operand is NULL.
+     */
+    private boolean evalComparison(RowAccessor row) {
+        int comparison = TypeCoercion.compare(this.leftExpression, this.rightExpression, row);
+
+        if(row.wasNull()) {
+            return false;
+        }
+
+        switch(this.operator) {
+            case ExpressionBinary.EQUAL:
+                return comparison == 0;
+            case ExpressionBinary.NOT_EQUAL:
+                return comparison != 0;
+            case ExpressionBinary.LESS_THAN:
+                return comparison < 0;
+            case ExpressionBinary.LESS_THAN_EQUAL:
+                return comparison <= 0;
+            case ExpressionBinary.GREATER_THAN:
+                return comparison > 0;
+            default:
+                return comparison >= 0;
+        }
+    }
+
+    @Override
+    public Expression bind(Iterator<String> literals) {
+        // The left expression comes before the right expression in the command
+        Expression leftExpression = this.leftExpression == null ? null : this.leftExpression.bind(literals);
+        Expression rightExpression = this.rightExpression == null ? null : this.rightExpression.bind(literals);
+
+        return ExpressionFactory.binary(this.relationalOperator, leftExpression, rightExpression);
+    }
+
+    @Override
+    public int hashCode() { return this.hashCode; }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object) {
+            return true;
+        }
+
+        if(!(object instanceof ExpressionBinary)) {
+            return false;
+        }
+
+        ExpressionBinary other = (ExpressionBinary) object;
+
+        // Interned children are the same instance, so their equals returns right away
+        return this.hashCode == other.hashCode && Objects.equals(this.relationalOperator, other.relationalOperator)
+                && Objects.equals(this.leftExpression, other.leftExpression)
+                && Objects.equals(this.rightExpression, other.rightExpression);
+    }
+
     @Override
     public String toString() {
         StringBuilder result = new StringBuilder();
@@ -34,7 +329,8 @@ public class ExpressionBinary extends Expression {
         }
 
         if(this.leftExpression != null) {
-            if(this.leftExpression instanceof ExpressionLiteral || this.relationalOperator == null) {
+            if(this.leftExpression instanceof ExpressionLiteral || this.leftExpression instanceof ExpressionColumn
+                    || this.relationalOperator == null) {
                 result.append(this.leftExpression);
             }
             else {
@@ -43,7 +339,8 @@ public class ExpressionBinary extends Expression {
         }
 
         if(this.rightExpression != null) {
-            if(this.rightExpression instanceof ExpressionLiteral || this.relationalOperator == null) {
+            if(this.rightExpression instanceof ExpressionLiteral || this.rightExpression instanceof ExpressionColumn
+                    || this.relationalOperator == null) {
                 result.append(this.rightExpression);
             }
             else {
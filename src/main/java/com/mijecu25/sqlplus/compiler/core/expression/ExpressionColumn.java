@@ -0,0 +1,145 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * This class represents a Column expression. The name of the column may be qualified with a table and a schema. The
+ * expression is immutable.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.3
+ */
+public class ExpressionColumn extends Expression {
+
+    private static final Logger logger = LogManager.getLogger(ExpressionColumn.class);
+
+    private final String name;
+
+    public ExpressionColumn(String name) {
+        super();
+
+        this.name = name;
+        ExpressionColumn.logger.info("Parsed and created an ExpressionColumn");
+    }
+
+    /**
+     * Return the name of the column as written in the command.
+     *
+     * @return the name of the column.
+     */
+    public String getName() { return this.name; }
+
+    @Override
+    public ExpressionLiteral.Type evalType(RowAccessor row) { return row.getType(this.name); }
+
+    @Override
+    public long evalLong(RowAccessor row) {
+        switch(row.getType(this.name)) {
+            case LONG:
+            case BOOLEAN:
+                return row.getLong(this.name);
+            case DOUBLE:
+                return TypeCoercion.toLong(row.getDouble(this.name));
+            case DECIMAL:
+                BigDecimal decimal = row.getDecimal(this.name);
+
+                return decimal == null ? 0 : TypeCoercion.toLong(decimal);
+            case STRING:
+                String string = row.getString(this.name);
+
+                return string == null ? 0 : TypeCoercion.toLong(string);
+            default:
+                row.setWasNull(true);
+                return 0;
+        }
+    }
+
+    @Override
+    public double evalDouble(RowAccessor row) {
+        switch(row.getType(this.name)) {
+            case LONG:
+            case BOOLEAN:
+                return row.getLong(this.name);
+            case DOUBLE:
+                return row.getDouble(this.name);
+            case DECIMAL:
+                BigDecimal decimal = row.getDecimal(this.name);
+
+                return decimal == null ? 0 : decimal.doubleValue();
+            case STRING:
+                String string = row.getString(this.name);
+
+                return string == null ? 0 : TypeCoercion.toDouble(string);
+            default:
+                row.setWasNull(true);
+                return 0;
+        }
+    }
+
+    @Override
+    public BigDecimal evalDecimal(RowAccessor row) {
+        switch(row.getType(this.name)) {
+            case LONG:
+            case BOOLEAN:
+                long longValue = row.getLong(this.name);
+
+                return row.wasNull() ? null : BigDecimal.valueOf(longValue);
+            case DOUBLE:
+                double doubleValue = row.getDouble(this.name);
+
+                return row.wasNull() ? null : BigDecimal.valueOf(doubleValue);
+            case DECIMAL:
+                return row.getDecimal(this.name);
+            case STRING:
+                String string = row.getString(this.name);
+
+                return string == null ? null : TypeCoercion.toDecimal(string);
+            default:
+                row.setWasNull(true);
+                return null;
+        }
+    }
+
+    @Override
+    public String evalString(RowAccessor row) {
+        switch(row.getType(this.name)) {
+            case LONG:
+            case BOOLEAN:
+                long longValue = row.getLong(this.name);
+
+                return row.wasNull() ? null : Long.toString(longValue);
+            case DOUBLE:
+                double doubleValue = row.getDouble(this.name);
+
+                return row.wasNull() ? null : TypeCoercion.toString(doubleValue);
+            case DECIMAL:
+                BigDecimal decimal = row.getDecimal(this.name);
+
+                return decimal == null ? null : decimal.toPlainString();
+            case STRING:
+                return row.getString(this.name);
+            default:
+                row.setWasNull(true);
+                return null;
+        }
+    }
+
+    @Override
+    public int hashCode() { return this.name.hashCode(); }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object) {
+            return true;
+        }
+
+        return object instanceof ExpressionColumn && this.name.equals(((ExpressionColumn) object).name);
+    }
+
+    @Override
+    public String toString() { return this.name; }
+
+}
@@ -0,0 +1,353 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
+
+/**
+ * Factory of interned expressions. Expressions are immutable, so structurally equal expressions created through this
+ * factory are the same instance. Since the children of an interned expression are interned as well, comparing two
+ * interned expressions only compares their hash codes and the identity of their children.
+ *
+ * The factory looks up an expression by its parts before creating it, so an expression that is already interned is
+ * not created again. Expressions are only weakly referenced by the factory, so the ones that are no longer used are
+ * garbage collected. This class is thread safe and threads do not wait for each other to look up an expression.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.5
+ */
+public class ExpressionFactory {
+
+    private static final int BINARY = 0;
+    private static final int LITERAL = 1;
+    private static final int COLUMN = 2;
+    private static final int IN = 3;
+    private static final int BETWEEN = 4;
+    private static final int SUBQUERY = 5;
+    private static final int IS = 6;
+
+    private static final Logger logger = LogManager.getLogger(ExpressionFactory.class);
+
+    private static final ConcurrentMap<Key, ExpressionReference> expressions =
+            new ConcurrentHashMap<Key, ExpressionReference>();
+    private static final ReferenceQueue<Expression> collected = new ReferenceQueue<Expression>();
+
+    /**
+     * The parts that an expression is created from. Two expressions are structurally equal if their keys are equal.
+     */
+    private static final class Key {
+        private final int kind;
+        private final Object first;
+        private final Object second;
+        private final Object third;
+        private final boolean negated;
+        private final int hashCode;
+
+        private Key(int kind, Object first, Object second, Object third, boolean negated) {
+            this.kind = kind;
+            this.first = first;
+            this.second = second;
+            this.third = third;
+            this.negated = negated;
+            this.hashCode = Objects.hash(kind, first, second, third, negated);
+        }
+
+        @Override
+        public int hashCode() { return this.hashCode; }
+
+        @Override
+        public boolean equals(Object object) {
+            if(this == object) {
+                return true;
+            }
+
+            if(!(object instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key) object;
+
+            return this.hashCode == other.hashCode && this.kind == other.kind && this.negated == other.negated
+                    && Objects.equals(this.first, other.first) && Objects.equals(this.second, other.second)
+                    && Objects.equals(this.third, other.third);
+        }
+    }
+
+    /**
+     * Weak reference to an interned expression that remembers its key, so that its entry can be removed once the
+     * expression is garbage collected.
+     */
+    private static final class ExpressionReference extends WeakReference<Expression> {
+        private final Key key;
+
+        private ExpressionReference(Key key, Expression expression) {
+            super(expression, ExpressionFactory.collected);
+            this.key = key;
+        }
+    }
+
+    /**
+     * Return the interned binary expression with the provided operator and children.
+     *
+     * @param relationalOperator the operator or null if there is none.
+     * @param leftExpression the left child or null if there is none.
+     * @param rightExpression the right child or null if there is none.
+     *
+     * @return the interned binary expression.
+     */
+    public static Expression binary(String relationalOperator, Expression leftExpression, Expression rightExpression) {
+        Key key = new Key(ExpressionFactory.BINARY, relationalOperator, leftExpression, rightExpression, false);
+        Expression expression = ExpressionFactory.lookup(key);
+
+        return expression != null ? expression : ExpressionFactory.intern(key,
+                new ExpressionBinary(relationalOperator, leftExpression, rightExpression));
+    }
+
+    /**
+     * Return the interned literal with the provided text.
+     *
+     * @param value the text of the literal.
+     *
+     * @return the interned literal.
+     */
+    public static Expression literal(String value) {
+        Key key = new Key(ExpressionFactory.LITERAL, value, null, null, false);
+        Expression expression = ExpressionFactory.lookup(key);
+
+        return expression != null ? expression : ExpressionFactory.intern(key, new ExpressionLiteral(value));
+    }
+
+    /**
+     * Return the interned column with the provided name.
+     *
+     * @param name the name of the column.
+     *
+     * @return the interned column.
+     */
+    public static Expression column(String name) {
+        Key key = new Key(ExpressionFactory.COLUMN, name, null, null, false);
+        Expression expression = ExpressionFactory.lookup(key);
+
+        return expression != null ? expression : ExpressionFactory.intern(key, new ExpressionColumn(name));
+    }
+
+    /**
+     * Return the interned IN expression with the provided operand and values.
+     *
+     * @param operand the expression that is tested.
+     * @param values the values of the list.
+     * @param negated whether this is a NOT IN expression.
+     *
+     * @return the interned IN expression.
+     */
+    public static Expression in(Expression operand, List<Expression> values, boolean negated) {
+        Expression expression = ExpressionFactory.lookup(new Key(ExpressionFactory.IN, operand, values, null, negated));
+
+        // The key of a new expression uses its own copy of the values, which the caller cannot change
+        return expression != null ? expression : ExpressionFactory.intern(new ExpressionIn(operand, values, negated));
+    }
+
+    /**
+     * Return the interned BETWEEN expression with the provided operand and bounds.
+     *
+     * @param operand the expression that is tested.
+     * @param lowerBound the lower bound.
+     * @param upperBound the upper bound.
+     * @param negated whether this is a NOT BETWEEN expression.
+     *
+     * @return the interned BETWEEN expression.
+     */
+    public static Expression between(Expression operand, Expression lowerBound, Expression upperBound,
+                                     boolean negated) {
+        Key key = new Key(ExpressionFactory.BETWEEN, operand, lowerBound, upperBound, negated);
+        Expression expression = ExpressionFactory.lookup(key);
+
+        return expression != null ? expression : ExpressionFactory.intern(key,
+                new ExpressionBetween(operand, lowerBound, upperBound, negated));
+    }
+
+    /**
+     * Return the interned IS expression with the provided operand and test.
+     *
+     * @param operand the expression that is tested.
+     * @param test the value that the operand is tested against.
+     * @param negated whether this is an IS NOT expression.
+     *
+     * @return the interned IS expression.
+     */
+    public static Expression is(Expression operand, ExpressionIs.Test test, boolean negated) {
+        Key key = new Key(ExpressionFactory.IS, operand, test, null, negated);
+        Expression expression = ExpressionFactory.lookup(key);
+
+        return expression != null ? expression : ExpressionFactory.intern(key,
+                new ExpressionIs(operand, test, negated));
+    }
+
+    /**
+     * Return the interned subquery with the provided text and type.
+     *
+     * @param query the text of the select statement of the subquery.
+     * @param select the select statement of the subquery.
+     * @param type how the result of the subquery is used.
+     *
+     * @return the interned subquery.
+     */
+    public static Expression subquery(String query, StatementSelectExpression select, ExpressionSubquery.Type type) {
+        Key key = new Key(ExpressionFactory.SUBQUERY, query, type, null, false);
+        Expression expression = ExpressionFactory.lookup(key);
+
+        return expression != null ? expression : ExpressionFactory.intern(key,
+                new ExpressionSubquery(query, select, type));
+    }
+
+    /**
+     * Return the instance that is structurally equal to the provided expression, adding the expression if there is
+     * none.
+     *
+     * @param expression the expression.
+     *
+     * @return the interned expression.
+     */
+    public static Expression intern(Expression expression) {
+        Key key = ExpressionFactory.key(expression);
+
+        if(key == null) {
+            return expression;
+        }
+
+        Expression interned = ExpressionFactory.lookup(key);
+
+        return interned != null ? interned : ExpressionFactory.intern(key, expression);
+    }
+
+    /**
+     * Helper method to return the key of an expression created without this factory.
+     *
+     * @param expression the expression.
+     *
+     * @return the key or null if the kind of expression is not interned.
+     */
+    private static Key key(Expression expression) {
+        if(expression instanceof ExpressionBinary) {
+            ExpressionBinary binary = (ExpressionBinary) expression;
+
+            return new Key(ExpressionFactory.BINARY, binary.getRelationalOperator(), binary.getLeftExpression(),
+                    binary.getRightExpression(), false);
+        }
+
+        if(expression instanceof ExpressionLiteral) {
+            return new Key(ExpressionFactory.LITERAL, expression.toString(), null, null, false);
+        }
+
+        if(expression instanceof ExpressionColumn) {
+            return new Key(ExpressionFactory.COLUMN, ((ExpressionColumn) expression).getName(), null, null, false);
+        }
+
+        if(expression instanceof ExpressionIn) {
+            ExpressionIn in = (ExpressionIn) expression;
+
+            return new Key(ExpressionFactory.IN, in.getOperand(), in.getValues(), null, in.isNegated());
+        }
+
+        if(expression instanceof ExpressionBetween) {
+            ExpressionBetween between = (ExpressionBetween) expression;
+
+            return new Key(ExpressionFactory.BETWEEN, between.getOperand(), between.getLowerBound(),
+                    between.getUpperBound(), between.isNegated());
+        }
+
+        if(expression instanceof ExpressionIs) {
+            ExpressionIs is = (ExpressionIs) expression;
+
+            return new Key(ExpressionFactory.IS, is.getOperand(), is.getTest(), null, is.isNegated());
+        }
+
+        if(expression instanceof ExpressionSubquery) {
+            ExpressionSubquery subquery = (ExpressionSubquery) expression;
+
+            return new Key(ExpressionFactory.SUBQUERY, subquery.getQuery(), subquery.getType(), null, false);
+        }
+
+        return null;
+    }
+
+    /**
+     * Helper method to return the interned expression with a key.
+     *
+     * @param key the key of the expression.
+     *
+     * @return the interned expression or null if there is none.
+     */
+    private static Expression lookup(Key key) {
+        ExpressionReference reference = ExpressionFactory.expressions.get(key);
+
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Helper method to intern a new expression. If another thread interned an equal expression first, that expression
+     * is returned instead.
+     *
+     * @param key the key of the expression.
+     * @param expression the new expression.
+     *
+     * @return the interned expression.
+     */
+    private static Expression intern(Key key, Expression expression) {
+        ExpressionFactory.removeCollected();
+        ExpressionReference reference = new ExpressionReference(key, expression);
+
+        while(true) {
+            ExpressionReference existing = ExpressionFactory.expressions.putIfAbsent(key, reference);
+
+            if(existing == null) {
+                ExpressionFactory.logger.info("Interned a new " + expression.getClass().getSimpleName());
+                return expression;
+            }
+
+            Expression interned = existing.get();
+
+            if(interned != null) {
+                return interned;
+            }
+
+            // The equal expression was garbage collected, but its entry has not been removed yet
+            if(ExpressionFactory.expressions.replace(key, existing, reference)) {
+                ExpressionFactory.logger.info("Interned a new " + expression.getClass().getSimpleName());
+                return expression;
+            }
+        }
+    }
+
+    /**
+     * Helper method to remove the entries of the expressions that were garbage collected.
+     */
+    private static void removeCollected() {
+        ExpressionReference reference = (ExpressionReference) ExpressionFactory.collected.poll();
+
+        while(reference != null) {
+            ExpressionFactory.expressions.remove(reference.key, reference);
+            reference = (ExpressionReference) ExpressionFactory.collected.poll();
+        }
+    }
+
+    /**
+     * Return the number of interned expressions.
+     *
+     * @return the number of interned expressions.
+     */
+    public static int size() {
+        ExpressionFactory.removeCollected();
+
+        return ExpressionFactory.expressions.size();
+    }
+
+}
@@ -0,0 +1,319 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * This class represents an IN expression, which tests whether an operand is in a list of values. When every value is
+ * an integer or every value is a string, the values are also stored in a structure for fast membership tests: a
+ * sorted array for short lists and a hash set for long lists. Integers are never boxed. NULL values in the list are
+ * tracked separately. The expression is immutable and its hash code is computed when it is created.
+ *
+ * The value of the expression is NULL if the operand is NULL, or if it is not in the list and the list has a value
+ * that is NULL or cannot be compared.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.3
+ */
+public class ExpressionIn extends Expression {
+
+    // Lists with more values than this use a hash set instead of a binary search
+    private static final int HASH_THRESHOLD = 16;
+
+    private static final Logger logger = LogManager.getLogger(ExpressionIn.class);
+
+    private final Expression operand;
+    private final List<Expression> values;
+    private final boolean negated;
+    private final int hashCode;
+    private final boolean containsNull;
+    private final long[] sortedLongs;
+    private final LongHashSet longSet;
+    private final String[] sortedStrings;
+    private final Set<String> stringSet;
+
+    /**
+     * Structure for membership tests built from the values of a list. At most one of its fields is not null.
+     */
+    private static class Index {
+        private boolean containsNull;
+        private long[] sortedLongs;
+        private LongHashSet longSet;
+        private String[] sortedStrings;
+        private Set<String> stringSet;
+    }
+
+    public ExpressionIn(Expression operand, List<Expression> values, boolean negated) {
+        super();
+
+        this.operand = operand;
+        this.values = Collections.unmodifiableList(new ArrayList<Expression>(values));
+        this.negated = negated;
+        this.hashCode = Objects.hash(this.operand, this.values, this.negated);
+
+        Index index = ExpressionIn.index(this.values);
+        this.containsNull = index.containsNull;
+        this.sortedLongs = index.sortedLongs;
+        this.longSet = index.longSet;
+        this.sortedStrings = index.sortedStrings;
+        this.stringSet = index.stringSet;
+        ExpressionIn.logger.info("Parsed and created an ExpressionIn");
+    }
+
+    /**
+     * Build the structure for membership tests if every value that is not NULL is an integer or every one is a string.
+     *
+     * @param values the values of the list.
+     *
+     * @return the structure, which is empty if the values cannot be indexed.
+     */
+    private static Index index(List<Expression> values) {
+        Index index = new Index();
+        long[] longs = new long[values.size()];
+        String[] strings = new String[values.size()];
+        int longCount = 0;
+        int stringCount = 0;
+        boolean indexable = true;
+
+        for(Expression value : values) {
+            if(!(value instanceof ExpressionLiteral)) {
+                indexable = false;
+                continue;
+            }
+
+            ExpressionLiteral literal = (ExpressionLiteral) value;
+
+            switch(literal.getType()) {
+                case NULL:
+                    index.containsNull = true;
+                    break;
+                case LONG:
+                    longs[longCount++] = literal.getLong();
+                    break;
+                case STRING:
+                    strings[stringCount++] = literal.getString();
+                    break;
+                default:
+                    indexable = false;
+            }
+        }
+
+        if(!indexable || (longCount > 0 && stringCount > 0)) {
+            return index;
+        }
+
+        if(longCount > 0 || stringCount == 0) {
+            longs = Arrays.copyOf(longs, longCount);
+
+            if(longCount > ExpressionIn.HASH_THRESHOLD) {
+                index.longSet = new LongHashSet(longs);
+            }
+            else {
+                Arrays.sort(longs);
+                index.sortedLongs = longs;
+            }
+        }
+        else if(stringCount > ExpressionIn.HASH_THRESHOLD) {
+            index.stringSet = new HashSet<String>(Arrays.asList(strings).subList(0, stringCount));
+        }
+        else {
+            strings = Arrays.copyOf(strings, stringCount);
+            Arrays.sort(strings);
+            index.sortedStrings = strings;
+        }
+
+        return index;
+    }
+
+    /**
+     * Return whether every value in the list that is not NULL is an integer, so that {@link #containsLong(long)} can
+     * be used.
+     *
+     * @return true if the list only has integers.
+     */
+    public boolean isLongList() { return this.sortedLongs != null || this.longSet != null; }
+
+    /**
+     * Return whether every value in the list that is not NULL is a string, so that {@link #containsString(String)}
+     * can be used.
+     *
+     * @return true if the list only has strings.
+     */
+    public boolean isStringList() { return this.sortedStrings != null || this.stringSet != null; }
+
+    /**
+     * Return whether an integer is in a list of integers.
+     *
+     * @param value the value.
+     *
+     * @return true if the value is in the list.
+     */
+    public boolean containsLong(long value) {
+        if(this.longSet != null) {
+            return this.longSet.contains(value);
+        }
+
+        if(this.sortedLongs == null) {
+            throw new UnsupportedOperationException("The list " + this + " does not only have integers");
+        }
+
+        return Arrays.binarySearch(this.sortedLongs, value) >= 0;
+    }
+
+    /**
+     * Return whether a string is in a list of strings.
+     *
+     * @param value the value.
+     *
+     * @return true if the value is in the list.
+     */
+    public boolean containsString(String value) {
+        if(this.stringSet != null) {
+            return this.stringSet.contains(value);
+        }
+
+        if(this.sortedStrings == null) {
+            throw new UnsupportedOperationException("The list " + this + " does not only have strings");
+        }
+
+        return Arrays.binarySearch(this.sortedStrings, value) >= 0;
+    }
+
+    /**
+     * Return whether the list has a NULL value.
+     *
+     * @return true if the list has a NULL value.
+     */
+    public boolean containsNull() { return this.containsNull; }
+
+    /**
+     * Return the expression that is tested.
+     *
+     * @return the operand.
+     */
+    public Expression getOperand() { return this.operand; }
+
+    /**
+     * Return the values of the list in the order of the command.
+     *
+     * @return the values of the list.
+     */
+    public List<Expression> getValues() { return this.values; }
+
+    /**
+     * Return whether this is a NOT IN expression.
+     *
+     * @return true if the expression is negated.
+     */
+    public boolean isNegated() { return this.negated; }
+
+    @Override
+    public ExpressionLiteral.Type evalType(RowAccessor row) { return ExpressionLiteral.Type.BOOLEAN; }
+
+    @Override
+    public boolean evalBoolean(RowAccessor row) {
+        ExpressionLiteral.Type type = this.operand.evalType(row);
+        boolean found;
+        boolean sawNull = this.containsNull;
+
+        if(TypeCoercion.isInteger(type) && this.isLongList()) {
+            long value = this.operand.evalLong(row);
+
+            if(row.wasNull()) {
+                return false;
+            }
+
+            found = this.containsLong(value);
+        }
+        else if(type == ExpressionLiteral.Type.STRING && this.isStringList()) {
+            String value = this.operand.evalString(row);
+
+            if(row.wasNull()) {
+                return false;
+            }
+
+            found = this.containsString(value);
+        }
+        else {
+            found = false;
+
+            for(Expression value : this.values) {
+                int comparison = TypeCoercion.compare(this.operand, value, row);
+
+                if(row.wasNull()) {
+                    sawNull = true;
+                }
+                else if(comparison == 0) {
+                    found = true;
+                    break;
+                }
+            }
+        }
+
+        if(!found && sawNull) {
+            row.setWasNull(true);
+            return false;
+        }
+
+        row.setWasNull(false);
+
+        return found != this.negated;
+    }
+
+    @Override
+    public Expression bind(Iterator<String> literals) {
+        Expression operand = this.operand.bind(literals);
+        List<Expression> values = new ArrayList<Expression>(this.values.size());
+
+        for(Expression value : this.values) {
+            values.add(value.bind(literals));
+        }
+
+        return ExpressionFactory.in(operand, values, this.negated);
+    }
+
+    @Override
+    public int hashCode() { return this.hashCode; }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object) {
+            return true;
+        }
+
+        if(!(object instanceof ExpressionIn)) {
+            return false;
+        }
+
+        ExpressionIn other = (ExpressionIn) object;
+
+        return this.hashCode == other.hashCode && this.negated == other.negated && this.operand.equals(other.operand)
+                && this.values.equals(other.values);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder(this.negated ? "notin" : "in");
+        result.append(this.operand).append('(');
+
+        for(int i = 0; i < this.values.size(); i++) {
+            if(i > 0) {
+                result.append(',');
+            }
+
+            result.append(this.values.get(i));
+        }
+
+        return result.append(')').toString();
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * This class represents an IS expression, which tests whether the truth value of an operand is TRUE, FALSE or NULL.
+ * The expression is immutable and its hash code is computed when it is created.
+ *
+ * The value of the expression is never NULL. IS NULL is true if the operand is NULL, IS TRUE is true if the operand is
+ * not NULL and its truth value is true, and IS FALSE is true if the operand is not NULL and its truth value is false.
+ * IS NOT is the negation of each test.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class ExpressionIs extends Expression {
+
+    /**
+     * The value that the operand is tested against.
+     */
+    public enum Test {
+        TRUE,
+        FALSE,
+        NULL
+    }
+
+    private static final Logger logger = LogManager.getLogger(ExpressionIs.class);
+
+    private final Expression operand;
+    private final Test test;
+    private final boolean negated;
+    private final int hashCode;
+
+    public ExpressionIs(Expression operand, Test test, boolean negated) {
+        super();
+
+        this.operand = operand;
+        this.test = test;
+        this.negated = negated;
+        this.hashCode = Objects.hash(this.operand, this.test, this.negated);
+        ExpressionIs.logger.info("Parsed and created an ExpressionIs");
+    }
+
+    /**
+     * Return the test of a keyword as written in the command.
+     *
+     * @param keyword TRUE, FALSE or NULL in any case.
+     *
+     * @return the test.
+     */
+    public static Test test(String keyword) {
+        return Test.valueOf(keyword.toUpperCase());
+    }
+
+    /**
+     * Return the expression that is tested.
+     *
+     * @return the operand.
+     */
+    public Expression getOperand() { return this.operand; }
+
+    /**
+     * Return the value that the operand is tested against.
+     *
+     * @return the test.
+     */
+    public Test getTest() { return this.test; }
+
+    /**
+     * Return whether this is an IS NOT expression.
+     *
+     * @return true if the expression is negated.
+     */
+    public boolean isNegated() { return this.negated; }
+
+    @Override
+    public ExpressionLiteral.Type evalType(RowAccessor row) { return ExpressionLiteral.Type.BOOLEAN; }
+
+    @Override
+    public boolean evalBoolean(RowAccessor row) {
+        boolean value = this.operand.evalBoolean(row);
+        boolean isNull = row.wasNull();
+        boolean result;
+
+        switch(this.test) {
+            case TRUE:
+                result = !isNull && value;
+                break;
+            case FALSE:
+                result = !isNull && !value;
+                break;
+            default:
+                result = isNull;
+        }
+
+        row.setWasNull(false);
+
+        return result != this.negated;
+    }
+
+    @Override
+    public Expression bind(Iterator<String> literals) {
+        return ExpressionFactory.is(this.operand.bind(literals), this.test, this.negated);
+    }
+
+    @Override
+    public int hashCode() { return this.hashCode; }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object) {
+            return true;
+        }
+
+        if(!(object instanceof ExpressionIs)) {
+            return false;
+        }
+
+        ExpressionIs other = (ExpressionIs) object;
+
+        return this.hashCode == other.hashCode && this.test == other.test && this.negated == other.negated
+                && this.operand.equals(other.operand);
+    }
+
+    @Override
+    public String toString() {
+        return (this.negated ? "isnot" : "is") + this.test.name().toLowerCase() + "(" + this.operand + ")";
+    }
+
+}
@@ -1,17 +1,38 @@
 package com.mijecu25.sqlplus.compiler.core.expression;
 
+import java.math.BigDecimal;
+import java.util.Iterator;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.mijecu25.messages.Messages;
+
 /**
- * This class represents a Literal expression. It is used for strings and numbers.
+ * This class represents a Literal expression. It is used for strings, numbers, booleans and NULL. The value is
+ * converted once when the literal is created, so consumers do not have to parse numbers or unquote strings again.
+ * Integers and booleans are stored as a primitive long and approximate numbers as a primitive double. The literal is
+ * immutable.
  *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.1
+ * @version 0.1.0.8
  */
 public class ExpressionLiteral extends ExpressionConstant {
 
-    private String value;
+    /**
+     * The types of literals. DEFAULT is the keyword used as a value in assignments. Numbers with a decimal point are exact like in MySQL, while numbers with an exponent are
+     * approximate. Integers that do not fit in a long and numbers that do not fit in a double are exact decimals.
+     */
+    public enum Type { LONG, DECIMAL, DOUBLE, STRING, BOOLEAN, NULL, DEFAULT }
+
+    private static final String SIGNS = "+- \t";
+    private static final String LITERAL_STARTS = "0123456789.'\"";
+
+    private final String value;
+    private final Type type;
+    private final long longValue;
+    private final double doubleValue;
+    private final Object objectValue;
 
     private static final Logger logger = LogManager.getLogger(ExpressionLiteral.class);
 
@@ -19,7 +40,322 @@ public class ExpressionLiteral extends ExpressionConstant {
         super();
 
         this.value = value;
-        ExpressionLiteral.logger.info("Parsed and created an ExpressionConstant");
+
+        // The type and the converted value are set from the text of the literal
+        LiteralConverter converter = new LiteralConverter();
+
+        if(!converter.convert(this.value)) {
+            this.illegalLiteral();
+        }
+
+        this.type = converter.type;
+        this.longValue = converter.longValue;
+        this.doubleValue = converter.doubleValue;
+        this.objectValue = converter.objectValue;
+        ExpressionLiteral.logger.info("Parsed and created an ExpressionLiteral");
+    }
+
+    /**
+     * Throw an exception for a value that is not a literal.
+     */
+    private void illegalLiteral() {
+        IllegalArgumentException iae = new IllegalArgumentException();
+        ExpressionLiteral.logger.fatal(Messages.FATAL + "The value " + this.value + " is not a literal");
+        System.out.println(Messages.FATAL + Messages.FATAL_EXCEPTION_ACTION(iae.getClass().getSimpleName()) + " "
+                + Messages.CHECK_LOG_FILES);
+        ExpressionLiteral.logger.warn(Messages.WARNING + "Throwing a " + iae.getClass().getSimpleName()
+                + " to the calling class");
+        throw iae;
+    }
+
+    /**
+     * Remove the quotes of a string literal and resolve its escape sequences like MySQL does.
+     *
+     * @param literal the string literal with its quotes.
+     *
+     * @return the value of the string.
+     */
+    public static String unquote(String literal) {
+        char quote = literal.charAt(0);
+        int end = literal.length() - 1;
+        StringBuilder result = null;
+
+        for(int i = 1; i < end; i++) {
+            char character = literal.charAt(i);
+
+            if(character != '\\' && !(character == quote && i + 1 < end && literal.charAt(i + 1) == quote)) {
+                if(result != null) {
+                    result.append(character);
+                }
+
+                continue;
+            }
+
+            if(result == null) {
+                // Only strings with escape sequences are copied twice
+                result = new StringBuilder(end - 1);
+                result.append(literal, 1, i);
+            }
+
+            i++;
+
+            if(i == end) {
+                result.append(character);
+                break;
+            }
+
+            character = literal.charAt(i);
+
+            switch(character) {
+                case '0':
+                    result.append('\0');
+                    break;
+                case 'b':
+                    result.append('\b');
+                    break;
+                case 'n':
+                    result.append('\n');
+                    break;
+                case 'r':
+                    result.append('\r');
+                    break;
+                case 't':
+                    result.append('\t');
+                    break;
+                case 'Z':
+                    result.append('\032');
+                    break;
+                case '%':
+                case '_':
+                    // MySQL keeps the backslash so that the wildcards can be escaped in patterns
+                    result.append('\\').append(character);
+                    break;
+                default:
+                    result.append(character);
+            }
+        }
+
+        return result == null ? literal.substring(1, end) : result.toString();
+    }
+
+    /**
+     * Return the type of the literal.
+     *
+     * @return the type of the literal.
+     */
+    public Type getType() { return this.type; }
+
+    /**
+     * Return whether the literal is NULL.
+     *
+     * @return true if the literal is NULL.
+     */
+    public boolean isNull() { return this.type == Type.NULL; }
+
+    /**
+     * Return the value of an integer or boolean literal. Booleans are 1 and 0 like in MySQL.
+     *
+     * @return the value of the literal.
+     */
+    public long getLong() {
+        if(this.type != Type.LONG && this.type != Type.BOOLEAN) {
+            throw new UnsupportedOperationException("The literal " + this.value + " is not an integer");
+        }
+
+        return this.longValue;
+    }
+
+    /**
+     * Return the value of a number or boolean literal as a double.
+     *
+     * @return the value of the literal.
+     */
+    public double getDouble() {
+        switch(this.type) {
+            case LONG:
+            case BOOLEAN:
+                return this.longValue;
+            case DOUBLE:
+                return this.doubleValue;
+            case DECIMAL:
+                return ((BigDecimal) this.objectValue).doubleValue();
+            default:
+                throw new UnsupportedOperationException("The literal " + this.value + " is not a number");
+        }
+    }
+
+    /**
+     * Return the value of a number or boolean literal as an exact decimal.
+     *
+     * @return the value of the literal.
+     */
+    public BigDecimal getDecimal() {
+        switch(this.type) {
+            case LONG:
+            case BOOLEAN:
+                return BigDecimal.valueOf(this.longValue);
+            case DOUBLE:
+                return BigDecimal.valueOf(this.doubleValue);
+            case DECIMAL:
+                return (BigDecimal) this.objectValue;
+            default:
+                throw new UnsupportedOperationException("The literal " + this.value + " is not a number");
+        }
+    }
+
+    /**
+     * Return the value of a boolean or integer literal as a boolean.
+     *
+     * @return the value of the literal.
+     */
+    public boolean getBoolean() { return this.getLong() != 0; }
+
+    /**
+     * Return the value of a string literal, without quotes and with its escape sequences resolved.
+     *
+     * @return the value of the literal.
+     */
+    public String getString() {
+        if(this.type != Type.STRING) {
+            throw new UnsupportedOperationException("The literal " + this.value + " is not a string");
+        }
+
+        return (String) this.objectValue;
+    }
+
+    @Override
+    public Type evalType(RowAccessor row) {
+        if(this.type == Type.DEFAULT) {
+            throw this.notEvaluable();
+        }
+
+        return this.type;
+    }
+
+    @Override
+    public long evalLong(RowAccessor row) {
+        row.setWasNull(this.type == Type.NULL);
+
+        switch(this.type) {
+            case LONG:
+            case BOOLEAN:
+                return this.longValue;
+            case DOUBLE:
+                return TypeCoercion.toLong(this.doubleValue);
+            case DECIMAL:
+                return TypeCoercion.toLong((BigDecimal) this.objectValue);
+            case STRING:
+                return TypeCoercion.toLong((String) this.objectValue);
+            case NULL:
+                return 0;
+            default:
+                throw this.notEvaluable();
+        }
+    }
+
+    @Override
+    public double evalDouble(RowAccessor row) {
+        row.setWasNull(this.type == Type.NULL);
+
+        switch(this.type) {
+            case LONG:
+            case BOOLEAN:
+                return this.longValue;
+            case DOUBLE:
+                return this.doubleValue;
+            case DECIMAL:
+                return ((BigDecimal) this.objectValue).doubleValue();
+            case STRING:
+                return TypeCoercion.toDouble((String) this.objectValue);
+            case NULL:
+                return 0;
+            default:
+                throw this.notEvaluable();
+        }
+    }
+
+    @Override
+    public BigDecimal evalDecimal(RowAccessor row) {
+        row.setWasNull(this.type == Type.NULL);
+
+        switch(this.type) {
+            case STRING:
+                return TypeCoercion.toDecimal((String) this.objectValue);
+            case NULL:
+                return null;
+            case DEFAULT:
+                throw this.notEvaluable();
+            default:
+                return this.getDecimal();
+        }
+    }
+
+    @Override
+    public String evalString(RowAccessor row) {
+        row.setWasNull(this.type == Type.NULL);
+
+        switch(this.type) {
+            case LONG:
+            case BOOLEAN:
+                return Long.toString(this.longValue);
+            case DOUBLE:
+                return TypeCoercion.toString(this.doubleValue);
+            case DECIMAL:
+                return ((BigDecimal) this.objectValue).toPlainString();
+            case STRING:
+                return (String) this.objectValue;
+            case NULL:
+                return null;
+            default:
+                throw this.notEvaluable();
+        }
+    }
+
+    @Override
+    public Expression bind(Iterator<String> literals) {
+        String value = ExpressionLiteral.bindValue(this.value, literals);
+
+        if(value == this.value) {
+            return this;
+        }
+
+        return ExpressionFactory.literal(value);
+    }
+
+    @Override
+    public int hashCode() { return this.value.hashCode(); }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object) {
+            return true;
+        }
+
+        // The type and the value of the literal are derived from its text
+        return object instanceof ExpressionLiteral && this.value.equals(((ExpressionLiteral) object).value);
+    }
+
+    /**
+     * Replace the string or number literal in a value with the next literal. A sign in front of a number is kept.
+     * Values that are not literals, such as column names, are returned as is.
+     *
+     * @param value the text of the value.
+     * @param literals the new literals.
+     *
+     * @return the value with the new literal or the same value if it is not a literal.
+     */
+    public static String bindValue(String value, Iterator<String> literals) {
+        int index = 0;
+
+        while(index < value.length() && ExpressionLiteral.SIGNS.indexOf(value.charAt(index)) >= 0) {
+            index++;
+        }
+
+        if(index == value.length() || ExpressionLiteral.LITERAL_STARTS.indexOf(value.charAt(index)) < 0) {
+            return value;
+        }
+
+        return value.substring(0, index) + literals.next();
     }
 
     @Override
@@ -0,0 +1,559 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Simplifier of expressions. The simplified expression has the same value as the original one for every row, or the
+ * same truth value when it is used as a condition, such as a where clause.
+ *
+ * The simplifier removes the wrappers of a NOT that is not present, pushes NOT into comparisons, IN, BETWEEN and IS,
+ * flattens chains of AND and OR removing the duplicated operands, and folds comparisons between numbers, IS tests of
+ * constants and logical operators whose value is known without reading a row. Comparisons of strings are not folded, since they depend on
+ * the collation of the server. The simplified expressions are interned.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class ExpressionSimplifier {
+
+    private static final Expression TRUE = ExpressionFactory.literal("TRUE");
+    private static final Expression FALSE = ExpressionFactory.literal("FALSE");
+    private static final Expression NULL = ExpressionFactory.literal("NULL");
+
+    private static final Logger logger = LogManager.getLogger(ExpressionSimplifier.class);
+
+    /**
+     * Simplify a condition. Only the truth value of the condition is kept, so an operand of a logical operator might
+     * be replaced by one that is true, false or NULL for the same rows, but whose value is different.
+     *
+     * @param expression the condition or null.
+     *
+     * @return the simplified condition or null if there is no condition.
+     */
+    public static Expression simplify(Expression expression) {
+        if(expression == null) {
+            return null;
+        }
+
+        Expression simplified = ExpressionSimplifier.simplify(expression, true);
+        ExpressionSimplifier.logger.info("Simplified " + expression + " to " + simplified);
+
+        return simplified;
+    }
+
+    /**
+     * Simplify an expression.
+     *
+     * @param expression the expression.
+     * @param condition whether only the truth value of the expression is used.
+     *
+     * @return the simplified expression.
+     */
+    private static Expression simplify(Expression expression, boolean condition) {
+        if(expression instanceof ExpressionBinary) {
+            ExpressionBinary binary = (ExpressionBinary) expression;
+            String operator = binary.getRelationalOperator();
+
+            if(operator == null) {
+                Expression child = binary.getRightExpression() == null ? binary.getLeftExpression()
+                        : binary.getRightExpression();
+
+                return ExpressionSimplifier.simplify(child, condition);
+            }
+
+            switch(SQLWriter.canonicalOperator(operator)) {
+                case "NOT":
+                    return ExpressionSimplifier.simplifyNot(binary.getRightExpression(), condition);
+                case "AND":
+                case "OR":
+                    return ExpressionSimplifier.simplifyChain(binary, condition);
+                case "XOR":
+                    return ExpressionSimplifier.simplifyXor(binary, condition);
+                default:
+                    return ExpressionSimplifier.simplifyComparison(SQLWriter.canonicalOperator(operator),
+                            ExpressionSimplifier.simplify(binary.getLeftExpression(), false),
+                            ExpressionSimplifier.simplify(binary.getRightExpression(), false));
+            }
+        }
+
+        if(expression instanceof ExpressionIn) {
+            return ExpressionSimplifier.simplifyIn((ExpressionIn) expression, false);
+        }
+
+        if(expression instanceof ExpressionBetween) {
+            return ExpressionSimplifier.simplifyBetween((ExpressionBetween) expression, false);
+        }
+
+        if(expression instanceof ExpressionIs) {
+            return ExpressionSimplifier.simplifyIs((ExpressionIs) expression, condition);
+        }
+
+        return expression;
+    }
+
+    /**
+     * Simplify the negation of an expression.
+     *
+     * @param operand the expression that is negated.
+     * @param condition whether only the truth value of the negation is used.
+     *
+     * @return the simplified negation.
+     */
+    private static Expression simplifyNot(Expression operand, boolean condition) {
+        // The value of NOT is 1, 0 or NULL, so only the truth value of its operand is used
+        Expression simplified = ExpressionSimplifier.simplify(operand, true);
+        Boolean truth = ExpressionSimplifier.truthValue(simplified);
+
+        if(truth != null) {
+            return truth ? ExpressionSimplifier.FALSE : ExpressionSimplifier.TRUE;
+        }
+
+        if(ExpressionSimplifier.isNull(simplified)) {
+            return ExpressionSimplifier.NULL;
+        }
+
+        if(simplified instanceof ExpressionIn) {
+            return ExpressionSimplifier.simplifyIn((ExpressionIn) simplified, true);
+        }
+
+        if(simplified instanceof ExpressionBetween) {
+            return ExpressionSimplifier.simplifyBetween((ExpressionBetween) simplified, true);
+        }
+
+        if(simplified instanceof ExpressionIs) {
+            // IS is never NULL, so NOT a IS NULL is a IS NOT NULL
+            ExpressionIs is = (ExpressionIs) simplified;
+
+            return ExpressionFactory.is(is.getOperand(), is.getTest(), !is.isNegated());
+        }
+
+        if(simplified instanceof ExpressionBinary) {
+            ExpressionBinary binary = (ExpressionBinary) simplified;
+            String operator = SQLWriter.canonicalOperator(binary.getRelationalOperator());
+            String negated = ExpressionSimplifier.negateComparison(operator);
+
+            if(negated != null && !(binary.getRightExpression() instanceof ExpressionSubquery)) {
+                // NOT a = b is a <> b, and both are NULL when a or b are NULL
+                return ExpressionFactory.binary(negated, binary.getLeftExpression(), binary.getRightExpression());
+            }
+
+            if(operator.equals("NOT")
+                    && (condition || ExpressionSimplifier.isBoolean(binary.getRightExpression()))) {
+                return binary.getRightExpression();
+            }
+        }
+
+        return ExpressionFactory.binary("NOT", null, simplified);
+    }
+
+    /**
+     * Return the comparison that is the negation of another one.
+     *
+     * @param operator the canonical comparison operator.
+     *
+     * @return the negated operator or null if the operator is not a comparison.
+     */
+    private static String negateComparison(String operator) {
+        switch(operator) {
+            case "=":
+                return "<>";
+            case "<>":
+                return "=";
+            case "<":
+                return ">=";
+            case ">=":
+                return "<";
+            case ">":
+                return "<=";
+            case "<=":
+                return ">";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Simplify a chain of AND or OR operators. Nested operators of the same kind are flattened into a single chain,
+     * the operands that do not change the result are removed and the chain is folded if an operand decides its value.
+     *
+     * @param binary the first operator of the chain.
+     * @param condition whether only the truth value of the chain is used.
+     *
+     * @return the simplified chain.
+     */
+    private static Expression simplifyChain(ExpressionBinary binary, boolean condition) {
+        String operator = SQLWriter.canonicalOperator(binary.getRelationalOperator());
+        boolean and = operator.equals("AND");
+        List<Expression> operands = new ArrayList<Expression>();
+        ExpressionSimplifier.flatten(binary, operator, operands);
+        Set<Expression> kept = new LinkedHashSet<Expression>();
+
+        for(Expression operand : operands) {
+            Expression simplified = ExpressionSimplifier.simplify(operand, true);
+            Boolean truth = ExpressionSimplifier.truthValue(simplified);
+
+            if(truth == null) {
+                // Interned operands that are equal are the same instance, so the set removes duplicates cheaply
+                kept.add(simplified);
+            }
+            else if(truth != and) {
+                // FALSE decides an AND and TRUE decides an OR, even if other operands are NULL
+                return and ? ExpressionSimplifier.FALSE : ExpressionSimplifier.TRUE;
+            }
+        }
+
+        if(kept.isEmpty()) {
+            return and ? ExpressionSimplifier.TRUE : ExpressionSimplifier.FALSE;
+        }
+
+        if(kept.size() == 1) {
+            Expression operand = kept.iterator().next();
+
+            if(condition || ExpressionSimplifier.isBoolean(operand)) {
+                return operand;
+            }
+
+            // The operator turns the value of the operand into 1, 0 or NULL
+            return ExpressionFactory.binary(operator, operand, and ? ExpressionSimplifier.TRUE
+                    : ExpressionSimplifier.FALSE);
+        }
+
+        Expression chain = null;
+
+        for(Expression operand : kept) {
+            chain = chain == null ? operand : ExpressionFactory.binary(operator, chain, operand);
+        }
+
+        return chain;
+    }
+
+    /**
+     * Add the operands of a chain of the same operator, skipping the wrappers of a NOT that is not present.
+     *
+     * @param expression the expression.
+     * @param operator the canonical operator of the chain.
+     * @param operands the list where the operands are added in order.
+     */
+    private static void flatten(Expression expression, String operator, List<Expression> operands) {
+        while(expression instanceof ExpressionBinary && ((ExpressionBinary) expression).getRelationalOperator() == null) {
+            ExpressionBinary wrapper = (ExpressionBinary) expression;
+            expression = wrapper.getRightExpression() == null ? wrapper.getLeftExpression()
+                    : wrapper.getRightExpression();
+        }
+
+        if(expression instanceof ExpressionBinary && ((ExpressionBinary) expression).getRelationalOperator() != null
+                && SQLWriter.canonicalOperator(((ExpressionBinary) expression).getRelationalOperator())
+                .equals(operator)) {
+            ExpressionSimplifier.flatten(((ExpressionBinary) expression).getLeftExpression(), operator, operands);
+            ExpressionSimplifier.flatten(((ExpressionBinary) expression).getRightExpression(), operator, operands);
+        }
+        else {
+            operands.add(expression);
+        }
+    }
+
+    /**
+     * Simplify an XOR operator.
+     *
+     * @param binary the operator.
+     * @param condition whether only the truth value of the operator is used.
+     *
+     * @return the simplified operator.
+     */
+    private static Expression simplifyXor(ExpressionBinary binary, boolean condition) {
+        Expression left = ExpressionSimplifier.simplify(binary.getLeftExpression(), true);
+        Expression right = ExpressionSimplifier.simplify(binary.getRightExpression(), true);
+
+        if(ExpressionSimplifier.isNull(left) || ExpressionSimplifier.isNull(right)) {
+            return ExpressionSimplifier.NULL;
+        }
+
+        Boolean leftTruth = ExpressionSimplifier.truthValue(left);
+        Boolean rightTruth = ExpressionSimplifier.truthValue(right);
+
+        if(leftTruth != null && rightTruth != null) {
+            return leftTruth != rightTruth ? ExpressionSimplifier.TRUE : ExpressionSimplifier.FALSE;
+        }
+
+        if(leftTruth != null || rightTruth != null) {
+            Expression operand = leftTruth == null ? left : right;
+            boolean truth = leftTruth == null ? rightTruth : leftTruth;
+
+            // a XOR TRUE is NOT a and a XOR FALSE has the truth value of a
+            if(truth) {
+                return ExpressionSimplifier.simplifyNot(operand, condition);
+            }
+
+            if(condition || ExpressionSimplifier.isBoolean(operand)) {
+                return operand;
+            }
+        }
+
+        return ExpressionFactory.binary("XOR", left, right);
+    }
+
+    /**
+     * Simplify a comparison, folding it if both operands are numbers or one of them is NULL.
+     *
+     * @param operator the canonical comparison operator.
+     * @param left the simplified left operand.
+     * @param right the simplified right operand.
+     *
+     * @return the simplified comparison.
+     */
+    private static Expression simplifyComparison(String operator, Expression left, Expression right) {
+        if(ExpressionSimplifier.isNull(left) || (ExpressionSimplifier.isNull(right))) {
+            return ExpressionSimplifier.NULL;
+        }
+
+        if(ExpressionSimplifier.isNumber(left) && ExpressionSimplifier.isNumber(right)) {
+            int comparison = ExpressionSimplifier.compare((ExpressionLiteral) left, (ExpressionLiteral) right);
+            Boolean result = null;
+
+            switch(operator) {
+                case "=":
+                    result = comparison == 0;
+                    break;
+                case "<>":
+                    result = comparison != 0;
+                    break;
+                case "<":
+                    result = comparison < 0;
+                    break;
+                case "<=":
+                    result = comparison <= 0;
+                    break;
+                case ">":
+                    result = comparison > 0;
+                    break;
+                case ">=":
+                    result = comparison >= 0;
+                    break;
+            }
+
+            if(result != null) {
+                return result ? ExpressionSimplifier.TRUE : ExpressionSimplifier.FALSE;
+            }
+        }
+
+        return ExpressionFactory.binary(operator, left, right);
+    }
+
+    /**
+     * Simplify an IN expression. A list with a single value is a comparison and a list of numbers is folded if the
+     * operand is a number.
+     *
+     * @param in the IN expression.
+     * @param negate whether the IN expression is negated by an outer NOT.
+     *
+     * @return the simplified expression.
+     */
+    private static Expression simplifyIn(ExpressionIn in, boolean negate) {
+        boolean negated = in.isNegated() != negate;
+        Expression operand = ExpressionSimplifier.simplify(in.getOperand(), false);
+        Set<Expression> values = new LinkedHashSet<Expression>();
+        boolean numbers = ExpressionSimplifier.isNumber(operand);
+
+        for(Expression value : in.getValues()) {
+            Expression simplified = ExpressionSimplifier.simplify(value, false);
+            values.add(simplified);
+            numbers &= ExpressionSimplifier.isNumber(simplified);
+        }
+
+        if(values.size() == 1) {
+            return ExpressionSimplifier.simplifyComparison(negated ? "<>" : "=", operand, values.iterator().next());
+        }
+
+        if(numbers) {
+            for(Expression value : values) {
+                if(ExpressionSimplifier.compare((ExpressionLiteral) operand, (ExpressionLiteral) value) == 0) {
+                    return negated ? ExpressionSimplifier.FALSE : ExpressionSimplifier.TRUE;
+                }
+            }
+
+            return negated ? ExpressionSimplifier.TRUE : ExpressionSimplifier.FALSE;
+        }
+
+        return ExpressionFactory.in(operand, new ArrayList<Expression>(values), negated);
+    }
+
+    /**
+     * Simplify a BETWEEN expression, folding it if the operand and the bounds are numbers.
+     *
+     * @param between the BETWEEN expression.
+     * @param negate whether the BETWEEN expression is negated by an outer NOT.
+     *
+     * @return the simplified expression.
+     */
+    private static Expression simplifyBetween(ExpressionBetween between, boolean negate) {
+        boolean negated = between.isNegated() != negate;
+        Expression operand = ExpressionSimplifier.simplify(between.getOperand(), false);
+        Expression lowerBound = ExpressionSimplifier.simplify(between.getLowerBound(), false);
+        Expression upperBound = ExpressionSimplifier.simplify(between.getUpperBound(), false);
+
+        if(ExpressionSimplifier.isNumber(operand) && ExpressionSimplifier.isNumber(lowerBound)
+                && ExpressionSimplifier.isNumber(upperBound)) {
+            boolean inside = ExpressionSimplifier.compare((ExpressionLiteral) operand, (ExpressionLiteral) lowerBound) >= 0
+                    && ExpressionSimplifier.compare((ExpressionLiteral) operand, (ExpressionLiteral) upperBound) <= 0;
+
+            return inside != negated ? ExpressionSimplifier.TRUE : ExpressionSimplifier.FALSE;
+        }
+
+        return ExpressionFactory.between(operand, lowerBound, upperBound, negated);
+    }
+
+    /**
+     * Simplify an IS expression, folding it if the truth value of the operand is known or the operand is NULL.
+     *
+     * @param is the IS expression.
+     * @param condition whether only the truth value of the expression is used.
+     *
+     * @return the simplified expression.
+     */
+    private static Expression simplifyIs(ExpressionIs is, boolean condition) {
+        // Only the truth value of the operand is tested, and it is NULL for the same rows
+        Expression operand = ExpressionSimplifier.simplify(is.getOperand(), true);
+        Boolean truth = ExpressionSimplifier.truthValue(operand);
+
+        if(truth != null || ExpressionSimplifier.isNull(operand)) {
+            boolean result;
+
+            switch(is.getTest()) {
+                case TRUE:
+                    result = truth != null && truth;
+                    break;
+                case FALSE:
+                    result = truth != null && !truth;
+                    break;
+                default:
+                    result = truth == null;
+            }
+
+            return result != is.isNegated() ? ExpressionSimplifier.TRUE : ExpressionSimplifier.FALSE;
+        }
+
+        if(condition && is.getTest() == ExpressionIs.Test.TRUE && !is.isNegated()) {
+            // A condition is only satisfied when it is true, so a IS TRUE and a are satisfied by the same rows
+            return operand;
+        }
+
+        return ExpressionFactory.is(operand, is.getTest(), is.isNegated());
+    }
+
+    /**
+     * Compare two number literals like MySQL: as integers if both are integers, as doubles if either is a double and
+     * as exact decimals otherwise.
+     *
+     * @param left the left literal.
+     * @param right the right literal.
+     *
+     * @return a negative number, zero or a positive number if the left literal is less than, equal to or greater than
+     * the right literal.
+     */
+    private static int compare(ExpressionLiteral left, ExpressionLiteral right) {
+        ExpressionLiteral.Type leftType = left.getType();
+        ExpressionLiteral.Type rightType = right.getType();
+
+        if((leftType == ExpressionLiteral.Type.LONG || leftType == ExpressionLiteral.Type.BOOLEAN)
+                && (rightType == ExpressionLiteral.Type.LONG || rightType == ExpressionLiteral.Type.BOOLEAN)) {
+            return Long.compare(left.getLong(), right.getLong());
+        }
+
+        if(leftType == ExpressionLiteral.Type.DOUBLE || rightType == ExpressionLiteral.Type.DOUBLE) {
+            return Double.compare(left.getDouble(), right.getDouble());
+        }
+
+        return left.getDecimal().compareTo(right.getDecimal());
+    }
+
+    /**
+     * Return the truth value of a constant expression.
+     *
+     * @param expression the expression.
+     *
+     * @return true or false if the expression is a number or boolean literal, or null if its truth value is not
+     * known without reading a row or it is NULL.
+     */
+    private static Boolean truthValue(Expression expression) {
+        if(!ExpressionSimplifier.isNumber(expression)) {
+            return null;
+        }
+
+        ExpressionLiteral literal = (ExpressionLiteral) expression;
+
+        if(literal.getType() == ExpressionLiteral.Type.LONG || literal.getType() == ExpressionLiteral.Type.BOOLEAN) {
+            return literal.getLong() != 0;
+        }
+
+        return literal.getDecimal().signum() != 0;
+    }
+
+    /**
+     * Return whether an expression is a number or boolean literal.
+     *
+     * @param expression the expression.
+     *
+     * @return true if the expression is a number or boolean literal.
+     */
+    private static boolean isNumber(Expression expression) {
+        if(!(expression instanceof ExpressionLiteral)) {
+            return false;
+        }
+
+        switch(((ExpressionLiteral) expression).getType()) {
+            case LONG:
+            case DECIMAL:
+            case DOUBLE:
+            case BOOLEAN:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Return whether an expression is the NULL literal.
+     *
+     * @param expression the expression.
+     *
+     * @return true if the expression is NULL.
+     */
+    private static boolean isNull(Expression expression) {
+        return expression instanceof ExpressionLiteral && ((ExpressionLiteral) expression).isNull();
+    }
+
+    /**
+     * Return whether the value of an expression is always 1, 0 or NULL, so that it does not change when it is only
+     * used for its truth value.
+     *
+     * @param expression the simplified expression.
+     *
+     * @return true if the expression is boolean.
+     */
+    private static boolean isBoolean(Expression expression) {
+        if(expression instanceof ExpressionIn || expression instanceof ExpressionBetween
+                || expression instanceof ExpressionIs) {
+            return true;
+        }
+
+        if(expression instanceof ExpressionLiteral) {
+            ExpressionLiteral.Type type = ((ExpressionLiteral) expression).getType();
+
+            return type == ExpressionLiteral.Type.BOOLEAN || type == ExpressionLiteral.Type.NULL;
+        }
+
+        if(expression instanceof ExpressionSubquery) {
+            return ((ExpressionSubquery) expression).getType() == ExpressionSubquery.Type.EXISTS;
+        }
+
+        // Every operator of a binary expression is a comparison or a logical operator
+        return expression instanceof ExpressionBinary && ((ExpressionBinary) expression).getRelationalOperator() != null;
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.messages.Messages;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
+
+/**
+ * This class represents a subquery used in an expression. The type tells how the result of the subquery is used: as a
+ * single value, compared with ALL or ANY of its rows, or tested with EXISTS. The expression is immutable and its hash
+ * code is computed when it is created.
+ *
+ * A subquery is correlated if it references a column of a table that is not listed in its own FROM clause. Without
+ * the schema, a column that is not qualified with a table is assumed to belong to the tables of the subquery, which is
+ * how MySQL resolves it when the column exists in those tables.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class ExpressionSubquery extends Expression {
+
+    /**
+     * How the result of a subquery is used.
+     */
+    public enum Type {
+        SCALAR, ALL, ANY, EXISTS
+    }
+
+    private static final Logger logger = LogManager.getLogger(ExpressionSubquery.class);
+
+    private final String query;
+    private final StatementSelectExpression select;
+    private final Type type;
+    private final Set<String> outerReferences;
+    private final int hashCode;
+
+    public ExpressionSubquery(String query, StatementSelectExpression select, Type type) {
+        super();
+
+        this.query = query;
+        this.select = select;
+        this.type = type;
+
+        Set<String> qualifiers = new HashSet<String>();
+
+        for(String column : select.getColumns()) {
+            // A displayed column may be followed by an alias
+            int end = column.indexOf(' ');
+            ExpressionSubquery.addQualifier(end < 0 ? column : column.substring(0, end), qualifiers);
+        }
+
+        ExpressionSubquery.collectQualifiers(select.getWhereClause(), qualifiers);
+        this.outerReferences = Collections.unmodifiableSet(ExpressionSubquery.removeTables(qualifiers,
+                select.getTables()));
+        this.hashCode = Objects.hash(this.query, this.type);
+        ExpressionSubquery.logger.info("Parsed and created an ExpressionSubquery");
+    }
+
+    /**
+     * Add the table that qualifies a column, if there is one.
+     *
+     * @param column the column as written in the command.
+     * @param qualifiers the set where the table is added.
+     */
+    private static void addQualifier(String column, Set<String> qualifiers) {
+        int dot = column.lastIndexOf('.');
+
+        if(dot > 0) {
+            qualifiers.add(column.substring(0, dot));
+        }
+    }
+
+    /**
+     * Add the tables that qualify the columns of an expression and the outer references of its subqueries.
+     *
+     * @param expression the expression or null.
+     * @param qualifiers the set where the tables are added.
+     */
+    private static void collectQualifiers(Expression expression, Set<String> qualifiers) {
+        if(expression instanceof ExpressionColumn) {
+            ExpressionSubquery.addQualifier(((ExpressionColumn) expression).getName(), qualifiers);
+        }
+        else if(expression instanceof ExpressionBinary) {
+            ExpressionSubquery.collectQualifiers(((ExpressionBinary) expression).getLeftExpression(), qualifiers);
+            ExpressionSubquery.collectQualifiers(((ExpressionBinary) expression).getRightExpression(), qualifiers);
+        }
+        else if(expression instanceof ExpressionIn) {
+            ExpressionSubquery.collectQualifiers(((ExpressionIn) expression).getOperand(), qualifiers);
+
+            for(Expression value : ((ExpressionIn) expression).getValues()) {
+                ExpressionSubquery.collectQualifiers(value, qualifiers);
+            }
+        }
+        else if(expression instanceof ExpressionBetween) {
+            ExpressionBetween between = (ExpressionBetween) expression;
+            ExpressionSubquery.collectQualifiers(between.getOperand(), qualifiers);
+            ExpressionSubquery.collectQualifiers(between.getLowerBound(), qualifiers);
+            ExpressionSubquery.collectQualifiers(between.getUpperBound(), qualifiers);
+        }
+        else if(expression instanceof ExpressionIs) {
+            ExpressionSubquery.collectQualifiers(((ExpressionIs) expression).getOperand(), qualifiers);
+        }
+        else if(expression instanceof ExpressionSubquery) {
+            qualifiers.addAll(((ExpressionSubquery) expression).outerReferences);
+        }
+    }
+
+    /**
+     * Remove the qualifiers that name one of the tables. A table can be qualified with its schema, in which case its
+     * columns can be qualified with the schema and the table or with the table alone.
+     *
+     * @param qualifiers the qualifiers of the columns.
+     * @param tables the tables.
+     *
+     * @return the qualifiers that do not name any of the tables.
+     */
+    private static Set<String> removeTables(Set<String> qualifiers, List<String> tables) {
+        for(String table : tables) {
+            qualifiers.remove(table);
+            qualifiers.remove(table.substring(table.lastIndexOf('.') + 1));
+        }
+
+        return qualifiers;
+    }
+
+    /**
+     * Return the text of the select statement of the subquery, without the parentheses.
+     *
+     * @return the text of the subquery.
+     */
+    public String getQuery() { return this.query; }
+
+    /**
+     * Return the select statement of the subquery.
+     *
+     * @return the select statement.
+     */
+    public StatementSelectExpression getSelect() { return this.select; }
+
+    /**
+     * Return how the result of the subquery is used.
+     *
+     * @return the type of the subquery.
+     */
+    public Type getType() { return this.type; }
+
+    /**
+     * Return the tables read by the subquery.
+     *
+     * @return the tables.
+     */
+    public List<String> getTables() { return this.select.getTables(); }
+
+    /**
+     * Return whether the subquery references columns of tables of an outer query. The result of a correlated
+     * subquery depends on the current row of the outer query, so it cannot be reused.
+     *
+     * @return true if the subquery is correlated.
+     */
+    public boolean isCorrelated() { return !this.outerReferences.isEmpty(); }
+
+    /**
+     * The literals of a subquery are part of its text, which is sent to the server as is, so a subquery cannot be
+     * bound to new literals.
+     *
+     * @param literals the new literals.
+     *
+     * @return nothing.
+     */
+    @Override
+    public Expression bind(Iterator<String> literals) {
+        UnsupportedOperationException uoe = new UnsupportedOperationException();
+        ExpressionSubquery.logger.warn(Messages.WARNING + "The subquery " + this + " cannot be bound to new literals");
+        ExpressionSubquery.logger.warn(Messages.WARNING + "Throwing a " + uoe.getClass().getSimpleName()
+                + " to the calling class");
+        throw uoe;
+    }
+
+    @Override
+    public int hashCode() { return this.hashCode; }
+
+    @Override
+    public boolean equals(Object object) {
+        if(this == object) {
+            return true;
+        }
+
+        if(!(object instanceof ExpressionSubquery)) {
+            return false;
+        }
+
+        ExpressionSubquery other = (ExpressionSubquery) object;
+
+        return this.hashCode == other.hashCode && this.type == other.type && this.query.equals(other.query);
+    }
+
+    @Override
+    public String toString() {
+        if(this.type == Type.SCALAR) {
+            return this.query;
+        }
+
+        return this.type.name().toLowerCase() + "(" + this.query + ")";
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Converter of the text of a literal into its type and value. The converter keeps the result of the last conversion
+ * in its fields, so a single converter can be reused for many literals without creating objects for integers,
+ * booleans and approximate numbers.
+ *
+ * This class is not thread safe.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+class LiteralConverter {
+
+    private static final String SIGNS = "+- \t";
+
+    ExpressionLiteral.Type type;
+    long longValue;
+    double doubleValue;
+    Object objectValue;
+    boolean negative;
+
+    /**
+     * Convert the text of a literal. Numbers may have any number of signs in front of them.
+     *
+     * @param value the text of the literal.
+     *
+     * @return true if the text is a literal, false otherwise.
+     */
+    boolean convert(String value) {
+        int index = 0;
+        this.negative = false;
+        this.longValue = 0;
+        this.doubleValue = 0;
+        this.objectValue = null;
+
+        while(index < value.length() && LiteralConverter.SIGNS.indexOf(value.charAt(index)) >= 0) {
+            if(value.charAt(index) == '-') {
+                this.negative = !this.negative;
+            }
+
+            index++;
+        }
+
+        if(index == value.length()) {
+            return false;
+        }
+
+        char first = value.charAt(index);
+
+        if(first == '\'' || first == '"') {
+            this.type = ExpressionLiteral.Type.STRING;
+            this.objectValue = ExpressionLiteral.unquote(index == 0 ? value : value.substring(index));
+        }
+        else if(Character.isDigit(first) || first == '.') {
+            this.convertNumber(value, index);
+        }
+        else if(LiteralConverter.matches(value, index, "true") || LiteralConverter.matches(value, index, "false")) {
+            this.type = ExpressionLiteral.Type.BOOLEAN;
+            this.longValue = LiteralConverter.matches(value, index, "true") ? 1 : 0;
+        }
+        else if(LiteralConverter.matches(value, index, "null")) {
+            this.type = ExpressionLiteral.Type.NULL;
+        }
+        else if(LiteralConverter.matches(value, index, "default")) {
+            this.type = ExpressionLiteral.Type.DEFAULT;
+        }
+        else {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Return whether the rest of a value is a keyword, ignoring case.
+     *
+     * @param value the value.
+     * @param index the index where the keyword starts.
+     * @param keyword the keyword in lower case.
+     *
+     * @return true if the rest of the value is the keyword.
+     */
+    private static boolean matches(String value, int index, String keyword) {
+        return value.length() - index == keyword.length() && value.regionMatches(true, index, keyword, 0, keyword.length());
+    }
+
+    /**
+     * Convert a number literal.
+     *
+     * @param value the text of the literal.
+     * @param start the index where the number starts, after its signs.
+     */
+    private void convertNumber(String value, int start) {
+        boolean integer = true;
+        boolean exponent = false;
+
+        for(int i = start; i < value.length(); i++) {
+            char character = value.charAt(i);
+
+            if(character == 'e' || character == 'E') {
+                exponent = true;
+            }
+            else if(!Character.isDigit(character)) {
+                integer = false;
+            }
+        }
+
+        if(exponent) {
+            this.doubleValue = Double.parseDouble(value.substring(start));
+
+            if(!Double.isInfinite(this.doubleValue)) {
+                this.type = ExpressionLiteral.Type.DOUBLE;
+
+                if(this.negative) {
+                    this.doubleValue = -this.doubleValue;
+                }
+
+                return;
+            }
+
+            // A number too large for a double is kept exact, since infinity has no decimal value
+            this.doubleValue = 0;
+            this.convertDecimal(value, start);
+
+            return;
+        }
+
+        if(integer && value.length() - start < 19) {
+            // Any number with less than 19 digits fits in a long
+            long number = 0;
+
+            for(int i = start; i < value.length(); i++) {
+                number = number * 10 + (value.charAt(i) - '0');
+            }
+
+            this.type = ExpressionLiteral.Type.LONG;
+            this.longValue = this.negative ? -number : number;
+
+            return;
+        }
+
+        if(integer) {
+            BigInteger number = new BigInteger(value.substring(start));
+
+            if(this.negative) {
+                number = number.negate();
+            }
+
+            if(number.bitLength() < 64) {
+                this.type = ExpressionLiteral.Type.LONG;
+                this.longValue = number.longValue();
+            }
+            else {
+                this.type = ExpressionLiteral.Type.DECIMAL;
+                this.objectValue = new BigDecimal(number);
+            }
+
+            return;
+        }
+
+        this.convertDecimal(value, start);
+    }
+
+    /**
+     * Convert a number literal into an exact decimal.
+     *
+     * @param value the text of the literal.
+     * @param start the index where the number starts, after its signs.
+     */
+    private void convertDecimal(String value, int start) {
+        BigDecimal number = new BigDecimal(value.substring(start));
+        this.type = ExpressionLiteral.Type.DECIMAL;
+        this.objectValue = this.negative ? number.negate() : number;
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+/**
+ * Set of primitive longs with open addressing and linear probing. The values are never boxed. The set is filled when
+ * it is created and never changes afterwards.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+class LongHashSet {
+
+    // Marks an empty slot. The value itself is tracked by a flag
+    private static final long EMPTY = 0;
+
+    private final long[] table;
+    private final int mask;
+    private final boolean containsEmpty;
+
+    LongHashSet(long[] values) {
+        int capacity = Integer.highestOneBit(Math.max(values.length, 1) * 2 - 1) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+        boolean containsEmpty = false;
+
+        for(long value : values) {
+            if(value == LongHashSet.EMPTY) {
+                containsEmpty = true;
+                continue;
+            }
+
+            int slot = LongHashSet.hash(value) & this.mask;
+
+            while(this.table[slot] != LongHashSet.EMPTY && this.table[slot] != value) {
+                slot = (slot + 1) & this.mask;
+            }
+
+            this.table[slot] = value;
+        }
+
+        this.containsEmpty = containsEmpty;
+    }
+
+    /**
+     * Return whether the set contains a value.
+     *
+     * @param value the value.
+     *
+     * @return true if the set contains the value.
+     */
+    boolean contains(long value) {
+        if(value == LongHashSet.EMPTY) {
+            return this.containsEmpty;
+        }
+
+        int slot = LongHashSet.hash(value) & this.mask;
+
+        while(this.table[slot] != LongHashSet.EMPTY) {
+            if(this.table[slot] == value) {
+                return true;
+            }
+
+            slot = (slot + 1) & this.mask;
+        }
+
+        return false;
+    }
+
+    /**
+     * Spread the bits of a value so that sequential values do not cluster.
+     *
+     * @param value the value.
+     *
+     * @return the hash of the value.
+     */
+    private static int hash(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+}
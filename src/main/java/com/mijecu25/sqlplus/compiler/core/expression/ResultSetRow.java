@@ -0,0 +1,200 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.messages.Messages;
+
+/**
+ * Row accessor over the current row of a result set. The values of the row are copied into primitive arrays when the
+ * row is read, so expressions can be evaluated on the row without JDBC calls or checked exceptions, and integers and
+ * approximate numbers are never boxed.
+ *
+ * Columns are found by their label ignoring case. A qualified name such as table.column is found by its last part if
+ * the result set does not have a column with the whole name. Unsigned BIGINT columns are exact decimals, since their
+ * values might not fit in a long, and types without a number or string type, such as dates, are read as strings.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class ResultSetRow extends RowAccessor {
+
+    private static final Logger logger = LogManager.getLogger(ResultSetRow.class);
+
+    private final ExpressionLiteral.Type[] types;
+    private final Map<String, Integer> labels;
+    // Indexes of the names used by expressions, so a column is only resolved once
+    private final Map<String, Integer> indexes;
+    private final long[] longs;
+    private final double[] doubles;
+    private final Object[] objects;
+    private final boolean[] nulls;
+
+    public ResultSetRow(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        this.types = new ExpressionLiteral.Type[columnCount];
+        this.labels = new HashMap<String, Integer>();
+        this.indexes = new HashMap<String, Integer>();
+        this.longs = new long[columnCount];
+        this.doubles = new double[columnCount];
+        this.objects = new Object[columnCount];
+        this.nulls = new boolean[columnCount];
+
+        for(int i = 0; i < columnCount; i++) {
+            this.types[i] = ResultSetRow.type(metaData.getColumnType(i + 1), metaData.isSigned(i + 1));
+            String label = metaData.getColumnLabel(i + 1).toLowerCase();
+
+            if(!this.labels.containsKey(label)) {
+                this.labels.put(label, i);
+            }
+        }
+
+        ResultSetRow.logger.info("Created a ResultSetRow with " + columnCount + " columns");
+    }
+
+    /**
+     * Return the type of the values of a JDBC type.
+     *
+     * @param sqlType the JDBC type from {@link Types}.
+     * @param signed whether the type is signed.
+     *
+     * @return the type of the values.
+     */
+    private static ExpressionLiteral.Type type(int sqlType, boolean signed) {
+        switch(sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return ExpressionLiteral.Type.LONG;
+            case Types.BIGINT:
+                return signed ? ExpressionLiteral.Type.LONG : ExpressionLiteral.Type.DECIMAL;
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return ExpressionLiteral.Type.BOOLEAN;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return ExpressionLiteral.Type.DECIMAL;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return ExpressionLiteral.Type.DOUBLE;
+            case Types.NULL:
+                return ExpressionLiteral.Type.NULL;
+            default:
+                return ExpressionLiteral.Type.STRING;
+        }
+    }
+
+    /**
+     * Copy the values of the current row of a result set with the same columns as the one used to create this row.
+     *
+     * @param resultSet the result set.
+     *
+     * @throws SQLException if a value cannot be read.
+     */
+    public void read(ResultSet resultSet) throws SQLException {
+        for(int i = 0; i < this.types.length; i++) {
+            switch(this.types[i]) {
+                case LONG:
+                    this.longs[i] = resultSet.getLong(i + 1);
+                    break;
+                case BOOLEAN:
+                    this.longs[i] = resultSet.getBoolean(i + 1) ? 1 : 0;
+                    break;
+                case DOUBLE:
+                    this.doubles[i] = resultSet.getDouble(i + 1);
+                    break;
+                case DECIMAL:
+                    this.objects[i] = resultSet.getBigDecimal(i + 1);
+                    break;
+                case NULL:
+                    this.nulls[i] = true;
+                    continue;
+                default:
+                    this.objects[i] = resultSet.getString(i + 1);
+            }
+
+            this.nulls[i] = resultSet.wasNull();
+        }
+    }
+
+    /**
+     * Return the index of a column.
+     *
+     * @param column the name of the column.
+     *
+     * @return the index of the column.
+     */
+    private int index(String column) {
+        Integer index = this.indexes.get(column);
+
+        if(index != null) {
+            return index;
+        }
+
+        String name = column.toLowerCase();
+        index = this.labels.get(name);
+
+        if(index == null && name.indexOf('.') >= 0) {
+            index = this.labels.get(name.substring(name.lastIndexOf('.') + 1));
+        }
+
+        if(index == null) {
+            IllegalArgumentException iae = new IllegalArgumentException();
+            ResultSetRow.logger.fatal(Messages.FATAL + "The row does not have a column " + column);
+            System.out.println(Messages.FATAL + Messages.FATAL_EXCEPTION_ACTION(iae.getClass().getSimpleName()) + " "
+                    + Messages.CHECK_LOG_FILES);
+            ResultSetRow.logger.warn(Messages.WARNING + "Throwing a " + iae.getClass().getSimpleName()
+                    + " to the calling class");
+            throw iae;
+        }
+
+        this.indexes.put(column, index);
+
+        return index;
+    }
+
+    @Override
+    public ExpressionLiteral.Type getType(String column) { return this.types[this.index(column)]; }
+
+    @Override
+    public long getLong(String column) {
+        int index = this.index(column);
+        this.setWasNull(this.nulls[index]);
+
+        return this.nulls[index] ? 0 : this.longs[index];
+    }
+
+    @Override
+    public double getDouble(String column) {
+        int index = this.index(column);
+        this.setWasNull(this.nulls[index]);
+
+        return this.nulls[index] ? 0 : this.doubles[index];
+    }
+
+    @Override
+    public BigDecimal getDecimal(String column) {
+        int index = this.index(column);
+        this.setWasNull(this.nulls[index]);
+
+        return this.nulls[index] ? null : (BigDecimal) this.objects[index];
+    }
+
+    @Override
+    public String getString(String column) {
+        int index = this.index(column);
+        this.setWasNull(this.nulls[index]);
+
+        return this.nulls[index] ? null : (String) this.objects[index];
+    }
+
+}
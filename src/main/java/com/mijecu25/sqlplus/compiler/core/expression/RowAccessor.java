@@ -0,0 +1,81 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+
+/**
+ * Accessor of the values of the columns of a row, used to evaluate expressions on the client. Like a JDBC result set,
+ * the getters return a primitive value and {@link #wasNull()} tells whether the last value that was read, or the
+ * last expression that was evaluated, is NULL. Every getter sets the flag with {@link #setWasNull(boolean)}. The
+ * getters of integers and approximate numbers return 0 for NULL.
+ *
+ * The getters are only called with the type returned by {@link #getType(String)} for the column, where BOOLEAN
+ * columns are read with {@link #getLong(String)}. Accessors are not thread safe, since they keep the NULL flag of
+ * the last value.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public abstract class RowAccessor {
+
+    private boolean wasNull;
+
+    /**
+     * Return the type of the values of a column. The type does not change from one row to the next.
+     *
+     * @param column the name of the column as written in the command.
+     *
+     * @return the type of the column.
+     */
+    public abstract ExpressionLiteral.Type getType(String column);
+
+    /**
+     * Return the value of an integer or boolean column.
+     *
+     * @param column the name of the column.
+     *
+     * @return the value or 0 if it is NULL.
+     */
+    public abstract long getLong(String column);
+
+    /**
+     * Return the value of an approximate number column.
+     *
+     * @param column the name of the column.
+     *
+     * @return the value or 0 if it is NULL.
+     */
+    public abstract double getDouble(String column);
+
+    /**
+     * Return the value of an exact decimal column.
+     *
+     * @param column the name of the column.
+     *
+     * @return the value or null if it is NULL.
+     */
+    public abstract BigDecimal getDecimal(String column);
+
+    /**
+     * Return the value of a string column.
+     *
+     * @param column the name of the column.
+     *
+     * @return the value or null if it is NULL.
+     */
+    public abstract String getString(String column);
+
+    /**
+     * Return whether the last value that was read or evaluated is NULL.
+     *
+     * @return true if the last value is NULL.
+     */
+    public boolean wasNull() { return this.wasNull; }
+
+    /**
+     * Set whether the last value that was read or evaluated is NULL.
+     *
+     * @param wasNull true if the last value is NULL.
+     */
+    protected void setWasNull(boolean wasNull) { this.wasNull = wasNull; }
+
+}
@@ -0,0 +1,381 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.messages.Messages;
+
+/**
+ * Writer of expressions as canonical SQL that can be sent to the server. Keywords are written in upper case, literals
+ * are written from their converted values and a child is only put between parentheses when the precedence of its
+ * operator requires it. Chains of AND, OR and XOR are written without parentheses no matter how they are nested,
+ * so expressions that only differ in the grouping of those operators are written the same.
+ *
+ * The expressions are appended to a builder provided by the caller or to a builder that is reused by each thread. The
+ * SQL of an expression that is cached with {@link Expression#toSQL()} is copied instead of being written again.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.4
+ */
+public class SQLWriter {
+
+    // Precedence of the operators from the lowest to the highest, as defined by MySQL
+    private static final int OR = 1;
+    private static final int XOR = 2;
+    private static final int AND = 3;
+    private static final int NOT = 4;
+    private static final int BETWEEN = 5;
+    private static final int COMPARISON = 6;
+    private static final int PRIMARY = 7;
+
+    // Builders that grew larger than this are not kept by the thread
+    private static final int MAX_REUSED_CAPACITY = 8192;
+
+    private static final Logger logger = LogManager.getLogger(SQLWriter.class);
+
+    private static final ThreadLocal<StringBuilder> builders = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder();
+        }
+    };
+
+    /**
+     * Return the SQL of an expression, written with the builder of the current thread.
+     *
+     * @param expression the expression.
+     *
+     * @return the SQL of the expression.
+     */
+    public static String write(Expression expression) {
+        StringBuilder builder = SQLWriter.builders.get();
+        builder.setLength(0);
+        SQLWriter.append(expression, builder);
+        String sql = builder.toString();
+
+        if(builder.capacity() > SQLWriter.MAX_REUSED_CAPACITY) {
+            SQLWriter.builders.remove();
+        }
+
+        return sql;
+    }
+
+    /**
+     * Append the SQL of an expression to a builder.
+     *
+     * @param expression the expression.
+     * @param builder the builder.
+     */
+    public static void append(Expression expression, StringBuilder builder) {
+        String sql = expression.getCachedSQL();
+
+        if(sql != null) {
+            builder.append(sql);
+            return;
+        }
+
+        if(expression instanceof ExpressionBinary) {
+            SQLWriter.appendBinary((ExpressionBinary) expression, builder);
+        }
+        else if(expression instanceof ExpressionLiteral) {
+            SQLWriter.appendLiteral((ExpressionLiteral) expression, builder);
+        }
+        else if(expression instanceof ExpressionColumn) {
+            builder.append(((ExpressionColumn) expression).getName());
+        }
+        else if(expression instanceof ExpressionIn) {
+            SQLWriter.appendIn((ExpressionIn) expression, builder);
+        }
+        else if(expression instanceof ExpressionBetween) {
+            SQLWriter.appendBetween((ExpressionBetween) expression, builder);
+        }
+        else if(expression instanceof ExpressionIs) {
+            SQLWriter.appendIs((ExpressionIs) expression, builder);
+        }
+        else if(expression instanceof ExpressionSubquery) {
+            SQLWriter.appendSubquery((ExpressionSubquery) expression, builder);
+        }
+        else {
+            UnsupportedOperationException uoe = new UnsupportedOperationException();
+            SQLWriter.logger.warn(Messages.WARNING + "The expression " + expression + " cannot be written as SQL");
+            SQLWriter.logger.warn(Messages.WARNING + "Throwing a " + uoe.getClass().getSimpleName()
+                    + " to the calling class");
+            throw uoe;
+        }
+    }
+
+    /**
+     * Append a child expression, between parentheses if its precedence is lower than the provided one.
+     *
+     * @param expression the child expression.
+     * @param precedence the lowest precedence that does not need parentheses.
+     * @param builder the builder.
+     */
+    private static void appendOperand(Expression expression, int precedence, StringBuilder builder) {
+        if(SQLWriter.precedence(expression) < precedence) {
+            builder.append('(');
+            SQLWriter.append(expression, builder);
+            builder.append(')');
+        }
+        else {
+            SQLWriter.append(expression, builder);
+        }
+    }
+
+    /**
+     * Return the precedence of the operator of an expression.
+     *
+     * @param expression the expression.
+     *
+     * @return the precedence of the expression.
+     */
+    private static int precedence(Expression expression) {
+        if(expression instanceof ExpressionBinary) {
+            ExpressionBinary binary = (ExpressionBinary) expression;
+            String operator = binary.getRelationalOperator();
+
+            if(operator == null) {
+                return SQLWriter.precedence(SQLWriter.child(binary));
+            }
+
+            switch(SQLWriter.canonicalOperator(operator)) {
+                case "OR":
+                    return SQLWriter.OR;
+                case "XOR":
+                    return SQLWriter.XOR;
+                case "AND":
+                    return SQLWriter.AND;
+                case "NOT":
+                    return SQLWriter.NOT;
+                default:
+                    return SQLWriter.COMPARISON;
+            }
+        }
+
+        if(expression instanceof ExpressionIn || expression instanceof ExpressionIs) {
+            return SQLWriter.COMPARISON;
+        }
+
+        if(expression instanceof ExpressionBetween) {
+            return SQLWriter.BETWEEN;
+        }
+
+        return SQLWriter.PRIMARY;
+    }
+
+    /**
+     * Return the child of a binary expression that only wraps another expression.
+     *
+     * @param binary the binary expression.
+     *
+     * @return the child expression.
+     */
+    private static Expression child(ExpressionBinary binary) {
+        return binary.getRightExpression() == null ? binary.getLeftExpression() : binary.getRightExpression();
+    }
+
+    /**
+     * Append a binary expression.
+     *
+     * @param binary the binary expression.
+     * @param builder the builder.
+     */
+    private static void appendBinary(ExpressionBinary binary, StringBuilder builder) {
+        String operator = binary.getRelationalOperator();
+
+        if(operator == null) {
+            SQLWriter.append(SQLWriter.child(binary), builder);
+            return;
+        }
+
+        int precedence = SQLWriter.precedence(binary);
+
+        if(precedence == SQLWriter.NOT) {
+            builder.append("NOT ");
+            SQLWriter.appendOperand(SQLWriter.child(binary), SQLWriter.NOT, builder);
+        }
+        else if(precedence == SQLWriter.COMPARISON) {
+            // Comparisons are left associative, so a comparison on the right needs parentheses
+            SQLWriter.appendOperand(binary.getLeftExpression(), SQLWriter.COMPARISON, builder);
+            builder.append(' ').append(SQLWriter.canonicalOperator(operator)).append(' ');
+            SQLWriter.appendOperand(binary.getRightExpression(), SQLWriter.COMPARISON + 1, builder);
+        }
+        else {
+            // AND, OR and XOR are associative, so a child with the same operator does not need parentheses
+            SQLWriter.appendOperand(binary.getLeftExpression(), precedence, builder);
+            builder.append(' ').append(SQLWriter.canonicalOperator(operator)).append(' ');
+            SQLWriter.appendOperand(binary.getRightExpression(), precedence, builder);
+        }
+    }
+
+    /**
+     * Return the canonical spelling of an operator. Logical operators are written as upper case keywords and the
+     * different spellings of not equal are written as {@code <>}.
+     *
+     * @param operator the operator as written in the command.
+     *
+     * @return the canonical operator.
+     */
+    static String canonicalOperator(String operator) {
+        switch(operator) {
+            case "||":
+                return "OR";
+            case "&&":
+                return "AND";
+            case "!":
+                return "NOT";
+            case "!=":
+            case "~=":
+            case "^=":
+                return "<>";
+            default:
+                return operator.toUpperCase();
+        }
+    }
+
+    /**
+     * Append a literal from its converted value.
+     *
+     * @param literal the literal.
+     * @param builder the builder.
+     */
+    private static void appendLiteral(ExpressionLiteral literal, StringBuilder builder) {
+        switch(literal.getType()) {
+            case LONG:
+                builder.append(literal.getLong());
+                break;
+            case DECIMAL:
+                BigDecimal decimal = literal.getDecimal();
+
+                // Only numbers written with an exponent have a negative scale, and they are too large for a double
+                builder.append(decimal.scale() < 0 ? decimal.toString() : decimal.toPlainString());
+                break;
+            case DOUBLE:
+                String value = Double.toString(literal.getDouble());
+                builder.append(value);
+
+                // Without an exponent the server would read the number as a decimal
+                if(value.indexOf('E') < 0) {
+                    builder.append("E0");
+                }
+                break;
+            case STRING:
+                SQLWriter.appendString(literal.getString(), builder);
+                break;
+            case BOOLEAN:
+                builder.append(literal.getBoolean() ? "TRUE" : "FALSE");
+                break;
+            case NULL:
+                builder.append("NULL");
+                break;
+            default:
+                builder.append("DEFAULT");
+        }
+    }
+
+    /**
+     * Append a string literal between single quotes, escaping the characters that cannot appear as is.
+     *
+     * @param value the value of the string.
+     * @param builder the builder.
+     */
+    private static void appendString(String value, StringBuilder builder) {
+        builder.append('\'');
+
+        for(int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+
+            switch(character) {
+                case '\'':
+                    builder.append("\\'");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\0':
+                    builder.append("\\0");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\032':
+                    builder.append("\\Z");
+                    break;
+                default:
+                    builder.append(character);
+            }
+        }
+
+        builder.append('\'');
+    }
+
+    /**
+     * Append an IN expression.
+     *
+     * @param in the IN expression.
+     * @param builder the builder.
+     */
+    private static void appendIn(ExpressionIn in, StringBuilder builder) {
+        SQLWriter.appendOperand(in.getOperand(), SQLWriter.PRIMARY, builder);
+        builder.append(in.isNegated() ? " NOT IN (" : " IN (");
+        List<Expression> values = in.getValues();
+
+        for(int i = 0; i < values.size(); i++) {
+            if(i > 0) {
+                builder.append(", ");
+            }
+
+            SQLWriter.append(values.get(i), builder);
+        }
+
+        builder.append(')');
+    }
+
+    /**
+     * Append a BETWEEN expression.
+     *
+     * @param between the BETWEEN expression.
+     * @param builder the builder.
+     */
+    private static void appendBetween(ExpressionBetween between, StringBuilder builder) {
+        SQLWriter.appendOperand(between.getOperand(), SQLWriter.PRIMARY, builder);
+        builder.append(between.isNegated() ? " NOT BETWEEN " : " BETWEEN ");
+        SQLWriter.appendOperand(between.getLowerBound(), SQLWriter.PRIMARY, builder);
+        builder.append(" AND ");
+        SQLWriter.appendOperand(between.getUpperBound(), SQLWriter.PRIMARY, builder);
+    }
+
+    /**
+     * Append an IS expression. IS has the precedence of a comparison and is left associative, so only an operand with
+     * a lower precedence is put between parentheses.
+     *
+     * @param is the IS expression.
+     * @param builder the builder.
+     */
+    private static void appendIs(ExpressionIs is, StringBuilder builder) {
+        SQLWriter.appendOperand(is.getOperand(), SQLWriter.COMPARISON, builder);
+        builder.append(is.isNegated() ? " IS NOT " : " IS ").append(is.getTest().name());
+    }
+
+    /**
+     * Append a subquery.
+     *
+     * @param subquery the subquery.
+     * @param builder the builder.
+     */
+    private static void appendSubquery(ExpressionSubquery subquery, StringBuilder builder) {
+        if(subquery.getType() != ExpressionSubquery.Type.SCALAR) {
+            builder.append(subquery.getType().name()).append(' ');
+        }
+
+        // The subquery is sent as written, since there is no writer for statements
+        builder.append('(').append(subquery.getQuery()).append(')');
+    }
+
+}
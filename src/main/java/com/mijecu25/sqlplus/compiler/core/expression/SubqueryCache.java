@@ -0,0 +1,263 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.messages.Messages;
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementDML;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
+
+/**
+ * Least recently used cache of the results of uncorrelated subqueries. The result of an uncorrelated subquery does not
+ * depend on the row of the outer query, so it is computed once and reused by every row and every command that uses
+ * the same subquery, such as the condition of an alert that is checked each time the alert fires.
+ *
+ * A result is discarded when it is older than the time to live, or when a statement that may write to one of the
+ * tables read by the subquery is executed. Correlated subqueries are never cached. This class is thread safe.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class SubqueryCache {
+
+    private static final Logger logger = LogManager.getLogger(SubqueryCache.class);
+
+    private Map<ExpressionSubquery, Result> results;
+    private long timeToLive;
+    private long invalidations;
+    private long hits;
+    private long misses;
+
+    /**
+     * Rows returned by a subquery and the time when they were read.
+     */
+    private static class Result {
+        private final List<Object[]> rows;
+        private final long time;
+
+        private Result(List<Object[]> rows, long time) {
+            this.rows = rows;
+            this.time = time;
+        }
+    }
+
+    public SubqueryCache(final int capacity, long timeToLive, TimeUnit unit) {
+        if(capacity < 1 || timeToLive < 0) {
+            IllegalArgumentException iae = new IllegalArgumentException();
+            SubqueryCache.logger.fatal(Messages.FATAL + "The capacity of the subquery cache cannot be less than 1 and "
+                    + "its time to live cannot be negative");
+            System.out.println(Messages.FATAL + Messages.FATAL_EXCEPTION_ACTION(iae.getClass().getSimpleName()) + " "
+                    + Messages.CHECK_LOG_FILES);
+            SubqueryCache.logger.warn(Messages.WARNING + "Throwing a " + iae.getClass().getSimpleName()
+                    + " to the calling class");
+            throw iae;
+        }
+
+        // Access order makes the map evict the least recently used result first
+        this.results = new LinkedHashMap<ExpressionSubquery, Result>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ExpressionSubquery, Result> eldest) {
+                return this.size() > capacity;
+            }
+        };
+        this.timeToLive = unit.toNanos(timeToLive);
+        this.invalidations = 0;
+        this.hits = 0;
+        this.misses = 0;
+        SubqueryCache.logger.info("Created a SubqueryCache with capacity " + capacity + " and time to live "
+                + timeToLive + " " + unit);
+    }
+
+    /**
+     * Return the rows of a subquery. The cached rows are returned if the subquery is uncorrelated and they have not
+     * expired. Otherwise, the subquery is executed and its rows are cached if it is uncorrelated.
+     *
+     * @param subquery the subquery.
+     * @param connection the connection used to execute the subquery.
+     *
+     * @return the rows of the subquery. Each row has the value of each column in order.
+     *
+     * @throws SQLException if there is a problem executing the subquery.
+     */
+    public List<Object[]> get(ExpressionSubquery subquery, Connection connection) throws SQLException {
+        if(subquery.isCorrelated()) {
+            SubqueryCache.logger.info("The subquery " + subquery + " is correlated and will not be cached");
+            return this.execute(subquery, connection);
+        }
+
+        long invalidations;
+
+        synchronized(this) {
+            Result result = this.results.get(subquery);
+            invalidations = this.invalidations;
+
+            if(result != null && this.now() - result.time <= this.timeToLive) {
+                this.hits++;
+                return result.rows;
+            }
+
+            this.misses++;
+        }
+
+        // The subquery is executed without holding the lock, so two callers might both execute it
+        long time = this.now();
+        List<Object[]> rows = Collections.unmodifiableList(this.execute(subquery, connection));
+
+        synchronized(this) {
+            // A result read while a table was written might already be stale
+            if(this.invalidations == invalidations) {
+                this.results.put(subquery, new Result(rows, time));
+            }
+        }
+
+        return rows;
+    }
+
+    /**
+     * Execute a subquery on the server.
+     *
+     * @param subquery the subquery.
+     * @param connection the connection used to execute the subquery.
+     *
+     * @return the rows of the subquery.
+     *
+     * @throws SQLException if there is a problem executing the subquery.
+     */
+    protected List<Object[]> execute(ExpressionSubquery subquery, Connection connection) throws SQLException {
+        if(connection == null) {
+            IllegalArgumentException iae = new IllegalArgumentException();
+            SubqueryCache.logger.fatal(Messages.FATAL + "The connection passed to execute the subquery cannot be null");
+            System.out.println(Messages.FATAL + Messages.FATAL_EXCEPTION_ACTION(iae.getClass().getSimpleName()) + " "
+                    + Messages.CHECK_LOG_FILES);
+            SubqueryCache.logger.warn(Messages.WARNING + "Throwing a " + iae.getClass().getSimpleName()
+                    + " to the calling class");
+            throw iae;
+        }
+
+        SubqueryCache.logger.info("Executing the subquery " + subquery);
+        List<Object[]> rows = new ArrayList<Object[]>();
+
+        try (java.sql.Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(subquery.getQuery())) {
+            int columnCount = resultSet.getMetaData().getColumnCount();
+
+            while(resultSet.next()) {
+                Object[] row = new Object[columnCount];
+
+                for(int i = 0; i < columnCount; i++) {
+                    row[i] = resultSet.getObject(i + 1);
+                }
+
+                rows.add(row);
+            }
+        }
+        catch(SQLException sqle) {
+            SubqueryCache.logger.warn(Messages.WARNING + "Error when executing the subquery " + subquery, sqle);
+            throw sqle;
+        }
+
+        return rows;
+    }
+
+    /**
+     * Return the current time in nanoseconds.
+     *
+     * @return the current time.
+     */
+    protected long now() { return System.nanoTime(); }
+
+    /**
+     * Discard the results of the subqueries that read a table.
+     *
+     * @param table the table, which may be qualified with its schema.
+     */
+    public synchronized void invalidate(String table) {
+        String name = table.substring(table.lastIndexOf('.') + 1);
+        this.invalidations++;
+        Iterator<ExpressionSubquery> subqueries = this.results.keySet().iterator();
+
+        while(subqueries.hasNext()) {
+            for(String read : subqueries.next().getTables()) {
+                // Tables are compared without their schema, which may discard more results than needed
+                if(read.substring(read.lastIndexOf('.') + 1).equalsIgnoreCase(name)) {
+                    subqueries.remove();
+                    break;
+                }
+            }
+        }
+
+        SubqueryCache.logger.info("Discarded the subqueries that read " + table);
+    }
+
+    /**
+     * Discard the results that might have been changed by executing a statement. Select statements do not change
+     * any result and DML statements only change the results of the subqueries that read their tables. Any other
+     * statement, such as the ones that are sent to the server as is or that change the current database, discards
+     * every result.
+     *
+     * @param statement the statement that was executed.
+     */
+    public synchronized void invalidate(Statement statement) {
+        if(statement instanceof StatementSelectExpression) {
+            return;
+        }
+
+        if(statement instanceof StatementDML) {
+            for(String table : ((StatementDML) statement).getTables()) {
+                this.invalidate(table);
+            }
+
+            return;
+        }
+
+        this.clear();
+    }
+
+    /**
+     * Discard every result.
+     */
+    public synchronized void clear() {
+        this.results.clear();
+        this.invalidations++;
+        SubqueryCache.logger.info("Discarded every subquery result");
+    }
+
+    /**
+     * Return the number of times that a cached result was used.
+     *
+     * @return the number of cache hits.
+     */
+    public synchronized long getHits() { return this.hits; }
+
+    /**
+     * Return the number of times that an uncorrelated subquery had to be executed.
+     *
+     * @return the number of cache misses.
+     */
+    public synchronized long getMisses() { return this.misses; }
+
+    /**
+     * Return the number of cached results.
+     *
+     * @return the number of cached results.
+     */
+    public synchronized int size() { return this.results.size(); }
+
+    @Override
+    public synchronized String toString() {
+        return "SubqueryCache [size=" + this.results.size() + ", hits=" + this.hits + ", misses=" + this.misses + "]";
+    }
+
+}
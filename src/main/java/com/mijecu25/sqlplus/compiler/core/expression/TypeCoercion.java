@@ -0,0 +1,327 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversions and comparisons between the types of values like MySQL does them. Strings are read as numbers from
+ * their longest numeric prefix, numbers are rounded half away from zero when they are converted to integers, and
+ * values are compared as integers, exact decimals, approximate numbers or strings depending on the types of both
+ * operands. Strings are compared by their characters, since the collation of the server is not known on the client.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+class TypeCoercion {
+
+    private static final BigDecimal MIN_LONG = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX_LONG = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    /**
+     * Return whether a type is an integer. Booleans are integers like in MySQL.
+     *
+     * @param type the type.
+     *
+     * @return true if the type is an integer.
+     */
+    static boolean isInteger(ExpressionLiteral.Type type) {
+        return type == ExpressionLiteral.Type.LONG || type == ExpressionLiteral.Type.BOOLEAN;
+    }
+
+    /**
+     * Return the type in which two values are compared. Two integers are compared as integers, two strings as strings,
+     * integers and exact decimals as exact decimals, and anything else as approximate numbers.
+     *
+     * @param left the type of the left value.
+     * @param right the type of the right value.
+     *
+     * @return the type of the comparison or NULL if either value is the NULL literal.
+     */
+    static ExpressionLiteral.Type comparisonType(ExpressionLiteral.Type left, ExpressionLiteral.Type right) {
+        if(left == ExpressionLiteral.Type.NULL || right == ExpressionLiteral.Type.NULL) {
+            return ExpressionLiteral.Type.NULL;
+        }
+
+        if(TypeCoercion.isInteger(left) && TypeCoercion.isInteger(right)) {
+            return ExpressionLiteral.Type.LONG;
+        }
+
+        if(left == ExpressionLiteral.Type.STRING && right == ExpressionLiteral.Type.STRING) {
+            return ExpressionLiteral.Type.STRING;
+        }
+
+        if((TypeCoercion.isInteger(left) || left == ExpressionLiteral.Type.DECIMAL)
+                && (TypeCoercion.isInteger(right) || right == ExpressionLiteral.Type.DECIMAL)) {
+            return ExpressionLiteral.Type.DECIMAL;
+        }
+
+        return ExpressionLiteral.Type.DOUBLE;
+    }
+
+    /**
+     * Compare the values of two expressions in a row. The NULL flag of the row is set if either value is NULL.
+     *
+     * @param left the left expression.
+     * @param right the right expression.
+     * @param row the row.
+     *
+     * @return a negative number, zero or a positive number if the left value is less than, equal to or greater than
+     * the right value, or 0 if either value is NULL.
+     */
+    static int compare(Expression left, Expression right, RowAccessor row) {
+        switch(TypeCoercion.comparisonType(left.evalType(row), right.evalType(row))) {
+            case LONG:
+                long leftLong = left.evalLong(row);
+
+                if(row.wasNull()) {
+                    return 0;
+                }
+
+                long rightLong = right.evalLong(row);
+
+                return row.wasNull() ? 0 : Long.compare(leftLong, rightLong);
+            case DOUBLE:
+                double leftDouble = left.evalDouble(row);
+
+                if(row.wasNull()) {
+                    return 0;
+                }
+
+                double rightDouble = right.evalDouble(row);
+
+                return row.wasNull() ? 0 : Double.compare(leftDouble, rightDouble);
+            case DECIMAL:
+                BigDecimal leftDecimal = left.evalDecimal(row);
+
+                if(row.wasNull()) {
+                    return 0;
+                }
+
+                BigDecimal rightDecimal = right.evalDecimal(row);
+
+                return row.wasNull() ? 0 : leftDecimal.compareTo(rightDecimal);
+            case STRING:
+                String leftString = left.evalString(row);
+
+                if(row.wasNull()) {
+                    return 0;
+                }
+
+                String rightString = right.evalString(row);
+
+                return row.wasNull() ? 0 : leftString.compareTo(rightString);
+            default:
+                row.setWasNull(true);
+                return 0;
+        }
+    }
+
+    /**
+     * Convert an approximate number to an integer, rounding half away from zero. Numbers out of the range of a long
+     * are clamped.
+     *
+     * @param value the number.
+     *
+     * @return the integer.
+     */
+    static long toLong(double value) {
+        return value < 0 ? -Math.round(-value) : Math.round(value);
+    }
+
+    /**
+     * Convert an exact decimal to an integer, rounding half away from zero. Numbers out of the range of a long are
+     * clamped.
+     *
+     * @param value the number.
+     *
+     * @return the integer.
+     */
+    static long toLong(BigDecimal value) {
+        BigDecimal rounded = value.setScale(0, RoundingMode.HALF_UP);
+
+        if(rounded.compareTo(TypeCoercion.MIN_LONG) < 0) {
+            return Long.MIN_VALUE;
+        }
+
+        if(rounded.compareTo(TypeCoercion.MAX_LONG) > 0) {
+            return Long.MAX_VALUE;
+        }
+
+        return rounded.longValue();
+    }
+
+    /**
+     * Convert a string to an integer from its longest numeric prefix.
+     *
+     * @param value the string.
+     *
+     * @return the integer or 0 if the string does not start with a number.
+     */
+    static long toLong(String value) {
+        int end = TypeCoercion.numericPrefix(value);
+
+        return end == 0 ? 0 : TypeCoercion.toLong(new BigDecimal(value.substring(0, end).trim()));
+    }
+
+    /**
+     * Convert a string to an approximate number from its longest numeric prefix.
+     *
+     * @param value the string.
+     *
+     * @return the number or 0 if the string does not start with a number.
+     */
+    static double toDouble(String value) {
+        int end = TypeCoercion.numericPrefix(value);
+
+        return end == 0 ? 0 : Double.parseDouble(value.substring(0, end));
+    }
+
+    /**
+     * Convert a string to an exact decimal from its longest numeric prefix.
+     *
+     * @param value the string.
+     *
+     * @return the number or 0 if the string does not start with a number.
+     */
+    static BigDecimal toDecimal(String value) {
+        int end = TypeCoercion.numericPrefix(value);
+
+        return end == 0 ? BigDecimal.ZERO : new BigDecimal(value.substring(0, end).trim());
+    }
+
+    /**
+     * Return the end of the longest prefix of a string that is a number, with optional leading spaces, a sign, a
+     * decimal point and an exponent.
+     *
+     * @param value the string.
+     *
+     * @return the index after the prefix or 0 if the string does not start with a number.
+     */
+    private static int numericPrefix(String value) {
+        int index = 0;
+        int length = value.length();
+
+        while(index < length && Character.isWhitespace(value.charAt(index))) {
+            index++;
+        }
+
+        if(index < length && (value.charAt(index) == '+' || value.charAt(index) == '-')) {
+            index++;
+        }
+
+        int digits = 0;
+
+        while(index < length && Character.isDigit(value.charAt(index))) {
+            index++;
+            digits++;
+        }
+
+        if(index < length && value.charAt(index) == '.') {
+            int point = index++;
+
+            while(index < length && Character.isDigit(value.charAt(index))) {
+                index++;
+                digits++;
+            }
+
+            if(digits == 0) {
+                index = point;
+            }
+        }
+
+        if(digits == 0) {
+            return 0;
+        }
+
+        if(index < length && (value.charAt(index) == 'e' || value.charAt(index) == 'E')) {
+            int exponent = index++;
+
+            if(index < length && (value.charAt(index) == '+' || value.charAt(index) == '-')) {
+                index++;
+            }
+
+            int exponentDigits = 0;
+
+            while(index < length && Character.isDigit(value.charAt(index))) {
+                index++;
+                exponentDigits++;
+            }
+
+            if(exponentDigits == 0) {
+                index = exponent;
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Convert an approximate number to a string. Integral numbers are written without a decimal point like in MySQL.
+     *
+     * @param value the number.
+     *
+     * @return the string.
+     */
+    static String toString(double value) {
+        if(value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+
+        return Double.toString(value);
+    }
+
+    /**
+     * Return whether a string matches a LIKE pattern, where % matches any sequence of characters, _ matches a single
+     * character and a backslash escapes the next character.
+     *
+     * @param value the string.
+     * @param pattern the pattern.
+     *
+     * @return true if the string matches the pattern.
+     */
+    static boolean like(String value, String pattern) {
+        int valueIndex = 0;
+        int patternIndex = 0;
+        // Where to continue after the last % if the rest of the pattern does not match
+        int starPattern = -1;
+        int starValue = -1;
+
+        while(valueIndex < value.length()) {
+            if(patternIndex < pattern.length()) {
+                char character = pattern.charAt(patternIndex);
+
+                if(character == '%') {
+                    starPattern = ++patternIndex;
+                    starValue = valueIndex;
+                    continue;
+                }
+
+                boolean escaped = character == '\\' && patternIndex + 1 < pattern.length();
+
+                if(escaped) {
+                    character = pattern.charAt(patternIndex + 1);
+                }
+
+                if((!escaped && character == '_') || character == value.charAt(valueIndex)) {
+                    patternIndex += escaped ? 2 : 1;
+                    valueIndex++;
+                    continue;
+                }
+            }
+
+            if(starPattern < 0) {
+                return false;
+            }
+
+            patternIndex = starPattern;
+            valueIndex = ++starValue;
+        }
+
+        while(patternIndex < pattern.length() && pattern.charAt(patternIndex) == '%') {
+            patternIndex++;
+        }
+
+        return patternIndex == pattern.length();
+    }
+
+}
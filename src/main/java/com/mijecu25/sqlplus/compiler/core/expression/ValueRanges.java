@@ -0,0 +1,721 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Ranges of the numeric values that the columns can have in the rows where a condition is true. The ranges are derived
+ * from comparisons, IN and BETWEEN expressions between a column and numbers and from IS tests of a column, intersected
+ * through AND and joined through OR. Any other expression does not restrict the columns. A range also records whether
+ * the column can be NULL, which only IS NULL allows among the expressions that restrict a column.
+ *
+ * The ranges might include values for which the condition is false, but never exclude a value for which it is true.
+ * So if the intersection of the ranges of two conditions is empty, no row can satisfy both conditions. That is used
+ * to prove that an alert cannot fire for the rows of a statement without reading them from the server.
+ *
+ * Columns are identified by the last part of their name ignoring case, since statements only reference one table.
+ * The ranges are immutable.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class ValueRanges {
+
+    private static final ValueRanges EMPTY = new ValueRanges(Collections.<String, Range>emptyMap(), true);
+    private static final ValueRanges UNRESTRICTED = new ValueRanges(Collections.<String, Range>emptyMap(), false);
+
+    private static final Logger logger = LogManager.getLogger(ValueRanges.class);
+
+    private final Map<String, Range> ranges;
+    private final boolean empty;
+
+    /**
+     * Range of the values of a single column. It is either an interval, whose bounds may be open, closed or missing,
+     * or a sorted list of points, and it might also have NULL.
+     */
+    public static class Range {
+        private static final Range NOT_NULL = new Range(null, false, null, false, null, false);
+        private static final Range NULL = new Range(null, false, null, false, new BigDecimal[0], true);
+
+        private final BigDecimal low;
+        private final boolean lowInclusive;
+        private final BigDecimal high;
+        private final boolean highInclusive;
+        private final BigDecimal[] points;
+        private final boolean nullable;
+
+        private Range(BigDecimal low, boolean lowInclusive, BigDecimal high, boolean highInclusive,
+                      BigDecimal[] points, boolean nullable) {
+            this.low = low;
+            this.lowInclusive = lowInclusive;
+            this.high = high;
+            this.highInclusive = highInclusive;
+            this.points = points;
+            this.nullable = nullable;
+        }
+
+        /**
+         * Return the range of the values that are not NULL.
+         *
+         * @return the range.
+         */
+        public static Range notNull() { return Range.NOT_NULL; }
+
+        /**
+         * Return the range that only has NULL.
+         *
+         * @return the range.
+         */
+        public static Range onlyNull() { return Range.NULL; }
+
+        /**
+         * Return an interval.
+         *
+         * @param low the lower bound or null if there is none.
+         * @param lowInclusive whether the lower bound is in the interval.
+         * @param high the upper bound or null if there is none.
+         * @param highInclusive whether the upper bound is in the interval.
+         *
+         * @return the interval.
+         */
+        public static Range interval(BigDecimal low, boolean lowInclusive, BigDecimal high, boolean highInclusive) {
+            return new Range(low, low != null && lowInclusive, high, high != null && highInclusive, null, false);
+        }
+
+        /**
+         * Return a range with a list of points.
+         *
+         * @param points the points in any order, which may be repeated.
+         *
+         * @return the range.
+         */
+        public static Range points(List<BigDecimal> points) {
+            List<BigDecimal> sorted = new ArrayList<BigDecimal>(points);
+            Collections.sort(sorted);
+            List<BigDecimal> distinct = new ArrayList<BigDecimal>(sorted.size());
+
+            for(BigDecimal point : sorted) {
+                // Numbers with different scales, such as 1 and 1.0, are the same point
+                if(distinct.isEmpty() || distinct.get(distinct.size() - 1).compareTo(point) != 0) {
+                    distinct.add(point);
+                }
+            }
+
+            return new Range(null, false, null, false, distinct.toArray(new BigDecimal[distinct.size()]), false);
+        }
+
+        /**
+         * Return whether there are no values in the range, not even NULL.
+         *
+         * @return true if the range is empty.
+         */
+        public boolean isEmpty() {
+            return !this.nullable && !this.hasValues();
+        }
+
+        /**
+         * Return whether the range has NULL.
+         *
+         * @return true if the column can be NULL.
+         */
+        public boolean isNullable() { return this.nullable; }
+
+        /**
+         * Helper method to return whether there are values other than NULL in the range.
+         *
+         * @return true if the range has values.
+         */
+        private boolean hasValues() {
+            if(this.points != null) {
+                return this.points.length > 0;
+            }
+
+            if(this.low == null || this.high == null) {
+                return true;
+            }
+
+            int comparison = this.low.compareTo(this.high);
+
+            return comparison < 0 || (comparison == 0 && this.lowInclusive && this.highInclusive);
+        }
+
+        /**
+         * Return whether a value is in the range.
+         *
+         * @param value the value.
+         *
+         * @return true if the value is in the range.
+         */
+        public boolean contains(BigDecimal value) {
+            if(this.points != null) {
+                for(BigDecimal point : this.points) {
+                    if(point.compareTo(value) == 0) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            if(this.low != null) {
+                int comparison = value.compareTo(this.low);
+
+                if(comparison < 0 || (comparison == 0 && !this.lowInclusive)) {
+                    return false;
+                }
+            }
+
+            if(this.high != null) {
+                int comparison = value.compareTo(this.high);
+
+                if(comparison > 0 || (comparison == 0 && !this.highInclusive)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Return the values that are in both ranges.
+         *
+         * @param other the other range.
+         *
+         * @return the intersection of the ranges.
+         */
+        public Range intersect(Range other) {
+            boolean nullable = this.nullable && other.nullable;
+
+            if(this.points != null || other.points != null) {
+                Range points = this.points != null ? this : other;
+                Range filter = points == this ? other : this;
+                List<BigDecimal> kept = new ArrayList<BigDecimal>(points.points.length);
+
+                for(BigDecimal point : points.points) {
+                    if(filter.contains(point)) {
+                        kept.add(point);
+                    }
+                }
+
+                return new Range(null, false, null, false, kept.toArray(new BigDecimal[kept.size()]), nullable);
+            }
+
+            BigDecimal low = this.low;
+            boolean lowInclusive = this.lowInclusive;
+            BigDecimal high = this.high;
+            boolean highInclusive = this.highInclusive;
+
+            if(other.low != null) {
+                int comparison = low == null ? -1 : low.compareTo(other.low);
+
+                if(comparison < 0) {
+                    low = other.low;
+                    lowInclusive = other.lowInclusive;
+                }
+                else if(comparison == 0) {
+                    lowInclusive &= other.lowInclusive;
+                }
+            }
+
+            if(other.high != null) {
+                int comparison = high == null ? 1 : high.compareTo(other.high);
+
+                if(comparison > 0) {
+                    high = other.high;
+                    highInclusive = other.highInclusive;
+                }
+                else if(comparison == 0) {
+                    highInclusive &= other.highInclusive;
+                }
+            }
+
+            return new Range(low, lowInclusive, high, highInclusive, null, nullable);
+        }
+
+        /**
+         * Return a range with the values of both ranges. The union of an interval with another range is the smallest
+         * interval that contains both, so it might have values that are in neither range.
+         *
+         * @param other the other range.
+         *
+         * @return the union of the ranges.
+         */
+        public Range union(Range other) {
+            boolean nullable = this.nullable || other.nullable;
+
+            if(!this.hasValues()) {
+                return other.withNullable(nullable);
+            }
+
+            if(!other.hasValues()) {
+                return this.withNullable(nullable);
+            }
+
+            if(this.points != null && other.points != null) {
+                List<BigDecimal> points = new ArrayList<BigDecimal>(Arrays.asList(this.points));
+                points.addAll(Arrays.asList(other.points));
+
+                return Range.points(points).withNullable(nullable);
+            }
+
+            Range first = this.toInterval();
+            Range second = other.toInterval();
+            BigDecimal low = null;
+            boolean lowInclusive = false;
+            BigDecimal high = null;
+            boolean highInclusive = false;
+
+            if(first.low != null && second.low != null) {
+                int comparison = first.low.compareTo(second.low);
+                low = comparison <= 0 ? first.low : second.low;
+                lowInclusive = comparison < 0 ? first.lowInclusive : comparison > 0 ? second.lowInclusive
+                        : first.lowInclusive || second.lowInclusive;
+            }
+
+            if(first.high != null && second.high != null) {
+                int comparison = first.high.compareTo(second.high);
+                high = comparison >= 0 ? first.high : second.high;
+                highInclusive = comparison > 0 ? first.highInclusive : comparison < 0 ? second.highInclusive
+                        : first.highInclusive || second.highInclusive;
+            }
+
+            return new Range(low, lowInclusive, high, highInclusive, null, nullable);
+        }
+
+        /**
+         * Helper method to return this range with or without NULL.
+         *
+         * @param nullable whether the range has NULL.
+         *
+         * @return the range.
+         */
+        private Range withNullable(boolean nullable) {
+            if(this.nullable == nullable) {
+                return this;
+            }
+
+            return new Range(this.low, this.lowInclusive, this.high, this.highInclusive, this.points, nullable);
+        }
+
+        /**
+         * Return the smallest interval that contains the range.
+         *
+         * @return the interval.
+         */
+        private Range toInterval() {
+            if(this.points == null) {
+                return this;
+            }
+
+            return new Range(this.points[0], true, this.points[this.points.length - 1], true, null, this.nullable);
+        }
+
+        /**
+         * Return the lower bound.
+         *
+         * @return the lower bound or null if there is none or the range is a list of points.
+         */
+        public BigDecimal getLow() { return this.low; }
+
+        /**
+         * Return whether the lower bound is in the range.
+         *
+         * @return true if the lower bound is in the range.
+         */
+        public boolean isLowInclusive() { return this.lowInclusive; }
+
+        /**
+         * Return the upper bound.
+         *
+         * @return the upper bound or null if there is none or the range is a list of points.
+         */
+        public BigDecimal getHigh() { return this.high; }
+
+        /**
+         * Return whether the upper bound is in the range.
+         *
+         * @return true if the upper bound is in the range.
+         */
+        public boolean isHighInclusive() { return this.highInclusive; }
+
+        /**
+         * Return the points of the range.
+         *
+         * @return the sorted points or null if the range is an interval.
+         */
+        public List<BigDecimal> getPoints() {
+            return this.points == null ? null : Collections.unmodifiableList(Arrays.asList(this.points));
+        }
+
+        @Override
+        public String toString() {
+            String nullable = this.nullable ? " or NULL" : "";
+
+            if(this.points != null) {
+                StringBuilder result = new StringBuilder("{");
+
+                for(int i = 0; i < this.points.length; i++) {
+                    if(i > 0) {
+                        result.append(", ");
+                    }
+
+                    result.append(this.points[i].toPlainString());
+                }
+
+                return result.append('}').append(nullable).toString();
+            }
+
+            return (this.lowInclusive ? "[" : "(") + (this.low == null ? "-inf" : this.low.toPlainString()) + ", "
+                    + (this.high == null ? "+inf" : this.high.toPlainString()) + (this.highInclusive ? "]" : ")")
+                    + nullable;
+        }
+    }
+
+    private ValueRanges(Map<String, Range> ranges, boolean empty) {
+        this.ranges = ranges;
+        this.empty = empty;
+    }
+
+    /**
+     * Derive the ranges of the columns from a condition. The condition is simplified first, so negations are pushed
+     * into comparisons and conditions that are always false are found.
+     *
+     * @param condition the condition or null if there is none.
+     *
+     * @return the ranges of the columns.
+     */
+    public static ValueRanges of(Expression condition) {
+        if(condition == null) {
+            return ValueRanges.UNRESTRICTED;
+        }
+
+        ValueRanges ranges = ValueRanges.derive(ExpressionSimplifier.simplify(condition));
+        ValueRanges.logger.info("Derived the ranges " + ranges + " from " + condition);
+
+        return ranges;
+    }
+
+    /**
+     * Return whether no row can satisfy both conditions.
+     *
+     * @param first the first condition or null if there is none.
+     * @param second the second condition or null if there is none.
+     *
+     * @return true if the conditions are proven to be disjoint, false if a row might satisfy both.
+     */
+    public static boolean disjoint(Expression first, Expression second) {
+        return ValueRanges.of(first).intersect(ValueRanges.of(second)).isEmpty();
+    }
+
+    /**
+     * Derive the ranges of a simplified expression.
+     *
+     * @param expression the expression.
+     *
+     * @return the ranges of the columns.
+     */
+    private static ValueRanges derive(Expression expression) {
+        if(expression instanceof ExpressionLiteral) {
+            ExpressionLiteral literal = (ExpressionLiteral) expression;
+
+            // The simplifier folds conditions that are always false or NULL into literals
+            if(literal.isNull() || (ValueRanges.isNumber(literal) && literal.getDecimal().signum() == 0)) {
+                return ValueRanges.EMPTY;
+            }
+
+            return ValueRanges.UNRESTRICTED;
+        }
+
+        if(expression instanceof ExpressionBinary) {
+            ExpressionBinary binary = (ExpressionBinary) expression;
+
+            if(binary.getRelationalOperator() == null || binary.getLeftExpression() == null
+                    || binary.getRightExpression() == null) {
+                return ValueRanges.UNRESTRICTED;
+            }
+
+            String operator = SQLWriter.canonicalOperator(binary.getRelationalOperator());
+
+            switch(operator) {
+                case "AND":
+                    return ValueRanges.derive(binary.getLeftExpression()).intersect(
+                            ValueRanges.derive(binary.getRightExpression()));
+                case "OR":
+                    return ValueRanges.derive(binary.getLeftExpression()).union(
+                            ValueRanges.derive(binary.getRightExpression()));
+                default:
+                    return ValueRanges.comparison(operator, binary.getLeftExpression(), binary.getRightExpression());
+            }
+        }
+
+        if(expression instanceof ExpressionIn) {
+            ExpressionIn in = (ExpressionIn) expression;
+
+            if(in.isNegated() || !(in.getOperand() instanceof ExpressionColumn)) {
+                return ValueRanges.UNRESTRICTED;
+            }
+
+            List<BigDecimal> points = new ArrayList<BigDecimal>();
+
+            for(Expression value : in.getValues()) {
+                if(ValueRanges.isNumber(value)) {
+                    points.add(((ExpressionLiteral) value).getDecimal());
+                }
+                else if(!(value instanceof ExpressionLiteral) || !((ExpressionLiteral) value).isNull()) {
+                    // NULL is never equal to the operand, but any other value might be
+                    return ValueRanges.UNRESTRICTED;
+                }
+            }
+
+            return ValueRanges.single((ExpressionColumn) in.getOperand(), Range.points(points));
+        }
+
+        if(expression instanceof ExpressionIs) {
+            return ValueRanges.is((ExpressionIs) expression);
+        }
+
+        if(expression instanceof ExpressionBetween) {
+            ExpressionBetween between = (ExpressionBetween) expression;
+
+            if(between.isNegated() || !(between.getOperand() instanceof ExpressionColumn)) {
+                return ValueRanges.UNRESTRICTED;
+            }
+
+            ValueRanges lower = ValueRanges.comparison(">=", between.getOperand(), between.getLowerBound());
+
+            return lower.intersect(ValueRanges.comparison("<=", between.getOperand(), between.getUpperBound()));
+        }
+
+        return ValueRanges.UNRESTRICTED;
+    }
+
+    /**
+     * Derive the range of an IS test of a column. The truth value of a column is false if its numeric value is 0.
+     *
+     * @param is the IS expression.
+     *
+     * @return the range of the column or no ranges if the operand is not a column.
+     */
+    private static ValueRanges is(ExpressionIs is) {
+        if(!(is.getOperand() instanceof ExpressionColumn)) {
+            return ValueRanges.UNRESTRICTED;
+        }
+
+        ExpressionColumn column = (ExpressionColumn) is.getOperand();
+
+        switch(is.getTest()) {
+            case NULL:
+                return ValueRanges.single(column, is.isNegated() ? Range.notNull() : Range.onlyNull());
+            case FALSE:
+                // IS NOT FALSE can be NULL or any value other than 0, which is not a single range
+                return is.isNegated() ? ValueRanges.UNRESTRICTED
+                        : ValueRanges.single(column, Range.points(Collections.singletonList(BigDecimal.ZERO)));
+            default:
+                return is.isNegated() ? ValueRanges.UNRESTRICTED : ValueRanges.single(column, Range.notNull());
+        }
+    }
+
+    /**
+     * Derive the range of a comparison between a column and a number.
+     *
+     * @param operator the canonical operator.
+     * @param left the left operand.
+     * @param right the right operand.
+     *
+     * @return the range of the column or no ranges if the comparison is not between a column and a number.
+     */
+    private static ValueRanges comparison(String operator, Expression left, Expression right) {
+        if(left instanceof ExpressionLiteral && right instanceof ExpressionColumn) {
+            // 5 < a is a > 5
+            switch(operator) {
+                case "<":
+                    operator = ">";
+                    break;
+                case "<=":
+                    operator = ">=";
+                    break;
+                case ">":
+                    operator = "<";
+                    break;
+                case ">=":
+                    operator = "<=";
+                    break;
+            }
+
+            Expression swap = left;
+            left = right;
+            right = swap;
+        }
+
+        if(!(left instanceof ExpressionColumn) || !ValueRanges.isNumber(right)) {
+            return ValueRanges.UNRESTRICTED;
+        }
+
+        BigDecimal value = ((ExpressionLiteral) right).getDecimal();
+        Range range;
+
+        switch(operator) {
+            case "=":
+                range = Range.points(Collections.singletonList(value));
+                break;
+            case "<":
+                range = Range.interval(null, false, value, false);
+                break;
+            case "<=":
+                range = Range.interval(null, false, value, true);
+                break;
+            case ">":
+                range = Range.interval(value, false, null, false);
+                break;
+            case ">=":
+                range = Range.interval(value, true, null, false);
+                break;
+            default:
+                // Not equal and LIKE do not restrict a number to a range
+                return ValueRanges.UNRESTRICTED;
+        }
+
+        return ValueRanges.single((ExpressionColumn) left, range);
+    }
+
+    /**
+     * Return the ranges with a range for a single column.
+     *
+     * @param column the column.
+     * @param range the range of the column.
+     *
+     * @return the ranges.
+     */
+    private static ValueRanges single(ExpressionColumn column, Range range) {
+        if(range.isEmpty()) {
+            return ValueRanges.EMPTY;
+        }
+
+        return new ValueRanges(Collections.singletonMap(ValueRanges.key(column.getName()), range), false);
+    }
+
+    /**
+     * Return the key of a column.
+     *
+     * @param name the name of the column, which might be qualified.
+     *
+     * @return the key of the column.
+     */
+    private static String key(String name) {
+        return name.substring(name.lastIndexOf('.') + 1).toLowerCase();
+    }
+
+    /**
+     * Return whether an expression is a number literal.
+     *
+     * @param expression the expression.
+     *
+     * @return true if the expression is a number literal.
+     */
+    private static boolean isNumber(Expression expression) {
+        if(!(expression instanceof ExpressionLiteral)) {
+            return false;
+        }
+
+        ExpressionLiteral.Type type = ((ExpressionLiteral) expression).getType();
+
+        return type == ExpressionLiteral.Type.LONG || type == ExpressionLiteral.Type.DECIMAL
+                || type == ExpressionLiteral.Type.DOUBLE || type == ExpressionLiteral.Type.BOOLEAN;
+    }
+
+    /**
+     * Return the ranges of the rows that satisfy both this and another condition.
+     *
+     * @param other the ranges of the other condition.
+     *
+     * @return the intersection of the ranges.
+     */
+    public ValueRanges intersect(ValueRanges other) {
+        if(this.empty || other.empty) {
+            return ValueRanges.EMPTY;
+        }
+
+        if(this.ranges.isEmpty()) {
+            return other;
+        }
+
+        if(other.ranges.isEmpty()) {
+            return this;
+        }
+
+        Map<String, Range> ranges = new HashMap<String, Range>(this.ranges);
+
+        for(Map.Entry<String, Range> entry : other.ranges.entrySet()) {
+            Range range = ranges.get(entry.getKey());
+            range = range == null ? entry.getValue() : range.intersect(entry.getValue());
+
+            if(range.isEmpty()) {
+                return ValueRanges.EMPTY;
+            }
+
+            ranges.put(entry.getKey(), range);
+        }
+
+        return new ValueRanges(ranges, false);
+    }
+
+    /**
+     * Return the ranges of the rows that satisfy either this or another condition. Only the columns restricted by
+     * both conditions are restricted by the union.
+     *
+     * @param other the ranges of the other condition.
+     *
+     * @return the union of the ranges.
+     */
+    public ValueRanges union(ValueRanges other) {
+        if(this.empty) {
+            return other;
+        }
+
+        if(other.empty) {
+            return this;
+        }
+
+        Map<String, Range> ranges = new HashMap<String, Range>();
+
+        for(Map.Entry<String, Range> entry : this.ranges.entrySet()) {
+            Range range = other.ranges.get(entry.getKey());
+
+            if(range != null) {
+                ranges.put(entry.getKey(), entry.getValue().union(range));
+            }
+        }
+
+        return ranges.isEmpty() ? ValueRanges.UNRESTRICTED : new ValueRanges(ranges, false);
+    }
+
+    /**
+     * Return whether no row can satisfy the condition.
+     *
+     * @return true if the ranges are empty.
+     */
+    public boolean isEmpty() { return this.empty; }
+
+    /**
+     * Return the range of a column.
+     *
+     * @param column the name of the column, which might be qualified.
+     *
+     * @return the range or null if the column is not restricted.
+     */
+    public Range get(String column) { return this.ranges.get(ValueRanges.key(column)); }
+
+    @Override
+    public String toString() {
+        return this.empty ? "ValueRanges [empty]" : "ValueRanges " + this.ranges;
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Row accessor over a row of the values of an INSERT statement, so that expressions can be evaluated on the rows that
+ * the statement would insert without sending it to the server. The values are read from the columnar storage of the
+ * statement without copying them.
+ *
+ * Columns are found by their name ignoring case and a qualified name such as table.column is found by its last part.
+ * Columns that the statement does not list are NULL, like the columns that an INSERT leaves out when they do not have
+ * a default value. Values that are not literals, such as DEFAULT or a column name, are NULL as well, since only the
+ * server knows them.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class ValuesRow extends RowAccessor {
+
+    private static final Logger logger = LogManager.getLogger(ValuesRow.class);
+
+    private final ColumnarValues values;
+    private final Map<String, Integer> labels;
+    // Indexes of the names used by expressions, so a column is only resolved once
+    private final Map<String, Integer> indexes;
+    private int row;
+
+    public ValuesRow(List<String> columns, ColumnarValues values) {
+        this.values = values;
+        this.labels = new HashMap<String, Integer>();
+        this.indexes = new HashMap<String, Integer>();
+        this.row = 0;
+
+        for(int i = 0; i < columns.size(); i++) {
+            String label = columns.get(i).toLowerCase();
+
+            if(!this.labels.containsKey(label)) {
+                this.labels.put(label, i);
+            }
+        }
+
+        ValuesRow.logger.info("Created a ValuesRow with " + columns.size() + " columns");
+    }
+
+    /**
+     * Move to a row of the values.
+     *
+     * @param row the index of the row.
+     */
+    public void setRow(int row) { this.row = row; }
+
+    /**
+     * Return the index of a column.
+     *
+     * @param column the name of the column.
+     *
+     * @return the index of the column or -1 if the statement does not list it.
+     */
+    private int index(String column) {
+        Integer index = this.indexes.get(column);
+
+        if(index != null) {
+            return index;
+        }
+
+        String name = column.toLowerCase();
+        index = this.labels.get(name.substring(name.lastIndexOf('.') + 1));
+
+        if(index == null || index >= this.values.getColumnCount()) {
+            index = -1;
+        }
+
+        this.indexes.put(column, index);
+
+        return index;
+    }
+
+    @Override
+    public ExpressionLiteral.Type getType(String column) {
+        int index = this.index(column);
+
+        if(index < 0 || !this.values.isLiteral(this.row, index) || this.values.isNull(this.row, index)
+                || this.values.getType(this.row, index) == ExpressionLiteral.Type.DEFAULT) {
+            return ExpressionLiteral.Type.NULL;
+        }
+
+        return this.values.getType(this.row, index);
+    }
+
+    @Override
+    public long getLong(String column) {
+        this.setWasNull(false);
+
+        return this.values.getLong(this.row, this.index(column));
+    }
+
+    @Override
+    public double getDouble(String column) {
+        this.setWasNull(false);
+
+        return this.values.getDouble(this.row, this.index(column));
+    }
+
+    @Override
+    public BigDecimal getDecimal(String column) {
+        this.setWasNull(false);
+
+        return this.values.getDecimal(this.row, this.index(column));
+    }
+
+    @Override
+    public String getString(String column) {
+        this.setWasNull(false);
+
+        return this.values.getString(this.row, this.index(column));
+    }
+
+}
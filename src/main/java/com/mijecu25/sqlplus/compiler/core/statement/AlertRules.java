@@ -0,0 +1,261 @@
+package com.mijecu25.sqlplus.compiler.core.statement;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.messages.Messages;
+import com.mijecu25.sqlplus.compiler.core.expression.Expression;
+import com.mijecu25.sqlplus.compiler.core.expression.ExpressionBinary;
+import com.mijecu25.sqlplus.compiler.core.expression.SubqueryCache;
+import com.mijecu25.sqlplus.compiler.core.expression.ValueRanges;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementDML;
+
+/**
+ * The alerts of a session, analyzed when they are registered. An alert whose condition no row can satisfy, like
+ * a &gt; 5 AND a &lt; 3, is dropped, since it can never fire. An alert with the same timing, statement and table as
+ * another alert whose condition has every comparison joined by AND of the other condition, like a &gt; 5 AND b = 1
+ * and a &gt; 5, is subsumed by it. The subsumed alert is kept in the group of the alert that covers it and is only
+ * checked when that alert might fire, and an alert with the same condition as the one that covers it is not checked
+ * again. Comparisons with a question mark are never matched, since their values are only known when the alert fires.
+ *
+ * This class is not thread safe.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class AlertRules {
+
+    /**
+     * The outcome of registering an alert.
+     */
+    public enum Registration { ADDED, SUBSUMED, UNSATISFIABLE }
+
+    private static final String AND = "AND";
+
+    private static final Logger logger = LogManager.getLogger(AlertRules.class);
+
+    private final List<Group> groups;
+    private int size;
+
+    public AlertRules() {
+        this.groups = new ArrayList<Group>();
+        this.size = 0;
+        AlertRules.logger.info("Created an AlertRules");
+    }
+
+    /**
+     * Return whether no row can satisfy the condition of an alert.
+     *
+     * @param alert the alert.
+     *
+     * @return true if the alert can never fire.
+     */
+    public static boolean isUnsatisfiable(StatementAlert alert) {
+        return ValueRanges.of(alert.getCondition()).isEmpty();
+    }
+
+    /**
+     * Register an alert. An unsatisfiable alert is not kept.
+     *
+     * @param alert the alert.
+     *
+     * @return whether the alert was added, subsumed by another alert or dropped.
+     */
+    public Registration add(StatementAlert alert) {
+        if(AlertRules.isUnsatisfiable(alert)) {
+            AlertRules.logger.warn(Messages.WARNING + "The alert " + alert.getDescription() + " can never fire");
+            return Registration.UNSATISFIABLE;
+        }
+
+        this.size++;
+        Set<Expression> conjuncts = new HashSet<Expression>();
+        boolean exact = AlertRules.conjuncts(alert.getCondition(), conjuncts);
+
+        for(Group group : this.groups) {
+            if(group.exact && group.hasSink(alert) && conjuncts.containsAll(group.conjuncts)) {
+                group.members.add(alert);
+                AlertRules.logger.info("The alert " + alert.getDescription() + " is subsumed by "
+                        + group.alert.getDescription());
+
+                return Registration.SUBSUMED;
+            }
+        }
+
+        Group added = new Group(alert, conjuncts, exact);
+        Iterator<Group> groups = this.groups.iterator();
+
+        while(exact && groups.hasNext()) {
+            Group group = groups.next();
+
+            // A new alert can be broader than alerts that were registered before it
+            if(group.hasSink(alert) && group.conjuncts.containsAll(conjuncts)) {
+                added.members.add(group.alert);
+                added.members.addAll(group.members);
+                groups.remove();
+                AlertRules.logger.info("The alert " + group.alert.getDescription() + " is subsumed by "
+                        + alert.getDescription());
+            }
+        }
+
+        this.groups.add(added);
+
+        return Registration.ADDED;
+    }
+
+    /**
+     * Return the alerts that might fire for a DML statement. The alerts of a group are only checked if the alert that
+     * covers them might fire. If the subquery of an alert cannot be read, the alert is assumed to fire for every
+     * statement that it is defined for.
+     *
+     * @param statement the DML statement.
+     * @param subqueryCache the cache of subquery results.
+     * @param connection the connection used to execute the subqueries.
+     *
+     * @return the alerts that might fire.
+     */
+    public List<StatementAlert> mayFire(StatementDML statement, SubqueryCache subqueryCache, Connection connection) {
+        List<StatementAlert> alerts = new ArrayList<StatementAlert>();
+
+        for(Group group : this.groups) {
+            if(!AlertRules.mayFire(group.alert, statement, subqueryCache, connection)) {
+                continue;
+            }
+
+            alerts.add(group.alert);
+
+            for(StatementAlert member : group.members) {
+                if(member.getCondition().equals(group.alert.getCondition())
+                        || AlertRules.mayFire(member, statement, subqueryCache, connection)) {
+                    alerts.add(member);
+                }
+            }
+        }
+
+        return alerts;
+    }
+
+    /**
+     * Helper method to return whether an alert might fire for a DML statement.
+     *
+     * @param alert the alert.
+     * @param statement the DML statement.
+     * @param subqueryCache the cache of subquery results.
+     * @param connection the connection used to execute the subqueries.
+     *
+     * @return false if the alert cannot fire for the statement, true otherwise.
+     */
+    private static boolean mayFire(StatementAlert alert, StatementDML statement, SubqueryCache subqueryCache,
+            Connection connection) {
+        try {
+            return alert.mayFire(statement, subqueryCache, connection);
+        }
+        catch (SQLException sqle) {
+            AlertRules.logger.warn(Messages.WARNING + "Could not read the subquery of " + alert, sqle);
+            return alert.appliesTo(statement);
+        }
+    }
+
+    /**
+     * Helper method to add the comparisons of a condition that are joined by AND. A comparison with a question mark
+     * is left out.
+     *
+     * @param condition the condition.
+     * @param conjuncts the set where the comparisons are added.
+     *
+     * @return false if the condition has a comparison with a question mark, true otherwise.
+     */
+    private static boolean conjuncts(Expression condition, Set<Expression> conjuncts) {
+        if(condition instanceof ExpressionBinary) {
+            ExpressionBinary binary = (ExpressionBinary) condition;
+
+            if(binary.isAndOr() && binary.getRelationalOperator().toUpperCase().equals(AlertRules.AND)) {
+                boolean left = AlertRules.conjuncts(binary.getLeftExpression(), conjuncts);
+                boolean right = AlertRules.conjuncts(binary.getRightExpression(), conjuncts);
+
+                return left && right;
+            }
+
+            if(AlertRules.hasQuestionMark(binary)) {
+                return false;
+            }
+        }
+
+        conjuncts.add(condition);
+
+        return true;
+    }
+
+    /**
+     * Helper method to return whether a comparison of a condition has a question mark.
+     *
+     * @param condition the condition.
+     *
+     * @return true if a comparison has a question mark.
+     */
+    private static boolean hasQuestionMark(Expression condition) {
+        if(!(condition instanceof ExpressionBinary)) {
+            return false;
+        }
+
+        ExpressionBinary binary = (ExpressionBinary) condition;
+
+        if(binary.isAndOr()) {
+            return AlertRules.hasQuestionMark(binary.getLeftExpression())
+                    || AlertRules.hasQuestionMark(binary.getRightExpression());
+        }
+
+        return binary.getRightExpression() == null;
+    }
+
+    /**
+     * Return the number of alerts that were kept.
+     *
+     * @return the number of alerts.
+     */
+    public int size() { return this.size; }
+
+    @Override
+    public String toString() {
+        return "AlertRules [size=" + this.size + ", groups=" + this.groups.size() + "]";
+    }
+
+    /**
+     * An alert and the alerts that it subsumes.
+     */
+    private static class Group {
+        private final StatementAlert alert;
+        private final Set<Expression> conjuncts;
+        // A condition with a question mark is narrower than its other comparisons, so it cannot cover other alerts
+        private final boolean exact;
+        private final List<StatementAlert> members;
+
+        private Group(StatementAlert alert, Set<Expression> conjuncts, boolean exact) {
+            this.alert = alert;
+            this.conjuncts = conjuncts;
+            this.exact = exact;
+            this.members = new ArrayList<StatementAlert>();
+        }
+
+        /**
+         * Return whether an alert has the same timing, statement and table as the alert of the group.
+         *
+         * @param alert the alert.
+         *
+         * @return true if both alerts fire for the same statements.
+         */
+        private boolean hasSink(StatementAlert alert) {
+            return this.alert.getTiming().equals(alert.getTiming())
+                    && this.alert.getDataManipulationLanguage().equals(alert.getDataManipulationLanguage())
+                    && this.alert.getTable().equals(alert.getTable());
+        }
+    }
+
+}
@@ -5,9 +5,11 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import com.mijecu25.sqlplus.SQLPlus;
+import com.mijecu25.sqlplus.parser.StatementFingerprint;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -18,13 +20,18 @@ import com.mijecu25.messages.Messages;
  * This class represents either a SQLPlus statement or a regular SQL statement.
  *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.34
+ * @version 0.1.0.37
  */
 public abstract class Statement {
     private List<Integer> columnsMaxLength;
 
     protected String statement;
     protected ResultSet resultSet;
+    protected long rowsReturned;
+    protected long rowsAffected;
+    protected long executionTime;
+
+    private StatementFingerprint fingerprint;
 
     private static final String CORNER_SYMBOL = "+";
     private static final String HORIZONTAL_BORDER = "-";
@@ -38,6 +45,10 @@ public abstract class Statement {
     public Statement() {
         this.statement = null;
         this.resultSet = null;
+        this.rowsReturned = 0;
+        this.rowsAffected = 0;
+        this.executionTime = 0;
+        this.fingerprint = null;
         this.columnsMaxLength = new ArrayList<Integer>();
         Statement.logger.info("Created a Statement");
     }
@@ -55,6 +66,22 @@ public abstract class Statement {
      */
     protected abstract void printResult();
 
+    /**
+     * Create a new statement with the same shape as this parsed statement, but with its literals replaced by the
+     * provided ones. The literals are consumed in the order in which they appear in the command. This statement is
+     * not modified.
+     *
+     * @param literals the new literals.
+     *
+     * @return a new statement with the new literals.
+     */
+    public Statement bind(Iterator<String> literals) {
+        UnsupportedOperationException uoe = new UnsupportedOperationException();
+        Statement.logger.warn(Messages.WARNING + "The statement " + this + " cannot be bound to new literals");
+        Statement.logger.warn(Messages.WARNING + "Throwing a " + uoe.getClass().getSimpleName() + " to the calling class");
+        throw uoe;
+    }
+
     /**
      * Print an horizontal border around text. The total characters displayed in the border depends on the length
      * specified by the parameter. A new line is printed
@@ -173,6 +200,7 @@ public abstract class Statement {
                 line.append(Statement.buildRightHorizontalBorder(columnMaxLength));
             }
 
+            this.rowsReturned = rowTotal;
             line.append("\n" + Statement.displayResultSetSize(rowTotal));
 
             System.out.println(line);
@@ -256,13 +284,24 @@ public abstract class Statement {
             throw iae;
         }
 
+        this.rowsReturned = 0;
+        this.rowsAffected = 0;
+        this.executionTime = 0;
+
         try {
             // Create a Java statement with a resultSet that can be scrolled and cannot be updated while scrolling
             java.sql.Statement statement = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE,ResultSet.CONCUR_READ_ONLY);
 
             long startTime = System.nanoTime();
-            boolean hasResultSet = statement.execute(this.statement);
-            long endTime = System.nanoTime();
+            boolean hasResultSet;
+
+            try {
+                hasResultSet = statement.execute(this.statement);
+            }
+            finally {
+                // Only the time in the driver is measured, not the time printing the result
+                this.executionTime = System.nanoTime() - startTime;
+            }
 
             if(hasResultSet) {
                 Statement.logger.info("The query has a result set");
@@ -279,10 +318,11 @@ public abstract class Statement {
             }
             else {
                 Statement.logger.info("The query does not have a result set");
+                this.rowsAffected = statement.getUpdateCount();
                 System.out.println(Statement.displayNumberOfAffectedRows(statement.getUpdateCount()));
             }
 
-            System.out.printf("Execution time: %.2f sec\n", (endTime - startTime)/1000000000.0);
+            System.out.printf("Execution time: %.2f sec\n", this.executionTime/1000000000.0);
 
             statement.close();
         }
@@ -447,4 +487,46 @@ public abstract class Statement {
      */
     public void setStatement(String statement) { this.statement = statement; }
 
+    /**
+     * Set the fingerprint of the command of the statement, if it was already computed when parsing it.
+     *
+     * @param fingerprint the fingerprint of the command.
+     */
+    public void setFingerprint(StatementFingerprint fingerprint) { this.fingerprint = fingerprint; }
+
+    /**
+     * Return the fingerprint of the command of the statement. It is computed the first time that it is needed if it
+     * was not set when parsing the command.
+     *
+     * @return the fingerprint of the command.
+     */
+    public StatementFingerprint getFingerprint() {
+        if(this.fingerprint == null) {
+            this.fingerprint = new StatementFingerprint(this.statement);
+        }
+
+        return this.fingerprint;
+    }
+
+    /**
+     * Return the number of rows returned by the last execution of the statement.
+     *
+     * @return the number of rows returned.
+     */
+    public long getRowsReturned() { return this.rowsReturned; }
+
+    /**
+     * Return the number of rows changed by the last execution of the statement.
+     *
+     * @return the number of rows affected.
+     */
+    public long getRowsAffected() { return this.rowsAffected; }
+
+    /**
+     * Return the time that the last execution of the statement took in the driver, without printing its result.
+     *
+     * @return the execution time in nanoseconds or 0 if the statement was not sent to the server.
+     */
+    public long getExecutionTime() { return this.executionTime; }
+
 }
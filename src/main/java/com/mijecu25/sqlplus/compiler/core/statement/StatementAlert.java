@@ -0,0 +1,307 @@
+package com.mijecu25.sqlplus.compiler.core.statement;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.sqlplus.compiler.core.expression.Expression;
+import com.mijecu25.sqlplus.compiler.core.expression.ExpressionBinary;
+import com.mijecu25.sqlplus.compiler.core.expression.ExpressionFactory;
+import com.mijecu25.sqlplus.compiler.core.expression.ExpressionSubquery;
+import com.mijecu25.sqlplus.compiler.core.expression.SubqueryCache;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementDML;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSingleTableUpdateStatement;
+
+/**
+ * This class represents the "alert <code>timing</code> <code>dml</code> in <code>table</code> if
+ * <code>condition</code>" SQLPlus command. The alert is not sent to the server. It is kept by the session, which
+ * checks it against the DML statements on its table.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.4
+ */
+public class StatementAlert extends Statement {
+    public static final String BEFORE = "BEFORE";
+    public static final String AFTER = "AFTER";
+    public static final String INSERT = "INSERT";
+    public static final String DELETE = "DELETE";
+    public static final String UPDATE = "UPDATE";
+
+    private String timing;
+    private String dataManipulationLanguage;
+    private String table;
+    private Expression condition;
+
+    private static final Logger logger = LogManager.getLogger(StatementAlert.class);
+
+    public StatementAlert(String timing, String dataManipulationLanguage, String table, Expression condition) {
+        super();
+        this.timing = timing.toUpperCase();
+        this.dataManipulationLanguage = dataManipulationLanguage.toUpperCase();
+        this.table = table;
+        this.condition = condition;
+        StatementAlert.logger.info("Parsed and created a StatementAlert");
+    }
+
+    @Override
+    public void execute(Connection connection) throws SQLException {
+        // The alert only exists in the session, so there is nothing to execute in the server
+        StatementAlert.logger.info("Will create the alert " + this);
+        this.printResult();
+    }
+
+    /**
+     * Return whether this alert is defined for the kind of statement and the table of a DML statement.
+     *
+     * @param statement the DML statement.
+     *
+     * @return true if the alert is defined for the statement.
+     */
+    public boolean appliesTo(StatementDML statement) {
+        if(!this.table.equals(statement.getFirstTable())) {
+            return false;
+        }
+
+        switch(this.dataManipulationLanguage) {
+            case StatementAlert.INSERT:
+                return statement instanceof StatementInsertStatement1;
+            case StatementAlert.UPDATE:
+                return statement instanceof StatementSingleTableUpdateStatement;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Return whether this alert might fire for a DML statement. The alert cannot fire if it is not defined for the
+     * statement or if no row matched by the where clause of the statement can satisfy the condition of the alert. An
+     * alert AFTER an UPDATE might fire for any statement that it is defined for, since the set clause can change the
+     * rows that the where clause matched.
+     *
+     * @param statement the DML statement.
+     *
+     * @return false if the alert cannot fire for the statement, true otherwise.
+     */
+    public boolean mayFire(StatementDML statement) {
+        if(this.isAfterUpdate()) {
+            return this.appliesTo(statement);
+        }
+
+        return this.appliesTo(statement) && statement.mayMatch(this.condition);
+    }
+
+    /**
+     * Return whether this alert might fire for a DML statement when its condition compares a column with a subquery.
+     * The value of an uncorrelated scalar subquery is read through a cache, so it is only sent to the server again
+     * after it expires or after a statement writes to one of the tables that it reads.
+     *
+     * @param statement the DML statement.
+     * @param subqueryCache the cache of subquery results.
+     * @param connection the connection used to execute the subquery.
+     *
+     * @return false if the alert cannot fire for the statement, true otherwise.
+     *
+     * @throws SQLException if there is a problem executing the subquery.
+     */
+    public boolean mayFire(StatementDML statement, SubqueryCache subqueryCache, Connection connection)
+            throws SQLException {
+        if(!this.appliesTo(statement)) {
+            return false;
+        }
+
+        if(this.isAfterUpdate()) {
+            return true;
+        }
+
+        return statement.mayMatch(this.resolveCondition(subqueryCache, connection));
+    }
+
+    /**
+     * Helper method to return whether the alert fires after an UPDATE statement.
+     *
+     * @return true if the alert fires after an UPDATE statement.
+     */
+    private boolean isAfterUpdate() {
+        return this.timing.equals(StatementAlert.AFTER) && this.dataManipulationLanguage.equals(StatementAlert.UPDATE);
+    }
+
+    /**
+     * Helper method to replace a scalar subquery in the condition by the numeric value that it returns. The condition
+     * is returned as is if it does not have a subquery or if the subquery does not return a single number.
+     *
+     * @param subqueryCache the cache of subquery results.
+     * @param connection the connection used to execute the subquery.
+     *
+     * @return the condition with the value of the subquery.
+     *
+     * @throws SQLException if there is a problem executing the subquery.
+     */
+    private Expression resolveCondition(SubqueryCache subqueryCache, Connection connection) throws SQLException {
+        return this.resolveCondition(this.condition, subqueryCache, connection);
+    }
+
+    /**
+     * Helper method to replace the scalar subqueries in the comparisons of a condition by the numeric values that
+     * they return.
+     *
+     * @param condition the condition or one of its comparisons.
+     * @param subqueryCache the cache of subquery results.
+     * @param connection the connection used to execute the subquery.
+     *
+     * @return the condition with the values of the subqueries.
+     *
+     * @throws SQLException if there is a problem executing the subquery.
+     */
+    private Expression resolveCondition(Expression condition, SubqueryCache subqueryCache, Connection connection)
+            throws SQLException {
+        if(!(condition instanceof ExpressionBinary)) {
+            return condition;
+        }
+
+        ExpressionBinary binary = (ExpressionBinary) condition;
+
+        if(binary.isAndOr()) {
+            Expression left = this.resolveCondition(binary.getLeftExpression(), subqueryCache, connection);
+            Expression right = this.resolveCondition(binary.getRightExpression(), subqueryCache, connection);
+
+            if(left == binary.getLeftExpression() && right == binary.getRightExpression()) {
+                return condition;
+            }
+
+            return ExpressionFactory.binary(binary.getRelationalOperator(), left, right);
+        }
+
+        if(!(binary.getRightExpression() instanceof ExpressionSubquery)) {
+            return condition;
+        }
+
+        List<Object[]> rows = subqueryCache.get((ExpressionSubquery) binary.getRightExpression(), connection);
+
+        if(rows.size() != 1 || rows.get(0).length != 1 || !(rows.get(0)[0] instanceof Number)) {
+            StatementAlert.logger.info("The subquery of " + this + " does not return a single number");
+            return condition;
+        }
+
+        String value = new BigDecimal(rows.get(0)[0].toString()).toPlainString();
+
+        return ExpressionFactory.binary(binary.getRelationalOperator(), binary.getLeftExpression(),
+                ExpressionFactory.literal(value));
+    }
+
+    /**
+     * Return whether the condition of the alert can be evaluated on a row without the server. Conditions that compare
+     * with a question mark or a subquery cannot, since their value is only known when the alert fires.
+     *
+     * @return true if the condition can be evaluated on a row.
+     */
+    public boolean isEvaluable() {
+        return this.isEvaluable(this.condition);
+    }
+
+    /**
+     * Helper method to return whether every comparison of a condition can be evaluated on a row.
+     *
+     * @param condition the condition or one of its comparisons.
+     *
+     * @return true if the condition can be evaluated on a row.
+     */
+    private boolean isEvaluable(Expression condition) {
+        if(!(condition instanceof ExpressionBinary)) {
+            return condition != null;
+        }
+
+        ExpressionBinary binary = (ExpressionBinary) condition;
+
+        if(binary.isAndOr()) {
+            return this.isEvaluable(binary.getLeftExpression()) && this.isEvaluable(binary.getRightExpression());
+        }
+
+        Expression value = binary.getRightExpression();
+
+        return value != null && !(value instanceof ExpressionSubquery);
+    }
+
+    /**
+     * Return the alert as it would be written in a command.
+     *
+     * @return the text of the alert.
+     */
+    public String getDescription() {
+        return "ALERT " + this.timing + " " + this.dataManipulationLanguage + " IN " + this.table + " IF "
+                + StatementAlert.describe(this.condition);
+    }
+
+    /**
+     * Helper method to write a condition of an alert. A comparison with a question mark cannot be written by
+     * {@link Expression#toSQL()}, since the question mark is not an expression. An AND inside an OR does not need
+     * parentheses.
+     *
+     * @param condition the condition or one of its comparisons.
+     *
+     * @return the text of the condition.
+     */
+    private static String describe(Expression condition) {
+        if(!(condition instanceof ExpressionBinary)) {
+            return condition.toSQL();
+        }
+
+        ExpressionBinary binary = (ExpressionBinary) condition;
+
+        if(binary.isAndOr()) {
+            return StatementAlert.describe(binary.getLeftExpression()) + " "
+                    + binary.getRelationalOperator().toUpperCase() + " "
+                    + StatementAlert.describe(binary.getRightExpression());
+        }
+
+        if(binary.getRightExpression() == null) {
+            return binary.getLeftExpression().toSQL() + " " + binary.getRelationalOperator() + " ?";
+        }
+
+        return condition.toSQL();
+    }
+
+    /**
+     * Return when the alert fires in relation to the statement.
+     *
+     * @return BEFORE or AFTER.
+     */
+    public String getTiming() { return this.timing; }
+
+    /**
+     * Return the kind of statement that the alert is defined for.
+     *
+     * @return INSERT, DELETE or UPDATE.
+     */
+    public String getDataManipulationLanguage() { return this.dataManipulationLanguage; }
+
+    /**
+     * Return the table that the alert is defined for.
+     *
+     * @return the name of the table.
+     */
+    public String getTable() { return this.table; }
+
+    /**
+     * Return the condition that a row must satisfy for the alert to fire.
+     *
+     * @return the condition of the alert.
+     */
+    public Expression getCondition() { return this.condition; }
+
+    @Override
+    protected void printResult() {
+        StatementAlert.logger.info("Printing message that acknowledges that the alert was created");
+        System.out.println("Created alert " + this.timing + " " + this.dataManipulationLanguage + " in " + this.table);
+    }
+
+    @Override
+    public String toString() {
+        return "StatementAlert [statement=" + this.statement + "]";
+    }
+
+}
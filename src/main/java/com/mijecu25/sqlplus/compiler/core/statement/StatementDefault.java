@@ -6,12 +6,13 @@ import org.apache.logging.log4j.Logger;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Iterator;
 
 /**
  * This class represents a default SQL statement.
  *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.4
+ * @version 0.1.0.5
  */
 public class StatementDefault extends Statement {
     private static final Logger logger = LogManager.getLogger(StatementDefault.class);
@@ -40,6 +41,16 @@ public class StatementDefault extends Statement {
         // TODO Do we need to catch the exception here?
     }
 
+    @Override
+    public Statement bind(Iterator<String> literals) {
+        // The command is sent to the server as is, so every literal belongs to this statement
+        while(literals.hasNext()) {
+            literals.next();
+        }
+
+        return new StatementDefault();
+    }
+
     @Override
     protected void printResult() {
         StatementDefault.logger.info("Printing the result");
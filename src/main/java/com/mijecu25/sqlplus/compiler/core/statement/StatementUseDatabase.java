@@ -2,6 +2,7 @@ package com.mijecu25.sqlplus.compiler.core.statement;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Iterator;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -13,7 +14,7 @@ import com.mijecu25.messages.Messages;
  * in the server and prints a message with the name of the current database.
  *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.12
+ * @version 0.1.0.14
  */
 public class StatementUseDatabase extends Statement {
     private String database;
@@ -45,6 +46,18 @@ public class StatementUseDatabase extends Statement {
         this.executeStatement(connection);
     }
 
+    @Override
+    public Statement bind(Iterator<String> literals) {
+        return new StatementUseDatabase(this.database);
+    }
+
+    /**
+     * Return the database to use.
+     *
+     * @return the name of the database.
+     */
+    public String getDatabase() { return this.database; }
+
     @Override
     protected void printResult() {
         StatementUseDatabase.logger.info("Printing message that acknowledges that the database was changed");
@@ -4,10 +4,13 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import com.mijecu25.messages.Messages;
 import com.mijecu25.sqlplus.compiler.core.expression.Expression;
+import com.mijecu25.sqlplus.compiler.core.expression.ExpressionSimplifier;
+import com.mijecu25.sqlplus.compiler.core.expression.ValueRanges;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -17,7 +20,7 @@ import com.mijecu25.sqlplus.compiler.core.statement.Statement;
  * This class contains common behavior for all DML SQL statements.
  *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.10
+ * @version 0.1.0.16
  */
 public abstract class StatementDML extends Statement {
     private static final Logger logger = LogManager.getLogger(StatementDML.class);
@@ -25,6 +28,8 @@ public abstract class StatementDML extends Statement {
     protected List<String> columns;
     protected List<String> tables;
     protected Expression whereClause;
+    private Expression simplifiedWhereClause;
+    private ValueRanges whereRanges;
 
     public StatementDML(List<String> columns, List<String> tables, Expression whereClause) {
         super();
@@ -77,17 +82,29 @@ public abstract class StatementDML extends Statement {
             throw iae;
         }
 
+        this.rowsReturned = 0;
+        this.rowsAffected = 0;
+        this.executionTime = 0;
+
         try {
             // Create a Java statement with a resultSet that can be scrolled and cannot be updated while scrolling
             java.sql.Statement statement = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE,ResultSet.CONCUR_READ_ONLY);
 
             long startTime = System.nanoTime();
-            int rowCount = statement.executeUpdate(this.statement);
-            long endTime = System.nanoTime();
+            int rowCount;
+
+            try {
+                rowCount = statement.executeUpdate(this.statement);
+            }
+            finally {
+                this.executionTime = System.nanoTime() - startTime;
+            }
+
+            this.rowsAffected = rowCount;
 
             System.out.println(Statement.displayNumberOfAffectedRows(rowCount));
 
-            System.out.printf("Execution time: %.2f sec\n", (endTime - startTime)/1000000000.0);
+            System.out.printf("Execution time: %.2f sec\n", this.executionTime/1000000000.0);
 
             statement.close();
         }
@@ -102,6 +119,81 @@ public abstract class StatementDML extends Statement {
         }
     }
 
+    /**
+     * Helper method to bind new literals to a where clause that might not exist.
+     *
+     * @param whereClause the where clause or null if the statement does not have one.
+     * @param literals the new literals.
+     *
+     * @return the where clause with the new literals or null if the statement does not have one.
+     */
+    protected static Expression bindWhereClause(Expression whereClause, Iterator<String> literals) {
+        if(whereClause == null) {
+            return null;
+        }
+
+        return whereClause.bind(literals);
+    }
+
+    /**
+     * Return the where clause of the statement.
+     *
+     * @return the where clause or null if the statement does not have one.
+     */
+    public Expression getWhereClause() { return this.whereClause; }
+
+    /**
+     * Return the where clause of the statement after folding its constants and simplifying its logical operators. The
+     * where clause is simplified the first time it is needed, since statements built from the parse cache are bound
+     * to new literals.
+     *
+     * @return the simplified where clause or null if the statement does not have one.
+     */
+    public Expression getSimplifiedWhereClause() {
+        if(this.simplifiedWhereClause == null && this.whereClause != null) {
+            this.simplifiedWhereClause = ExpressionSimplifier.simplify(this.whereClause);
+        }
+
+        return this.simplifiedWhereClause;
+    }
+
+    /**
+     * Return whether a row matched by the where clause of the statement might satisfy a condition, such as the
+     * condition of an alert. When this method returns false, the alert cannot fire for this statement and its rows do
+     * not need to be read from the server.
+     *
+     * @param condition the condition or null if there is none.
+     *
+     * @return false if no row matched by the statement can satisfy the condition, true otherwise.
+     */
+    public boolean mayMatch(Expression condition) {
+        if(this.whereRanges == null) {
+            this.whereRanges = ValueRanges.of(this.whereClause);
+        }
+
+        boolean mayMatch = !this.whereRanges.intersect(ValueRanges.of(condition)).isEmpty();
+
+        if(!mayMatch) {
+            StatementDML.logger.info("No row matched by the statement can satisfy " + condition);
+        }
+
+        return mayMatch;
+    }
+
+    /**
+     * Return the columns used by the statement.
+     *
+     * @return the columns or null if the statement does not list any.
+     */
+    public List<String> getColumns() { return this.columns; }
+
+    /**
+     * Return the tables referenced by the statement.
+     *
+     * @return the tables.
+     */
+    public List<String> getTables() { return this.tables; }
+
     /**
      * Helper method to return the first table in the list of referenced tables.
      *
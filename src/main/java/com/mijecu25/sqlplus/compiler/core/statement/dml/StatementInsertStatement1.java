@@ -1,28 +1,31 @@
 package com.mijecu25.sqlplus.compiler.core.statement.dml;
 
 import com.mijecu25.messages.Messages;
+import com.mijecu25.sqlplus.compiler.core.expression.ColumnarValues;
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.List;
 
 /**
  * This class represents the "insert...." SQL statement. It inserts rows into a table.
  *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.3
+ * @version 0.1.0.5
  */
 public class StatementInsertStatement1 extends StatementDML {
-    private List<List<String>> valuesList;
+    private ColumnarValues values;
 
     private static final Logger logger = LogManager.getLogger(StatementSelectExpression.class);
 
-    public StatementInsertStatement1(String table, List<String> columns, List<List<String>> valuesList) {
+    public StatementInsertStatement1(String table, List<String> columns, ColumnarValues values) {
         super(columns, StatementDML.tableToList(table));
 
-        this.valuesList = valuesList;
+        this.values = values;
 
         StatementInsertStatement1.logger.info("Parsed and created a StatementInsertStatement1");
     }
@@ -47,6 +50,18 @@ public class StatementInsertStatement1 extends StatementDML {
         // TODO Do we need to catch the exception here?
     }
 
+    @Override
+    public Statement bind(Iterator<String> literals) {
+        return new StatementInsertStatement1(this.getFirstTable(), this.columns, this.values.bind(literals));
+    }
+
+    /**
+     * Return the rows of values that will be inserted.
+     *
+     * @return the values of the rows.
+     */
+    public ColumnarValues getValues() { return this.values; }
+
     @Override
     protected void printResult() {
         StatementInsertStatement1.logger.info("Printing the result");
@@ -3,18 +3,20 @@ package com.mijecu25.sqlplus.compiler.core.statement.dml;
 import com.mijecu25.messages.Messages;
 
 import com.mijecu25.sqlplus.compiler.core.expression.Expression;
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.List;
 
 /**
  * This class represents the "select...." SQL statement. It prints the columns that match the query.
  *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.16
+ * @version 0.1.0.17
  */
 public class StatementSelectExpression extends StatementDML {
     private static final Logger logger = LogManager.getLogger(StatementSelectExpression.class);
@@ -44,6 +46,11 @@ public class StatementSelectExpression extends StatementDML {
         // TODO Do we need to catch the exception here?
     }
 
+    @Override
+    public Statement bind(Iterator<String> literals) {
+        return new StatementSelectExpression(this.columns, this.tables, StatementDML.bindWhereClause(this.whereClause, literals));
+    }
+
     @Override
     protected void printResult() {
         StatementSelectExpression.logger.info("Printing the result");
@@ -2,18 +2,21 @@ package com.mijecu25.sqlplus.compiler.core.statement.dml;
 
 import com.mijecu25.messages.Messages;
 import com.mijecu25.sqlplus.compiler.core.expression.Expression;
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * This class represents the "update...." SQL statement. It updates the columns that match the query.
  *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.2
+ * @version 0.1.0.4
  */
 public class StatementSingleTableUpdateStatement extends StatementDML {
     private Map<String, Expression> columnValues;
@@ -48,6 +51,26 @@ public class StatementSingleTableUpdateStatement extends StatementDML {
         // TODO Do we need to catch the exception here?
     }
 
+    @Override
+    public Statement bind(Iterator<String> literals) {
+        // The set clause comes before the where clause in the command
+        Map<String, Expression> columnValues = new LinkedHashMap<String, Expression>();
+
+        for(Map.Entry<String, Expression> columnValue : this.columnValues.entrySet()) {
+            columnValues.put(columnValue.getKey(), columnValue.getValue().bind(literals));
+        }
+
+        return new StatementSingleTableUpdateStatement(this.getFirstTable(), columnValues,
+                StatementDML.bindWhereClause(this.whereClause, literals));
+    }
+
+    /**
+     * Return the new value of each updated column, in the order of the command.
+     *
+     * @return the new values by column.
+     */
+    public Map<String, Expression> getColumnValues() { return this.columnValues; }
+
     @Override
     protected void printResult() {
         StatementSingleTableUpdateStatement.logger.info("Printing the result");
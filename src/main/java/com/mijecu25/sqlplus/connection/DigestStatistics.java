@@ -0,0 +1,388 @@
+package com.mijecu25.sqlplus.connection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.messages.Messages;
+import com.mijecu25.sqlplus.parser.StatementFingerprint;
+
+/**
+ * Statistics of the executed statements grouped by the digest of their command, so the statements that take the most
+ * time can be found from the client without the performance schema of the server. Each digest keeps the number of
+ * executions, the total, minimum, maximum and 99th percentile latency, the rows returned and affected, and the number
+ * of executions that failed. The rows examined by the server are not available to the client.
+ *
+ * The statistics are updated with atomic operations and the digests are kept in a concurrent map, so statements can
+ * be recorded from several threads without locking. Once {@value #DEFAULT_MAX_DIGESTS} digests are kept by default,
+ * the statements with new digests are only counted as dropped. A thread reserves a slot before it adds a digest, so
+ * the maximum is never exceeded when threads add new digests at the same time.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class DigestStatistics {
+    public static final int DEFAULT_MAX_DIGESTS = 10000;
+
+    private static final Logger logger = LogManager.getLogger(DigestStatistics.class);
+
+    private ConcurrentMap<Long, Digest> digests;
+    private int maxDigests;
+    // Number of digests kept or about to be added
+    private AtomicInteger reserved;
+    private AtomicLong dropped;
+
+    /**
+     * Statistics of the statements with the same digest.
+     */
+    public static class Digest {
+        // Latencies are kept in buckets with 8 sub buckets for each power of 2, which is within 12.5% of the latency
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << Digest.SUB_BUCKET_BITS;
+        private static final int BUCKETS = (64 - Digest.SUB_BUCKET_BITS) * Digest.SUB_BUCKETS;
+
+        private final long digest;
+        private final String text;
+        private final AtomicLong count;
+        private final AtomicLong totalTime;
+        private final AtomicLong minTime;
+        private final AtomicLong maxTime;
+        private final AtomicLong rowsReturned;
+        private final AtomicLong rowsAffected;
+        private final AtomicLong errors;
+        private final AtomicLongArray latencies;
+
+        private Digest(long digest, String text) {
+            this.digest = digest;
+            this.text = text;
+            this.count = new AtomicLong();
+            this.totalTime = new AtomicLong();
+            this.minTime = new AtomicLong(Long.MAX_VALUE);
+            this.maxTime = new AtomicLong();
+            this.rowsReturned = new AtomicLong();
+            this.rowsAffected = new AtomicLong();
+            this.errors = new AtomicLong();
+            this.latencies = new AtomicLongArray(Digest.BUCKETS);
+        }
+
+        /**
+         * Record an execution of a statement with this digest.
+         *
+         * @param time the time of the execution in nanoseconds.
+         * @param rowsReturned the number of rows returned.
+         * @param rowsAffected the number of rows changed.
+         * @param error whether the execution failed.
+         */
+        private void record(long time, long rowsReturned, long rowsAffected, boolean error) {
+            time = Math.max(time, 0);
+            this.count.incrementAndGet();
+            this.totalTime.addAndGet(time);
+            this.rowsReturned.addAndGet(rowsReturned);
+            this.rowsAffected.addAndGet(rowsAffected);
+            this.latencies.incrementAndGet(Digest.bucket(time));
+
+            if(error) {
+                this.errors.incrementAndGet();
+            }
+
+            long min = this.minTime.get();
+
+            while(time < min && !this.minTime.compareAndSet(min, time)) {
+                min = this.minTime.get();
+            }
+
+            long max = this.maxTime.get();
+
+            while(time > max && !this.maxTime.compareAndSet(max, time)) {
+                max = this.maxTime.get();
+            }
+        }
+
+        /**
+         * Return the bucket of a latency. Latencies below the number of sub buckets have their own bucket.
+         *
+         * @param time the latency in nanoseconds.
+         *
+         * @return the index of the bucket.
+         */
+        private static int bucket(long time) {
+            if(time < Digest.SUB_BUCKETS) {
+                return (int) time;
+            }
+
+            int shift = 63 - Long.numberOfLeadingZeros(time) - Digest.SUB_BUCKET_BITS;
+
+            return (shift + 1) * Digest.SUB_BUCKETS + (int) ((time >>> shift) & (Digest.SUB_BUCKETS - 1));
+        }
+
+        /**
+         * Return the highest latency that falls in a bucket.
+         *
+         * @param bucket the index of the bucket.
+         *
+         * @return the latency in nanoseconds.
+         */
+        private static long highestTime(int bucket) {
+            if(bucket < Digest.SUB_BUCKETS) {
+                return bucket;
+            }
+
+            int shift = bucket / Digest.SUB_BUCKETS - 1;
+            long subBucket = Digest.SUB_BUCKETS + bucket % Digest.SUB_BUCKETS;
+
+            return ((subBucket + 1) << shift) - 1;
+        }
+
+        /**
+         * Return the latency below which a percentage of the executions fall. The latency is the highest one of its
+         * bucket, so it is never lower than the exact percentile.
+         *
+         * @param percentile the percentage from 0 to 100.
+         *
+         * @return the latency in nanoseconds or 0 if there are no executions.
+         */
+        public long getPercentileTime(double percentile) {
+            long total = 0;
+            long[] counts = new long[Digest.BUCKETS];
+
+            // The buckets are read once, since they might change while they are being read
+            for(int i = 0; i < counts.length; i++) {
+                counts[i] = this.latencies.get(i);
+                total += counts[i];
+            }
+
+            long rank = (long) Math.ceil(total * percentile / 100.0);
+            long seen = 0;
+
+            for(int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+
+                if(seen >= rank && seen > 0) {
+                    return Math.min(Digest.highestTime(i), this.maxTime.get());
+                }
+            }
+
+            return 0;
+        }
+
+        /**
+         * Return the 99th percentile latency.
+         *
+         * @return the latency in nanoseconds.
+         */
+        public long getP99Time() { return this.getPercentileTime(99); }
+
+        /**
+         * Return the digest.
+         *
+         * @return the digest.
+         */
+        public long getDigest() { return this.digest; }
+
+        /**
+         * Return the normalized text of the statements with this digest.
+         *
+         * @return the normalized text.
+         */
+        public String getText() { return this.text; }
+
+        /**
+         * Return the number of executions.
+         *
+         * @return the number of executions.
+         */
+        public long getCount() { return this.count.get(); }
+
+        /**
+         * Return the total time of the executions.
+         *
+         * @return the total time in nanoseconds.
+         */
+        public long getTotalTime() { return this.totalTime.get(); }
+
+        /**
+         * Return the shortest time of an execution.
+         *
+         * @return the shortest time in nanoseconds or 0 if there are no executions.
+         */
+        public long getMinTime() {
+            long min = this.minTime.get();
+
+            return min == Long.MAX_VALUE ? 0 : min;
+        }
+
+        /**
+         * Return the longest time of an execution.
+         *
+         * @return the longest time in nanoseconds.
+         */
+        public long getMaxTime() { return this.maxTime.get(); }
+
+        /**
+         * Return the average time of an execution.
+         *
+         * @return the average time in nanoseconds or 0 if there are no executions.
+         */
+        public double getAverageTime() {
+            long count = this.getCount();
+
+            return count == 0 ? 0 : (double) this.getTotalTime() / count;
+        }
+
+        /**
+         * Return the number of rows returned by all the executions.
+         *
+         * @return the number of rows returned.
+         */
+        public long getRowsReturned() { return this.rowsReturned.get(); }
+
+        /**
+         * Return the number of rows changed by all the executions.
+         *
+         * @return the number of rows affected.
+         */
+        public long getRowsAffected() { return this.rowsAffected.get(); }
+
+        /**
+         * Return the number of executions that failed.
+         *
+         * @return the number of errors.
+         */
+        public long getErrors() { return this.errors.get(); }
+
+        @Override
+        public String toString() {
+            return "Digest [digest=" + Long.toHexString(this.digest) + ", text=" + this.text + ", count="
+                    + this.getCount() + ", totalTime=" + this.getTotalTime() + ", p99Time=" + this.getP99Time()
+                    + ", errors=" + this.getErrors() + "]";
+        }
+    }
+
+    public DigestStatistics(int maxDigests) {
+        if(maxDigests < 1) {
+            IllegalArgumentException iae = new IllegalArgumentException();
+            DigestStatistics.logger.fatal(Messages.FATAL + "The maximum number of digests cannot be less than 1");
+            System.out.println(Messages.FATAL + Messages.FATAL_EXCEPTION_ACTION(iae.getClass().getSimpleName()) + " "
+                    + Messages.CHECK_LOG_FILES);
+            DigestStatistics.logger.warn(Messages.WARNING + "Throwing a " + iae.getClass().getSimpleName()
+                    + " to the calling class");
+            throw iae;
+        }
+
+        this.digests = new ConcurrentHashMap<Long, Digest>();
+        this.maxDigests = maxDigests;
+        this.reserved = new AtomicInteger();
+        this.dropped = new AtomicLong();
+        DigestStatistics.logger.info("Created a DigestStatistics that keeps up to " + maxDigests + " digests");
+    }
+
+    public DigestStatistics() {
+        this(DigestStatistics.DEFAULT_MAX_DIGESTS);
+    }
+
+    /**
+     * Record an execution of a statement.
+     *
+     * @param fingerprint the fingerprint of the command of the statement.
+     * @param time the time of the execution in nanoseconds.
+     * @param rowsReturned the number of rows returned.
+     * @param rowsAffected the number of rows changed.
+     * @param error whether the execution failed.
+     */
+    public void record(StatementFingerprint fingerprint, long time, long rowsReturned, long rowsAffected,
+                       boolean error) {
+        Long key = fingerprint.getDigest();
+        Digest digest = this.digests.get(key);
+
+        if(digest == null) {
+            if(this.reserved.incrementAndGet() > this.maxDigests) {
+                this.reserved.decrementAndGet();
+                this.dropped.incrementAndGet();
+                return;
+            }
+
+            digest = new Digest(key, fingerprint.getNormalizedText());
+            Digest previous = this.digests.putIfAbsent(key, digest);
+
+            if(previous != null) {
+                // Another thread added the digest first, so the slot is not used
+                this.reserved.decrementAndGet();
+                digest = previous;
+            }
+        }
+
+        digest.record(time, rowsReturned, rowsAffected, error);
+    }
+
+    /**
+     * Return the statistics of a digest.
+     *
+     * @param digest the digest.
+     *
+     * @return the statistics or null if no statement with the digest was recorded.
+     */
+    public Digest get(long digest) { return this.digests.get(digest); }
+
+    /**
+     * Return the digests with the highest total time, from the highest to the lowest.
+     *
+     * @param limit the maximum number of digests.
+     *
+     * @return the digests.
+     */
+    public List<Digest> getTopByTotalTime(int limit) {
+        List<Digest> digests = new ArrayList<Digest>(this.digests.values());
+
+        Collections.sort(digests, new Comparator<Digest>() {
+            @Override
+            public int compare(Digest first, Digest second) {
+                return Long.compare(second.getTotalTime(), first.getTotalTime());
+            }
+        });
+
+        return digests.size() > limit ? digests.subList(0, limit) : digests;
+    }
+
+    /**
+     * Return the number of statements that were not recorded because there were too many digests.
+     *
+     * @return the number of dropped statements.
+     */
+    public long getDropped() { return this.dropped.get(); }
+
+    /**
+     * Return the number of digests.
+     *
+     * @return the number of digests.
+     */
+    public int size() { return this.digests.size(); }
+
+    /**
+     * Discard the statistics of every digest. Statements recorded while the statistics are cleared might be kept or
+     * discarded.
+     */
+    public void clear() {
+        for(Long key : this.digests.keySet()) {
+            if(this.digests.remove(key) != null) {
+                this.reserved.decrementAndGet();
+            }
+        }
+
+        this.dropped.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "DigestStatistics [digests=" + this.digests.size() + ", dropped=" + this.dropped.get() + "]";
+    }
+
+}
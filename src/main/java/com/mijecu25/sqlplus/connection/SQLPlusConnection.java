@@ -15,7 +15,7 @@ import com.mijecu25.sqlplus.compiler.core.statement.Statement;
  * SQLPlusConnection abstrac class. Default database is MySQL on port 3306.
  *
  * @author Miguel Velez - miguelvelezmj25
- * @version 0.1.0.16
+ * @version 0.1.0.19
  */
 public abstract class SQLPlusConnection {
     public static final String MYSQL = "mysql";
@@ -29,6 +29,7 @@ public abstract class SQLPlusConnection {
     private static final String DEFAULT_HOST = SQLPlusConnection.LOCALHOST;
     private static final String USE_SSL = "useSSL";
     private static final String USE_SSL_DEFAULT = "false";
+    private static final int TOP_DIGESTS = 10;
 
     private static final Logger logger = LogManager.getLogger(SQLPlusConnection.class);
 
@@ -41,6 +42,7 @@ public abstract class SQLPlusConnection {
 
     private Connection connection;
     private Properties connectionProperties;
+    private DigestStatistics digestStatistics;
 
     /**
      * Constructor that instantiates several variables use to create a connection to a database.
@@ -62,6 +64,7 @@ public abstract class SQLPlusConnection {
         this.currentDatabase = this.database.toUpperCase();
 
         this.connectionProperties = new Properties();
+        this.digestStatistics = new DigestStatistics();
     }
 
     /**
@@ -105,25 +108,36 @@ public abstract class SQLPlusConnection {
     }
 
     /**
-     * Execute a sql query
+     * Execute a sql query. The execution is recorded in the statistics of the digest of the statement with the time
+     * that the statement took in the driver, so printing the result is not part of its latency.
      *
      * @param statement the statement that will be executed.
      */
     public void execute(Statement statement) {
         SQLPlusConnection.logger.info("Query to be executed: \"" + statement + "\"");
+        boolean error = true;
 
         try {
             statement.execute(this.connection);
+            error = false;
         } catch (SQLException sqle) {
             SQLPlusConnection.logger.warn(Messages.WARNING + "There was an exception when executing the last command."
                     + " " + Messages.CHECK_LOG_FILES);
         }
+        finally {
+            this.digestStatistics.record(statement.getFingerprint(), statement.getExecutionTime(),
+                    statement.getRowsReturned(), statement.getRowsAffected(), error);
+        }
     }
 
     /**
      * Disconnect from the database
      */
     public void disconnect() {
+        for(DigestStatistics.Digest digest : this.digestStatistics.getTopByTotalTime(SQLPlusConnection.TOP_DIGESTS)) {
+            SQLPlusConnection.logger.info("Top statement by total time: " + digest);
+        }
+
         if(this.connection != null) {
             try {
                 SQLPlusConnection.logger.info("Attempting to disconnect from the database");
@@ -173,6 +187,20 @@ public abstract class SQLPlusConnection {
      */
     public String getCurrentDatabase() { return this.currentDatabase; }
 
+    /**
+     * Return the JDBC connection to the server.
+     *
+     * @return the connection or null if it has not connected.
+     */
+    public Connection getJDBCConnection() { return this.connection; }
+
+    /**
+     * Return the statistics of the statements executed with this connection, grouped by digest.
+     *
+     * @return the digest statistics.
+     */
+    public DigestStatistics getDigestStatistics() { return this.digestStatistics; }
+
     @Override
     public String toString() {
         return "SQLPlusConnection [username=" + this.username + ", host=" + this.host + ", database="
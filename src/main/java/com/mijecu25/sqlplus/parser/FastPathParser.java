@@ -0,0 +1,823 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.sqlplus.compiler.core.expression.ColumnarValues;
+import com.mijecu25.sqlplus.compiler.core.expression.Expression;
+import com.mijecu25.sqlplus.compiler.core.expression.ExpressionFactory;
+import com.mijecu25.sqlplus.compiler.core.expression.ExpressionIs;
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementUseDatabase;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSingleTableUpdateStatement;
+
+/**
+ * Hand written recursive descent parser for the most common commands: simple SELECT, multi row INSERT, single table
+ * UPDATE and USE. The tokens are scanned directly from the command, one at a time, and text is only copied for the
+ * values that are kept in the statement.
+ *
+ * The parser accepts a subset of the language of the ANTLR grammar and builds the same statements that the grammar
+ * actions build. Anything outside of that subset, including subqueries, new lines and keywords with mixed case, is
+ * rejected so that the command can be parsed by ANTLR instead.
+ *
+ * This class is not thread safe.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.4
+ */
+public class FastPathParser {
+
+    private static final int END = 0;
+    private static final int ERROR = 1;
+    private static final int ID = 2;
+    private static final int NUMBER = 3;
+    private static final int STRING = 4;
+    private static final int KEYWORD = 5;
+    private static final int ASTERISK = 6;
+    private static final int COMMA = 7;
+    private static final int DOT = 8;
+    private static final int LEFT_PARENTHESIS = 9;
+    private static final int RIGHT_PARENTHESIS = 10;
+    private static final int SEMICOLON = 11;
+    private static final int PLUS = 12;
+    private static final int MINUS = 13;
+    private static final int RELATIONAL_OPERATOR = 14;
+    private static final int AND = 15;
+    private static final int OR = 16;
+    private static final int XOR = 17;
+    private static final int NOT = 18;
+    private static final int AS = 19;
+    private static final int DEFAULT = 20;
+    private static final int FROM = 21;
+    private static final int INSERT = 22;
+    private static final int INTO = 23;
+    private static final int IS = 24;
+    private static final int NULL = 25;
+    private static final int BOOLEAN = 26;
+    private static final int SELECT = 27;
+    private static final int SET = 28;
+    private static final int UPDATE = 29;
+    private static final int USE = 30;
+    private static final int VALUES = 31;
+    private static final int WHERE = 32;
+
+    // The keywords of the lexer. Only the exact spellings are keywords, any other case is an identifier
+    private static final String[] KEYWORDS = { "and", "AND", "not", "NOT", "or", "OR", "xor", "XOR", "alert", "ALERT",
+            "all", "ALL", "any", "after", "AFTER", "ANY", "as", "AS", "before", "BEFORE", "between", "BETWEEN",
+            "databases", "DATABASES", "default", "DEFAULT", "delete", "DELETE", "exists", "EXISTS", "false", "FALSE",
+            "from", "FROM", "if", "IF", "in", "IN", "into", "INTO", "insert", "INSERT", "is", "IS", "like", "LIKE",
+            "null", "NULL", "select", "SELECT", "set", "SET", "show", "SHOW", "tables", "TABLES", "true", "TRUE",
+            "update", "UPDATE", "use", "USE", "values", "VALUES", "where", "WHERE" };
+    private static final int[] KEYWORD_TYPES = { FastPathParser.AND, FastPathParser.AND, FastPathParser.NOT,
+            FastPathParser.NOT, FastPathParser.OR, FastPathParser.OR, FastPathParser.XOR, FastPathParser.XOR,
+            FastPathParser.KEYWORD, FastPathParser.KEYWORD, FastPathParser.KEYWORD, FastPathParser.KEYWORD,
+            FastPathParser.KEYWORD, FastPathParser.KEYWORD, FastPathParser.KEYWORD, FastPathParser.KEYWORD,
+            FastPathParser.AS, FastPathParser.AS, FastPathParser.KEYWORD, FastPathParser.KEYWORD,
+            FastPathParser.KEYWORD, FastPathParser.KEYWORD, FastPathParser.KEYWORD, FastPathParser.KEYWORD,
+            FastPathParser.DEFAULT, FastPathParser.DEFAULT, FastPathParser.KEYWORD, FastPathParser.KEYWORD,
+            FastPathParser.KEYWORD, FastPathParser.KEYWORD, FastPathParser.BOOLEAN, FastPathParser.BOOLEAN,
+            FastPathParser.FROM, FastPathParser.FROM, FastPathParser.KEYWORD, FastPathParser.KEYWORD,
+            FastPathParser.KEYWORD, FastPathParser.KEYWORD, FastPathParser.INTO, FastPathParser.INTO,
+            FastPathParser.INSERT, FastPathParser.INSERT, FastPathParser.IS, FastPathParser.IS, FastPathParser.KEYWORD,
+            FastPathParser.KEYWORD, FastPathParser.NULL, FastPathParser.NULL, FastPathParser.SELECT,
+            FastPathParser.SELECT, FastPathParser.SET, FastPathParser.SET, FastPathParser.KEYWORD,
+            FastPathParser.KEYWORD, FastPathParser.KEYWORD, FastPathParser.KEYWORD, FastPathParser.BOOLEAN,
+            FastPathParser.BOOLEAN, FastPathParser.UPDATE, FastPathParser.UPDATE, FastPathParser.USE,
+            FastPathParser.USE, FastPathParser.VALUES, FastPathParser.VALUES, FastPathParser.WHERE,
+            FastPathParser.WHERE };
+
+    private static final Logger logger = LogManager.getLogger(FastPathParser.class);
+
+    private String query;
+    private int position;
+    private int type;
+    private int start;
+    private int end;
+    private int lastEnd;
+
+    public FastPathParser() {
+        FastPathParser.logger.info("Created a FastPathParser");
+    }
+
+    /**
+     * Parse a command into a statement.
+     *
+     * @param query the command to parse.
+     *
+     * @return the statement or null if the command is not one of the commands that this parser handles.
+     */
+    public Statement parse(String query) {
+        this.query = query;
+        this.position = 0;
+        this.next();
+
+        Statement statement;
+
+        switch(this.type) {
+            case FastPathParser.SELECT:
+                statement = this.select();
+                break;
+            case FastPathParser.INSERT:
+                statement = this.insert();
+                break;
+            case FastPathParser.UPDATE:
+                statement = this.update();
+                break;
+            case FastPathParser.USE:
+                statement = this.use();
+                break;
+            default:
+                statement = null;
+        }
+
+        // Only a semicolon at the end of the command is handled here
+        if(statement == null || this.type != FastPathParser.SEMICOLON) {
+            return null;
+        }
+
+        this.next();
+
+        if(this.type != FastPathParser.END) {
+            return null;
+        }
+
+        return statement;
+    }
+
+    /**
+     * use_database: USE schema_name
+     *
+     * @return the statement or null if the command is not handled.
+     */
+    private Statement use() {
+        this.next();
+
+        if(this.type != FastPathParser.ID) {
+            return null;
+        }
+
+        String database = this.text();
+        this.next();
+
+        return new StatementUseDatabase(database);
+    }
+
+    /**
+     * select_expression: SELECT select_list FROM table_references (where_clause)?
+     *
+     * @return the statement or null if the command is not handled.
+     */
+    private Statement select() {
+        List<String> selectList = new ArrayList<String>();
+        this.next();
+
+        if(this.type == FastPathParser.ASTERISK) {
+            selectList.add(this.text());
+            this.next();
+        }
+        else {
+            do {
+                if(selectList.size() > 0) {
+                    this.next();
+                }
+
+                int columnStart = this.start;
+
+                if(!this.columnSpec()) {
+                    return null;
+                }
+
+                int columnEnd = this.lastEnd;
+
+                // alias: (AS)? ID
+                if(this.type == FastPathParser.AS) {
+                    this.next();
+
+                    if(this.type != FastPathParser.ID) {
+                        return null;
+                    }
+                }
+
+                if(this.type == FastPathParser.ID) {
+                    columnEnd = this.end;
+                    this.next();
+                }
+
+                selectList.add(this.query.substring(columnStart, columnEnd));
+            } while(this.type == FastPathParser.COMMA);
+        }
+
+        if(this.type != FastPathParser.FROM) {
+            return null;
+        }
+
+        this.next();
+
+        List<String> tableReferences = new ArrayList<String>();
+
+        do {
+            if(tableReferences.size() > 0) {
+                this.next();
+            }
+
+            String table = this.tableSpec();
+
+            if(table == null) {
+                return null;
+            }
+
+            tableReferences.add(table);
+        } while(this.type == FastPathParser.COMMA);
+
+        Expression whereClause = null;
+
+        if(this.type == FastPathParser.WHERE) {
+            this.next();
+            whereClause = this.expression();
+
+            if(whereClause == null) {
+                return null;
+            }
+        }
+
+        return new StatementSelectExpression(selectList, tableReferences, whereClause);
+    }
+
+    /**
+     * insert_statement1: INSERT (INTO)? table_spec (column_list)? VALUES column_value_list (COMMA column_value_list)*
+     *
+     * @return the statement or null if the command is not handled.
+     */
+    private Statement insert() {
+        this.next();
+
+        if(this.type == FastPathParser.INTO) {
+            this.next();
+        }
+
+        String table = this.tableSpec();
+
+        if(table == null) {
+            return null;
+        }
+
+        List<String> columnList = null;
+
+        if(this.type == FastPathParser.LEFT_PARENTHESIS) {
+            columnList = new ArrayList<String>();
+
+            do {
+                this.next();
+                int columnStart = this.start;
+
+                if(!this.columnSpec()) {
+                    return null;
+                }
+
+                columnList.add(this.query.substring(columnStart, this.lastEnd));
+            } while(this.type == FastPathParser.COMMA);
+
+            if(this.type != FastPathParser.RIGHT_PARENTHESIS) {
+                return null;
+            }
+
+            this.next();
+        }
+
+        if(this.type != FastPathParser.VALUES) {
+            return null;
+        }
+
+        ColumnarValues values = new ColumnarValues();
+
+        do {
+            this.next();
+
+            if(this.type != FastPathParser.LEFT_PARENTHESIS) {
+                return null;
+            }
+
+            do {
+                this.next();
+                int valueStart = this.start;
+
+                if(!this.columnValue() || !values.add(this.query.substring(valueStart, this.lastEnd))) {
+                    return null;
+                }
+            } while(this.type == FastPathParser.COMMA);
+
+            if(this.type != FastPathParser.RIGHT_PARENTHESIS || !values.endRow()) {
+                return null;
+            }
+
+            this.next();
+        } while(this.type == FastPathParser.COMMA);
+
+        return new StatementInsertStatement1(table, columnList, values);
+    }
+
+    /**
+     * single_table_update_statement: UPDATE table_reference SET set_column_clause (COMMA set_column_clause)*
+     * (where_clause)?
+     *
+     * @return the statement or null if the command is not handled.
+     */
+    private Statement update() {
+        this.next();
+        String table = this.tableSpec();
+
+        if(table == null || this.type != FastPathParser.SET) {
+            return null;
+        }
+
+        Map<String, Expression> columnValues = new LinkedHashMap<String, Expression>();
+
+        do {
+            this.next();
+            int columnStart = this.start;
+
+            if(!this.columnSpec()) {
+                return null;
+            }
+
+            String column = this.query.substring(columnStart, this.lastEnd);
+
+            if(this.type != FastPathParser.RELATIONAL_OPERATOR || this.end - this.start != 1
+                    || this.query.charAt(this.start) != '=') {
+                return null;
+            }
+
+            this.next();
+            Expression value;
+
+            if(this.type == FastPathParser.DEFAULT) {
+                value = ExpressionFactory.literal(this.text());
+                this.next();
+            }
+            else {
+                value = this.expression();
+            }
+
+            if(value == null) {
+                return null;
+            }
+
+            columnValues.put(column, value);
+        } while(this.type == FastPathParser.COMMA);
+
+        Expression whereClause = null;
+
+        if(this.type == FastPathParser.WHERE) {
+            this.next();
+            whereClause = this.expression();
+
+            if(whereClause == null) {
+                return null;
+            }
+        }
+
+        return new StatementSingleTableUpdateStatement(table, columnValues, whereClause);
+    }
+
+    /**
+     * expression: expr_factor1 (OR expr_factor1)*
+     *
+     * @return the expression or null if it is not handled.
+     */
+    private Expression expression() {
+        Expression expression = this.exprFactor1();
+
+        while(expression != null && this.type == FastPathParser.OR) {
+            String operator = this.text();
+            this.next();
+            Expression right = this.exprFactor1();
+            expression = right == null ? null : ExpressionFactory.binary(operator, expression, right);
+        }
+
+        return expression;
+    }
+
+    /**
+     * expr_factor1: expr_factor2 (XOR expr_factor2)*
+     *
+     * @return the expression or null if it is not handled.
+     */
+    private Expression exprFactor1() {
+        Expression expression = this.exprFactor2();
+
+        while(expression != null && this.type == FastPathParser.XOR) {
+            String operator = this.text();
+            this.next();
+            Expression right = this.exprFactor2();
+            expression = right == null ? null : ExpressionFactory.binary(operator, expression, right);
+        }
+
+        return expression;
+    }
+
+    /**
+     * expr_factor2: expr_factor3 (AND expr_factor3)*
+     *
+     * @return the expression or null if it is not handled.
+     */
+    private Expression exprFactor2() {
+        Expression expression = this.exprFactor3();
+
+        while(expression != null && this.type == FastPathParser.AND) {
+            String operator = this.text();
+            this.next();
+            Expression right = this.exprFactor3();
+            expression = right == null ? null : ExpressionFactory.binary(operator, expression, right);
+        }
+
+        return expression;
+    }
+
+    /**
+     * expr_factor3: (NOT)? expr_factor4
+     *
+     * @return the expression or null if it is not handled.
+     */
+    private Expression exprFactor3() {
+        String operator = null;
+
+        if(this.type == FastPathParser.NOT) {
+            operator = this.text();
+            this.next();
+        }
+
+        Expression expression = this.exprFactor4();
+
+        return expression == null ? null : ExpressionFactory.binary(operator, null, expression);
+    }
+
+    /**
+     * expr_factor4: bool_primary (IS (NOT)? (boolean_literal | NULL))?
+     *
+     * @return the expression or null if it is not handled.
+     */
+    private Expression exprFactor4() {
+        Expression expression = this.boolPrimary();
+
+        if(expression != null && this.type == FastPathParser.IS) {
+            boolean negated = false;
+            this.next();
+
+            if(this.type == FastPathParser.NOT) {
+                negated = true;
+                this.next();
+            }
+
+            if(this.type != FastPathParser.BOOLEAN && this.type != FastPathParser.NULL) {
+                return null;
+            }
+
+            expression = ExpressionFactory.is(expression, ExpressionIs.test(this.text()), negated);
+            this.next();
+        }
+
+        return expression;
+    }
+
+    /**
+     * bool_primary: predicate relational_op predicate | predicate
+     *
+     * @return the expression or null if it is not handled.
+     */
+    private Expression boolPrimary() {
+        Expression left = this.predicate();
+
+        if(left == null || this.type != FastPathParser.RELATIONAL_OPERATOR) {
+            return left;
+        }
+
+        String operator = this.text();
+        this.next();
+        Expression right = this.predicate();
+
+        return right == null ? null : ExpressionFactory.binary(operator, left, right);
+    }
+
+    /**
+     * predicate: literal_value | column_spec
+     *
+     * @return the expression or null if it is not handled.
+     */
+    private Expression predicate() {
+        int predicateStart = this.start;
+
+        if(this.type == FastPathParser.ID) {
+            return this.columnSpec() ? ExpressionFactory.column(this.query.substring(predicateStart, this.lastEnd))
+                    : null;
+        }
+
+        return this.literalValue() ? ExpressionFactory.literal(this.query.substring(predicateStart, this.lastEnd))
+                : null;
+    }
+
+    /**
+     * column_value: literal_value | column_spec
+     *
+     * @return true if a value was matched.
+     */
+    private boolean columnValue() {
+        if(this.type == FastPathParser.ID) {
+            return this.columnSpec();
+        }
+
+        return this.literalValue();
+    }
+
+    /**
+     * literal_value: TEXT_STRING | (PLUS | MINUS)? NUMBER | TRUE | FALSE | NULL
+     *
+     * @return true if a literal was matched.
+     */
+    private boolean literalValue() {
+        if(this.type == FastPathParser.PLUS || this.type == FastPathParser.MINUS) {
+            this.next();
+
+            if(this.type != FastPathParser.NUMBER) {
+                return false;
+            }
+        }
+        else if(this.type != FastPathParser.NUMBER && this.type != FastPathParser.STRING
+                && this.type != FastPathParser.BOOLEAN && this.type != FastPathParser.NULL) {
+            return false;
+        }
+
+        this.next();
+
+        return true;
+    }
+
+    /**
+     * column_spec: ((schema_name DOT)? table_name DOT)? column_name
+     *
+     * @return true if a column was matched.
+     */
+    private boolean columnSpec() {
+        return this.qualifiedName(3);
+    }
+
+    /**
+     * table_spec: (schema_name DOT)? table_name
+     *
+     * @return the text of the table or null if no table was matched.
+     */
+    private String tableSpec() {
+        int tableStart = this.start;
+
+        return this.qualifiedName(2) ? this.query.substring(tableStart, this.lastEnd) : null;
+    }
+
+    /**
+     * Match identifiers separated by dots.
+     *
+     * @param parts the maximum number of identifiers.
+     *
+     * @return true if a name was matched.
+     */
+    private boolean qualifiedName(int parts) {
+        for(int part = 1; ; part++) {
+            if(this.type != FastPathParser.ID) {
+                return false;
+            }
+
+            this.next();
+
+            if(this.type != FastPathParser.DOT) {
+                return true;
+            }
+
+            if(part == parts) {
+                return false;
+            }
+
+            this.next();
+        }
+    }
+
+    /**
+     * Return the text of the current token.
+     *
+     * @return the text of the current token.
+     */
+    private String text() { return this.query.substring(this.start, this.end); }
+
+    /**
+     * Scan the next token. Spaces and tabs are skipped like the hidden tokens of the lexer.
+     */
+    private void next() {
+        this.lastEnd = this.end;
+
+        while(this.position < this.query.length()
+                && (this.query.charAt(this.position) == ' ' || this.query.charAt(this.position) == '\t')) {
+            this.position++;
+        }
+
+        this.start = this.position;
+
+        if(this.position == this.query.length()) {
+            this.type = FastPathParser.END;
+            this.end = this.position;
+
+            return;
+        }
+
+        char character = this.query.charAt(this.position);
+        char following = this.position + 1 < this.query.length() ? this.query.charAt(this.position + 1) : 0;
+        this.position++;
+
+        if(FastPathParser.isIdentifierStart(character)) {
+            this.identifier();
+        }
+        else if(character >= '0' && character <= '9'
+                || character == '.' && following >= '0' && following <= '9') {
+            this.number();
+        }
+        else if(character == '\'' || character == '"') {
+            int close = this.query.indexOf(character, this.position);
+            this.type = close < 0 ? FastPathParser.ERROR : FastPathParser.STRING;
+            this.position = close < 0 ? this.query.length() : close + 1;
+        }
+        else {
+            this.operator(character, following);
+        }
+
+        this.end = this.position;
+
+        if(this.type != FastPathParser.END && this.type != FastPathParser.ERROR && this.position < this.query.length()) {
+            char next = this.query.charAt(this.position);
+
+            // Tokens that are glued together, such as 1a or 'a'b, are left to the lexer
+            if((this.type == FastPathParser.NUMBER || this.type == FastPathParser.STRING)
+                    && (FastPathParser.isIdentifierPart(next) || next == '.' || next == '\'' || next == '"')) {
+                this.type = FastPathParser.ERROR;
+            }
+        }
+    }
+
+    /**
+     * Scan an identifier or a keyword.
+     */
+    private void identifier() {
+        while(this.position < this.query.length() && FastPathParser.isIdentifierPart(this.query.charAt(this.position))) {
+            this.position++;
+        }
+
+        int length = this.position - this.start;
+        this.type = FastPathParser.ID;
+
+        if(length == 1 && this.query.charAt(this.start) == '_') {
+            // A single underscore is its own token in the lexer
+            this.type = FastPathParser.ERROR;
+
+            return;
+        }
+
+        for(int i = 0; i < FastPathParser.KEYWORDS.length; i++) {
+            String keyword = FastPathParser.KEYWORDS[i];
+
+            if(keyword.length() == length && this.query.regionMatches(this.start, keyword, 0, length)) {
+                this.type = FastPathParser.KEYWORD_TYPES[i];
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * Scan an integer or real number.
+     */
+    private void number() {
+        this.type = FastPathParser.NUMBER;
+        this.digits();
+
+        // A number that starts with a point already has its point
+        if(this.query.charAt(this.start) != '.' && this.position < this.query.length()
+                && this.query.charAt(this.position) == '.') {
+            this.position++;
+            this.digits();
+        }
+
+        if(this.position < this.query.length() && (this.query.charAt(this.position) == 'e'
+                || this.query.charAt(this.position) == 'E')) {
+            int exponent = this.position + 1;
+
+            if(exponent < this.query.length() && (this.query.charAt(exponent) == '+'
+                    || this.query.charAt(exponent) == '-')) {
+                exponent++;
+            }
+
+            if(exponent < this.query.length() && this.query.charAt(exponent) >= '0'
+                    && this.query.charAt(exponent) <= '9') {
+                this.position = exponent;
+                this.digits();
+            }
+        }
+    }
+
+    /**
+     * Skip the digits at the current position.
+     */
+    private void digits() {
+        while(this.position < this.query.length() && this.query.charAt(this.position) >= '0'
+                && this.query.charAt(this.position) <= '9') {
+            this.position++;
+        }
+    }
+
+    /**
+     * Scan a punctuation or operator token.
+     *
+     * @param character the first character of the token.
+     * @param following the character after it or 0 if there is none.
+     */
+    private void operator(char character, char following) {
+        switch(character) {
+            case '*':
+                this.type = FastPathParser.ASTERISK;
+                break;
+            case ',':
+                this.type = FastPathParser.COMMA;
+                break;
+            case '.':
+                this.type = FastPathParser.DOT;
+                break;
+            case '(':
+                this.type = FastPathParser.LEFT_PARENTHESIS;
+                break;
+            case ')':
+                this.type = FastPathParser.RIGHT_PARENTHESIS;
+                break;
+            case ';':
+                this.type = FastPathParser.SEMICOLON;
+                break;
+            case '+':
+                this.type = FastPathParser.PLUS;
+                break;
+            case '-':
+                this.type = FastPathParser.MINUS;
+                break;
+            case '=':
+                this.type = FastPathParser.RELATIONAL_OPERATOR;
+                break;
+            case '<':
+                this.type = FastPathParser.RELATIONAL_OPERATOR;
+
+                if(following == '=' || following == '>') {
+                    this.position++;
+                }
+                break;
+            case '>':
+                this.type = FastPathParser.RELATIONAL_OPERATOR;
+
+                if(following == '=') {
+                    this.position++;
+                }
+                break;
+            case '!':
+                if(following == '=') {
+                    this.type = FastPathParser.RELATIONAL_OPERATOR;
+                    this.position++;
+                }
+                else {
+                    this.type = FastPathParser.NOT;
+                }
+                break;
+            case '~':
+            case '^':
+                this.type = following == '=' ? FastPathParser.RELATIONAL_OPERATOR : FastPathParser.ERROR;
+                this.position++;
+                break;
+            case '&':
+                this.type = following == '&' ? FastPathParser.AND : FastPathParser.ERROR;
+                this.position++;
+                break;
+            case '|':
+                this.type = following == '|' ? FastPathParser.OR : FastPathParser.ERROR;
+                this.position++;
+                break;
+            default:
+                this.type = FastPathParser.ERROR;
+        }
+    }
+
+    private static boolean isIdentifierStart(char character) {
+        return character >= 'a' && character <= 'z' || character >= 'A' && character <= 'Z' || character == '_'
+                || character == '$';
+    }
+
+    private static boolean isIdentifierPart(char character) {
+        return FastPathParser.isIdentifierStart(character) || character >= '0' && character <= '9';
+    }
+
+}
@@ -0,0 +1,220 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.messages.Messages;
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+
+/**
+ * Parse the commands of a SQL script on multiple cores. The script is split on the calling thread and each command is
+ * parsed on a work stealing pool where every worker has its own {@link SessionParser}. The statements are returned in
+ * the same order as the commands in the script. Only a bounded window of commands is read ahead, so the script is
+ * never held in memory. The workers can share a parse cache, and the time spent parsing each statement and the
+ * statistics of every worker are kept for reports such as the one of the dry run.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class ParallelScriptParser implements Closeable {
+    private static final int COMMANDS_PER_WORKER = 64;
+
+    private static final Logger logger = LogManager.getLogger(ParallelScriptParser.class);
+
+    private ScriptReader scriptReader;
+    private ForkJoinPool pool;
+    private ThreadLocal<SessionParser> parsers;
+    private List<SessionParser> workerParsers;
+    private Queue<Future<ParsedStatement>> pending;
+    private int window;
+    private boolean finished;
+    private long parseTime;
+
+    /**
+     * Statement parsed by a worker, or the runtime exception thrown while parsing it, and the time that it took.
+     */
+    private static class ParsedStatement {
+        private final Statement statement;
+        private final RuntimeException exception;
+        private final long parseTime;
+
+        private ParsedStatement(Statement statement, RuntimeException exception, long parseTime) {
+            this.statement = statement;
+            this.exception = exception;
+            this.parseTime = parseTime;
+        }
+    }
+
+    /**
+     * Create a parser whose workers share a parse cache. A null cache gives each worker a cache of its own.
+     *
+     * @param scriptReader the reader of the commands in the script.
+     * @param workers the number of workers.
+     * @param parseCache the cache shared by the workers or null.
+     */
+    public ParallelScriptParser(ScriptReader scriptReader, int workers, final ParseCache parseCache) {
+        if(workers < 1) {
+            IllegalArgumentException iae = new IllegalArgumentException();
+            ParallelScriptParser.logger.fatal(Messages.FATAL + "The number of workers cannot be less than 1");
+            System.out.println(Messages.FATAL + Messages.FATAL_EXCEPTION_ACTION(iae.getClass().getSimpleName()) + " "
+                    + Messages.CHECK_LOG_FILES);
+            ParallelScriptParser.logger.warn(Messages.WARNING + "Throwing a " + iae.getClass().getSimpleName()
+                    + " to the calling class");
+            throw iae;
+        }
+
+        this.scriptReader = scriptReader;
+        this.pool = new ForkJoinPool(workers);
+        this.workerParsers = Collections.synchronizedList(new ArrayList<SessionParser>());
+        this.parsers = new ThreadLocal<SessionParser>() {
+            @Override
+            protected SessionParser initialValue() {
+                SessionParser parser = parseCache == null ? new SessionParser() : new SessionParser(parseCache);
+                ParallelScriptParser.this.workerParsers.add(parser);
+
+                return parser;
+            }
+        };
+        this.window = workers * ParallelScriptParser.COMMANDS_PER_WORKER;
+        this.pending = new ArrayDeque<Future<ParsedStatement>>(this.window);
+        this.finished = false;
+        this.parseTime = 0;
+        ParallelScriptParser.logger.info("Created a ParallelScriptParser with " + workers + " workers");
+    }
+
+    public ParallelScriptParser(ScriptReader scriptReader, int workers) {
+        this(scriptReader, workers, null);
+    }
+
+    public ParallelScriptParser(Reader reader) {
+        this(new ScriptReader(reader), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Return the statement of the next command in the script. Commands are read ahead and parsed in parallel while
+     * the caller handles the previous statements.
+     *
+     * @return the statement of the next command or null if there are no more commands.
+     *
+     * @throws IOException if there is an I/O error while reading the script or the thread is interrupted.
+     */
+    public Statement nextStatement() throws IOException {
+        while(!this.finished && this.pending.size() < this.window) {
+            final String command = this.scriptReader.readCommand();
+
+            if(command == null) {
+                this.finished = true;
+                break;
+            }
+
+            this.pending.add(this.pool.submit(new Callable<ParsedStatement>() {
+                @Override
+                public ParsedStatement call() {
+                    long startTime = System.nanoTime();
+
+                    try {
+                        Statement statement = ParallelScriptParser.this.parsers.get().parseStatement(command);
+
+                        return new ParsedStatement(statement, null, System.nanoTime() - startTime);
+                    }
+                    catch (RuntimeException re) {
+                        // The exception is thrown to the caller when it takes this command
+                        return new ParsedStatement(null, re, System.nanoTime() - startTime);
+                    }
+                }
+            }));
+        }
+
+        Future<ParsedStatement> next = this.pending.poll();
+
+        if(next == null) {
+            return null;
+        }
+
+        try {
+            ParsedStatement parsed = next.get();
+            this.parseTime = parsed.parseTime;
+
+            if(parsed.exception != null) {
+                // Such as the UnsupportedOperationException of a statement that is recognized but not supported
+                ParallelScriptParser.logger.warn(Messages.WARNING + "Throwing a "
+                        + parsed.exception.getClass().getSimpleName() + " to the calling class");
+                throw parsed.exception;
+            }
+
+            return parsed.statement;
+        }
+        catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a statement to be parsed");
+        }
+        catch (ExecutionException ee) {
+            // Runtime exceptions are returned by the workers, so only errors are expected here
+            Throwable cause = ee.getCause();
+            ParallelScriptParser.logger.warn(Messages.WARNING + "Error when parsing a command in parallel", cause);
+
+            if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            ParallelScriptParser.logger.warn(Messages.WARNING + "Throwing a " + IllegalStateException.class.getSimpleName()
+                    + " to the calling class");
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Return the time that a worker spent parsing the last statement returned by {@link #nextStatement()}.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getParseTime() { return this.parseTime; }
+
+    /**
+     * Return the number of commands and time spent in each stage of parsing by all of the workers. The statistics
+     * should be read after the script has been parsed, since the workers do not synchronize their statistics.
+     *
+     * @return the statistics of the workers.
+     */
+    public ParseStatistics getStatistics() {
+        ParseStatistics statistics = new ParseStatistics();
+
+        synchronized(this.workerParsers) {
+            for(SessionParser parser : this.workerParsers) {
+                statistics.add(parser.getStatistics());
+            }
+        }
+
+        return statistics;
+    }
+
+    @Override
+    public void close() throws IOException {
+        ParallelScriptParser.logger.info("Shutting down the workers of the ParallelScriptParser");
+        this.pool.shutdownNow();
+        this.scriptReader.close();
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelScriptParser [pending=" + this.pending.size() + ", pool=" + this.pool + "]";
+    }
+}
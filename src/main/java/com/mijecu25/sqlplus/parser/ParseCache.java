@@ -0,0 +1,142 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.messages.Messages;
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+
+/**
+ * Least recently used cache of parsed statements keyed by the fingerprint of their command. A cached statement is a
+ * template: a hit binds the literals of the new command to a copy of the template without lexing or parsing.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class ParseCache {
+    private static final Logger logger = LogManager.getLogger(ParseCache.class);
+
+    private Map<String, Statement> templates;
+    private long hits;
+    private long misses;
+
+    public ParseCache(final int capacity) {
+        if(capacity < 1) {
+            IllegalArgumentException iae = new IllegalArgumentException();
+            ParseCache.logger.fatal(Messages.FATAL + "The capacity of the parse cache cannot be less than 1");
+            System.out.println(Messages.FATAL + Messages.FATAL_EXCEPTION_ACTION(iae.getClass().getSimpleName()) + " "
+                    + Messages.CHECK_LOG_FILES);
+            ParseCache.logger.warn(Messages.WARNING + "Throwing a " + iae.getClass().getSimpleName()
+                    + " to the calling class");
+            throw iae;
+        }
+
+        // Access order makes the map evict the least recently used template first
+        this.templates = new LinkedHashMap<String, Statement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Statement> eldest) {
+                return this.size() > capacity;
+            }
+        };
+        this.hits = 0;
+        this.misses = 0;
+        ParseCache.logger.info("Created a ParseCache with capacity " + capacity);
+    }
+
+    /**
+     * Return a statement for the command with the provided fingerprint by binding its literals to the cached template.
+     *
+     * @param fingerprint the fingerprint of the command.
+     *
+     * @return a new statement with the literals of the command or null if there is no template for the fingerprint.
+     */
+    public synchronized Statement get(StatementFingerprint fingerprint) {
+        Statement template = null;
+
+        if(fingerprint.isCacheable()) {
+            template = this.templates.get(fingerprint.getFingerprint());
+        }
+
+        if(template == null) {
+            this.misses++;
+            return null;
+        }
+
+        this.hits++;
+        ParseCache.logger.info("Binding the literals of the command to the cached template " + template);
+
+        return template.bind(fingerprint.getLiterals().iterator());
+    }
+
+    /**
+     * Cache a parsed statement as the template for its fingerprint. The statement is only cached if binding the
+     * literals of its own command consumes all of them, which means that every literal has a slot in the template.
+     *
+     * @param fingerprint the fingerprint of the command.
+     * @param statement the statement parsed from the command.
+     */
+    public synchronized void put(StatementFingerprint fingerprint, Statement statement) {
+        if(!fingerprint.isCacheable() || statement == null) {
+            return;
+        }
+
+        Iterator<String> literals = fingerprint.getLiterals().iterator();
+
+        try {
+            statement.bind(literals);
+        }
+        catch (UnsupportedOperationException | NoSuchElementException e) {
+            ParseCache.logger.info("The statement " + statement + " cannot be used as a template");
+            return;
+        }
+
+        if(literals.hasNext()) {
+            ParseCache.logger.info("The statement " + statement + " does not have a slot for every literal");
+            return;
+        }
+
+        this.templates.put(fingerprint.getFingerprint(), statement);
+    }
+
+    /**
+     * Return the number of commands that were bound to a cached template.
+     *
+     * @return the number of cache hits.
+     */
+    public synchronized long getHits() { return this.hits; }
+
+    /**
+     * Return the number of commands that did not have a cached template.
+     *
+     * @return the number of cache misses.
+     */
+    public synchronized long getMisses() { return this.misses; }
+
+    /**
+     * Return the ratio of commands that were bound to a cached template.
+     *
+     * @return the hit rate from 0 to 1.
+     */
+    public synchronized double getHitRate() {
+        long lookups = this.hits + this.misses;
+
+        return lookups == 0 ? 0 : (double) this.hits / lookups;
+    }
+
+    /**
+     * Return the number of cached templates.
+     *
+     * @return the number of cached templates.
+     */
+    public synchronized int size() { return this.templates.size(); }
+
+    @Override
+    public synchronized String toString() {
+        return "ParseCache [size=" + this.templates.size() + ", hits=" + this.hits + ", misses=" + this.misses + "]";
+    }
+}
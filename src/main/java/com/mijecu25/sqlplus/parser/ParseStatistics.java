@@ -0,0 +1,106 @@
+package com.mijecu25.sqlplus.parser;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Number of commands and time spent in each stage of parsing. A command is either bypassed because it cannot be
+ * parsed, bound to a cached statement, parsed by the fast path or parsed by the grammar. The time that the fast path
+ * spends on commands that it does not handle is recorded on its own.
+ *
+ * This class is not thread safe.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class ParseStatistics {
+
+    /**
+     * The stages of parsing a command.
+     */
+    public enum Stage { BYPASSED, CACHED, FAST_PATH, FAST_PATH_MISS, GRAMMAR, GRAMMAR_FAILED }
+
+    private static final double NANOSECONDS_PER_MICROSECOND = 1000.0;
+
+    private static final Logger logger = LogManager.getLogger(ParseStatistics.class);
+
+    private long[] counts;
+    private long[] times;
+
+    public ParseStatistics() {
+        this.counts = new long[Stage.values().length];
+        this.times = new long[Stage.values().length];
+        ParseStatistics.logger.info("Created a ParseStatistics");
+    }
+
+    /**
+     * Record a command that went through a stage.
+     *
+     * @param stage the stage.
+     * @param time the time spent in the stage in nanoseconds.
+     */
+    public void record(Stage stage, long time) {
+        this.counts[stage.ordinal()]++;
+        this.times[stage.ordinal()] += time;
+    }
+
+    /**
+     * Add the commands and times of other statistics to these ones.
+     *
+     * @param statistics the other statistics.
+     */
+    public void add(ParseStatistics statistics) {
+        for(int i = 0; i < this.counts.length; i++) {
+            this.counts[i] += statistics.counts[i];
+            this.times[i] += statistics.times[i];
+        }
+    }
+
+    /**
+     * Return the number of commands that went through a stage.
+     *
+     * @param stage the stage.
+     *
+     * @return the number of commands.
+     */
+    public long getCount(Stage stage) { return this.counts[stage.ordinal()]; }
+
+    /**
+     * Return the time spent in a stage.
+     *
+     * @param stage the stage.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getTime(Stage stage) { return this.times[stage.ordinal()]; }
+
+    /**
+     * Return the average time that a command spent in a stage.
+     *
+     * @param stage the stage.
+     *
+     * @return the average time in nanoseconds or 0 if no command went through the stage.
+     */
+    public double getAverageTime(Stage stage) {
+        long count = this.getCount(stage);
+
+        return count == 0 ? 0 : (double) this.getTime(stage) / count;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("ParseStatistics [");
+
+        for(Stage stage : Stage.values()) {
+            if(stage.ordinal() > 0) {
+                result.append(", ");
+            }
+
+            result.append(String.format("%s=%d (%.2f us avg)", stage.name().toLowerCase(), this.getCount(stage),
+                    this.getAverageTime(stage) / ParseStatistics.NANOSECONDS_PER_MICROSECOND));
+        }
+
+        return result.append("]").toString();
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.mijecu25.sqlplus.parser;
+
+import org.antlr.runtime.ANTLRStringStream;
+
+/**
+ * A character stream that can be reset onto new input. The characters are copied into a buffer that is only
+ * reallocated when the new input does not fit in it.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class ReusableStringStream extends ANTLRStringStream {
+    private static final int INITIAL_CAPACITY = 256;
+
+    public ReusableStringStream() {
+        super();
+        this.data = new char[ReusableStringStream.INITIAL_CAPACITY];
+        this.n = 0;
+    }
+
+    /**
+     * Reset the stream onto new input.
+     *
+     * @param input the new input.
+     */
+    public void reset(String input) {
+        int length = input.length();
+
+        if(this.data.length < length) {
+            this.data = new char[Math.max(length, this.data.length * 2)];
+        }
+
+        input.getChars(0, length, this.data, 0);
+        this.n = length;
+        this.reset();
+    }
+
+    @Override
+    public String toString() { return new String(this.data, 0, this.n); }
+}
@@ -1,4 +1,4 @@
-// $ANTLR 3.5.2 src/main/sqlplus/parser/SQLPlusLex.g 2016-07-14 21:22:21
+// $ANTLR 3.5.2 src/main/sqlplus/parser/SQLPlusLex.g 2026-10-19 09:19:06
 
 	package com.mijecu25.sqlplus.parser;
 
@@ -19,54 +19,55 @@ public class SQLPlusLex extends Lexer {
 	public static final int AS=9;
 	public static final int ASTERISK=10;
 	public static final int BEFORE=11;
-	public static final int COLON=12;
-	public static final int COMMA=13;
-	public static final int DATABASES=14;
-	public static final int DEFAULT=15;
-	public static final int DELETE=16;
-	public static final int DOT=17;
-	public static final int EQUAL=18;
-	public static final int EXISTS=19;
-	public static final int FALSE=20;
-	public static final int FROM=21;
-	public static final int GREATER_THAN=22;
-	public static final int GREATER_THAN_EQUAL=23;
-	public static final int ID=24;
-	public static final int IF=25;
-	public static final int IN=26;
-	public static final int INSERT=27;
-	public static final int INTEGER_NUMBER=28;
-	public static final int INTO=29;
-	public static final int IS=30;
-	public static final int LEFT_PARENTHESIS=31;
-	public static final int LESS_THAN=32;
-	public static final int LESS_THAN_EQUAL=33;
-	public static final int LIKE=34;
-	public static final int MINUS=35;
-	public static final int NEWLINE=36;
-	public static final int NOT=37;
-	public static final int NOT_EQUAL=38;
-	public static final int NULL=39;
-	public static final int OR=40;
-	public static final int PLUS=41;
-	public static final int QUESTION_MARK=42;
-	public static final int QUOTE=43;
-	public static final int REAL_NUMBER=44;
-	public static final int RIGHT_PARENTHESIS=45;
-	public static final int SELECT=46;
-	public static final int SEMICOLON=47;
-	public static final int SET=48;
-	public static final int SHOW=49;
-	public static final int TABLES=50;
-	public static final int TEXT_STRING=51;
-	public static final int TRUE=52;
-	public static final int UNDERSCORE=53;
-	public static final int UPDATE=54;
-	public static final int USE=55;
-	public static final int VALUES=56;
-	public static final int WHERE=57;
-	public static final int WS=58;
-	public static final int XOR=59;
+	public static final int BETWEEN=12;
+	public static final int COLON=13;
+	public static final int COMMA=14;
+	public static final int DATABASES=15;
+	public static final int DEFAULT=16;
+	public static final int DELETE=17;
+	public static final int DOT=18;
+	public static final int EQUAL=19;
+	public static final int EXISTS=20;
+	public static final int FALSE=21;
+	public static final int FROM=22;
+	public static final int GREATER_THAN=23;
+	public static final int GREATER_THAN_EQUAL=24;
+	public static final int ID=25;
+	public static final int IF=26;
+	public static final int IN=27;
+	public static final int INSERT=28;
+	public static final int INTEGER_NUMBER=29;
+	public static final int INTO=30;
+	public static final int IS=31;
+	public static final int LEFT_PARENTHESIS=32;
+	public static final int LESS_THAN=33;
+	public static final int LESS_THAN_EQUAL=34;
+	public static final int LIKE=35;
+	public static final int MINUS=36;
+	public static final int NEWLINE=37;
+	public static final int NOT=38;
+	public static final int NOT_EQUAL=39;
+	public static final int NULL=40;
+	public static final int OR=41;
+	public static final int PLUS=42;
+	public static final int QUESTION_MARK=43;
+	public static final int QUOTE=44;
+	public static final int REAL_NUMBER=45;
+	public static final int RIGHT_PARENTHESIS=46;
+	public static final int SELECT=47;
+	public static final int SEMICOLON=48;
+	public static final int SET=49;
+	public static final int SHOW=50;
+	public static final int TABLES=51;
+	public static final int TEXT_STRING=52;
+	public static final int TRUE=53;
+	public static final int UNDERSCORE=54;
+	public static final int UPDATE=55;
+	public static final int USE=56;
+	public static final int VALUES=57;
+	public static final int WHERE=58;
+	public static final int WS=59;
+	public static final int XOR=60;
 
 	// delegates
 	// delegators
@@ -779,30 +780,14 @@ public class SQLPlusLex extends Lexer {
 		try {
 			int _type = ALL;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:57:5: ( 'all' | 'any' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:57:5: ( 'all' | 'ALL' )
 			int alt7=2;
 			int LA7_0 = input.LA(1);
 			if ( (LA7_0=='a') ) {
-				int LA7_1 = input.LA(2);
-				if ( (LA7_1=='l') ) {
-					alt7=1;
-				}
-				else if ( (LA7_1=='n') ) {
-					alt7=2;
-				}
-
-				else {
-					int nvaeMark = input.mark();
-					try {
-						input.consume();
-						NoViableAltException nvae =
-							new NoViableAltException("", 7, 1, input);
-						throw nvae;
-					} finally {
-						input.rewind(nvaeMark);
-					}
-				}
-
+				alt7=1;
+			}
+			else if ( (LA7_0=='A') ) {
+				alt7=2;
 			}
 
 			else {
@@ -820,9 +805,9 @@ public class SQLPlusLex extends Lexer {
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:58:9: 'any'
+					// src/main/sqlplus/parser/SQLPlusLex.g:58:9: 'ALL'
 					{
-					match("any"); 
+					match("ALL"); 
 
 					}
 					break;
@@ -1025,18 +1010,18 @@ public class SQLPlusLex extends Lexer {
 	}
 	// $ANTLR end "BEFORE"
 
-	// $ANTLR start "DATABASES"
-	public final void mDATABASES() throws RecognitionException {
+	// $ANTLR start "BETWEEN"
+	public final void mBETWEEN() throws RecognitionException {
 		try {
-			int _type = DATABASES;
+			int _type = BETWEEN;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:82:2: ( 'databases' | 'DATABASES' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:82:5: ( 'between' | 'BETWEEN' )
 			int alt12=2;
 			int LA12_0 = input.LA(1);
-			if ( (LA12_0=='d') ) {
+			if ( (LA12_0=='b') ) {
 				alt12=1;
 			}
-			else if ( (LA12_0=='D') ) {
+			else if ( (LA12_0=='B') ) {
 				alt12=2;
 			}
 
@@ -1048,16 +1033,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt12) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:82:4: 'databases'
+					// src/main/sqlplus/parser/SQLPlusLex.g:82:9: 'between'
 					{
-					match("databases"); 
+					match("between"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:83:4: 'DATABASES'
+					// src/main/sqlplus/parser/SQLPlusLex.g:83:9: 'BETWEEN'
 					{
-					match("DATABASES"); 
+					match("BETWEEN"); 
 
 					}
 					break;
@@ -1070,14 +1055,14 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "DATABASES"
+	// $ANTLR end "BETWEEN"
 
-	// $ANTLR start "DEFAULT"
-	public final void mDEFAULT() throws RecognitionException {
+	// $ANTLR start "DATABASES"
+	public final void mDATABASES() throws RecognitionException {
 		try {
-			int _type = DEFAULT;
+			int _type = DATABASES;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:87:5: ( 'default' | 'DEFAULT' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:87:2: ( 'databases' | 'DATABASES' )
 			int alt13=2;
 			int LA13_0 = input.LA(1);
 			if ( (LA13_0=='d') ) {
@@ -1095,16 +1080,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt13) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:87:9: 'default'
+					// src/main/sqlplus/parser/SQLPlusLex.g:87:4: 'databases'
 					{
-					match("default"); 
+					match("databases"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:88:9: 'DEFAULT'
+					// src/main/sqlplus/parser/SQLPlusLex.g:88:4: 'DATABASES'
 					{
-					match("DEFAULT"); 
+					match("DATABASES"); 
 
 					}
 					break;
@@ -1117,14 +1102,14 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "DEFAULT"
+	// $ANTLR end "DATABASES"
 
-	// $ANTLR start "DELETE"
-	public final void mDELETE() throws RecognitionException {
+	// $ANTLR start "DEFAULT"
+	public final void mDEFAULT() throws RecognitionException {
 		try {
-			int _type = DELETE;
+			int _type = DEFAULT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:92:2: ( 'delete' | 'DELETE' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:92:5: ( 'default' | 'DEFAULT' )
 			int alt14=2;
 			int LA14_0 = input.LA(1);
 			if ( (LA14_0=='d') ) {
@@ -1142,16 +1127,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt14) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:92:4: 'delete'
+					// src/main/sqlplus/parser/SQLPlusLex.g:92:9: 'default'
 					{
-					match("delete"); 
+					match("default"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:93:4: 'DELETE'
+					// src/main/sqlplus/parser/SQLPlusLex.g:93:9: 'DEFAULT'
 					{
-					match("DELETE"); 
+					match("DEFAULT"); 
 
 					}
 					break;
@@ -1164,20 +1149,20 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "DELETE"
+	// $ANTLR end "DEFAULT"
 
-	// $ANTLR start "EXISTS"
-	public final void mEXISTS() throws RecognitionException {
+	// $ANTLR start "DELETE"
+	public final void mDELETE() throws RecognitionException {
 		try {
-			int _type = EXISTS;
+			int _type = DELETE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:97:5: ( 'exists' | 'EXISTS' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:97:2: ( 'delete' | 'DELETE' )
 			int alt15=2;
 			int LA15_0 = input.LA(1);
-			if ( (LA15_0=='e') ) {
+			if ( (LA15_0=='d') ) {
 				alt15=1;
 			}
-			else if ( (LA15_0=='E') ) {
+			else if ( (LA15_0=='D') ) {
 				alt15=2;
 			}
 
@@ -1189,16 +1174,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt15) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:97:9: 'exists'
+					// src/main/sqlplus/parser/SQLPlusLex.g:97:4: 'delete'
 					{
-					match("exists"); 
+					match("delete"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:98:9: 'EXISTS'
+					// src/main/sqlplus/parser/SQLPlusLex.g:98:4: 'DELETE'
 					{
-					match("EXISTS"); 
+					match("DELETE"); 
 
 					}
 					break;
@@ -1211,20 +1196,20 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "EXISTS"
+	// $ANTLR end "DELETE"
 
-	// $ANTLR start "FALSE"
-	public final void mFALSE() throws RecognitionException {
+	// $ANTLR start "EXISTS"
+	public final void mEXISTS() throws RecognitionException {
 		try {
-			int _type = FALSE;
+			int _type = EXISTS;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:102:5: ( 'false' | 'FALSE' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:102:5: ( 'exists' | 'EXISTS' )
 			int alt16=2;
 			int LA16_0 = input.LA(1);
-			if ( (LA16_0=='f') ) {
+			if ( (LA16_0=='e') ) {
 				alt16=1;
 			}
-			else if ( (LA16_0=='F') ) {
+			else if ( (LA16_0=='E') ) {
 				alt16=2;
 			}
 
@@ -1236,16 +1221,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt16) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:102:9: 'false'
+					// src/main/sqlplus/parser/SQLPlusLex.g:102:9: 'exists'
 					{
-					match("false"); 
+					match("exists"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:103:9: 'FALSE'
+					// src/main/sqlplus/parser/SQLPlusLex.g:103:9: 'EXISTS'
 					{
-					match("FALSE"); 
+					match("EXISTS"); 
 
 					}
 					break;
@@ -1258,14 +1243,14 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "FALSE"
+	// $ANTLR end "EXISTS"
 
-	// $ANTLR start "FROM"
-	public final void mFROM() throws RecognitionException {
+	// $ANTLR start "FALSE"
+	public final void mFALSE() throws RecognitionException {
 		try {
-			int _type = FROM;
+			int _type = FALSE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:107:2: ( 'from' | 'FROM' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:107:5: ( 'false' | 'FALSE' )
 			int alt17=2;
 			int LA17_0 = input.LA(1);
 			if ( (LA17_0=='f') ) {
@@ -1283,16 +1268,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt17) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:107:4: 'from'
+					// src/main/sqlplus/parser/SQLPlusLex.g:107:9: 'false'
 					{
-					match("from"); 
+					match("false"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:108:4: 'FROM'
+					// src/main/sqlplus/parser/SQLPlusLex.g:108:9: 'FALSE'
 					{
-					match("FROM"); 
+					match("FALSE"); 
 
 					}
 					break;
@@ -1305,20 +1290,20 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "FROM"
+	// $ANTLR end "FALSE"
 
-	// $ANTLR start "IF"
-	public final void mIF() throws RecognitionException {
+	// $ANTLR start "FROM"
+	public final void mFROM() throws RecognitionException {
 		try {
-			int _type = IF;
+			int _type = FROM;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:112:2: ( 'if' | 'IF' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:112:2: ( 'from' | 'FROM' )
 			int alt18=2;
 			int LA18_0 = input.LA(1);
-			if ( (LA18_0=='i') ) {
+			if ( (LA18_0=='f') ) {
 				alt18=1;
 			}
-			else if ( (LA18_0=='I') ) {
+			else if ( (LA18_0=='F') ) {
 				alt18=2;
 			}
 
@@ -1330,16 +1315,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt18) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:112:4: 'if'
+					// src/main/sqlplus/parser/SQLPlusLex.g:112:4: 'from'
 					{
-					match("if"); 
+					match("from"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:113:4: 'IF'
+					// src/main/sqlplus/parser/SQLPlusLex.g:113:4: 'FROM'
 					{
-					match("IF"); 
+					match("FROM"); 
 
 					}
 					break;
@@ -1352,14 +1337,14 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "IF"
+	// $ANTLR end "FROM"
 
-	// $ANTLR start "IN"
-	public final void mIN() throws RecognitionException {
+	// $ANTLR start "IF"
+	public final void mIF() throws RecognitionException {
 		try {
-			int _type = IN;
+			int _type = IF;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:117:2: ( 'in' | 'IN' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:117:2: ( 'if' | 'IF' )
 			int alt19=2;
 			int LA19_0 = input.LA(1);
 			if ( (LA19_0=='i') ) {
@@ -1377,16 +1362,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt19) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:117:4: 'in'
+					// src/main/sqlplus/parser/SQLPlusLex.g:117:4: 'if'
 					{
-					match("in"); 
+					match("if"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:118:4: 'IN'
+					// src/main/sqlplus/parser/SQLPlusLex.g:118:4: 'IF'
 					{
-					match("IN"); 
+					match("IF"); 
 
 					}
 					break;
@@ -1399,14 +1384,14 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "IN"
+	// $ANTLR end "IF"
 
-	// $ANTLR start "INTO"
-	public final void mINTO() throws RecognitionException {
+	// $ANTLR start "IN"
+	public final void mIN() throws RecognitionException {
 		try {
-			int _type = INTO;
+			int _type = IN;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:122:5: ( 'into' | 'INTO' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:122:2: ( 'in' | 'IN' )
 			int alt20=2;
 			int LA20_0 = input.LA(1);
 			if ( (LA20_0=='i') ) {
@@ -1424,16 +1409,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt20) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:122:9: 'into'
+					// src/main/sqlplus/parser/SQLPlusLex.g:122:4: 'in'
 					{
-					match("into"); 
+					match("in"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:123:9: 'INTO'
+					// src/main/sqlplus/parser/SQLPlusLex.g:123:4: 'IN'
 					{
-					match("INTO"); 
+					match("IN"); 
 
 					}
 					break;
@@ -1446,14 +1431,14 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "INTO"
+	// $ANTLR end "IN"
 
-	// $ANTLR start "INSERT"
-	public final void mINSERT() throws RecognitionException {
+	// $ANTLR start "INTO"
+	public final void mINTO() throws RecognitionException {
 		try {
-			int _type = INSERT;
+			int _type = INTO;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:127:2: ( 'insert' | 'INSERT' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:127:5: ( 'into' | 'INTO' )
 			int alt21=2;
 			int LA21_0 = input.LA(1);
 			if ( (LA21_0=='i') ) {
@@ -1471,16 +1456,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt21) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:127:5: 'insert'
+					// src/main/sqlplus/parser/SQLPlusLex.g:127:9: 'into'
 					{
-					match("insert"); 
+					match("into"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:128:4: 'INSERT'
+					// src/main/sqlplus/parser/SQLPlusLex.g:128:9: 'INTO'
 					{
-					match("INSERT"); 
+					match("INTO"); 
 
 					}
 					break;
@@ -1493,14 +1478,14 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "INSERT"
+	// $ANTLR end "INTO"
 
-	// $ANTLR start "IS"
-	public final void mIS() throws RecognitionException {
+	// $ANTLR start "INSERT"
+	public final void mINSERT() throws RecognitionException {
 		try {
-			int _type = IS;
+			int _type = INSERT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:132:5: ( 'is' | 'IS' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:132:2: ( 'insert' | 'INSERT' )
 			int alt22=2;
 			int LA22_0 = input.LA(1);
 			if ( (LA22_0=='i') ) {
@@ -1518,16 +1503,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt22) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:132:9: 'is'
+					// src/main/sqlplus/parser/SQLPlusLex.g:132:5: 'insert'
 					{
-					match("is"); 
+					match("insert"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:133:9: 'IS'
+					// src/main/sqlplus/parser/SQLPlusLex.g:133:4: 'INSERT'
 					{
-					match("IS"); 
+					match("INSERT"); 
 
 					}
 					break;
@@ -1540,20 +1525,20 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "IS"
+	// $ANTLR end "INSERT"
 
-	// $ANTLR start "LIKE"
-	public final void mLIKE() throws RecognitionException {
+	// $ANTLR start "IS"
+	public final void mIS() throws RecognitionException {
 		try {
-			int _type = LIKE;
+			int _type = IS;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:137:2: ( 'like' | 'LIKE' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:137:5: ( 'is' | 'IS' )
 			int alt23=2;
 			int LA23_0 = input.LA(1);
-			if ( (LA23_0=='l') ) {
+			if ( (LA23_0=='i') ) {
 				alt23=1;
 			}
-			else if ( (LA23_0=='L') ) {
+			else if ( (LA23_0=='I') ) {
 				alt23=2;
 			}
 
@@ -1565,16 +1550,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt23) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:137:4: 'like'
+					// src/main/sqlplus/parser/SQLPlusLex.g:137:9: 'is'
 					{
-					match("like"); 
+					match("is"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:138:4: 'LIKE'
+					// src/main/sqlplus/parser/SQLPlusLex.g:138:9: 'IS'
 					{
-					match("LIKE"); 
+					match("IS"); 
 
 					}
 					break;
@@ -1587,20 +1572,20 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "LIKE"
+	// $ANTLR end "IS"
 
-	// $ANTLR start "NULL"
-	public final void mNULL() throws RecognitionException {
+	// $ANTLR start "LIKE"
+	public final void mLIKE() throws RecognitionException {
 		try {
-			int _type = NULL;
+			int _type = LIKE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:142:5: ( 'null' | 'NULL' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:142:2: ( 'like' | 'LIKE' )
 			int alt24=2;
 			int LA24_0 = input.LA(1);
-			if ( (LA24_0=='n') ) {
+			if ( (LA24_0=='l') ) {
 				alt24=1;
 			}
-			else if ( (LA24_0=='N') ) {
+			else if ( (LA24_0=='L') ) {
 				alt24=2;
 			}
 
@@ -1612,16 +1597,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt24) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:142:9: 'null'
+					// src/main/sqlplus/parser/SQLPlusLex.g:142:4: 'like'
 					{
-					match("null"); 
+					match("like"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:143:9: 'NULL'
+					// src/main/sqlplus/parser/SQLPlusLex.g:143:4: 'LIKE'
 					{
-					match("NULL"); 
+					match("LIKE"); 
 
 					}
 					break;
@@ -1634,20 +1619,20 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "NULL"
+	// $ANTLR end "LIKE"
 
-	// $ANTLR start "SELECT"
-	public final void mSELECT() throws RecognitionException {
+	// $ANTLR start "NULL"
+	public final void mNULL() throws RecognitionException {
 		try {
-			int _type = SELECT;
+			int _type = NULL;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:147:2: ( 'select' | 'SELECT' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:147:5: ( 'null' | 'NULL' )
 			int alt25=2;
 			int LA25_0 = input.LA(1);
-			if ( (LA25_0=='s') ) {
+			if ( (LA25_0=='n') ) {
 				alt25=1;
 			}
-			else if ( (LA25_0=='S') ) {
+			else if ( (LA25_0=='N') ) {
 				alt25=2;
 			}
 
@@ -1659,16 +1644,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt25) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:147:4: 'select'
+					// src/main/sqlplus/parser/SQLPlusLex.g:147:9: 'null'
 					{
-					match("select"); 
+					match("null"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:148:4: 'SELECT'
+					// src/main/sqlplus/parser/SQLPlusLex.g:148:9: 'NULL'
 					{
-					match("SELECT"); 
+					match("NULL"); 
 
 					}
 					break;
@@ -1681,14 +1666,14 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "SELECT"
+	// $ANTLR end "NULL"
 
-	// $ANTLR start "SET"
-	public final void mSET() throws RecognitionException {
+	// $ANTLR start "SELECT"
+	public final void mSELECT() throws RecognitionException {
 		try {
-			int _type = SET;
+			int _type = SELECT;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:152:5: ( 'set' | 'SET' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:152:2: ( 'select' | 'SELECT' )
 			int alt26=2;
 			int LA26_0 = input.LA(1);
 			if ( (LA26_0=='s') ) {
@@ -1706,16 +1691,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt26) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:152:9: 'set'
+					// src/main/sqlplus/parser/SQLPlusLex.g:152:4: 'select'
 					{
-					match("set"); 
+					match("select"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:153:9: 'SET'
+					// src/main/sqlplus/parser/SQLPlusLex.g:153:4: 'SELECT'
 					{
-					match("SET"); 
+					match("SELECT"); 
 
 					}
 					break;
@@ -1728,14 +1713,14 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "SET"
+	// $ANTLR end "SELECT"
 
-	// $ANTLR start "SHOW"
-	public final void mSHOW() throws RecognitionException {
+	// $ANTLR start "SET"
+	public final void mSET() throws RecognitionException {
 		try {
-			int _type = SHOW;
+			int _type = SET;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:157:2: ( 'show' | 'SHOW' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:157:5: ( 'set' | 'SET' )
 			int alt27=2;
 			int LA27_0 = input.LA(1);
 			if ( (LA27_0=='s') ) {
@@ -1753,16 +1738,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt27) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:157:4: 'show'
+					// src/main/sqlplus/parser/SQLPlusLex.g:157:9: 'set'
 					{
-					match("show"); 
+					match("set"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:158:4: 'SHOW'
+					// src/main/sqlplus/parser/SQLPlusLex.g:158:9: 'SET'
 					{
-					match("SHOW"); 
+					match("SET"); 
 
 					}
 					break;
@@ -1775,20 +1760,20 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "SHOW"
+	// $ANTLR end "SET"
 
-	// $ANTLR start "TABLES"
-	public final void mTABLES() throws RecognitionException {
+	// $ANTLR start "SHOW"
+	public final void mSHOW() throws RecognitionException {
 		try {
-			int _type = TABLES;
+			int _type = SHOW;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:162:2: ( 'tables' | 'TABLES' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:162:2: ( 'show' | 'SHOW' )
 			int alt28=2;
 			int LA28_0 = input.LA(1);
-			if ( (LA28_0=='t') ) {
+			if ( (LA28_0=='s') ) {
 				alt28=1;
 			}
-			else if ( (LA28_0=='T') ) {
+			else if ( (LA28_0=='S') ) {
 				alt28=2;
 			}
 
@@ -1800,16 +1785,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt28) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:162:4: 'tables'
+					// src/main/sqlplus/parser/SQLPlusLex.g:162:4: 'show'
 					{
-					match("tables"); 
+					match("show"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:163:4: 'TABLES'
+					// src/main/sqlplus/parser/SQLPlusLex.g:163:4: 'SHOW'
 					{
-					match("TABLES"); 
+					match("SHOW"); 
 
 					}
 					break;
@@ -1822,14 +1807,14 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "TABLES"
+	// $ANTLR end "SHOW"
 
-	// $ANTLR start "TRUE"
-	public final void mTRUE() throws RecognitionException {
+	// $ANTLR start "TABLES"
+	public final void mTABLES() throws RecognitionException {
 		try {
-			int _type = TRUE;
+			int _type = TABLES;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:167:5: ( 'true' | 'TRUE' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:167:2: ( 'tables' | 'TABLES' )
 			int alt29=2;
 			int LA29_0 = input.LA(1);
 			if ( (LA29_0=='t') ) {
@@ -1847,16 +1832,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt29) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:167:9: 'true'
+					// src/main/sqlplus/parser/SQLPlusLex.g:167:4: 'tables'
 					{
-					match("true"); 
+					match("tables"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:168:9: 'TRUE'
+					// src/main/sqlplus/parser/SQLPlusLex.g:168:4: 'TABLES'
 					{
-					match("TRUE"); 
+					match("TABLES"); 
 
 					}
 					break;
@@ -1869,20 +1854,20 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "TRUE"
+	// $ANTLR end "TABLES"
 
-	// $ANTLR start "UPDATE"
-	public final void mUPDATE() throws RecognitionException {
+	// $ANTLR start "TRUE"
+	public final void mTRUE() throws RecognitionException {
 		try {
-			int _type = UPDATE;
+			int _type = TRUE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:172:2: ( 'update' | 'UPDATE' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:172:5: ( 'true' | 'TRUE' )
 			int alt30=2;
 			int LA30_0 = input.LA(1);
-			if ( (LA30_0=='u') ) {
+			if ( (LA30_0=='t') ) {
 				alt30=1;
 			}
-			else if ( (LA30_0=='U') ) {
+			else if ( (LA30_0=='T') ) {
 				alt30=2;
 			}
 
@@ -1894,16 +1879,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt30) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:172:5: 'update'
+					// src/main/sqlplus/parser/SQLPlusLex.g:172:9: 'true'
 					{
-					match("update"); 
+					match("true"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:173:4: 'UPDATE'
+					// src/main/sqlplus/parser/SQLPlusLex.g:173:9: 'TRUE'
 					{
-					match("UPDATE"); 
+					match("TRUE"); 
 
 					}
 					break;
@@ -1916,14 +1901,14 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "UPDATE"
+	// $ANTLR end "TRUE"
 
-	// $ANTLR start "USE"
-	public final void mUSE() throws RecognitionException {
+	// $ANTLR start "UPDATE"
+	public final void mUPDATE() throws RecognitionException {
 		try {
-			int _type = USE;
+			int _type = UPDATE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:177:2: ( 'use' | 'USE' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:177:2: ( 'update' | 'UPDATE' )
 			int alt31=2;
 			int LA31_0 = input.LA(1);
 			if ( (LA31_0=='u') ) {
@@ -1941,16 +1926,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt31) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:177:4: 'use'
+					// src/main/sqlplus/parser/SQLPlusLex.g:177:5: 'update'
 					{
-					match("use"); 
+					match("update"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:178:4: 'USE'
+					// src/main/sqlplus/parser/SQLPlusLex.g:178:4: 'UPDATE'
 					{
-					match("USE"); 
+					match("UPDATE"); 
 
 					}
 					break;
@@ -1963,20 +1948,20 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "USE"
+	// $ANTLR end "UPDATE"
 
-	// $ANTLR start "VALUES"
-	public final void mVALUES() throws RecognitionException {
+	// $ANTLR start "USE"
+	public final void mUSE() throws RecognitionException {
 		try {
-			int _type = VALUES;
+			int _type = USE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:182:5: ( 'values' | 'VALUES' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:182:2: ( 'use' | 'USE' )
 			int alt32=2;
 			int LA32_0 = input.LA(1);
-			if ( (LA32_0=='v') ) {
+			if ( (LA32_0=='u') ) {
 				alt32=1;
 			}
-			else if ( (LA32_0=='V') ) {
+			else if ( (LA32_0=='U') ) {
 				alt32=2;
 			}
 
@@ -1988,16 +1973,16 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt32) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:182:9: 'values'
+					// src/main/sqlplus/parser/SQLPlusLex.g:182:4: 'use'
 					{
-					match("values"); 
+					match("use"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:183:9: 'VALUES'
+					// src/main/sqlplus/parser/SQLPlusLex.g:183:4: 'USE'
 					{
-					match("VALUES"); 
+					match("USE"); 
 
 					}
 					break;
@@ -2010,20 +1995,20 @@ public class SQLPlusLex extends Lexer {
 			// do for sure before leaving
 		}
 	}
-	// $ANTLR end "VALUES"
+	// $ANTLR end "USE"
 
-	// $ANTLR start "WHERE"
-	public final void mWHERE() throws RecognitionException {
+	// $ANTLR start "VALUES"
+	public final void mVALUES() throws RecognitionException {
 		try {
-			int _type = WHERE;
+			int _type = VALUES;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:187:2: ( 'where' | 'WHERE' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:187:5: ( 'values' | 'VALUES' )
 			int alt33=2;
 			int LA33_0 = input.LA(1);
-			if ( (LA33_0=='w') ) {
+			if ( (LA33_0=='v') ) {
 				alt33=1;
 			}
-			else if ( (LA33_0=='W') ) {
+			else if ( (LA33_0=='V') ) {
 				alt33=2;
 			}
 
@@ -2035,14 +2020,61 @@ public class SQLPlusLex extends Lexer {
 
 			switch (alt33) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:187:5: 'where'
+					// src/main/sqlplus/parser/SQLPlusLex.g:187:9: 'values'
+					{
+					match("values"); 
+
+					}
+					break;
+				case 2 :
+					// src/main/sqlplus/parser/SQLPlusLex.g:188:9: 'VALUES'
+					{
+					match("VALUES"); 
+
+					}
+					break;
+
+			}
+			state.type = _type;
+			state.channel = _channel;
+		}
+		finally {
+			// do for sure before leaving
+		}
+	}
+	// $ANTLR end "VALUES"
+
+	// $ANTLR start "WHERE"
+	public final void mWHERE() throws RecognitionException {
+		try {
+			int _type = WHERE;
+			int _channel = DEFAULT_TOKEN_CHANNEL;
+			// src/main/sqlplus/parser/SQLPlusLex.g:192:2: ( 'where' | 'WHERE' )
+			int alt34=2;
+			int LA34_0 = input.LA(1);
+			if ( (LA34_0=='w') ) {
+				alt34=1;
+			}
+			else if ( (LA34_0=='W') ) {
+				alt34=2;
+			}
+
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 34, 0, input);
+				throw nvae;
+			}
+
+			switch (alt34) {
+				case 1 :
+					// src/main/sqlplus/parser/SQLPlusLex.g:192:5: 'where'
 					{
 					match("where"); 
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:188:4: 'WHERE'
+					// src/main/sqlplus/parser/SQLPlusLex.g:193:4: 'WHERE'
 					{
 					match("WHERE"); 
 
@@ -2064,20 +2096,20 @@ public class SQLPlusLex extends Lexer {
 		try {
 			int _type = INTEGER_NUMBER;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:192:5: ( ( '0' .. '9' )+ )
-			// src/main/sqlplus/parser/SQLPlusLex.g:192:9: ( '0' .. '9' )+
+			// src/main/sqlplus/parser/SQLPlusLex.g:197:5: ( ( '0' .. '9' )+ )
+			// src/main/sqlplus/parser/SQLPlusLex.g:197:9: ( '0' .. '9' )+
 			{
-			// src/main/sqlplus/parser/SQLPlusLex.g:192:9: ( '0' .. '9' )+
-			int cnt34=0;
-			loop34:
+			// src/main/sqlplus/parser/SQLPlusLex.g:197:9: ( '0' .. '9' )+
+			int cnt35=0;
+			loop35:
 			while (true) {
-				int alt34=2;
-				int LA34_0 = input.LA(1);
-				if ( ((LA34_0 >= '0' && LA34_0 <= '9')) ) {
-					alt34=1;
+				int alt35=2;
+				int LA35_0 = input.LA(1);
+				if ( ((LA35_0 >= '0' && LA35_0 <= '9')) ) {
+					alt35=1;
 				}
 
-				switch (alt34) {
+				switch (alt35) {
 				case 1 :
 					// src/main/sqlplus/parser/SQLPlusLex.g:
 					{
@@ -2093,11 +2125,11 @@ public class SQLPlusLex extends Lexer {
 					break;
 
 				default :
-					if ( cnt34 >= 1 ) break loop34;
-					EarlyExitException eee = new EarlyExitException(34, input);
+					if ( cnt35 >= 1 ) break loop35;
+					EarlyExitException eee = new EarlyExitException(35, input);
 					throw eee;
 				}
-				cnt34++;
+				cnt35++;
 			}
 
 			}
@@ -2116,8 +2148,8 @@ public class SQLPlusLex extends Lexer {
 		try {
 			int _type = ID;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:196:2: ( ( 'A' .. 'Z' | 'a' .. 'z' | '_' | '$' ) ( 'A' .. 'Z' | 'a' .. 'z' | '_' | '$' | '0' .. '9' )* )
-			// src/main/sqlplus/parser/SQLPlusLex.g:196:4: ( 'A' .. 'Z' | 'a' .. 'z' | '_' | '$' ) ( 'A' .. 'Z' | 'a' .. 'z' | '_' | '$' | '0' .. '9' )*
+			// src/main/sqlplus/parser/SQLPlusLex.g:201:2: ( ( 'A' .. 'Z' | 'a' .. 'z' | '_' | '$' ) ( 'A' .. 'Z' | 'a' .. 'z' | '_' | '$' | '0' .. '9' )* )
+			// src/main/sqlplus/parser/SQLPlusLex.g:201:4: ( 'A' .. 'Z' | 'a' .. 'z' | '_' | '$' ) ( 'A' .. 'Z' | 'a' .. 'z' | '_' | '$' | '0' .. '9' )*
 			{
 			if ( input.LA(1)=='$'||(input.LA(1) >= 'A' && input.LA(1) <= 'Z')||input.LA(1)=='_'||(input.LA(1) >= 'a' && input.LA(1) <= 'z') ) {
 				input.consume();
@@ -2127,16 +2159,16 @@ public class SQLPlusLex extends Lexer {
 				recover(mse);
 				throw mse;
 			}
-			// src/main/sqlplus/parser/SQLPlusLex.g:196:39: ( 'A' .. 'Z' | 'a' .. 'z' | '_' | '$' | '0' .. '9' )*
-			loop35:
+			// src/main/sqlplus/parser/SQLPlusLex.g:201:39: ( 'A' .. 'Z' | 'a' .. 'z' | '_' | '$' | '0' .. '9' )*
+			loop36:
 			while (true) {
-				int alt35=2;
-				int LA35_0 = input.LA(1);
-				if ( (LA35_0=='$'||(LA35_0 >= '0' && LA35_0 <= '9')||(LA35_0 >= 'A' && LA35_0 <= 'Z')||LA35_0=='_'||(LA35_0 >= 'a' && LA35_0 <= 'z')) ) {
-					alt35=1;
+				int alt36=2;
+				int LA36_0 = input.LA(1);
+				if ( (LA36_0=='$'||(LA36_0 >= '0' && LA36_0 <= '9')||(LA36_0 >= 'A' && LA36_0 <= 'Z')||LA36_0=='_'||(LA36_0 >= 'a' && LA36_0 <= 'z')) ) {
+					alt36=1;
 				}
 
-				switch (alt35) {
+				switch (alt36) {
 				case 1 :
 					// src/main/sqlplus/parser/SQLPlusLex.g:
 					{
@@ -2152,7 +2184,7 @@ public class SQLPlusLex extends Lexer {
 					break;
 
 				default :
-					break loop35;
+					break loop36;
 				}
 			}
 
@@ -2172,15 +2204,15 @@ public class SQLPlusLex extends Lexer {
 		try {
 			int _type = REAL_NUMBER;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:200:5: ( ( INTEGER_NUMBER DOT INTEGER_NUMBER | INTEGER_NUMBER DOT | DOT INTEGER_NUMBER | INTEGER_NUMBER ) ( ( 'E' | 'e' ) ( PLUS | MINUS )? INTEGER_NUMBER )? )
-			// src/main/sqlplus/parser/SQLPlusLex.g:200:9: ( INTEGER_NUMBER DOT INTEGER_NUMBER | INTEGER_NUMBER DOT | DOT INTEGER_NUMBER | INTEGER_NUMBER ) ( ( 'E' | 'e' ) ( PLUS | MINUS )? INTEGER_NUMBER )?
+			// src/main/sqlplus/parser/SQLPlusLex.g:205:5: ( ( INTEGER_NUMBER DOT INTEGER_NUMBER | INTEGER_NUMBER DOT | DOT INTEGER_NUMBER | INTEGER_NUMBER ) ( ( 'E' | 'e' ) ( PLUS | MINUS )? INTEGER_NUMBER )? )
+			// src/main/sqlplus/parser/SQLPlusLex.g:205:9: ( INTEGER_NUMBER DOT INTEGER_NUMBER | INTEGER_NUMBER DOT | DOT INTEGER_NUMBER | INTEGER_NUMBER ) ( ( 'E' | 'e' ) ( PLUS | MINUS )? INTEGER_NUMBER )?
 			{
-			// src/main/sqlplus/parser/SQLPlusLex.g:200:9: ( INTEGER_NUMBER DOT INTEGER_NUMBER | INTEGER_NUMBER DOT | DOT INTEGER_NUMBER | INTEGER_NUMBER )
-			int alt36=4;
-			alt36 = dfa36.predict(input);
-			switch (alt36) {
+			// src/main/sqlplus/parser/SQLPlusLex.g:205:9: ( INTEGER_NUMBER DOT INTEGER_NUMBER | INTEGER_NUMBER DOT | DOT INTEGER_NUMBER | INTEGER_NUMBER )
+			int alt37=4;
+			alt37 = dfa37.predict(input);
+			switch (alt37) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:200:11: INTEGER_NUMBER DOT INTEGER_NUMBER
+					// src/main/sqlplus/parser/SQLPlusLex.g:205:11: INTEGER_NUMBER DOT INTEGER_NUMBER
 					{
 					mINTEGER_NUMBER(); 
 
@@ -2191,7 +2223,7 @@ public class SQLPlusLex extends Lexer {
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:200:47: INTEGER_NUMBER DOT
+					// src/main/sqlplus/parser/SQLPlusLex.g:205:47: INTEGER_NUMBER DOT
 					{
 					mINTEGER_NUMBER(); 
 
@@ -2200,7 +2232,7 @@ public class SQLPlusLex extends Lexer {
 					}
 					break;
 				case 3 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:200:68: DOT INTEGER_NUMBER
+					// src/main/sqlplus/parser/SQLPlusLex.g:205:68: DOT INTEGER_NUMBER
 					{
 					mDOT(); 
 
@@ -2209,7 +2241,7 @@ public class SQLPlusLex extends Lexer {
 					}
 					break;
 				case 4 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:200:89: INTEGER_NUMBER
+					// src/main/sqlplus/parser/SQLPlusLex.g:205:89: INTEGER_NUMBER
 					{
 					mINTEGER_NUMBER(); 
 
@@ -2218,15 +2250,15 @@ public class SQLPlusLex extends Lexer {
 
 			}
 
-			// src/main/sqlplus/parser/SQLPlusLex.g:201:9: ( ( 'E' | 'e' ) ( PLUS | MINUS )? INTEGER_NUMBER )?
-			int alt38=2;
-			int LA38_0 = input.LA(1);
-			if ( (LA38_0=='E'||LA38_0=='e') ) {
-				alt38=1;
+			// src/main/sqlplus/parser/SQLPlusLex.g:206:9: ( ( 'E' | 'e' ) ( PLUS | MINUS )? INTEGER_NUMBER )?
+			int alt39=2;
+			int LA39_0 = input.LA(1);
+			if ( (LA39_0=='E'||LA39_0=='e') ) {
+				alt39=1;
 			}
-			switch (alt38) {
+			switch (alt39) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:201:11: ( 'E' | 'e' ) ( PLUS | MINUS )? INTEGER_NUMBER
+					// src/main/sqlplus/parser/SQLPlusLex.g:206:11: ( 'E' | 'e' ) ( PLUS | MINUS )? INTEGER_NUMBER
 					{
 					if ( input.LA(1)=='E'||input.LA(1)=='e' ) {
 						input.consume();
@@ -2236,13 +2268,13 @@ public class SQLPlusLex extends Lexer {
 						recover(mse);
 						throw mse;
 					}
-					// src/main/sqlplus/parser/SQLPlusLex.g:201:21: ( PLUS | MINUS )?
-					int alt37=2;
-					int LA37_0 = input.LA(1);
-					if ( (LA37_0=='+'||LA37_0=='-') ) {
-						alt37=1;
+					// src/main/sqlplus/parser/SQLPlusLex.g:206:21: ( PLUS | MINUS )?
+					int alt38=2;
+					int LA38_0 = input.LA(1);
+					if ( (LA38_0=='+'||LA38_0=='-') ) {
+						alt38=1;
 					}
-					switch (alt37) {
+					switch (alt38) {
 						case 1 :
 							// src/main/sqlplus/parser/SQLPlusLex.g:
 							{
@@ -2282,37 +2314,37 @@ public class SQLPlusLex extends Lexer {
 		try {
 			int _type = TEXT_STRING;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:205:5: ( '\\'' (~ ( '\\'' ) )* '\\'' | '\"' (~ ( '\"' ) )* '\"' )
-			int alt41=2;
-			int LA41_0 = input.LA(1);
-			if ( (LA41_0=='\'') ) {
-				alt41=1;
+			// src/main/sqlplus/parser/SQLPlusLex.g:210:5: ( '\\'' (~ ( '\\'' ) )* '\\'' | '\"' (~ ( '\"' ) )* '\"' )
+			int alt42=2;
+			int LA42_0 = input.LA(1);
+			if ( (LA42_0=='\'') ) {
+				alt42=1;
 			}
-			else if ( (LA41_0=='\"') ) {
-				alt41=2;
+			else if ( (LA42_0=='\"') ) {
+				alt42=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 41, 0, input);
+					new NoViableAltException("", 42, 0, input);
 				throw nvae;
 			}
 
-			switch (alt41) {
+			switch (alt42) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:205:9: '\\'' (~ ( '\\'' ) )* '\\''
+					// src/main/sqlplus/parser/SQLPlusLex.g:210:9: '\\'' (~ ( '\\'' ) )* '\\''
 					{
 					match('\''); 
-					// src/main/sqlplus/parser/SQLPlusLex.g:205:14: (~ ( '\\'' ) )*
-					loop39:
+					// src/main/sqlplus/parser/SQLPlusLex.g:210:14: (~ ( '\\'' ) )*
+					loop40:
 					while (true) {
-						int alt39=2;
-						int LA39_0 = input.LA(1);
-						if ( ((LA39_0 >= '\u0000' && LA39_0 <= '&')||(LA39_0 >= '(' && LA39_0 <= '\uFFFF')) ) {
-							alt39=1;
+						int alt40=2;
+						int LA40_0 = input.LA(1);
+						if ( ((LA40_0 >= '\u0000' && LA40_0 <= '&')||(LA40_0 >= '(' && LA40_0 <= '\uFFFF')) ) {
+							alt40=1;
 						}
 
-						switch (alt39) {
+						switch (alt40) {
 						case 1 :
 							// src/main/sqlplus/parser/SQLPlusLex.g:
 							{
@@ -2328,7 +2360,7 @@ public class SQLPlusLex extends Lexer {
 							break;
 
 						default :
-							break loop39;
+							break loop40;
 						}
 					}
 
@@ -2336,19 +2368,19 @@ public class SQLPlusLex extends Lexer {
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:206:9: '\"' (~ ( '\"' ) )* '\"'
+					// src/main/sqlplus/parser/SQLPlusLex.g:211:9: '\"' (~ ( '\"' ) )* '\"'
 					{
 					match('\"'); 
-					// src/main/sqlplus/parser/SQLPlusLex.g:206:13: (~ ( '\"' ) )*
-					loop40:
+					// src/main/sqlplus/parser/SQLPlusLex.g:211:13: (~ ( '\"' ) )*
+					loop41:
 					while (true) {
-						int alt40=2;
-						int LA40_0 = input.LA(1);
-						if ( ((LA40_0 >= '\u0000' && LA40_0 <= '!')||(LA40_0 >= '#' && LA40_0 <= '\uFFFF')) ) {
-							alt40=1;
+						int alt41=2;
+						int LA41_0 = input.LA(1);
+						if ( ((LA41_0 >= '\u0000' && LA41_0 <= '!')||(LA41_0 >= '#' && LA41_0 <= '\uFFFF')) ) {
+							alt41=1;
 						}
 
-						switch (alt40) {
+						switch (alt41) {
 						case 1 :
 							// src/main/sqlplus/parser/SQLPlusLex.g:
 							{
@@ -2364,7 +2396,7 @@ public class SQLPlusLex extends Lexer {
 							break;
 
 						default :
-							break loop40;
+							break loop41;
 						}
 					}
 
@@ -2387,18 +2419,18 @@ public class SQLPlusLex extends Lexer {
 		try {
 			int _type = NEWLINE;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:211:2: ( ( '\\r' )? '\\n' )
-			// src/main/sqlplus/parser/SQLPlusLex.g:211:5: ( '\\r' )? '\\n'
+			// src/main/sqlplus/parser/SQLPlusLex.g:216:2: ( ( '\\r' )? '\\n' )
+			// src/main/sqlplus/parser/SQLPlusLex.g:216:5: ( '\\r' )? '\\n'
 			{
-			// src/main/sqlplus/parser/SQLPlusLex.g:211:5: ( '\\r' )?
-			int alt42=2;
-			int LA42_0 = input.LA(1);
-			if ( (LA42_0=='\r') ) {
-				alt42=1;
+			// src/main/sqlplus/parser/SQLPlusLex.g:216:5: ( '\\r' )?
+			int alt43=2;
+			int LA43_0 = input.LA(1);
+			if ( (LA43_0=='\r') ) {
+				alt43=1;
 			}
-			switch (alt42) {
+			switch (alt43) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlusLex.g:211:5: '\\r'
+					// src/main/sqlplus/parser/SQLPlusLex.g:216:5: '\\r'
 					{
 					match('\r'); 
 					}
@@ -2423,20 +2455,20 @@ public class SQLPlusLex extends Lexer {
 		try {
 			int _type = WS;
 			int _channel = DEFAULT_TOKEN_CHANNEL;
-			// src/main/sqlplus/parser/SQLPlusLex.g:216:2: ( ( ' ' | '\\t' )+ )
-			// src/main/sqlplus/parser/SQLPlusLex.g:216:5: ( ' ' | '\\t' )+
+			// src/main/sqlplus/parser/SQLPlusLex.g:221:2: ( ( ' ' | '\\t' )+ )
+			// src/main/sqlplus/parser/SQLPlusLex.g:221:5: ( ' ' | '\\t' )+
 			{
-			// src/main/sqlplus/parser/SQLPlusLex.g:216:5: ( ' ' | '\\t' )+
-			int cnt43=0;
-			loop43:
+			// src/main/sqlplus/parser/SQLPlusLex.g:221:5: ( ' ' | '\\t' )+
+			int cnt44=0;
+			loop44:
 			while (true) {
-				int alt43=2;
-				int LA43_0 = input.LA(1);
-				if ( (LA43_0=='\t'||LA43_0==' ') ) {
-					alt43=1;
+				int alt44=2;
+				int LA44_0 = input.LA(1);
+				if ( (LA44_0=='\t'||LA44_0==' ') ) {
+					alt44=1;
 				}
 
-				switch (alt43) {
+				switch (alt44) {
 				case 1 :
 					// src/main/sqlplus/parser/SQLPlusLex.g:
 					{
@@ -2452,11 +2484,11 @@ public class SQLPlusLex extends Lexer {
 					break;
 
 				default :
-					if ( cnt43 >= 1 ) break loop43;
-					EarlyExitException eee = new EarlyExitException(43, input);
+					if ( cnt44 >= 1 ) break loop44;
+					EarlyExitException eee = new EarlyExitException(44, input);
 					throw eee;
 				}
-				cnt43++;
+				cnt44++;
 			}
 
 			 _channel = HIDDEN; 
@@ -2473,10 +2505,10 @@ public class SQLPlusLex extends Lexer {
 
 	@Override
 	public void mTokens() throws RecognitionException {
-		// src/main/sqlplus/parser/SQLPlusLex.g:1:8: ( AND | ASTERISK | COMMA | COLON | DOT | EQUAL | GREATER_THAN | GREATER_THAN_EQUAL | LEFT_PARENTHESIS | LESS_THAN | LESS_THAN_EQUAL | MINUS | NOT | NOT_EQUAL | OR | PLUS | QUESTION_MARK | QUOTE | RIGHT_PARENTHESIS | SEMICOLON | UNDERSCORE | XOR | ALERT | ALL | AFTER | ANY | AS | BEFORE | DATABASES | DEFAULT | DELETE | EXISTS | FALSE | FROM | IF | IN | INTO | INSERT | IS | LIKE | NULL | SELECT | SET | SHOW | TABLES | TRUE | UPDATE | USE | VALUES | WHERE | INTEGER_NUMBER | ID | REAL_NUMBER | TEXT_STRING | NEWLINE | WS )
-		int alt44=56;
-		alt44 = dfa44.predict(input);
-		switch (alt44) {
+		// src/main/sqlplus/parser/SQLPlusLex.g:1:8: ( AND | ASTERISK | COMMA | COLON | DOT | EQUAL | GREATER_THAN | GREATER_THAN_EQUAL | LEFT_PARENTHESIS | LESS_THAN | LESS_THAN_EQUAL | MINUS | NOT | NOT_EQUAL | OR | PLUS | QUESTION_MARK | QUOTE | RIGHT_PARENTHESIS | SEMICOLON | UNDERSCORE | XOR | ALERT | ALL | AFTER | ANY | AS | BEFORE | BETWEEN | DATABASES | DEFAULT | DELETE | EXISTS | FALSE | FROM | IF | IN | INTO | INSERT | IS | LIKE | NULL | SELECT | SET | SHOW | TABLES | TRUE | UPDATE | USE | VALUES | WHERE | INTEGER_NUMBER | ID | REAL_NUMBER | TEXT_STRING | NEWLINE | WS )
+		int alt45=57;
+		alt45 = dfa45.predict(input);
+		switch (alt45) {
 			case 1 :
 				// src/main/sqlplus/parser/SQLPlusLex.g:1:10: AND
 				{
@@ -2674,196 +2706,203 @@ public class SQLPlusLex extends Lexer {
 				}
 				break;
 			case 29 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:241: DATABASES
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:241: BETWEEN
 				{
-				mDATABASES(); 
+				mBETWEEN(); 
 
 				}
 				break;
 			case 30 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:251: DEFAULT
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:249: DATABASES
 				{
-				mDEFAULT(); 
+				mDATABASES(); 
 
 				}
 				break;
 			case 31 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:259: DELETE
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:259: DEFAULT
 				{
-				mDELETE(); 
+				mDEFAULT(); 
 
 				}
 				break;
 			case 32 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:266: EXISTS
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:267: DELETE
 				{
-				mEXISTS(); 
+				mDELETE(); 
 
 				}
 				break;
 			case 33 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:273: FALSE
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:274: EXISTS
 				{
-				mFALSE(); 
+				mEXISTS(); 
 
 				}
 				break;
 			case 34 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:279: FROM
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:281: FALSE
 				{
-				mFROM(); 
+				mFALSE(); 
 
 				}
 				break;
 			case 35 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:284: IF
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:287: FROM
 				{
-				mIF(); 
+				mFROM(); 
 
 				}
 				break;
 			case 36 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:287: IN
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:292: IF
 				{
-				mIN(); 
+				mIF(); 
 
 				}
 				break;
 			case 37 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:290: INTO
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:295: IN
 				{
-				mINTO(); 
+				mIN(); 
 
 				}
 				break;
 			case 38 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:295: INSERT
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:298: INTO
 				{
-				mINSERT(); 
+				mINTO(); 
 
 				}
 				break;
 			case 39 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:302: IS
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:303: INSERT
 				{
-				mIS(); 
+				mINSERT(); 
 
 				}
 				break;
 			case 40 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:305: LIKE
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:310: IS
 				{
-				mLIKE(); 
+				mIS(); 
 
 				}
 				break;
 			case 41 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:310: NULL
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:313: LIKE
 				{
-				mNULL(); 
+				mLIKE(); 
 
 				}
 				break;
 			case 42 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:315: SELECT
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:318: NULL
 				{
-				mSELECT(); 
+				mNULL(); 
 
 				}
 				break;
 			case 43 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:322: SET
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:323: SELECT
 				{
-				mSET(); 
+				mSELECT(); 
 
 				}
 				break;
 			case 44 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:326: SHOW
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:330: SET
 				{
-				mSHOW(); 
+				mSET(); 
 
 				}
 				break;
 			case 45 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:331: TABLES
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:334: SHOW
 				{
-				mTABLES(); 
+				mSHOW(); 
 
 				}
 				break;
 			case 46 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:338: TRUE
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:339: TABLES
 				{
-				mTRUE(); 
+				mTABLES(); 
 
 				}
 				break;
 			case 47 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:343: UPDATE
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:346: TRUE
 				{
-				mUPDATE(); 
+				mTRUE(); 
 
 				}
 				break;
 			case 48 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:350: USE
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:351: UPDATE
 				{
-				mUSE(); 
+				mUPDATE(); 
 
 				}
 				break;
 			case 49 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:354: VALUES
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:358: USE
 				{
-				mVALUES(); 
+				mUSE(); 
 
 				}
 				break;
 			case 50 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:361: WHERE
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:362: VALUES
 				{
-				mWHERE(); 
+				mVALUES(); 
 
 				}
 				break;
 			case 51 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:367: INTEGER_NUMBER
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:369: WHERE
 				{
-				mINTEGER_NUMBER(); 
+				mWHERE(); 
 
 				}
 				break;
 			case 52 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:382: ID
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:375: INTEGER_NUMBER
 				{
-				mID(); 
+				mINTEGER_NUMBER(); 
 
 				}
 				break;
 			case 53 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:385: REAL_NUMBER
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:390: ID
 				{
-				mREAL_NUMBER(); 
+				mID(); 
 
 				}
 				break;
 			case 54 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:397: TEXT_STRING
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:393: REAL_NUMBER
 				{
-				mTEXT_STRING(); 
+				mREAL_NUMBER(); 
 
 				}
 				break;
 			case 55 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:409: NEWLINE
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:405: TEXT_STRING
 				{
-				mNEWLINE(); 
+				mTEXT_STRING(); 
 
 				}
 				break;
 			case 56 :
-				// src/main/sqlplus/parser/SQLPlusLex.g:1:417: WS
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:417: NEWLINE
+				{
+				mNEWLINE(); 
+
+				}
+				break;
+			case 57 :
+				// src/main/sqlplus/parser/SQLPlusLex.g:1:425: WS
 				{
 				mWS(); 
 
@@ -2874,21 +2913,21 @@ public class SQLPlusLex extends Lexer {
 	}
 
 
-	protected DFA36 dfa36 = new DFA36(this);
-	protected DFA44 dfa44 = new DFA44(this);
-	static final String DFA36_eotS =
+	protected DFA37 dfa37 = new DFA37(this);
+	protected DFA45 dfa45 = new DFA45(this);
+	static final String DFA37_eotS =
 		"\1\uffff\1\3\2\uffff\1\5\2\uffff";
-	static final String DFA36_eofS =
+	static final String DFA37_eofS =
 		"\7\uffff";
-	static final String DFA36_minS =
+	static final String DFA37_minS =
 		"\2\56\2\uffff\1\60\2\uffff";
-	static final String DFA36_maxS =
+	static final String DFA37_maxS =
 		"\2\71\2\uffff\1\71\2\uffff";
-	static final String DFA36_acceptS =
+	static final String DFA37_acceptS =
 		"\2\uffff\1\3\1\4\1\uffff\1\2\1\1";
-	static final String DFA36_specialS =
+	static final String DFA37_specialS =
 		"\7\uffff}>";
-	static final String[] DFA36_transitionS = {
+	static final String[] DFA37_transitionS = {
 			"\1\2\1\uffff\12\1",
 			"\1\4\1\uffff\12\1",
 			"",
@@ -2898,58 +2937,59 @@ public class SQLPlusLex extends Lexer {
 			""
 	};
 
-	static final short[] DFA36_eot = DFA.unpackEncodedString(DFA36_eotS);
-	static final short[] DFA36_eof = DFA.unpackEncodedString(DFA36_eofS);
-	static final char[] DFA36_min = DFA.unpackEncodedStringToUnsignedChars(DFA36_minS);
-	static final char[] DFA36_max = DFA.unpackEncodedStringToUnsignedChars(DFA36_maxS);
-	static final short[] DFA36_accept = DFA.unpackEncodedString(DFA36_acceptS);
-	static final short[] DFA36_special = DFA.unpackEncodedString(DFA36_specialS);
-	static final short[][] DFA36_transition;
+	static final short[] DFA37_eot = DFA.unpackEncodedString(DFA37_eotS);
+	static final short[] DFA37_eof = DFA.unpackEncodedString(DFA37_eofS);
+	static final char[] DFA37_min = DFA.unpackEncodedStringToUnsignedChars(DFA37_minS);
+	static final char[] DFA37_max = DFA.unpackEncodedStringToUnsignedChars(DFA37_maxS);
+	static final short[] DFA37_accept = DFA.unpackEncodedString(DFA37_acceptS);
+	static final short[] DFA37_special = DFA.unpackEncodedString(DFA37_specialS);
+	static final short[][] DFA37_transition;
 
 	static {
-		int numStates = DFA36_transitionS.length;
-		DFA36_transition = new short[numStates][];
+		int numStates = DFA37_transitionS.length;
+		DFA37_transition = new short[numStates][];
 		for (int i=0; i<numStates; i++) {
-			DFA36_transition[i] = DFA.unpackEncodedString(DFA36_transitionS[i]);
+			DFA37_transition[i] = DFA.unpackEncodedString(DFA37_transitionS[i]);
 		}
 	}
 
-	protected class DFA36 extends DFA {
+	protected class DFA37 extends DFA {
 
-		public DFA36(BaseRecognizer recognizer) {
+		public DFA37(BaseRecognizer recognizer) {
 			this.recognizer = recognizer;
-			this.decisionNumber = 36;
-			this.eot = DFA36_eot;
-			this.eof = DFA36_eof;
-			this.min = DFA36_min;
-			this.max = DFA36_max;
-			this.accept = DFA36_accept;
-			this.special = DFA36_special;
-			this.transition = DFA36_transition;
+			this.decisionNumber = 37;
+			this.eot = DFA37_eot;
+			this.eof = DFA37_eof;
+			this.min = DFA37_min;
+			this.max = DFA37_max;
+			this.accept = DFA37_accept;
+			this.special = DFA37_special;
+			this.transition = DFA37_transition;
 		}
 		@Override
 		public String getDescription() {
-			return "200:9: ( INTEGER_NUMBER DOT INTEGER_NUMBER | INTEGER_NUMBER DOT | DOT INTEGER_NUMBER | INTEGER_NUMBER )";
+			return "205:9: ( INTEGER_NUMBER DOT INTEGER_NUMBER | INTEGER_NUMBER DOT | DOT INTEGER_NUMBER | INTEGER_NUMBER )";
 		}
 	}
 
-	static final String DFA44_eotS =
+	static final String DFA45_eotS =
 		"\1\uffff\2\63\4\uffff\1\77\1\uffff\1\102\1\uffff\1\104\1\uffff\2\63\1"+
 		"\111\1\uffff\2\63\3\uffff\1\114\2\uffff\1\115\30\63\1\164\4\uffff\3\63"+
-		"\1\172\3\63\1\172\6\uffff\4\63\1\uffff\2\23\2\uffff\16\63\1\u0093\1\u0096"+
-		"\1\u0097\1\u0093\1\u0096\1\u0097\22\63\1\uffff\1\3\1\u00ae\1\63\1\u00ae"+
-		"\1\63\1\uffff\1\3\1\u00b1\2\63\1\111\1\63\1\111\1\63\2\u00b6\16\63\1\uffff"+
-		"\2\63\2\uffff\5\63\1\u00cc\2\63\1\u00cc\6\63\1\u00d5\1\63\1\u00d5\4\63"+
-		"\1\uffff\2\63\1\uffff\2\63\2\u00df\1\uffff\13\63\1\u00eb\1\63\1\u00eb"+
-		"\1\u00ed\1\63\1\u00ed\1\63\2\u00f0\1\63\1\uffff\1\u00f2\1\63\1\u00f2\1"+
-		"\63\1\u00f5\1\63\1\u00f5\1\63\1\uffff\5\63\1\u00fd\1\u00fe\1\u00fd\1\u00fe"+
-		"\1\uffff\12\63\1\u0109\1\uffff\1\u0109\1\uffff\2\63\1\uffff\1\63\1\uffff"+
-		"\2\63\1\uffff\5\63\2\u0114\2\uffff\2\u0115\2\63\1\u0118\2\63\1\u0118\2"+
-		"\u011b\1\uffff\2\u011c\2\u011d\2\u011e\2\u011f\2\u0120\2\uffff\1\63\1"+
-		"\u0122\1\uffff\1\63\1\u0122\6\uffff\1\63\1\uffff\1\63\2\u0126\1\uffff";
-	static final String DFA44_eofS =
-		"\u0127\uffff";
-	static final String DFA44_minS =
+		"\1\172\3\63\1\172\6\uffff\4\63\1\uffff\2\23\2\uffff\16\63\1\u0096\1\u0099"+
+		"\1\u009a\1\u0096\1\u0099\1\u009a\22\63\1\uffff\1\3\1\u00b1\1\63\1\u00b3"+
+		"\1\63\1\uffff\1\3\1\u00b1\1\63\1\u00b3\1\63\1\111\1\63\1\111\1\63\2\u00b9"+
+		"\20\63\1\uffff\2\63\2\uffff\5\63\1\u00d1\2\63\1\u00d1\6\63\1\u00da\1\63"+
+		"\1\u00da\4\63\1\uffff\1\63\1\uffff\3\63\2\u00e4\1\uffff\15\63\1\u00f2"+
+		"\1\63\1\u00f2\1\u00f4\1\63\1\u00f4\1\63\2\u00f7\1\63\1\uffff\1\u00f9\1"+
+		"\63\1\u00f9\1\63\1\u00fc\1\63\1\u00fc\1\63\1\uffff\5\63\1\u0104\1\u0105"+
+		"\1\u0104\1\u0105\1\uffff\14\63\1\u0112\1\uffff\1\u0112\1\uffff\2\63\1"+
+		"\uffff\1\63\1\uffff\2\63\1\uffff\5\63\2\u011d\2\uffff\1\u011e\1\63\1\u011e"+
+		"\3\63\1\u0123\2\63\1\u0123\2\u0126\1\uffff\2\u0127\2\u0128\2\u0129\2\u012a"+
+		"\2\u012b\2\uffff\2\u012c\1\63\1\u012e\1\uffff\1\63\1\u012e\7\uffff\1\63"+
+		"\1\uffff\1\63\2\u0132\1\uffff";
+	static final String DFA45_eofS =
+		"\u0133\uffff";
+	static final String DFA45_minS =
 		"\1\11\1\146\1\106\4\uffff\1\60\1\uffff\1\75\1\uffff\1\75\1\uffff\1\117"+
 		"\1\157\1\75\1\uffff\1\162\1\122\3\uffff\1\0\2\uffff\1\44\1\157\1\117\1"+
 		"\145\1\105\1\141\1\101\1\170\1\130\1\141\1\101\1\146\1\106\1\151\1\111"+
@@ -2958,54 +2998,55 @@ public class SQLPlusLex extends Lexer {
 		"\1\154\1\uffff\2\44\2\uffff\1\162\1\122\1\146\1\106\1\164\1\146\1\124"+
 		"\1\106\1\151\1\111\1\154\1\157\1\114\1\117\6\44\1\153\1\113\1\154\1\157"+
 		"\1\114\1\117\1\142\1\165\1\102\1\125\1\144\1\145\1\104\1\105\1\154\1\114"+
-		"\1\145\1\105\1\uffff\2\44\1\162\1\44\1\145\1\uffff\2\44\1\122\1\105\1"+
-		"\44\1\114\1\44\1\154\2\44\1\157\1\117\2\141\1\145\2\101\1\105\1\163\1"+
-		"\123\1\163\1\155\1\123\1\115\1\uffff\1\157\1\145\2\uffff\1\117\1\105\1"+
-		"\145\1\105\1\145\1\44\1\167\1\105\1\44\1\127\1\154\1\145\1\114\1\105\1"+
-		"\141\1\44\1\101\1\44\1\165\1\125\1\162\1\122\1\uffff\1\164\1\162\1\uffff"+
-		"\1\124\1\122\2\44\1\uffff\1\162\1\122\1\142\1\165\1\164\1\102\1\125\1"+
-		"\124\1\164\1\124\1\145\1\44\1\105\2\44\1\162\1\44\1\122\2\44\1\143\1\uffff"+
-		"\1\44\1\103\1\44\1\145\1\44\1\105\1\44\1\164\1\uffff\1\124\1\145\1\105"+
-		"\1\145\1\105\4\44\1\uffff\1\145\1\105\1\141\1\154\1\145\1\101\1\114\1"+
-		"\105\1\163\1\123\1\44\1\uffff\1\44\1\uffff\1\164\1\124\1\uffff\1\164\1"+
-		"\uffff\1\124\1\163\1\uffff\1\123\1\145\1\105\1\163\1\123\2\44\2\uffff"+
-		"\2\44\1\163\1\164\1\44\1\123\1\124\3\44\1\uffff\12\44\2\uffff\1\145\1"+
-		"\44\1\uffff\1\105\1\44\6\uffff\1\163\1\uffff\1\123\2\44\1\uffff";
-	static final String DFA44_maxS =
+		"\1\145\1\105\1\uffff\2\44\1\162\1\44\1\145\1\uffff\2\44\1\122\1\44\1\105"+
+		"\1\44\1\114\1\44\1\154\2\44\1\157\1\167\1\117\1\127\2\141\1\145\2\101"+
+		"\1\105\1\163\1\123\1\163\1\155\1\123\1\115\1\uffff\1\157\1\145\2\uffff"+
+		"\1\117\1\105\1\145\1\105\1\145\1\44\1\167\1\105\1\44\1\127\1\154\1\145"+
+		"\1\114\1\105\1\141\1\44\1\101\1\44\1\165\1\125\1\162\1\122\1\uffff\1\164"+
+		"\1\uffff\1\162\1\124\1\122\2\44\1\uffff\1\162\1\145\1\122\1\105\1\142"+
+		"\1\165\1\164\1\102\1\125\1\124\1\164\1\124\1\145\1\44\1\105\2\44\1\162"+
+		"\1\44\1\122\2\44\1\143\1\uffff\1\44\1\103\1\44\1\145\1\44\1\105\1\44\1"+
+		"\164\1\uffff\1\124\1\145\1\105\1\145\1\105\4\44\1\uffff\2\145\2\105\1"+
+		"\141\1\154\1\145\1\101\1\114\1\105\1\163\1\123\1\44\1\uffff\1\44\1\uffff"+
+		"\1\164\1\124\1\uffff\1\164\1\uffff\1\124\1\163\1\uffff\1\123\1\145\1\105"+
+		"\1\163\1\123\2\44\2\uffff\1\44\1\156\1\44\1\116\1\163\1\164\1\44\1\123"+
+		"\1\124\3\44\1\uffff\12\44\2\uffff\2\44\1\145\1\44\1\uffff\1\105\1\44\7"+
+		"\uffff\1\163\1\uffff\1\123\2\44\1\uffff";
+	static final String DFA45_maxS =
 		"\1\176\1\163\1\123\4\uffff\1\71\1\uffff\1\75\1\uffff\1\76\1\uffff\1\125"+
 		"\1\165\1\75\1\uffff\1\162\1\122\3\uffff\1\uffff\2\uffff\1\172\1\157\1"+
 		"\117\1\145\1\105\1\145\1\105\1\170\1\130\1\162\1\122\1\163\1\123\1\151"+
 		"\1\111\1\150\1\110\1\162\1\122\1\163\1\123\1\141\1\101\1\150\1\110\1\145"+
-		"\4\uffff\1\171\1\154\1\164\1\172\1\131\1\105\1\124\1\172\6\uffff\1\124"+
-		"\1\114\1\164\1\154\1\uffff\2\172\2\uffff\1\162\1\122\1\146\1\106\1\164"+
+		"\4\uffff\1\171\1\154\1\164\1\172\1\131\1\114\1\124\1\172\6\uffff\1\124"+
+		"\1\114\1\164\1\154\1\uffff\2\172\2\uffff\1\162\1\122\1\164\1\124\1\164"+
 		"\1\154\1\124\1\114\1\151\1\111\1\154\1\157\1\114\1\117\6\172\1\153\1\113"+
 		"\1\164\1\157\1\124\1\117\1\142\1\165\1\102\1\125\1\144\1\145\1\104\1\105"+
 		"\1\154\1\114\1\145\1\105\1\uffff\2\172\1\162\1\172\1\145\1\uffff\2\172"+
-		"\1\122\1\105\1\172\1\114\1\172\1\154\2\172\1\157\1\117\2\141\1\145\2\101"+
-		"\1\105\1\163\1\123\1\163\1\155\1\123\1\115\1\uffff\1\157\1\145\2\uffff"+
-		"\1\117\1\105\1\145\1\105\1\145\1\172\1\167\1\105\1\172\1\127\1\154\1\145"+
-		"\1\114\1\105\1\141\1\172\1\101\1\172\1\165\1\125\1\162\1\122\1\uffff\1"+
-		"\164\1\162\1\uffff\1\124\1\122\2\172\1\uffff\1\162\1\122\1\142\1\165\1"+
-		"\164\1\102\1\125\1\124\1\164\1\124\1\145\1\172\1\105\2\172\1\162\1\172"+
-		"\1\122\2\172\1\143\1\uffff\1\172\1\103\1\172\1\145\1\172\1\105\1\172\1"+
-		"\164\1\uffff\1\124\1\145\1\105\1\145\1\105\4\172\1\uffff\1\145\1\105\1"+
-		"\141\1\154\1\145\1\101\1\114\1\105\1\163\1\123\1\172\1\uffff\1\172\1\uffff"+
-		"\1\164\1\124\1\uffff\1\164\1\uffff\1\124\1\163\1\uffff\1\123\1\145\1\105"+
-		"\1\163\1\123\2\172\2\uffff\2\172\1\163\1\164\1\172\1\123\1\124\3\172\1"+
-		"\uffff\12\172\2\uffff\1\145\1\172\1\uffff\1\105\1\172\6\uffff\1\163\1"+
-		"\uffff\1\123\2\172\1\uffff";
-	static final String DFA44_acceptS =
+		"\1\122\1\172\1\105\1\172\1\114\1\172\1\154\2\172\1\157\1\167\1\117\1\127"+
+		"\2\141\1\145\2\101\1\105\1\163\1\123\1\163\1\155\1\123\1\115\1\uffff\1"+
+		"\157\1\145\2\uffff\1\117\1\105\1\145\1\105\1\145\1\172\1\167\1\105\1\172"+
+		"\1\127\1\154\1\145\1\114\1\105\1\141\1\172\1\101\1\172\1\165\1\125\1\162"+
+		"\1\122\1\uffff\1\164\1\uffff\1\162\1\124\1\122\2\172\1\uffff\1\162\1\145"+
+		"\1\122\1\105\1\142\1\165\1\164\1\102\1\125\1\124\1\164\1\124\1\145\1\172"+
+		"\1\105\2\172\1\162\1\172\1\122\2\172\1\143\1\uffff\1\172\1\103\1\172\1"+
+		"\145\1\172\1\105\1\172\1\164\1\uffff\1\124\1\145\1\105\1\145\1\105\4\172"+
+		"\1\uffff\2\145\2\105\1\141\1\154\1\145\1\101\1\114\1\105\1\163\1\123\1"+
+		"\172\1\uffff\1\172\1\uffff\1\164\1\124\1\uffff\1\164\1\uffff\1\124\1\163"+
+		"\1\uffff\1\123\1\145\1\105\1\163\1\123\2\172\2\uffff\1\172\1\156\1\172"+
+		"\1\116\1\163\1\164\1\172\1\123\1\124\3\172\1\uffff\12\172\2\uffff\2\172"+
+		"\1\145\1\172\1\uffff\1\105\1\172\7\uffff\1\163\1\uffff\1\123\2\172\1\uffff";
+	static final String DFA45_acceptS =
 		"\3\uffff\1\1\1\2\1\3\1\4\1\uffff\1\6\1\uffff\1\11\1\uffff\1\14\3\uffff"+
-		"\1\16\2\uffff\1\17\1\20\1\21\1\uffff\1\23\1\24\32\uffff\1\64\1\66\1\67"+
-		"\1\70\10\uffff\1\5\1\65\1\10\1\7\1\13\1\12\4\uffff\1\15\2\uffff\1\22\1"+
-		"\25\46\uffff\1\63\5\uffff\1\33\30\uffff\1\43\2\uffff\1\44\1\47\26\uffff"+
-		"\1\30\2\uffff\1\32\4\uffff\1\26\25\uffff\1\53\10\uffff\1\60\11\uffff\1"+
-		"\51\13\uffff\1\42\1\uffff\1\45\2\uffff\1\50\1\uffff\1\54\2\uffff\1\56"+
-		"\7\uffff\1\27\1\31\12\uffff\1\41\12\uffff\1\62\1\34\2\uffff\1\37\2\uffff"+
-		"\1\40\1\46\1\52\1\55\1\57\1\61\1\uffff\1\36\3\uffff\1\35";
-	static final String DFA44_specialS =
-		"\26\uffff\1\0\u0110\uffff}>";
-	static final String[] DFA44_transitionS = {
+		"\1\16\2\uffff\1\17\1\20\1\21\1\uffff\1\23\1\24\32\uffff\1\65\1\67\1\70"+
+		"\1\71\10\uffff\1\5\1\66\1\10\1\7\1\13\1\12\4\uffff\1\15\2\uffff\1\22\1"+
+		"\25\46\uffff\1\64\5\uffff\1\33\33\uffff\1\44\2\uffff\1\45\1\50\26\uffff"+
+		"\1\32\1\uffff\1\30\5\uffff\1\26\27\uffff\1\54\10\uffff\1\61\11\uffff\1"+
+		"\52\15\uffff\1\43\1\uffff\1\46\2\uffff\1\51\1\uffff\1\55\2\uffff\1\57"+
+		"\7\uffff\1\27\1\31\14\uffff\1\42\12\uffff\1\63\1\34\4\uffff\1\40\2\uffff"+
+		"\1\41\1\47\1\53\1\56\1\60\1\62\1\35\1\uffff\1\37\3\uffff\1\36";
+	static final String DFA45_specialS =
+		"\26\uffff\1\0\u011c\uffff}>";
+	static final String[] DFA45_transitionS = {
 			"\1\66\1\65\2\uffff\1\65\22\uffff\1\66\1\17\1\64\1\uffff\1\63\1\uffff"+
 			"\1\3\1\26\1\12\1\27\1\4\1\24\1\5\1\14\1\7\1\uffff\12\62\1\6\1\30\1\13"+
 			"\1\10\1\11\1\25\1\uffff\1\2\1\35\1\63\1\37\1\41\1\43\2\63\1\45\2\63\1"+
@@ -3072,8 +3113,8 @@ public class SQLPlusLex extends Lexer {
 			"\1\171",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\173\24\uffff\1\174",
-			"\1\175",
-			"\1\176",
+			"\1\175\6\uffff\1\176",
+			"\1\177",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
 			"",
@@ -3081,45 +3122,42 @@ public class SQLPlusLex extends Lexer {
 			"",
 			"",
 			"",
-			"\1\177",
 			"\1\u0080",
 			"\1\u0081",
 			"\1\u0082",
+			"\1\u0083",
 			"",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
 			"",
-			"\1\u0083",
 			"\1\u0084",
 			"\1\u0085",
-			"\1\u0086",
-			"\1\u0087",
-			"\1\u0088\5\uffff\1\u0089",
+			"\1\u0086\15\uffff\1\u0087",
+			"\1\u0088\15\uffff\1\u0089",
 			"\1\u008a",
 			"\1\u008b\5\uffff\1\u008c",
 			"\1\u008d",
-			"\1\u008e",
-			"\1\u008f",
+			"\1\u008e\5\uffff\1\u008f",
 			"\1\u0090",
 			"\1\u0091",
 			"\1\u0092",
+			"\1\u0093",
+			"\1\u0094",
+			"\1\u0095",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\22\63\1\u0095"+
-			"\1\u0094\6\63",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\22\63\1\u0098"+
+			"\1\u0097\6\63",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\63\13\uffff\12\63\7\uffff\22\63\1\u0099\1\u0098\6\63\4\uffff\1\63"+
+			"\1\63\13\uffff\12\63\7\uffff\22\63\1\u009c\1\u009b\6\63\4\uffff\1\63"+
 			"\1\uffff\32\63",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u009a",
-			"\1\u009b",
-			"\1\u009c\7\uffff\1\u009d",
+			"\1\u009d",
 			"\1\u009e",
 			"\1\u009f\7\uffff\1\u00a0",
 			"\1\u00a1",
-			"\1\u00a2",
-			"\1\u00a3",
+			"\1\u00a2\7\uffff\1\u00a3",
 			"\1\u00a4",
 			"\1\u00a5",
 			"\1\u00a6",
@@ -3130,26 +3168,27 @@ public class SQLPlusLex extends Lexer {
 			"\1\u00ab",
 			"\1\u00ac",
 			"\1\u00ad",
-			"",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00ae",
 			"\1\u00af",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00b0",
 			"",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00b2",
-			"\1\u00b3",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00b4",
+			"",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00b5",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00b6",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00b7",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00b8",
-			"\1\u00b9",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00ba",
 			"\1\u00bb",
 			"\1\u00bc",
@@ -3161,121 +3200,132 @@ public class SQLPlusLex extends Lexer {
 			"\1\u00c2",
 			"\1\u00c3",
 			"\1\u00c4",
-			"",
 			"\1\u00c5",
 			"\1\u00c6",
-			"",
-			"",
 			"\1\u00c7",
 			"\1\u00c8",
 			"\1\u00c9",
+			"",
 			"\1\u00ca",
 			"\1\u00cb",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"",
+			"",
+			"\1\u00cc",
 			"\1\u00cd",
 			"\1\u00ce",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00cf",
 			"\1\u00d0",
-			"\1\u00d1",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00d2",
 			"\1\u00d3",
-			"\1\u00d4",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00d4",
+			"\1\u00d5",
 			"\1\u00d6",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00d7",
 			"\1\u00d8",
 			"\1\u00d9",
-			"\1\u00da",
-			"",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00db",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00dc",
-			"",
 			"\1\u00dd",
 			"\1\u00de",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00df",
 			"",
 			"\1\u00e0",
+			"",
 			"\1\u00e1",
 			"\1\u00e2",
 			"\1\u00e3",
-			"\1\u00e4",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"",
 			"\1\u00e5",
 			"\1\u00e6",
 			"\1\u00e7",
 			"\1\u00e8",
 			"\1\u00e9",
 			"\1\u00ea",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00eb",
 			"\1\u00ec",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00ed",
 			"\1\u00ee",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00ef",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00f0",
 			"\1\u00f1",
-			"",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00f3",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00f4",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00f5",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00f6",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\u00f7",
-			"",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u00f8",
-			"\1\u00f9",
-			"\1\u00fa",
-			"\1\u00fb",
-			"\1\u00fc",
+			"",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00fa",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00fb",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00fd",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u00fe",
 			"",
 			"\1\u00ff",
 			"\1\u0100",
 			"\1\u0101",
 			"\1\u0102",
 			"\1\u0103",
-			"\1\u0104",
-			"\1\u0105",
-			"\1\u0106",
-			"\1\u0107",
-			"\1\u0108",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
+			"\1\u0106",
+			"\1\u0107",
+			"\1\u0108",
+			"\1\u0109",
 			"\1\u010a",
 			"\1\u010b",
-			"",
 			"\1\u010c",
-			"",
 			"\1\u010d",
 			"\1\u010e",
-			"",
 			"\1\u010f",
 			"\1\u0110",
 			"\1\u0111",
-			"\1\u0112",
-			"\1\u0113",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
+			"\1\u0113",
+			"\1\u0114",
+			"",
+			"\1\u0115",
 			"",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\u0116",
 			"\1\u0117",
-			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"",
+			"\1\u0118",
 			"\1\u0119",
 			"\1\u011a",
+			"\1\u011b",
+			"\1\u011c",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"",
+			"",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u011f",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u0120",
+			"\1\u0121",
+			"\1\u0122",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u0124",
+			"\1\u0125",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
@@ -3292,10 +3342,12 @@ public class SQLPlusLex extends Lexer {
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
 			"",
-			"\1\u0121",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
+			"\1\u012d",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
-			"\1\u0123",
+			"\1\u012f",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"",
 			"",
@@ -3303,46 +3355,47 @@ public class SQLPlusLex extends Lexer {
 			"",
 			"",
 			"",
-			"\1\u0124",
 			"",
-			"\1\u0125",
+			"\1\u0130",
+			"",
+			"\1\u0131",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			"\1\63\13\uffff\12\63\7\uffff\32\63\4\uffff\1\63\1\uffff\32\63",
 			""
 	};
 
-	static final short[] DFA44_eot = DFA.unpackEncodedString(DFA44_eotS);
-	static final short[] DFA44_eof = DFA.unpackEncodedString(DFA44_eofS);
-	static final char[] DFA44_min = DFA.unpackEncodedStringToUnsignedChars(DFA44_minS);
-	static final char[] DFA44_max = DFA.unpackEncodedStringToUnsignedChars(DFA44_maxS);
-	static final short[] DFA44_accept = DFA.unpackEncodedString(DFA44_acceptS);
-	static final short[] DFA44_special = DFA.unpackEncodedString(DFA44_specialS);
-	static final short[][] DFA44_transition;
+	static final short[] DFA45_eot = DFA.unpackEncodedString(DFA45_eotS);
+	static final short[] DFA45_eof = DFA.unpackEncodedString(DFA45_eofS);
+	static final char[] DFA45_min = DFA.unpackEncodedStringToUnsignedChars(DFA45_minS);
+	static final char[] DFA45_max = DFA.unpackEncodedStringToUnsignedChars(DFA45_maxS);
+	static final short[] DFA45_accept = DFA.unpackEncodedString(DFA45_acceptS);
+	static final short[] DFA45_special = DFA.unpackEncodedString(DFA45_specialS);
+	static final short[][] DFA45_transition;
 
 	static {
-		int numStates = DFA44_transitionS.length;
-		DFA44_transition = new short[numStates][];
+		int numStates = DFA45_transitionS.length;
+		DFA45_transition = new short[numStates][];
 		for (int i=0; i<numStates; i++) {
-			DFA44_transition[i] = DFA.unpackEncodedString(DFA44_transitionS[i]);
+			DFA45_transition[i] = DFA.unpackEncodedString(DFA45_transitionS[i]);
 		}
 	}
 
-	protected class DFA44 extends DFA {
+	protected class DFA45 extends DFA {
 
-		public DFA44(BaseRecognizer recognizer) {
+		public DFA45(BaseRecognizer recognizer) {
 			this.recognizer = recognizer;
-			this.decisionNumber = 44;
-			this.eot = DFA44_eot;
-			this.eof = DFA44_eof;
-			this.min = DFA44_min;
-			this.max = DFA44_max;
-			this.accept = DFA44_accept;
-			this.special = DFA44_special;
-			this.transition = DFA44_transition;
+			this.decisionNumber = 45;
+			this.eot = DFA45_eot;
+			this.eof = DFA45_eof;
+			this.min = DFA45_min;
+			this.max = DFA45_max;
+			this.accept = DFA45_accept;
+			this.special = DFA45_special;
+			this.transition = DFA45_transition;
 		}
 		@Override
 		public String getDescription() {
-			return "1:1: Tokens : ( AND | ASTERISK | COMMA | COLON | DOT | EQUAL | GREATER_THAN | GREATER_THAN_EQUAL | LEFT_PARENTHESIS | LESS_THAN | LESS_THAN_EQUAL | MINUS | NOT | NOT_EQUAL | OR | PLUS | QUESTION_MARK | QUOTE | RIGHT_PARENTHESIS | SEMICOLON | UNDERSCORE | XOR | ALERT | ALL | AFTER | ANY | AS | BEFORE | DATABASES | DEFAULT | DELETE | EXISTS | FALSE | FROM | IF | IN | INTO | INSERT | IS | LIKE | NULL | SELECT | SET | SHOW | TABLES | TRUE | UPDATE | USE | VALUES | WHERE | INTEGER_NUMBER | ID | REAL_NUMBER | TEXT_STRING | NEWLINE | WS );";
+			return "1:1: Tokens : ( AND | ASTERISK | COMMA | COLON | DOT | EQUAL | GREATER_THAN | GREATER_THAN_EQUAL | LEFT_PARENTHESIS | LESS_THAN | LESS_THAN_EQUAL | MINUS | NOT | NOT_EQUAL | OR | PLUS | QUESTION_MARK | QUOTE | RIGHT_PARENTHESIS | SEMICOLON | UNDERSCORE | XOR | ALERT | ALL | AFTER | ANY | AS | BEFORE | BETWEEN | DATABASES | DEFAULT | DELETE | EXISTS | FALSE | FROM | IF | IN | INTO | INSERT | IS | LIKE | NULL | SELECT | SET | SHOW | TABLES | TRUE | UPDATE | USE | VALUES | WHERE | INTEGER_NUMBER | ID | REAL_NUMBER | TEXT_STRING | NEWLINE | WS );";
 		}
 		@Override
 		public int specialStateTransition(int s, IntStream _input) throws NoViableAltException {
@@ -3350,15 +3403,15 @@ public class SQLPlusLex extends Lexer {
 			int _s = s;
 			switch ( s ) {
 					case 0 : 
-						int LA44_22 = input.LA(1);
+						int LA45_22 = input.LA(1);
 						s = -1;
-						if ( ((LA44_22 >= '\u0000' && LA44_22 <= '\uFFFF')) ) {s = 52;}
+						if ( ((LA45_22 >= '\u0000' && LA45_22 <= '\uFFFF')) ) {s = 52;}
 						else s = 76;
 						if ( s>=0 ) return s;
 						break;
 			}
 			NoViableAltException nvae =
-				new NoViableAltException(getDescription(), 44, _s, input);
+				new NoViableAltException(getDescription(), 45, _s, input);
 			error(nvae);
 			throw nvae;
 		}
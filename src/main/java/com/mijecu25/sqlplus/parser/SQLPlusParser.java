@@ -1,18 +1,22 @@
-// $ANTLR 3.5.2 src/main/sqlplus/parser/SQLPlus.g 2016-07-14 21:22:21
+// $ANTLR 3.5.2 src/main/sqlplus/parser/SQLPlus.g 2026-10-19 10:17:27
 
 	package com.mijecu25.sqlplus.parser;
 
     import java.util.Map;
     import java.util.HashMap;
+    import java.util.LinkedHashMap;
 
 	import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+	import com.mijecu25.sqlplus.compiler.core.statement.StatementAlert;
 	import com.mijecu25.sqlplus.compiler.core.statement.StatementUseDatabase;
 	import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
 	import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
 	import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSingleTableUpdateStatement;
+	import com.mijecu25.sqlplus.compiler.core.expression.ColumnarValues;
 	import com.mijecu25.sqlplus.compiler.core.expression.Expression;
-	import com.mijecu25.sqlplus.compiler.core.expression.ExpressionBinary;
-	import com.mijecu25.sqlplus.compiler.core.expression.ExpressionLiteral;
+	import com.mijecu25.sqlplus.compiler.core.expression.ExpressionFactory;
+	import com.mijecu25.sqlplus.compiler.core.expression.ExpressionIs;
+	import com.mijecu25.sqlplus.compiler.core.expression.ExpressionSubquery;
 
 
 import org.antlr.runtime.*;
@@ -24,13 +28,14 @@ import java.util.ArrayList;
 public class SQLPlusParser extends Parser {
 	public static final String[] tokenNames = new String[] {
 		"<invalid>", "<EOR>", "<DOWN>", "<UP>", "AFTER", "ALERT", "ALL", "AND", 
-		"ANY", "AS", "ASTERISK", "BEFORE", "COLON", "COMMA", "DATABASES", "DEFAULT", 
-		"DELETE", "DOT", "EQUAL", "EXISTS", "FALSE", "FROM", "GREATER_THAN", "GREATER_THAN_EQUAL", 
-		"ID", "IF", "IN", "INSERT", "INTEGER_NUMBER", "INTO", "IS", "LEFT_PARENTHESIS", 
-		"LESS_THAN", "LESS_THAN_EQUAL", "LIKE", "MINUS", "NEWLINE", "NOT", "NOT_EQUAL", 
-		"NULL", "OR", "PLUS", "QUESTION_MARK", "QUOTE", "REAL_NUMBER", "RIGHT_PARENTHESIS", 
-		"SELECT", "SEMICOLON", "SET", "SHOW", "TABLES", "TEXT_STRING", "TRUE", 
-		"UNDERSCORE", "UPDATE", "USE", "VALUES", "WHERE", "WS", "XOR"
+		"ANY", "AS", "ASTERISK", "BEFORE", "BETWEEN", "COLON", "COMMA", "DATABASES", 
+		"DEFAULT", "DELETE", "DOT", "EQUAL", "EXISTS", "FALSE", "FROM", "GREATER_THAN", 
+		"GREATER_THAN_EQUAL", "ID", "IF", "IN", "INSERT", "INTEGER_NUMBER", "INTO", 
+		"IS", "LEFT_PARENTHESIS", "LESS_THAN", "LESS_THAN_EQUAL", "LIKE", "MINUS", 
+		"NEWLINE", "NOT", "NOT_EQUAL", "NULL", "OR", "PLUS", "QUESTION_MARK", 
+		"QUOTE", "REAL_NUMBER", "RIGHT_PARENTHESIS", "SELECT", "SEMICOLON", "SET", 
+		"SHOW", "TABLES", "TEXT_STRING", "TRUE", "UNDERSCORE", "UPDATE", "USE", 
+		"VALUES", "WHERE", "WS", "XOR"
 	};
 	public static final int EOF=-1;
 	public static final int AFTER=4;
@@ -41,54 +46,55 @@ public class SQLPlusParser extends Parser {
 	public static final int AS=9;
 	public static final int ASTERISK=10;
 	public static final int BEFORE=11;
-	public static final int COLON=12;
-	public static final int COMMA=13;
-	public static final int DATABASES=14;
-	public static final int DEFAULT=15;
-	public static final int DELETE=16;
-	public static final int DOT=17;
-	public static final int EQUAL=18;
-	public static final int EXISTS=19;
-	public static final int FALSE=20;
-	public static final int FROM=21;
-	public static final int GREATER_THAN=22;
-	public static final int GREATER_THAN_EQUAL=23;
-	public static final int ID=24;
-	public static final int IF=25;
-	public static final int IN=26;
-	public static final int INSERT=27;
-	public static final int INTEGER_NUMBER=28;
-	public static final int INTO=29;
-	public static final int IS=30;
-	public static final int LEFT_PARENTHESIS=31;
-	public static final int LESS_THAN=32;
-	public static final int LESS_THAN_EQUAL=33;
-	public static final int LIKE=34;
-	public static final int MINUS=35;
-	public static final int NEWLINE=36;
-	public static final int NOT=37;
-	public static final int NOT_EQUAL=38;
-	public static final int NULL=39;
-	public static final int OR=40;
-	public static final int PLUS=41;
-	public static final int QUESTION_MARK=42;
-	public static final int QUOTE=43;
-	public static final int REAL_NUMBER=44;
-	public static final int RIGHT_PARENTHESIS=45;
-	public static final int SELECT=46;
-	public static final int SEMICOLON=47;
-	public static final int SET=48;
-	public static final int SHOW=49;
-	public static final int TABLES=50;
-	public static final int TEXT_STRING=51;
-	public static final int TRUE=52;
-	public static final int UNDERSCORE=53;
-	public static final int UPDATE=54;
-	public static final int USE=55;
-	public static final int VALUES=56;
-	public static final int WHERE=57;
-	public static final int WS=58;
-	public static final int XOR=59;
+	public static final int BETWEEN=12;
+	public static final int COLON=13;
+	public static final int COMMA=14;
+	public static final int DATABASES=15;
+	public static final int DEFAULT=16;
+	public static final int DELETE=17;
+	public static final int DOT=18;
+	public static final int EQUAL=19;
+	public static final int EXISTS=20;
+	public static final int FALSE=21;
+	public static final int FROM=22;
+	public static final int GREATER_THAN=23;
+	public static final int GREATER_THAN_EQUAL=24;
+	public static final int ID=25;
+	public static final int IF=26;
+	public static final int IN=27;
+	public static final int INSERT=28;
+	public static final int INTEGER_NUMBER=29;
+	public static final int INTO=30;
+	public static final int IS=31;
+	public static final int LEFT_PARENTHESIS=32;
+	public static final int LESS_THAN=33;
+	public static final int LESS_THAN_EQUAL=34;
+	public static final int LIKE=35;
+	public static final int MINUS=36;
+	public static final int NEWLINE=37;
+	public static final int NOT=38;
+	public static final int NOT_EQUAL=39;
+	public static final int NULL=40;
+	public static final int OR=41;
+	public static final int PLUS=42;
+	public static final int QUESTION_MARK=43;
+	public static final int QUOTE=44;
+	public static final int REAL_NUMBER=45;
+	public static final int RIGHT_PARENTHESIS=46;
+	public static final int SELECT=47;
+	public static final int SEMICOLON=48;
+	public static final int SET=49;
+	public static final int SHOW=50;
+	public static final int TABLES=51;
+	public static final int TEXT_STRING=52;
+	public static final int TRUE=53;
+	public static final int UNDERSCORE=54;
+	public static final int UPDATE=55;
+	public static final int USE=56;
+	public static final int VALUES=57;
+	public static final int WHERE=58;
+	public static final int WS=59;
+	public static final int XOR=60;
 
 	// delegates
 	public Parser[] getDelegates() {
@@ -122,21 +128,40 @@ public class SQLPlusParser extends Parser {
 			throw new MismatchedTokenException(ttype, input);
 		}
 
+		/**
+		 * Return the text matched by a rule. The text is copied once from the input, instead of concatenating the text
+		 * of each token like the text attribute of a rule does.
+		 *
+		 * @param start the first token matched by the rule.
+		 * @param stop the last token matched by the rule.
+		 *
+		 * @return the text matched by the rule.
+		 */
+		protected String text(Token start, Token stop) {
+			if(stop == null || stop.getTokenIndex() < start.getTokenIndex()) {
+				return "";
+			}
+
+			return start.getInputStream().substring(((CommonToken) start).getStartIndex(),
+					((CommonToken) stop).getStopIndex());
+		}
+
 
 
 	// $ANTLR start "sqlplus"
-	// src/main/sqlplus/parser/SQLPlus.g:43:1: sqlplus returns [Statement statement] : ( sql_statement SEMICOLON | sqlplus_alert );
+	// src/main/sqlplus/parser/SQLPlus.g:65:1: sqlplus returns [Statement statement] : ( sql_statement SEMICOLON | sqlplus_alert );
 	public final Statement sqlplus() throws RecognitionException {
 		Statement statement = null;
 
 
 		Statement sql_statement1 =null;
+		StatementAlert sqlplus_alert2 =null;
 
 
 				statement = null;
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:47:2: ( sql_statement SEMICOLON | sqlplus_alert )
+			// src/main/sqlplus/parser/SQLPlus.g:69:2: ( sql_statement SEMICOLON | sqlplus_alert )
 			int alt1=2;
 			int LA1_0 = input.LA(1);
 			if ( (LA1_0==INSERT||LA1_0==SELECT||(LA1_0 >= UPDATE && LA1_0 <= USE)) ) {
@@ -154,7 +179,7 @@ public class SQLPlusParser extends Parser {
 
 			switch (alt1) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:47:5: sql_statement SEMICOLON
+					// src/main/sqlplus/parser/SQLPlus.g:69:5: sql_statement SEMICOLON
 					{
 					pushFollow(FOLLOW_sql_statement_in_sqlplus47);
 					sql_statement1=sql_statement();
@@ -167,12 +192,15 @@ public class SQLPlusParser extends Parser {
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlus.g:51:4: sqlplus_alert
+					// src/main/sqlplus/parser/SQLPlus.g:73:4: sqlplus_alert
 					{
 					pushFollow(FOLLOW_sqlplus_alert_in_sqlplus59);
-					sqlplus_alert();
+					sqlplus_alert2=sqlplus_alert();
 					state._fsp--;
 
+
+								statement = sqlplus_alert2;
+							
 					}
 					break;
 
@@ -193,36 +221,226 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "sqlplus_alert"
-	// src/main/sqlplus/parser/SQLPlus.g:55:1: sqlplus_alert : ALERT timing data_manipulation_language IN ID IF ID relational_operation match_value SEMICOLON ;
-	public final void sqlplus_alert() throws RecognitionException {
+	// src/main/sqlplus/parser/SQLPlus.g:79:1: sqlplus_alert returns [StatementAlert alert] : ALERT timing data_manipulation_language IN table= ID IF alert_condition SEMICOLON ;
+	public final StatementAlert sqlplus_alert() throws RecognitionException {
+		StatementAlert alert = null;
+
+
+		Token table=null;
+		ParserRuleReturnScope timing3 =null;
+		ParserRuleReturnScope data_manipulation_language4 =null;
+		Expression alert_condition5 =null;
+
+
+				alert = null;
+			
+		try {
+			// src/main/sqlplus/parser/SQLPlus.g:83:2: ( ALERT timing data_manipulation_language IN table= ID IF alert_condition SEMICOLON )
+			// src/main/sqlplus/parser/SQLPlus.g:83:4: ALERT timing data_manipulation_language IN table= ID IF alert_condition SEMICOLON
+			{
+			match(input,ALERT,FOLLOW_ALERT_in_sqlplus_alert83); 
+			pushFollow(FOLLOW_timing_in_sqlplus_alert85);
+			timing3=timing();
+			state._fsp--;
+
+			pushFollow(FOLLOW_data_manipulation_language_in_sqlplus_alert87);
+			data_manipulation_language4=data_manipulation_language();
+			state._fsp--;
+
+			match(input,IN,FOLLOW_IN_in_sqlplus_alert89); 
+			table=(Token)match(input,ID,FOLLOW_ID_in_sqlplus_alert95); 
+			match(input,IF,FOLLOW_IF_in_sqlplus_alert97); 
+			pushFollow(FOLLOW_alert_condition_in_sqlplus_alert99);
+			alert_condition5=alert_condition();
+			state._fsp--;
+
+			match(input,SEMICOLON,FOLLOW_SEMICOLON_in_sqlplus_alert101); 
+
+							alert = new StatementAlert((timing3!=null?input.toString(timing3.start,timing3.stop):null), (data_manipulation_language4!=null?input.toString(data_manipulation_language4.start,data_manipulation_language4.stop):null), (table!=null?table.getText():null),
+									alert_condition5);
+						
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return alert;
+	}
+	// $ANTLR end "sqlplus_alert"
+
+
+
+	// $ANTLR start "alert_condition"
+	// src/main/sqlplus/parser/SQLPlus.g:90:1: alert_condition returns [Expression expr] : left= alert_conjunction ( OR right= alert_conjunction )* ;
+	public final Expression alert_condition() throws RecognitionException {
+		Expression expr = null;
+
+
+		Token OR6=null;
+		Expression left =null;
+		Expression right =null;
+
+
+				expr = null;
+			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:56:2: ( ALERT timing data_manipulation_language IN ID IF ID relational_operation match_value SEMICOLON )
-			// src/main/sqlplus/parser/SQLPlus.g:56:4: ALERT timing data_manipulation_language IN ID IF ID relational_operation match_value SEMICOLON
+			// src/main/sqlplus/parser/SQLPlus.g:94:2: (left= alert_conjunction ( OR right= alert_conjunction )* )
+			// src/main/sqlplus/parser/SQLPlus.g:94:4: left= alert_conjunction ( OR right= alert_conjunction )*
 			{
-			match(input,ALERT,FOLLOW_ALERT_in_sqlplus_alert71); 
-			pushFollow(FOLLOW_timing_in_sqlplus_alert73);
-			timing();
+			pushFollow(FOLLOW_alert_conjunction_in_alert_condition131);
+			left=alert_conjunction();
 			state._fsp--;
 
-			pushFollow(FOLLOW_data_manipulation_language_in_sqlplus_alert75);
-			data_manipulation_language();
+			 expr = left; 
+			// src/main/sqlplus/parser/SQLPlus.g:95:3: ( OR right= alert_conjunction )*
+			loop2:
+			while (true) {
+				int alt2=2;
+				int LA2_0 = input.LA(1);
+				if ( (LA2_0==OR) ) {
+					alt2=1;
+				}
+
+				switch (alt2) {
+				case 1 :
+					// src/main/sqlplus/parser/SQLPlus.g:96:4: OR right= alert_conjunction
+					{
+					OR6=(Token)match(input,OR,FOLLOW_OR_in_alert_condition142); 
+					pushFollow(FOLLOW_alert_conjunction_in_alert_condition148);
+					right=alert_conjunction();
+					state._fsp--;
+
+
+									expr = ExpressionFactory.binary((OR6!=null?OR6.getText():null), expr, right);
+								
+					}
+					break;
+
+				default :
+					break loop2;
+				}
+			}
+
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "alert_condition"
+
+
+
+	// $ANTLR start "alert_conjunction"
+	// src/main/sqlplus/parser/SQLPlus.g:102:1: alert_conjunction returns [Expression expr] : left= alert_comparison ( AND right= alert_comparison )* ;
+	public final Expression alert_conjunction() throws RecognitionException {
+		Expression expr = null;
+
+
+		Token AND7=null;
+		Expression left =null;
+		Expression right =null;
+
+
+				expr = null;
+			
+		try {
+			// src/main/sqlplus/parser/SQLPlus.g:106:2: (left= alert_comparison ( AND right= alert_comparison )* )
+			// src/main/sqlplus/parser/SQLPlus.g:106:4: left= alert_comparison ( AND right= alert_comparison )*
+			{
+			pushFollow(FOLLOW_alert_comparison_in_alert_conjunction180);
+			left=alert_comparison();
 			state._fsp--;
 
-			match(input,IN,FOLLOW_IN_in_sqlplus_alert77); 
-			match(input,ID,FOLLOW_ID_in_sqlplus_alert79); 
-			match(input,IF,FOLLOW_IF_in_sqlplus_alert81); 
-			match(input,ID,FOLLOW_ID_in_sqlplus_alert83); 
-			pushFollow(FOLLOW_relational_operation_in_sqlplus_alert85);
-			relational_operation();
+			 expr = left; 
+			// src/main/sqlplus/parser/SQLPlus.g:107:3: ( AND right= alert_comparison )*
+			loop3:
+			while (true) {
+				int alt3=2;
+				int LA3_0 = input.LA(1);
+				if ( (LA3_0==AND) ) {
+					alt3=1;
+				}
+
+				switch (alt3) {
+				case 1 :
+					// src/main/sqlplus/parser/SQLPlus.g:108:4: AND right= alert_comparison
+					{
+					AND7=(Token)match(input,AND,FOLLOW_AND_in_alert_conjunction191); 
+					pushFollow(FOLLOW_alert_comparison_in_alert_conjunction197);
+					right=alert_comparison();
+					state._fsp--;
+
+
+									expr = ExpressionFactory.binary((AND7!=null?AND7.getText():null), expr, right);
+								
+					}
+					break;
+
+				default :
+					break loop3;
+				}
+			}
+
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "alert_conjunction"
+
+
+
+	// $ANTLR start "alert_comparison"
+	// src/main/sqlplus/parser/SQLPlus.g:114:1: alert_comparison returns [Expression expr] : column= ID relational_operation match_value ;
+	public final Expression alert_comparison() throws RecognitionException {
+		Expression expr = null;
+
+
+		Token column=null;
+		ParserRuleReturnScope relational_operation8 =null;
+		Expression match_value9 =null;
+
+
+				expr = null;
+			
+		try {
+			// src/main/sqlplus/parser/SQLPlus.g:118:2: (column= ID relational_operation match_value )
+			// src/main/sqlplus/parser/SQLPlus.g:118:4: column= ID relational_operation match_value
+			{
+			column=(Token)match(input,ID,FOLLOW_ID_in_alert_comparison229); 
+			pushFollow(FOLLOW_relational_operation_in_alert_comparison231);
+			relational_operation8=relational_operation();
 			state._fsp--;
 
-			pushFollow(FOLLOW_match_value_in_sqlplus_alert87);
-			match_value();
+			pushFollow(FOLLOW_match_value_in_alert_comparison233);
+			match_value9=match_value();
 			state._fsp--;
 
-			match(input,SEMICOLON,FOLLOW_SEMICOLON_in_sqlplus_alert89); 
 
-							System.out.println("Created SQLPlus alert");
+							expr = ExpressionFactory.binary(text((relational_operation8!=null?(relational_operation8.start):null), (relational_operation8!=null?(relational_operation8.stop):null)),
+									ExpressionFactory.column((column!=null?column.getText():null)), match_value9);
 						
 			}
 
@@ -235,62 +453,63 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
+		return expr;
 	}
-	// $ANTLR end "sqlplus_alert"
+	// $ANTLR end "alert_comparison"
 
 
 
 	// $ANTLR start "sql_statement"
-	// src/main/sqlplus/parser/SQLPlus.g:62:1: sql_statement returns [Statement sqlStatement] : ( data_manipulation_statements | use_statement );
+	// src/main/sqlplus/parser/SQLPlus.g:125:1: sql_statement returns [Statement sqlStatement] : ( data_manipulation_statements | use_statement );
 	public final Statement sql_statement() throws RecognitionException {
 		Statement sqlStatement = null;
 
 
-		Statement data_manipulation_statements2 =null;
-		Statement use_statement3 =null;
+		Statement data_manipulation_statements10 =null;
+		Statement use_statement11 =null;
 
 
 				sqlStatement = null;
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:66:2: ( data_manipulation_statements | use_statement )
-			int alt2=2;
-			int LA2_0 = input.LA(1);
-			if ( (LA2_0==INSERT||LA2_0==SELECT||LA2_0==UPDATE) ) {
-				alt2=1;
+			// src/main/sqlplus/parser/SQLPlus.g:129:2: ( data_manipulation_statements | use_statement )
+			int alt4=2;
+			int LA4_0 = input.LA(1);
+			if ( (LA4_0==INSERT||LA4_0==SELECT||LA4_0==UPDATE) ) {
+				alt4=1;
 			}
-			else if ( (LA2_0==USE) ) {
-				alt2=2;
+			else if ( (LA4_0==USE) ) {
+				alt4=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 2, 0, input);
+					new NoViableAltException("", 4, 0, input);
 				throw nvae;
 			}
 
-			switch (alt2) {
+			switch (alt4) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:66:6: data_manipulation_statements
+					// src/main/sqlplus/parser/SQLPlus.g:129:6: data_manipulation_statements
 					{
-					pushFollow(FOLLOW_data_manipulation_statements_in_sql_statement117);
-					data_manipulation_statements2=data_manipulation_statements();
+					pushFollow(FOLLOW_data_manipulation_statements_in_sql_statement261);
+					data_manipulation_statements10=data_manipulation_statements();
 					state._fsp--;
 
 
-						        sqlStatement = data_manipulation_statements2;
+						        sqlStatement = data_manipulation_statements10;
 						    
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlus.g:69:4: use_statement
+					// src/main/sqlplus/parser/SQLPlus.g:132:4: use_statement
 					{
-					pushFollow(FOLLOW_use_statement_in_sql_statement124);
-					use_statement3=use_statement();
+					pushFollow(FOLLOW_use_statement_in_sql_statement268);
+					use_statement11=use_statement();
 					state._fsp--;
 
 
-								sqlStatement = use_statement3;
+								sqlStatement = use_statement11;
 							
 					}
 					break;
@@ -312,26 +531,26 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "use_statement"
-	// src/main/sqlplus/parser/SQLPlus.g:74:1: use_statement returns [Statement useStatement] : use_database ;
+	// src/main/sqlplus/parser/SQLPlus.g:137:1: use_statement returns [Statement useStatement] : use_database ;
 	public final Statement use_statement() throws RecognitionException {
 		Statement useStatement = null;
 
 
-		Statement use_database4 =null;
+		Statement use_database12 =null;
 
 
 				useStatement = null;
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:78:2: ( use_database )
-			// src/main/sqlplus/parser/SQLPlus.g:78:4: use_database
+			// src/main/sqlplus/parser/SQLPlus.g:141:2: ( use_database )
+			// src/main/sqlplus/parser/SQLPlus.g:141:4: use_database
 			{
-			pushFollow(FOLLOW_use_database_in_use_statement147);
-			use_database4=use_database();
+			pushFollow(FOLLOW_use_database_in_use_statement291);
+			use_database12=use_database();
 			state._fsp--;
 
 
-						useStatement = use_database4;
+						useStatement = use_database12;
 					
 			}
 
@@ -351,7 +570,7 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "use_database"
-	// src/main/sqlplus/parser/SQLPlus.g:83:1: use_database returns [Statement useDatabaseStatement] : USE database= schema_name ;
+	// src/main/sqlplus/parser/SQLPlus.g:146:1: use_database returns [Statement useDatabaseStatement] : USE database= schema_name ;
 	public final Statement use_database() throws RecognitionException {
 		Statement useDatabaseStatement = null;
 
@@ -362,16 +581,16 @@ public class SQLPlusParser extends Parser {
 				useDatabaseStatement = null;
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:87:2: ( USE database= schema_name )
-			// src/main/sqlplus/parser/SQLPlus.g:87:4: USE database= schema_name
+			// src/main/sqlplus/parser/SQLPlus.g:150:2: ( USE database= schema_name )
+			// src/main/sqlplus/parser/SQLPlus.g:150:4: USE database= schema_name
 			{
-			match(input,USE,FOLLOW_USE_in_use_database170); 
-			pushFollow(FOLLOW_schema_name_in_use_database178);
+			match(input,USE,FOLLOW_USE_in_use_database314); 
+			pushFollow(FOLLOW_schema_name_in_use_database322);
 			database=schema_name();
 			state._fsp--;
 
 
-						useDatabaseStatement = new StatementUseDatabase((database!=null?input.toString(database.start,database.stop):null));
+						useDatabaseStatement = new StatementUseDatabase(text((database!=null?(database.start):null), (database!=null?(database.stop):null)));
 					
 			}
 
@@ -391,76 +610,76 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "data_manipulation_statements"
-	// src/main/sqlplus/parser/SQLPlus.g:93:1: data_manipulation_statements returns [Statement dataManipulationStatement] : ( select_statement | insert_statements | update_statements );
+	// src/main/sqlplus/parser/SQLPlus.g:156:1: data_manipulation_statements returns [Statement dataManipulationStatement] : ( select_statement | insert_statements | update_statements );
 	public final Statement data_manipulation_statements() throws RecognitionException {
 		Statement dataManipulationStatement = null;
 
 
-		Statement select_statement5 =null;
-		Statement insert_statements6 =null;
-		Statement update_statements7 =null;
+		ParserRuleReturnScope select_statement13 =null;
+		Statement insert_statements14 =null;
+		Statement update_statements15 =null;
 
 
 			    dataManipulationStatement = null;
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:97:2: ( select_statement | insert_statements | update_statements )
-			int alt3=3;
+			// src/main/sqlplus/parser/SQLPlus.g:160:2: ( select_statement | insert_statements | update_statements )
+			int alt5=3;
 			switch ( input.LA(1) ) {
 			case SELECT:
 				{
-				alt3=1;
+				alt5=1;
 				}
 				break;
 			case INSERT:
 				{
-				alt3=2;
+				alt5=2;
 				}
 				break;
 			case UPDATE:
 				{
-				alt3=3;
+				alt5=3;
 				}
 				break;
 			default:
 				NoViableAltException nvae =
-					new NoViableAltException("", 3, 0, input);
+					new NoViableAltException("", 5, 0, input);
 				throw nvae;
 			}
-			switch (alt3) {
+			switch (alt5) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:97:6: select_statement
+					// src/main/sqlplus/parser/SQLPlus.g:160:6: select_statement
 					{
-					pushFollow(FOLLOW_select_statement_in_data_manipulation_statements203);
-					select_statement5=select_statement();
+					pushFollow(FOLLOW_select_statement_in_data_manipulation_statements347);
+					select_statement13=select_statement();
 					state._fsp--;
 
 
-					            dataManipulationStatement = select_statement5;
+					            dataManipulationStatement = (select_statement13!=null?((SQLPlusParser.select_statement_return)select_statement13).selectStatement:null);
 					        
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlus.g:100:9: insert_statements
+					// src/main/sqlplus/parser/SQLPlus.g:163:9: insert_statements
 					{
-					pushFollow(FOLLOW_insert_statements_in_data_manipulation_statements215);
-					insert_statements6=insert_statements();
+					pushFollow(FOLLOW_insert_statements_in_data_manipulation_statements359);
+					insert_statements14=insert_statements();
 					state._fsp--;
 
 
-					            dataManipulationStatement = insert_statements6;
+					            dataManipulationStatement = insert_statements14;
 					        
 					}
 					break;
 				case 3 :
-					// src/main/sqlplus/parser/SQLPlus.g:103:9: update_statements
+					// src/main/sqlplus/parser/SQLPlus.g:166:9: update_statements
 					{
-					pushFollow(FOLLOW_update_statements_in_data_manipulation_statements227);
-					update_statements7=update_statements();
+					pushFollow(FOLLOW_update_statements_in_data_manipulation_statements371);
+					update_statements15=update_statements();
 					state._fsp--;
 
 
-					            dataManipulationStatement = update_statements7;
+					            dataManipulationStatement = update_statements15;
 					    
 					}
 					break;
@@ -480,31 +699,37 @@ public class SQLPlusParser extends Parser {
 	// $ANTLR end "data_manipulation_statements"
 
 
+	public static class select_statement_return extends ParserRuleReturnScope {
+		public Statement selectStatement;
+	};
+
 
 	// $ANTLR start "select_statement"
-	// src/main/sqlplus/parser/SQLPlus.g:108:1: select_statement returns [Statement selectStatement] : select_expression ;
-	public final Statement select_statement() throws RecognitionException {
-		Statement selectStatement = null;
-
+	// src/main/sqlplus/parser/SQLPlus.g:171:1: select_statement returns [Statement selectStatement] : select_expression ;
+	public final SQLPlusParser.select_statement_return select_statement() throws RecognitionException {
+		SQLPlusParser.select_statement_return retval = new SQLPlusParser.select_statement_return();
+		retval.start = input.LT(1);
 
-		Statement select_expression8 =null;
+		Statement select_expression16 =null;
 
 
-				selectStatement = null;
+				retval.selectStatement = null;
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:112:2: ( select_expression )
-			// src/main/sqlplus/parser/SQLPlus.g:112:4: select_expression
+			// src/main/sqlplus/parser/SQLPlus.g:175:2: ( select_expression )
+			// src/main/sqlplus/parser/SQLPlus.g:175:4: select_expression
 			{
-			pushFollow(FOLLOW_select_expression_in_select_statement253);
-			select_expression8=select_expression();
+			pushFollow(FOLLOW_select_expression_in_select_statement397);
+			select_expression16=select_expression();
 			state._fsp--;
 
 
-						selectStatement = select_expression8;
+						retval.selectStatement = select_expression16;
 					
 			}
 
+			retval.stop = input.LT(-1);
+
 		}
 
 			catch (RecognitionException re) {
@@ -514,33 +739,33 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
-		return selectStatement;
+		return retval;
 	}
 	// $ANTLR end "select_statement"
 
 
 
 	// $ANTLR start "insert_statements"
-	// src/main/sqlplus/parser/SQLPlus.g:117:1: insert_statements returns [Statement insertStatements] : insert_statement1 ;
+	// src/main/sqlplus/parser/SQLPlus.g:180:1: insert_statements returns [Statement insertStatements] : insert_statement1 ;
 	public final Statement insert_statements() throws RecognitionException {
 		Statement insertStatements = null;
 
 
-		Statement insert_statement19 =null;
+		Statement insert_statement117 =null;
 
 
 		        insertStatements = null;
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:121:5: ( insert_statement1 )
-			// src/main/sqlplus/parser/SQLPlus.g:121:9: insert_statement1
+			// src/main/sqlplus/parser/SQLPlus.g:184:5: ( insert_statement1 )
+			// src/main/sqlplus/parser/SQLPlus.g:184:9: insert_statement1
 			{
-			pushFollow(FOLLOW_insert_statement1_in_insert_statements284);
-			insert_statement19=insert_statement1();
+			pushFollow(FOLLOW_insert_statement1_in_insert_statements428);
+			insert_statement117=insert_statement1();
 			state._fsp--;
 
 
-			            insertStatements = insert_statement19;
+			            insertStatements = insert_statement117;
 			        
 			}
 
@@ -560,26 +785,26 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "update_statements"
-	// src/main/sqlplus/parser/SQLPlus.g:126:1: update_statements returns [Statement updateStatements] : single_table_update_statement ;
+	// src/main/sqlplus/parser/SQLPlus.g:189:1: update_statements returns [Statement updateStatements] : single_table_update_statement ;
 	public final Statement update_statements() throws RecognitionException {
 		Statement updateStatements = null;
 
 
-		Statement single_table_update_statement10 =null;
+		Statement single_table_update_statement18 =null;
 
 
 				updateStatements = null;
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:130:2: ( single_table_update_statement )
-			// src/main/sqlplus/parser/SQLPlus.g:130:4: single_table_update_statement
+			// src/main/sqlplus/parser/SQLPlus.g:193:2: ( single_table_update_statement )
+			// src/main/sqlplus/parser/SQLPlus.g:193:4: single_table_update_statement
 			{
-			pushFollow(FOLLOW_single_table_update_statement_in_update_statements310);
-			single_table_update_statement10=single_table_update_statement();
+			pushFollow(FOLLOW_single_table_update_statement_in_update_statements454);
+			single_table_update_statement18=single_table_update_statement();
 			state._fsp--;
 
 
-						updateStatements = single_table_update_statement10;
+						updateStatements = single_table_update_statement18;
 					
 			}
 
@@ -599,54 +824,54 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "select_expression"
-	// src/main/sqlplus/parser/SQLPlus.g:135:1: select_expression returns [Statement selectExpression] : SELECT select_list FROM ( table_references ( where_clause )? )? ;
+	// src/main/sqlplus/parser/SQLPlus.g:198:1: select_expression returns [Statement selectExpression] : SELECT select_list FROM ( table_references ( where_clause )? )? ;
 	public final Statement select_expression() throws RecognitionException {
 		Statement selectExpression = null;
 
 
-		List<String> select_list11 =null;
-		List<String> table_references12 =null;
-		Expression where_clause13 =null;
+		List<String> select_list19 =null;
+		List<String> table_references20 =null;
+		Expression where_clause21 =null;
 
 
 				selectExpression = null;
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:140:2: ( SELECT select_list FROM ( table_references ( where_clause )? )? )
-			// src/main/sqlplus/parser/SQLPlus.g:140:4: SELECT select_list FROM ( table_references ( where_clause )? )?
+			// src/main/sqlplus/parser/SQLPlus.g:203:2: ( SELECT select_list FROM ( table_references ( where_clause )? )? )
+			// src/main/sqlplus/parser/SQLPlus.g:203:4: SELECT select_list FROM ( table_references ( where_clause )? )?
 			{
-			match(input,SELECT,FOLLOW_SELECT_in_select_expression335); 
-			pushFollow(FOLLOW_select_list_in_select_expression337);
-			select_list11=select_list();
+			match(input,SELECT,FOLLOW_SELECT_in_select_expression479); 
+			pushFollow(FOLLOW_select_list_in_select_expression481);
+			select_list19=select_list();
 			state._fsp--;
 
-			match(input,FROM,FOLLOW_FROM_in_select_expression339); 
-			// src/main/sqlplus/parser/SQLPlus.g:140:28: ( table_references ( where_clause )? )?
-			int alt5=2;
-			int LA5_0 = input.LA(1);
-			if ( (LA5_0==ID) ) {
-				alt5=1;
+			match(input,FROM,FOLLOW_FROM_in_select_expression483); 
+			// src/main/sqlplus/parser/SQLPlus.g:203:28: ( table_references ( where_clause )? )?
+			int alt7=2;
+			int LA7_0 = input.LA(1);
+			if ( (LA7_0==ID) ) {
+				alt7=1;
 			}
-			switch (alt5) {
+			switch (alt7) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:140:29: table_references ( where_clause )?
+					// src/main/sqlplus/parser/SQLPlus.g:203:29: table_references ( where_clause )?
 					{
-					pushFollow(FOLLOW_table_references_in_select_expression342);
-					table_references12=table_references();
+					pushFollow(FOLLOW_table_references_in_select_expression486);
+					table_references20=table_references();
 					state._fsp--;
 
-					// src/main/sqlplus/parser/SQLPlus.g:140:46: ( where_clause )?
-					int alt4=2;
-					int LA4_0 = input.LA(1);
-					if ( (LA4_0==WHERE) ) {
-						alt4=1;
+					// src/main/sqlplus/parser/SQLPlus.g:203:46: ( where_clause )?
+					int alt6=2;
+					int LA6_0 = input.LA(1);
+					if ( (LA6_0==WHERE) ) {
+						alt6=1;
 					}
-					switch (alt4) {
+					switch (alt6) {
 						case 1 :
-							// src/main/sqlplus/parser/SQLPlus.g:140:47: where_clause
+							// src/main/sqlplus/parser/SQLPlus.g:203:47: where_clause
 							{
-							pushFollow(FOLLOW_where_clause_in_select_expression345);
-							where_clause13=where_clause();
+							pushFollow(FOLLOW_where_clause_in_select_expression489);
+							where_clause21=where_clause();
 							state._fsp--;
 
 							}
@@ -660,7 +885,7 @@ public class SQLPlusParser extends Parser {
 			}
 
 
-						selectExpression = new StatementSelectExpression(select_list11, table_references12, where_clause13);
+						selectExpression = new StatementSelectExpression(select_list19, table_references20, where_clause21);
 					
 			}
 
@@ -680,38 +905,38 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "insert_statement1"
-	// src/main/sqlplus/parser/SQLPlus.g:145:1: insert_statement1 returns [Statement insertStatement1] : insert_header ( column_list )? value_list_clause ;
+	// src/main/sqlplus/parser/SQLPlus.g:208:1: insert_statement1 returns [Statement insertStatement1] : insert_header ( column_list )? value_list_clause ;
 	public final Statement insert_statement1() throws RecognitionException {
 		Statement insertStatement1 = null;
 
 
-		String insert_header14 =null;
-		List<String> column_list15 =null;
-		List<List<String>> value_list_clause16 =null;
+		String insert_header22 =null;
+		List<String> column_list23 =null;
+		ColumnarValues value_list_clause24 =null;
 
 
 			    insertStatement1 = null;
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:149:2: ( insert_header ( column_list )? value_list_clause )
-			// src/main/sqlplus/parser/SQLPlus.g:149:6: insert_header ( column_list )? value_list_clause
+			// src/main/sqlplus/parser/SQLPlus.g:212:2: ( insert_header ( column_list )? value_list_clause )
+			// src/main/sqlplus/parser/SQLPlus.g:212:6: insert_header ( column_list )? value_list_clause
 			{
-			pushFollow(FOLLOW_insert_header_in_insert_statement1375);
-			insert_header14=insert_header();
+			pushFollow(FOLLOW_insert_header_in_insert_statement1519);
+			insert_header22=insert_header();
 			state._fsp--;
 
-			// src/main/sqlplus/parser/SQLPlus.g:150:6: ( column_list )?
-			int alt6=2;
-			int LA6_0 = input.LA(1);
-			if ( (LA6_0==LEFT_PARENTHESIS) ) {
-				alt6=1;
+			// src/main/sqlplus/parser/SQLPlus.g:213:6: ( column_list )?
+			int alt8=2;
+			int LA8_0 = input.LA(1);
+			if ( (LA8_0==LEFT_PARENTHESIS) ) {
+				alt8=1;
 			}
-			switch (alt6) {
+			switch (alt8) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:150:7: column_list
+					// src/main/sqlplus/parser/SQLPlus.g:213:7: column_list
 					{
-					pushFollow(FOLLOW_column_list_in_insert_statement1383);
-					column_list15=column_list();
+					pushFollow(FOLLOW_column_list_in_insert_statement1527);
+					column_list23=column_list();
 					state._fsp--;
 
 					}
@@ -719,12 +944,12 @@ public class SQLPlusParser extends Parser {
 
 			}
 
-			pushFollow(FOLLOW_value_list_clause_in_insert_statement1387);
-			value_list_clause16=value_list_clause();
+			pushFollow(FOLLOW_value_list_clause_in_insert_statement1531);
+			value_list_clause24=value_list_clause();
 			state._fsp--;
 
 
-				        insertStatement1 = new StatementInsertStatement1(insert_header14, column_list15, value_list_clause16);
+				        insertStatement1 = new StatementInsertStatement1(insert_header22, column_list23, value_list_clause24);
 				    
 			}
 
@@ -744,43 +969,43 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "single_table_update_statement"
-	// src/main/sqlplus/parser/SQLPlus.g:155:1: single_table_update_statement returns [Statement singleTableUpdateStatement] : UPDATE table_reference set_columns_clause ( where_clause )? ;
+	// src/main/sqlplus/parser/SQLPlus.g:218:1: single_table_update_statement returns [Statement singleTableUpdateStatement] : UPDATE table_reference set_columns_clause ( where_clause )? ;
 	public final Statement single_table_update_statement() throws RecognitionException {
 		Statement singleTableUpdateStatement = null;
 
 
-		ParserRuleReturnScope table_reference17 =null;
-		Map<String, Expression> set_columns_clause18 =null;
-		Expression where_clause19 =null;
+		ParserRuleReturnScope table_reference25 =null;
+		Map<String, Expression> set_columns_clause26 =null;
+		Expression where_clause27 =null;
 
 
 				singleTableUpdateStatement = null;
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:159:2: ( UPDATE table_reference set_columns_clause ( where_clause )? )
-			// src/main/sqlplus/parser/SQLPlus.g:159:4: UPDATE table_reference set_columns_clause ( where_clause )?
+			// src/main/sqlplus/parser/SQLPlus.g:222:2: ( UPDATE table_reference set_columns_clause ( where_clause )? )
+			// src/main/sqlplus/parser/SQLPlus.g:222:4: UPDATE table_reference set_columns_clause ( where_clause )?
 			{
-			match(input,UPDATE,FOLLOW_UPDATE_in_single_table_update_statement410); 
-			pushFollow(FOLLOW_table_reference_in_single_table_update_statement412);
-			table_reference17=table_reference();
+			match(input,UPDATE,FOLLOW_UPDATE_in_single_table_update_statement554); 
+			pushFollow(FOLLOW_table_reference_in_single_table_update_statement556);
+			table_reference25=table_reference();
 			state._fsp--;
 
-			pushFollow(FOLLOW_set_columns_clause_in_single_table_update_statement414);
-			set_columns_clause18=set_columns_clause();
+			pushFollow(FOLLOW_set_columns_clause_in_single_table_update_statement558);
+			set_columns_clause26=set_columns_clause();
 			state._fsp--;
 
-			// src/main/sqlplus/parser/SQLPlus.g:159:46: ( where_clause )?
-			int alt7=2;
-			int LA7_0 = input.LA(1);
-			if ( (LA7_0==WHERE) ) {
-				alt7=1;
+			// src/main/sqlplus/parser/SQLPlus.g:222:46: ( where_clause )?
+			int alt9=2;
+			int LA9_0 = input.LA(1);
+			if ( (LA9_0==WHERE) ) {
+				alt9=1;
 			}
-			switch (alt7) {
+			switch (alt9) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:159:47: where_clause
+					// src/main/sqlplus/parser/SQLPlus.g:222:47: where_clause
 					{
-					pushFollow(FOLLOW_where_clause_in_single_table_update_statement417);
-					where_clause19=where_clause();
+					pushFollow(FOLLOW_where_clause_in_single_table_update_statement561);
+					where_clause27=where_clause();
 					state._fsp--;
 
 					}
@@ -789,7 +1014,7 @@ public class SQLPlusParser extends Parser {
 			}
 
 
-						singleTableUpdateStatement = new StatementSingleTableUpdateStatement((table_reference17!=null?input.toString(table_reference17.start,table_reference17.stop):null), set_columns_clause18, where_clause19);
+						singleTableUpdateStatement = new StatementSingleTableUpdateStatement(text((table_reference25!=null?(table_reference25.start):null), (table_reference25!=null?(table_reference25.stop):null)), set_columns_clause26, where_clause27);
 					
 			}
 
@@ -809,82 +1034,82 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "select_list"
-	// src/main/sqlplus/parser/SQLPlus.g:164:1: select_list returns [List<String> selectList] : (column= displayed_column ( COMMA column= displayed_column )* | ASTERISK );
+	// src/main/sqlplus/parser/SQLPlus.g:227:1: select_list returns [List<String> selectList] : (column= displayed_column ( COMMA column= displayed_column )* | ASTERISK );
 	public final List<String> select_list() throws RecognitionException {
 		List<String> selectList = null;
 
 
-		Token ASTERISK20=null;
+		Token ASTERISK28=null;
 		ParserRuleReturnScope column =null;
 
 
 				selectList = new ArrayList<String>();
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:168:2: (column= displayed_column ( COMMA column= displayed_column )* | ASTERISK )
-			int alt9=2;
-			int LA9_0 = input.LA(1);
-			if ( (LA9_0==ID) ) {
-				alt9=1;
+			// src/main/sqlplus/parser/SQLPlus.g:231:2: (column= displayed_column ( COMMA column= displayed_column )* | ASTERISK )
+			int alt11=2;
+			int LA11_0 = input.LA(1);
+			if ( (LA11_0==ID) ) {
+				alt11=1;
 			}
-			else if ( (LA9_0==ASTERISK) ) {
-				alt9=2;
+			else if ( (LA11_0==ASTERISK) ) {
+				alt11=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 9, 0, input);
+					new NoViableAltException("", 11, 0, input);
 				throw nvae;
 			}
 
-			switch (alt9) {
+			switch (alt11) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:168:4: column= displayed_column ( COMMA column= displayed_column )*
+					// src/main/sqlplus/parser/SQLPlus.g:231:4: column= displayed_column ( COMMA column= displayed_column )*
 					{
-					pushFollow(FOLLOW_displayed_column_in_select_list446);
+					pushFollow(FOLLOW_displayed_column_in_select_list590);
 					column=displayed_column();
 					state._fsp--;
 
 
-						 		selectList.add((column!=null?input.toString(column.start,column.stop):null));
+						 		selectList.add(text((column!=null?(column.start):null), (column!=null?(column.stop):null)));
 							
-					// src/main/sqlplus/parser/SQLPlus.g:171:3: ( COMMA column= displayed_column )*
-					loop8:
+					// src/main/sqlplus/parser/SQLPlus.g:234:3: ( COMMA column= displayed_column )*
+					loop10:
 					while (true) {
-						int alt8=2;
-						int LA8_0 = input.LA(1);
-						if ( (LA8_0==COMMA) ) {
-							alt8=1;
+						int alt10=2;
+						int LA10_0 = input.LA(1);
+						if ( (LA10_0==COMMA) ) {
+							alt10=1;
 						}
 
-						switch (alt8) {
+						switch (alt10) {
 						case 1 :
-							// src/main/sqlplus/parser/SQLPlus.g:172:4: COMMA column= displayed_column
+							// src/main/sqlplus/parser/SQLPlus.g:235:4: COMMA column= displayed_column
 							{
-							match(input,COMMA,FOLLOW_COMMA_in_select_list457); 
-							pushFollow(FOLLOW_displayed_column_in_select_list463);
+							match(input,COMMA,FOLLOW_COMMA_in_select_list601); 
+							pushFollow(FOLLOW_displayed_column_in_select_list607);
 							column=displayed_column();
 							state._fsp--;
 
 
-											selectList.add((column!=null?input.toString(column.start,column.stop):null));
+											selectList.add(text((column!=null?(column.start):null), (column!=null?(column.stop):null)));
 										
 							}
 							break;
 
 						default :
-							break loop8;
+							break loop10;
 						}
 					}
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlus.g:176:5: ASTERISK
+					// src/main/sqlplus/parser/SQLPlus.g:239:5: ASTERISK
 					{
-					ASTERISK20=(Token)match(input,ASTERISK,FOLLOW_ASTERISK_in_select_list476); 
+					ASTERISK28=(Token)match(input,ASTERISK,FOLLOW_ASTERISK_in_select_list620); 
 
-								selectList.add((ASTERISK20!=null?ASTERISK20.getText():null));
+								selectList.add((ASTERISK28!=null?ASTERISK28.getText():null));
 							
 					}
 					break;
@@ -909,30 +1134,30 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "displayed_column"
-	// src/main/sqlplus/parser/SQLPlus.g:181:1: displayed_column : column_spec ( alias )? ;
+	// src/main/sqlplus/parser/SQLPlus.g:244:1: displayed_column : column_spec ( alias )? ;
 	public final SQLPlusParser.displayed_column_return displayed_column() throws RecognitionException {
 		SQLPlusParser.displayed_column_return retval = new SQLPlusParser.displayed_column_return();
 		retval.start = input.LT(1);
 
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:182:2: ( column_spec ( alias )? )
-			// src/main/sqlplus/parser/SQLPlus.g:182:4: column_spec ( alias )?
+			// src/main/sqlplus/parser/SQLPlus.g:245:2: ( column_spec ( alias )? )
+			// src/main/sqlplus/parser/SQLPlus.g:245:4: column_spec ( alias )?
 			{
-			pushFollow(FOLLOW_column_spec_in_displayed_column489);
+			pushFollow(FOLLOW_column_spec_in_displayed_column633);
 			column_spec();
 			state._fsp--;
 
-			// src/main/sqlplus/parser/SQLPlus.g:182:16: ( alias )?
-			int alt10=2;
-			int LA10_0 = input.LA(1);
-			if ( (LA10_0==AS||LA10_0==ID) ) {
-				alt10=1;
+			// src/main/sqlplus/parser/SQLPlus.g:245:16: ( alias )?
+			int alt12=2;
+			int LA12_0 = input.LA(1);
+			if ( (LA12_0==AS||LA12_0==ID) ) {
+				alt12=1;
 			}
-			switch (alt10) {
+			switch (alt12) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:182:17: alias
+					// src/main/sqlplus/parser/SQLPlus.g:245:17: alias
 					{
-					pushFollow(FOLLOW_alias_in_displayed_column492);
+					pushFollow(FOLLOW_alias_in_displayed_column636);
 					alias();
 					state._fsp--;
 
@@ -961,7 +1186,7 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "table_references"
-	// src/main/sqlplus/parser/SQLPlus.g:185:1: table_references returns [List<String> tableReferences] : table= table_reference ( COMMA table= table_reference )* ;
+	// src/main/sqlplus/parser/SQLPlus.g:248:1: table_references returns [List<String> tableReferences] : table= table_reference ( COMMA table= table_reference )* ;
 	public final List<String> table_references() throws RecognitionException {
 		List<String> tableReferences = null;
 
@@ -972,42 +1197,42 @@ public class SQLPlusParser extends Parser {
 				tableReferences = new ArrayList<String>();
 			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:189:2: (table= table_reference ( COMMA table= table_reference )* )
-			// src/main/sqlplus/parser/SQLPlus.g:189:4: table= table_reference ( COMMA table= table_reference )*
+			// src/main/sqlplus/parser/SQLPlus.g:252:2: (table= table_reference ( COMMA table= table_reference )* )
+			// src/main/sqlplus/parser/SQLPlus.g:252:4: table= table_reference ( COMMA table= table_reference )*
 			{
-			pushFollow(FOLLOW_table_reference_in_table_references519);
+			pushFollow(FOLLOW_table_reference_in_table_references663);
 			table=table_reference();
 			state._fsp--;
 
 
-						tableReferences.add((table!=null?input.toString(table.start,table.stop):null));
+						tableReferences.add(text((table!=null?(table.start):null), (table!=null?(table.stop):null)));
 					
-			// src/main/sqlplus/parser/SQLPlus.g:192:3: ( COMMA table= table_reference )*
-			loop11:
+			// src/main/sqlplus/parser/SQLPlus.g:255:3: ( COMMA table= table_reference )*
+			loop13:
 			while (true) {
-				int alt11=2;
-				int LA11_0 = input.LA(1);
-				if ( (LA11_0==COMMA) ) {
-					alt11=1;
+				int alt13=2;
+				int LA13_0 = input.LA(1);
+				if ( (LA13_0==COMMA) ) {
+					alt13=1;
 				}
 
-				switch (alt11) {
+				switch (alt13) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:193:4: COMMA table= table_reference
+					// src/main/sqlplus/parser/SQLPlus.g:256:4: COMMA table= table_reference
 					{
-					match(input,COMMA,FOLLOW_COMMA_in_table_references530); 
-					pushFollow(FOLLOW_table_reference_in_table_references539);
+					match(input,COMMA,FOLLOW_COMMA_in_table_references674); 
+					pushFollow(FOLLOW_table_reference_in_table_references683);
 					table=table_reference();
 					state._fsp--;
 
 
-									tableReferences.add((table!=null?input.toString(table.start,table.stop):null));
+									tableReferences.add(text((table!=null?(table.start):null), (table!=null?(table.stop):null)));
 								
 					}
 					break;
 
 				default :
-					break loop11;
+					break loop13;
 				}
 			}
 
@@ -1032,16 +1257,16 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "table_reference"
-	// src/main/sqlplus/parser/SQLPlus.g:200:1: table_reference : table_atom ;
+	// src/main/sqlplus/parser/SQLPlus.g:263:1: table_reference : table_atom ;
 	public final SQLPlusParser.table_reference_return table_reference() throws RecognitionException {
 		SQLPlusParser.table_reference_return retval = new SQLPlusParser.table_reference_return();
 		retval.start = input.LT(1);
 
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:201:2: ( table_atom )
-			// src/main/sqlplus/parser/SQLPlus.g:201:4: table_atom
+			// src/main/sqlplus/parser/SQLPlus.g:264:2: ( table_atom )
+			// src/main/sqlplus/parser/SQLPlus.g:264:4: table_atom
 			{
-			pushFollow(FOLLOW_table_atom_in_table_reference557);
+			pushFollow(FOLLOW_table_atom_in_table_reference701);
 			table_atom();
 			state._fsp--;
 
@@ -1065,43 +1290,43 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "insert_header"
-	// src/main/sqlplus/parser/SQLPlus.g:204:1: insert_header returns [String table] : INSERT ( INTO )? table_spec ;
+	// src/main/sqlplus/parser/SQLPlus.g:267:1: insert_header returns [String table] : INSERT ( INTO )? table_spec ;
 	public final String insert_header() throws RecognitionException {
 		String table = null;
 
 
-		ParserRuleReturnScope table_spec21 =null;
+		ParserRuleReturnScope table_spec29 =null;
 
 
 		        table = null;
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:208:5: ( INSERT ( INTO )? table_spec )
-			// src/main/sqlplus/parser/SQLPlus.g:208:9: INSERT ( INTO )? table_spec
+			// src/main/sqlplus/parser/SQLPlus.g:271:5: ( INSERT ( INTO )? table_spec )
+			// src/main/sqlplus/parser/SQLPlus.g:271:9: INSERT ( INTO )? table_spec
 			{
-			match(input,INSERT,FOLLOW_INSERT_in_insert_header586); 
-			// src/main/sqlplus/parser/SQLPlus.g:208:16: ( INTO )?
-			int alt12=2;
-			int LA12_0 = input.LA(1);
-			if ( (LA12_0==INTO) ) {
-				alt12=1;
-			}
-			switch (alt12) {
+			match(input,INSERT,FOLLOW_INSERT_in_insert_header730); 
+			// src/main/sqlplus/parser/SQLPlus.g:271:16: ( INTO )?
+			int alt14=2;
+			int LA14_0 = input.LA(1);
+			if ( (LA14_0==INTO) ) {
+				alt14=1;
+			}
+			switch (alt14) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:208:17: INTO
+					// src/main/sqlplus/parser/SQLPlus.g:271:17: INTO
 					{
-					match(input,INTO,FOLLOW_INTO_in_insert_header589); 
+					match(input,INTO,FOLLOW_INTO_in_insert_header733); 
 					}
 					break;
 
 			}
 
-			pushFollow(FOLLOW_table_spec_in_insert_header593);
-			table_spec21=table_spec();
+			pushFollow(FOLLOW_table_spec_in_insert_header737);
+			table_spec29=table_spec();
 			state._fsp--;
 
 
-			            table = (table_spec21!=null?input.toString(table_spec21.start,table_spec21.stop):null);
+			            table = text((table_spec29!=null?(table_spec29.start):null), (table_spec29!=null?(table_spec29.stop):null));
 			        
 			}
 
@@ -1121,54 +1346,46 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "value_list_clause"
-	// src/main/sqlplus/parser/SQLPlus.g:213:1: value_list_clause returns [List<List<String>> valueListClause] : VALUES value= column_value_list ( COMMA value= column_value_list )* ;
-	public final List<List<String>> value_list_clause() throws RecognitionException {
-		List<List<String>> valueListClause = null;
+	// src/main/sqlplus/parser/SQLPlus.g:276:1: value_list_clause returns [ColumnarValues valueListClause] : VALUES column_value_list[$valueListClause] ( COMMA column_value_list[$valueListClause] )* ;
+	public final ColumnarValues value_list_clause() throws RecognitionException {
+		ColumnarValues valueListClause = null;
 
 
-		List<String> value =null;
 
-
-		        valueListClause = new ArrayList<List<String>>();
+		        valueListClause = new ColumnarValues();
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:217:5: ( VALUES value= column_value_list ( COMMA value= column_value_list )* )
-			// src/main/sqlplus/parser/SQLPlus.g:217:9: VALUES value= column_value_list ( COMMA value= column_value_list )*
+			// src/main/sqlplus/parser/SQLPlus.g:280:5: ( VALUES column_value_list[$valueListClause] ( COMMA column_value_list[$valueListClause] )* )
+			// src/main/sqlplus/parser/SQLPlus.g:280:9: VALUES column_value_list[$valueListClause] ( COMMA column_value_list[$valueListClause] )*
 			{
-			match(input,VALUES,FOLLOW_VALUES_in_value_list_clause627); 
-			pushFollow(FOLLOW_column_value_list_in_value_list_clause641);
-			value=column_value_list();
+			match(input,VALUES,FOLLOW_VALUES_in_value_list_clause771); 
+			pushFollow(FOLLOW_column_value_list_in_value_list_clause781);
+			column_value_list(valueListClause);
 			state._fsp--;
 
-
-			            valueListClause.add(value);
-			        
-			// src/main/sqlplus/parser/SQLPlus.g:221:9: ( COMMA value= column_value_list )*
-			loop13:
+			// src/main/sqlplus/parser/SQLPlus.g:282:9: ( COMMA column_value_list[$valueListClause] )*
+			loop15:
 			while (true) {
-				int alt13=2;
-				int LA13_0 = input.LA(1);
-				if ( (LA13_0==COMMA) ) {
-					alt13=1;
+				int alt15=2;
+				int LA15_0 = input.LA(1);
+				if ( (LA15_0==COMMA) ) {
+					alt15=1;
 				}
 
-				switch (alt13) {
+				switch (alt15) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:222:13: COMMA value= column_value_list
+					// src/main/sqlplus/parser/SQLPlus.g:283:13: COMMA column_value_list[$valueListClause]
 					{
-					match(input,COMMA,FOLLOW_COMMA_in_value_list_clause667); 
-					pushFollow(FOLLOW_column_value_list_in_value_list_clause685);
-					value=column_value_list();
+					match(input,COMMA,FOLLOW_COMMA_in_value_list_clause806); 
+					pushFollow(FOLLOW_column_value_list_in_value_list_clause820);
+					column_value_list(valueListClause);
 					state._fsp--;
 
-
-					                valueListClause.add(value);
-					            
 					}
 					break;
 
 				default :
-					break loop13;
+					break loop15;
 				}
 			}
 
@@ -1190,58 +1407,59 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "column_value_list"
-	// src/main/sqlplus/parser/SQLPlus.g:229:1: column_value_list returns [List<String> columnValueList] : LEFT_PARENTHESIS expr= bit_expr ( COMMA expr= bit_expr )* RIGHT_PARENTHESIS ;
-	public final List<String> column_value_list() throws RecognitionException {
-		List<String> columnValueList = null;
-
-
-		ParserRuleReturnScope expr =null;
-
+	// src/main/sqlplus/parser/SQLPlus.g:288:1: column_value_list[ColumnarValues values] : LEFT_PARENTHESIS value= column_value ( COMMA value= column_value )* RIGHT_PARENTHESIS ;
+	public final void column_value_list(ColumnarValues values) throws RecognitionException {
+		ParserRuleReturnScope value =null;
 
-		        columnValueList = new ArrayList<String>();
-		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:233:5: ( LEFT_PARENTHESIS expr= bit_expr ( COMMA expr= bit_expr )* RIGHT_PARENTHESIS )
-			// src/main/sqlplus/parser/SQLPlus.g:233:9: LEFT_PARENTHESIS expr= bit_expr ( COMMA expr= bit_expr )* RIGHT_PARENTHESIS
+			// src/main/sqlplus/parser/SQLPlus.g:289:5: ( LEFT_PARENTHESIS value= column_value ( COMMA value= column_value )* RIGHT_PARENTHESIS )
+			// src/main/sqlplus/parser/SQLPlus.g:289:9: LEFT_PARENTHESIS value= column_value ( COMMA value= column_value )* RIGHT_PARENTHESIS
 			{
-			match(input,LEFT_PARENTHESIS,FOLLOW_LEFT_PARENTHESIS_in_column_value_list730); 
-			pushFollow(FOLLOW_bit_expr_in_column_value_list744);
-			expr=bit_expr();
+			match(input,LEFT_PARENTHESIS,FOLLOW_LEFT_PARENTHESIS_in_column_value_list852); 
+			pushFollow(FOLLOW_column_value_in_column_value_list866);
+			value=column_value();
 			state._fsp--;
 
 
-			            columnValueList.add((expr!=null?input.toString(expr.start,expr.stop):null));
+			            values.add(text((value!=null?(value.start):null), (value!=null?(value.stop):null)));
 			        
-			// src/main/sqlplus/parser/SQLPlus.g:237:9: ( COMMA expr= bit_expr )*
-			loop14:
+			// src/main/sqlplus/parser/SQLPlus.g:293:9: ( COMMA value= column_value )*
+			loop16:
 			while (true) {
-				int alt14=2;
-				int LA14_0 = input.LA(1);
-				if ( (LA14_0==COMMA) ) {
-					alt14=1;
+				int alt16=2;
+				int LA16_0 = input.LA(1);
+				if ( (LA16_0==COMMA) ) {
+					alt16=1;
 				}
 
-				switch (alt14) {
+				switch (alt16) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:238:13: COMMA expr= bit_expr
+					// src/main/sqlplus/parser/SQLPlus.g:294:13: COMMA value= column_value
 					{
-					match(input,COMMA,FOLLOW_COMMA_in_column_value_list770); 
-					pushFollow(FOLLOW_bit_expr_in_column_value_list788);
-					expr=bit_expr();
+					match(input,COMMA,FOLLOW_COMMA_in_column_value_list892); 
+					pushFollow(FOLLOW_column_value_in_column_value_list910);
+					value=column_value();
 					state._fsp--;
 
 
-					                columnValueList.add((expr!=null?input.toString(expr.start,expr.stop):null));
+					                if(!values.add(text((value!=null?(value.start):null), (value!=null?(value.stop):null)))) {
+					                    throw new FailedPredicateException(input, "column_value_list", "same number of values in each row");
+					                }
 					            
 					}
 					break;
 
 				default :
-					break loop14;
+					break loop16;
 				}
 			}
 
-			match(input,RIGHT_PARENTHESIS,FOLLOW_RIGHT_PARENTHESIS_in_column_value_list803); 
+			match(input,RIGHT_PARENTHESIS,FOLLOW_RIGHT_PARENTHESIS_in_column_value_list925); 
+
+			            if(!values.endRow()) {
+			                throw new FailedPredicateException(input, "column_value_list", "same number of values in each row");
+			            }
+			        
 			}
 
 		}
@@ -1253,65 +1471,59 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
-		return columnValueList;
 	}
 	// $ANTLR end "column_value_list"
 
 
+	public static class column_value_return extends ParserRuleReturnScope {
+	};
 
-	// $ANTLR start "set_columns_clause"
-	// src/main/sqlplus/parser/SQLPlus.g:245:1: set_columns_clause returns [Map<String, Expression> columnsValuesMap] : SET columnValue= set_column_clause ( COMMA columnValue= set_column_clause )* ;
-	public final Map<String, Expression> set_columns_clause() throws RecognitionException {
-		Map<String, Expression> columnsValuesMap = null;
-
-
-		Map<String, Expression> columnValue =null;
 
+	// $ANTLR start "column_value"
+	// src/main/sqlplus/parser/SQLPlus.g:308:1: column_value : ( literal_value_text | column_spec );
+	public final SQLPlusParser.column_value_return column_value() throws RecognitionException {
+		SQLPlusParser.column_value_return retval = new SQLPlusParser.column_value_return();
+		retval.start = input.LT(1);
 
-		        columnsValuesMap = new HashMap<String, Expression>();
-		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:249:5: ( SET columnValue= set_column_clause ( COMMA columnValue= set_column_clause )* )
-			// src/main/sqlplus/parser/SQLPlus.g:249:9: SET columnValue= set_column_clause ( COMMA columnValue= set_column_clause )*
-			{
-			match(input,SET,FOLLOW_SET_in_set_columns_clause835); 
-			pushFollow(FOLLOW_set_column_clause_in_set_columns_clause849);
-			columnValue=set_column_clause();
-			state._fsp--;
-
+			// src/main/sqlplus/parser/SQLPlus.g:309:5: ( literal_value_text | column_spec )
+			int alt17=2;
+			int LA17_0 = input.LA(1);
+			if ( (LA17_0==FALSE||LA17_0==INTEGER_NUMBER||LA17_0==MINUS||LA17_0==NULL||LA17_0==PLUS||LA17_0==REAL_NUMBER||(LA17_0 >= TEXT_STRING && LA17_0 <= TRUE)) ) {
+				alt17=1;
+			}
+			else if ( (LA17_0==ID) ) {
+				alt17=2;
+			}
 
-			            columnsValuesMap.putAll(columnValue);
-			        
-			// src/main/sqlplus/parser/SQLPlus.g:253:9: ( COMMA columnValue= set_column_clause )*
-			loop15:
-			while (true) {
-				int alt15=2;
-				int LA15_0 = input.LA(1);
-				if ( (LA15_0==COMMA) ) {
-					alt15=1;
-				}
+			else {
+				NoViableAltException nvae =
+					new NoViableAltException("", 17, 0, input);
+				throw nvae;
+			}
 
-				switch (alt15) {
+			switch (alt17) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:254:13: COMMA columnValue= set_column_clause
+					// src/main/sqlplus/parser/SQLPlus.g:309:9: literal_value_text
 					{
-					match(input,COMMA,FOLLOW_COMMA_in_set_columns_clause875); 
-					pushFollow(FOLLOW_set_column_clause_in_set_columns_clause893);
-					columnValue=set_column_clause();
+					pushFollow(FOLLOW_literal_value_text_in_column_value947);
+					literal_value_text();
 					state._fsp--;
 
-
-					                columnsValuesMap.putAll(columnValue);
-					            
 					}
 					break;
+				case 2 :
+					// src/main/sqlplus/parser/SQLPlus.g:310:9: column_spec
+					{
+					pushFollow(FOLLOW_column_spec_in_column_value957);
+					column_spec();
+					state._fsp--;
 
-				default :
-					break loop15;
-				}
-			}
+					}
+					break;
 
 			}
+			retval.stop = input.LT(-1);
 
 		}
 
@@ -1322,69 +1534,138 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
-		return columnsValuesMap;
+		return retval;
 	}
-	// $ANTLR end "set_columns_clause"
+	// $ANTLR end "column_value"
 
 
 
-	// $ANTLR start "set_column_clause"
-	// src/main/sqlplus/parser/SQLPlus.g:261:1: set_column_clause returns [Map<String, Expression> columnValueMap] : column_spec EQUAL ( expression | DEFAULT ) ;
-	public final Map<String, Expression> set_column_clause() throws RecognitionException {
-		Map<String, Expression> columnValueMap = null;
+	// $ANTLR start "set_columns_clause"
+	// src/main/sqlplus/parser/SQLPlus.g:313:1: set_columns_clause returns [Map<String, Expression> columnsValuesMap] : SET columnValue= set_column_clause ( COMMA columnValue= set_column_clause )* ;
+	public final Map<String, Expression> set_columns_clause() throws RecognitionException {
+		Map<String, Expression> columnsValuesMap = null;
 
 
-		Token DEFAULT24=null;
-		ParserRuleReturnScope column_spec22 =null;
-		Expression expression23 =null;
+		Map<String, Expression> columnValue =null;
+
+
+		        columnsValuesMap = new LinkedHashMap<String, Expression>();
+		    
+		try {
+			// src/main/sqlplus/parser/SQLPlus.g:317:5: ( SET columnValue= set_column_clause ( COMMA columnValue= set_column_clause )* )
+			// src/main/sqlplus/parser/SQLPlus.g:317:9: SET columnValue= set_column_clause ( COMMA columnValue= set_column_clause )*
+			{
+			match(input,SET,FOLLOW_SET_in_set_columns_clause989); 
+			pushFollow(FOLLOW_set_column_clause_in_set_columns_clause1003);
+			columnValue=set_column_clause();
+			state._fsp--;
+
+
+			            columnsValuesMap.putAll(columnValue);
+			        
+			// src/main/sqlplus/parser/SQLPlus.g:321:9: ( COMMA columnValue= set_column_clause )*
+			loop18:
+			while (true) {
+				int alt18=2;
+				int LA18_0 = input.LA(1);
+				if ( (LA18_0==COMMA) ) {
+					alt18=1;
+				}
+
+				switch (alt18) {
+				case 1 :
+					// src/main/sqlplus/parser/SQLPlus.g:322:13: COMMA columnValue= set_column_clause
+					{
+					match(input,COMMA,FOLLOW_COMMA_in_set_columns_clause1029); 
+					pushFollow(FOLLOW_set_column_clause_in_set_columns_clause1047);
+					columnValue=set_column_clause();
+					state._fsp--;
+
+
+					                columnsValuesMap.putAll(columnValue);
+					            
+					}
+					break;
+
+				default :
+					break loop18;
+				}
+			}
+
+			}
+
+		}
+
+			catch (RecognitionException re) {
+				throw re;
+			}
+
+		finally {
+			// do for sure before leaving
+		}
+		return columnsValuesMap;
+	}
+	// $ANTLR end "set_columns_clause"
+
+
+
+	// $ANTLR start "set_column_clause"
+	// src/main/sqlplus/parser/SQLPlus.g:329:1: set_column_clause returns [Map<String, Expression> columnValueMap] : column_spec EQUAL ( expression | DEFAULT ) ;
+	public final Map<String, Expression> set_column_clause() throws RecognitionException {
+		Map<String, Expression> columnValueMap = null;
+
+
+		Token DEFAULT32=null;
+		ParserRuleReturnScope column_spec30 =null;
+		Expression expression31 =null;
 
 
 		        columnValueMap = new HashMap<String, Expression>();
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:265:5: ( column_spec EQUAL ( expression | DEFAULT ) )
-			// src/main/sqlplus/parser/SQLPlus.g:265:7: column_spec EQUAL ( expression | DEFAULT )
+			// src/main/sqlplus/parser/SQLPlus.g:333:5: ( column_spec EQUAL ( expression | DEFAULT ) )
+			// src/main/sqlplus/parser/SQLPlus.g:333:7: column_spec EQUAL ( expression | DEFAULT )
 			{
-			pushFollow(FOLLOW_column_spec_in_set_column_clause936);
-			column_spec22=column_spec();
+			pushFollow(FOLLOW_column_spec_in_set_column_clause1090);
+			column_spec30=column_spec();
 			state._fsp--;
 
-			match(input,EQUAL,FOLLOW_EQUAL_in_set_column_clause938); 
-			// src/main/sqlplus/parser/SQLPlus.g:265:25: ( expression | DEFAULT )
-			int alt16=2;
-			int LA16_0 = input.LA(1);
-			if ( (LA16_0==ID||LA16_0==INTEGER_NUMBER||LA16_0==MINUS||LA16_0==NOT||LA16_0==PLUS||LA16_0==REAL_NUMBER||LA16_0==TEXT_STRING) ) {
-				alt16=1;
+			match(input,EQUAL,FOLLOW_EQUAL_in_set_column_clause1092); 
+			// src/main/sqlplus/parser/SQLPlus.g:333:25: ( expression | DEFAULT )
+			int alt19=2;
+			int LA19_0 = input.LA(1);
+			if ( ((LA19_0 >= EXISTS && LA19_0 <= FALSE)||LA19_0==ID||LA19_0==INTEGER_NUMBER||LA19_0==MINUS||LA19_0==NOT||LA19_0==NULL||LA19_0==PLUS||LA19_0==REAL_NUMBER||(LA19_0 >= TEXT_STRING && LA19_0 <= TRUE)) ) {
+				alt19=1;
 			}
-			else if ( (LA16_0==DEFAULT) ) {
-				alt16=2;
+			else if ( (LA19_0==DEFAULT) ) {
+				alt19=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 16, 0, input);
+					new NoViableAltException("", 19, 0, input);
 				throw nvae;
 			}
 
-			switch (alt16) {
+			switch (alt19) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:266:13: expression
+					// src/main/sqlplus/parser/SQLPlus.g:334:13: expression
 					{
-					pushFollow(FOLLOW_expression_in_set_column_clause954);
-					expression23=expression();
+					pushFollow(FOLLOW_expression_in_set_column_clause1108);
+					expression31=expression();
 					state._fsp--;
 
 
-					                columnValueMap.put((column_spec22!=null?input.toString(column_spec22.start,column_spec22.stop):null), expression23);
+					                columnValueMap.put(text((column_spec30!=null?(column_spec30.start):null), (column_spec30!=null?(column_spec30.stop):null)), expression31);
 					            
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlus.g:270:13: DEFAULT
+					// src/main/sqlplus/parser/SQLPlus.g:338:13: DEFAULT
 					{
-					DEFAULT24=(Token)match(input,DEFAULT,FOLLOW_DEFAULT_in_set_column_clause984); 
+					DEFAULT32=(Token)match(input,DEFAULT,FOLLOW_DEFAULT_in_set_column_clause1138); 
 
-					                columnValueMap.put((column_spec22!=null?input.toString(column_spec22.start,column_spec22.stop):null), new ExpressionLiteral((DEFAULT24!=null?DEFAULT24.getText():null)));
+					                columnValueMap.put(text((column_spec30!=null?(column_spec30.start):null), (column_spec30!=null?(column_spec30.stop):null)), ExpressionFactory.literal((DEFAULT32!=null?DEFAULT32.getText():null)));
 					            
 					}
 					break;
@@ -1409,26 +1690,26 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "where_clause"
-	// src/main/sqlplus/parser/SQLPlus.g:276:1: where_clause returns [Expression expr] : WHERE expression ;
+	// src/main/sqlplus/parser/SQLPlus.g:344:1: where_clause returns [Expression expr] : WHERE expression ;
 	public final Expression where_clause() throws RecognitionException {
 		Expression expr = null;
 
 
-		Expression expression25 =null;
+		Expression expression33 =null;
 
 
 		        expr = null;
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:280:5: ( WHERE expression )
-			// src/main/sqlplus/parser/SQLPlus.g:280:9: WHERE expression
+			// src/main/sqlplus/parser/SQLPlus.g:348:5: ( WHERE expression )
+			// src/main/sqlplus/parser/SQLPlus.g:348:9: WHERE expression
 			{
-			match(input,WHERE,FOLLOW_WHERE_in_where_clause1028); 
-			pushFollow(FOLLOW_expression_in_where_clause1030);
-			expression25=expression();
+			match(input,WHERE,FOLLOW_WHERE_in_where_clause1182); 
+			pushFollow(FOLLOW_expression_in_where_clause1184);
+			expression33=expression();
 			state._fsp--;
 
-			 expr = expression25; 
+			 expr = expression33; 
 			}
 
 		}
@@ -1447,13 +1728,13 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "table_atom"
-	// src/main/sqlplus/parser/SQLPlus.g:283:1: table_atom : table_spec ;
+	// src/main/sqlplus/parser/SQLPlus.g:351:1: table_atom : table_spec ;
 	public final void table_atom() throws RecognitionException {
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:284:2: ( table_spec )
-			// src/main/sqlplus/parser/SQLPlus.g:284:4: table_spec
+			// src/main/sqlplus/parser/SQLPlus.g:352:2: ( table_spec )
+			// src/main/sqlplus/parser/SQLPlus.g:352:4: table_spec
 			{
-			pushFollow(FOLLOW_table_spec_in_table_atom1046);
+			pushFollow(FOLLOW_table_spec_in_table_atom1200);
 			table_spec();
 			state._fsp--;
 
@@ -1477,39 +1758,39 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "table_spec"
-	// src/main/sqlplus/parser/SQLPlus.g:287:1: table_spec : ( schema_name DOT )? table_name ;
+	// src/main/sqlplus/parser/SQLPlus.g:355:1: table_spec : ( schema_name DOT )? table_name ;
 	public final SQLPlusParser.table_spec_return table_spec() throws RecognitionException {
 		SQLPlusParser.table_spec_return retval = new SQLPlusParser.table_spec_return();
 		retval.start = input.LT(1);
 
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:288:2: ( ( schema_name DOT )? table_name )
-			// src/main/sqlplus/parser/SQLPlus.g:288:4: ( schema_name DOT )? table_name
+			// src/main/sqlplus/parser/SQLPlus.g:356:2: ( ( schema_name DOT )? table_name )
+			// src/main/sqlplus/parser/SQLPlus.g:356:4: ( schema_name DOT )? table_name
 			{
-			// src/main/sqlplus/parser/SQLPlus.g:288:4: ( schema_name DOT )?
-			int alt17=2;
-			int LA17_0 = input.LA(1);
-			if ( (LA17_0==ID) ) {
-				int LA17_1 = input.LA(2);
-				if ( (LA17_1==DOT) ) {
-					alt17=1;
+			// src/main/sqlplus/parser/SQLPlus.g:356:4: ( schema_name DOT )?
+			int alt20=2;
+			int LA20_0 = input.LA(1);
+			if ( (LA20_0==ID) ) {
+				int LA20_1 = input.LA(2);
+				if ( (LA20_1==DOT) ) {
+					alt20=1;
 				}
 			}
-			switch (alt17) {
+			switch (alt20) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:288:5: schema_name DOT
+					// src/main/sqlplus/parser/SQLPlus.g:356:5: schema_name DOT
 					{
-					pushFollow(FOLLOW_schema_name_in_table_spec1058);
+					pushFollow(FOLLOW_schema_name_in_table_spec1212);
 					schema_name();
 					state._fsp--;
 
-					match(input,DOT,FOLLOW_DOT_in_table_spec1060); 
+					match(input,DOT,FOLLOW_DOT_in_table_spec1214); 
 					}
 					break;
 
 			}
 
-			pushFollow(FOLLOW_table_name_in_table_spec1064);
+			pushFollow(FOLLOW_table_name_in_table_spec1218);
 			table_name();
 			state._fsp--;
 
@@ -1533,7 +1814,7 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "column_list"
-	// src/main/sqlplus/parser/SQLPlus.g:291:1: column_list returns [List<String> columnList] : LEFT_PARENTHESIS column= column_spec ( COMMA column= column_spec )* RIGHT_PARENTHESIS ;
+	// src/main/sqlplus/parser/SQLPlus.g:359:1: column_list returns [List<String> columnList] : LEFT_PARENTHESIS column= column_spec ( COMMA column= column_spec )* RIGHT_PARENTHESIS ;
 	public final List<String> column_list() throws RecognitionException {
 		List<String> columnList = null;
 
@@ -1544,47 +1825,47 @@ public class SQLPlusParser extends Parser {
 		        columnList = new ArrayList<String>();
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:295:2: ( LEFT_PARENTHESIS column= column_spec ( COMMA column= column_spec )* RIGHT_PARENTHESIS )
-			// src/main/sqlplus/parser/SQLPlus.g:295:6: LEFT_PARENTHESIS column= column_spec ( COMMA column= column_spec )* RIGHT_PARENTHESIS
+			// src/main/sqlplus/parser/SQLPlus.g:363:2: ( LEFT_PARENTHESIS column= column_spec ( COMMA column= column_spec )* RIGHT_PARENTHESIS )
+			// src/main/sqlplus/parser/SQLPlus.g:363:6: LEFT_PARENTHESIS column= column_spec ( COMMA column= column_spec )* RIGHT_PARENTHESIS
 			{
-			match(input,LEFT_PARENTHESIS,FOLLOW_LEFT_PARENTHESIS_in_column_list1090); 
-			pushFollow(FOLLOW_column_spec_in_column_list1101);
+			match(input,LEFT_PARENTHESIS,FOLLOW_LEFT_PARENTHESIS_in_column_list1244); 
+			pushFollow(FOLLOW_column_spec_in_column_list1255);
 			column=column_spec();
 			state._fsp--;
 
 
-				        columnList.add((column!=null?input.toString(column.start,column.stop):null));
+				        columnList.add(text((column!=null?(column.start):null), (column!=null?(column.stop):null)));
 				    
-			// src/main/sqlplus/parser/SQLPlus.g:299:9: ( COMMA column= column_spec )*
-			loop18:
+			// src/main/sqlplus/parser/SQLPlus.g:367:9: ( COMMA column= column_spec )*
+			loop21:
 			while (true) {
-				int alt18=2;
-				int LA18_0 = input.LA(1);
-				if ( (LA18_0==COMMA) ) {
-					alt18=1;
+				int alt21=2;
+				int LA21_0 = input.LA(1);
+				if ( (LA21_0==COMMA) ) {
+					alt21=1;
 				}
 
-				switch (alt18) {
+				switch (alt21) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:300:13: COMMA column= column_spec
+					// src/main/sqlplus/parser/SQLPlus.g:368:13: COMMA column= column_spec
 					{
-					match(input,COMMA,FOLLOW_COMMA_in_column_list1127); 
-					pushFollow(FOLLOW_column_spec_in_column_list1145);
+					match(input,COMMA,FOLLOW_COMMA_in_column_list1281); 
+					pushFollow(FOLLOW_column_spec_in_column_list1299);
 					column=column_spec();
 					state._fsp--;
 
 
-					                columnList.add((column!=null?input.toString(column.start,column.stop):null));
+					                columnList.add(text((column!=null?(column.start):null), (column!=null?(column.stop):null)));
 					            
 					}
 					break;
 
 				default :
-					break loop18;
+					break loop21;
 				}
 			}
 
-			match(input,RIGHT_PARENTHESIS,FOLLOW_RIGHT_PARENTHESIS_in_column_list1160); 
+			match(input,RIGHT_PARENTHESIS,FOLLOW_RIGHT_PARENTHESIS_in_column_list1314); 
 			}
 
 		}
@@ -1606,68 +1887,68 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "column_spec"
-	// src/main/sqlplus/parser/SQLPlus.g:307:1: column_spec : ( ( schema_name DOT )? table_name DOT )? column_name ;
+	// src/main/sqlplus/parser/SQLPlus.g:375:1: column_spec : ( ( schema_name DOT )? table_name DOT )? column_name ;
 	public final SQLPlusParser.column_spec_return column_spec() throws RecognitionException {
 		SQLPlusParser.column_spec_return retval = new SQLPlusParser.column_spec_return();
 		retval.start = input.LT(1);
 
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:308:2: ( ( ( schema_name DOT )? table_name DOT )? column_name )
-			// src/main/sqlplus/parser/SQLPlus.g:308:6: ( ( schema_name DOT )? table_name DOT )? column_name
+			// src/main/sqlplus/parser/SQLPlus.g:376:2: ( ( ( schema_name DOT )? table_name DOT )? column_name )
+			// src/main/sqlplus/parser/SQLPlus.g:376:6: ( ( schema_name DOT )? table_name DOT )? column_name
 			{
-			// src/main/sqlplus/parser/SQLPlus.g:308:6: ( ( schema_name DOT )? table_name DOT )?
-			int alt20=2;
-			int LA20_0 = input.LA(1);
-			if ( (LA20_0==ID) ) {
-				int LA20_1 = input.LA(2);
-				if ( (LA20_1==DOT) ) {
-					alt20=1;
+			// src/main/sqlplus/parser/SQLPlus.g:376:6: ( ( schema_name DOT )? table_name DOT )?
+			int alt23=2;
+			int LA23_0 = input.LA(1);
+			if ( (LA23_0==ID) ) {
+				int LA23_1 = input.LA(2);
+				if ( (LA23_1==DOT) ) {
+					alt23=1;
 				}
 			}
-			switch (alt20) {
+			switch (alt23) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:308:7: ( schema_name DOT )? table_name DOT
+					// src/main/sqlplus/parser/SQLPlus.g:376:7: ( schema_name DOT )? table_name DOT
 					{
-					// src/main/sqlplus/parser/SQLPlus.g:308:7: ( schema_name DOT )?
-					int alt19=2;
-					int LA19_0 = input.LA(1);
-					if ( (LA19_0==ID) ) {
-						int LA19_1 = input.LA(2);
-						if ( (LA19_1==DOT) ) {
-							int LA19_2 = input.LA(3);
-							if ( (LA19_2==ID) ) {
-								int LA19_3 = input.LA(4);
-								if ( (LA19_3==DOT) ) {
-									alt19=1;
+					// src/main/sqlplus/parser/SQLPlus.g:376:7: ( schema_name DOT )?
+					int alt22=2;
+					int LA22_0 = input.LA(1);
+					if ( (LA22_0==ID) ) {
+						int LA22_1 = input.LA(2);
+						if ( (LA22_1==DOT) ) {
+							int LA22_2 = input.LA(3);
+							if ( (LA22_2==ID) ) {
+								int LA22_3 = input.LA(4);
+								if ( (LA22_3==DOT) ) {
+									alt22=1;
 								}
 							}
 						}
 					}
-					switch (alt19) {
+					switch (alt22) {
 						case 1 :
-							// src/main/sqlplus/parser/SQLPlus.g:308:8: schema_name DOT
+							// src/main/sqlplus/parser/SQLPlus.g:376:8: schema_name DOT
 							{
-							pushFollow(FOLLOW_schema_name_in_column_spec1175);
+							pushFollow(FOLLOW_schema_name_in_column_spec1329);
 							schema_name();
 							state._fsp--;
 
-							match(input,DOT,FOLLOW_DOT_in_column_spec1177); 
+							match(input,DOT,FOLLOW_DOT_in_column_spec1331); 
 							}
 							break;
 
 					}
 
-					pushFollow(FOLLOW_table_name_in_column_spec1181);
+					pushFollow(FOLLOW_table_name_in_column_spec1335);
 					table_name();
 					state._fsp--;
 
-					match(input,DOT,FOLLOW_DOT_in_column_spec1183); 
+					match(input,DOT,FOLLOW_DOT_in_column_spec1337); 
 					}
 					break;
 
 			}
 
-			pushFollow(FOLLOW_column_name_in_column_spec1187);
+			pushFollow(FOLLOW_column_name_in_column_spec1341);
 			column_name();
 			state._fsp--;
 
@@ -1691,18 +1972,30 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "subquery"
-	// src/main/sqlplus/parser/SQLPlus.g:311:1: subquery : LEFT_PARENTHESIS select_statement RIGHT_PARENTHESIS ;
-	public final void subquery() throws RecognitionException {
+	// src/main/sqlplus/parser/SQLPlus.g:379:1: subquery[ExpressionSubquery.Type type] returns [Expression expr] : LEFT_PARENTHESIS select_statement RIGHT_PARENTHESIS ;
+	public final Expression subquery(ExpressionSubquery.Type type) throws RecognitionException {
+		Expression expr = null;
+
+
+		ParserRuleReturnScope select_statement34 =null;
+
+
+		        expr = null;
+		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:312:5: ( LEFT_PARENTHESIS select_statement RIGHT_PARENTHESIS )
-			// src/main/sqlplus/parser/SQLPlus.g:312:9: LEFT_PARENTHESIS select_statement RIGHT_PARENTHESIS
+			// src/main/sqlplus/parser/SQLPlus.g:383:5: ( LEFT_PARENTHESIS select_statement RIGHT_PARENTHESIS )
+			// src/main/sqlplus/parser/SQLPlus.g:383:9: LEFT_PARENTHESIS select_statement RIGHT_PARENTHESIS
 			{
-			match(input,LEFT_PARENTHESIS,FOLLOW_LEFT_PARENTHESIS_in_subquery1203); 
-			pushFollow(FOLLOW_select_statement_in_subquery1205);
-			select_statement();
+			match(input,LEFT_PARENTHESIS,FOLLOW_LEFT_PARENTHESIS_in_subquery1371); 
+			pushFollow(FOLLOW_select_statement_in_subquery1373);
+			select_statement34=select_statement();
 			state._fsp--;
 
-			match(input,RIGHT_PARENTHESIS,FOLLOW_RIGHT_PARENTHESIS_in_subquery1207); 
+			match(input,RIGHT_PARENTHESIS,FOLLOW_RIGHT_PARENTHESIS_in_subquery1375); 
+
+			            expr = ExpressionFactory.subquery(text((select_statement34!=null?(select_statement34.start):null), (select_statement34!=null?(select_statement34.stop):null)),
+			                    (StatementSelectExpression) (select_statement34!=null?((SQLPlusParser.select_statement_return)select_statement34).selectStatement:null), type);
+			        
 			}
 
 		}
@@ -1714,18 +2007,19 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
+		return expr;
 	}
 	// $ANTLR end "subquery"
 
 
 
 	// $ANTLR start "expression"
-	// src/main/sqlplus/parser/SQLPlus.g:315:1: expression returns [Expression expr] : left= expr_factor1 ( OR right= expr_factor1 )* ;
+	// src/main/sqlplus/parser/SQLPlus.g:389:1: expression returns [Expression expr] : left= expr_factor1 ( OR right= expr_factor1 )* ;
 	public final Expression expression() throws RecognitionException {
 		Expression expr = null;
 
 
-		Token OR26=null;
+		Token OR35=null;
 		Expression left =null;
 		Expression right =null;
 
@@ -1733,40 +2027,40 @@ public class SQLPlusParser extends Parser {
 		        expr = null;
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:319:5: (left= expr_factor1 ( OR right= expr_factor1 )* )
-			// src/main/sqlplus/parser/SQLPlus.g:319:9: left= expr_factor1 ( OR right= expr_factor1 )*
+			// src/main/sqlplus/parser/SQLPlus.g:393:5: (left= expr_factor1 ( OR right= expr_factor1 )* )
+			// src/main/sqlplus/parser/SQLPlus.g:393:9: left= expr_factor1 ( OR right= expr_factor1 )*
 			{
-			pushFollow(FOLLOW_expr_factor1_in_expression1243);
+			pushFollow(FOLLOW_expr_factor1_in_expression1413);
 			left=expr_factor1();
 			state._fsp--;
 
 			 expr = left; 
-			// src/main/sqlplus/parser/SQLPlus.g:320:9: ( OR right= expr_factor1 )*
-			loop21:
+			// src/main/sqlplus/parser/SQLPlus.g:394:9: ( OR right= expr_factor1 )*
+			loop24:
 			while (true) {
-				int alt21=2;
-				int LA21_0 = input.LA(1);
-				if ( (LA21_0==OR) ) {
-					alt21=1;
+				int alt24=2;
+				int LA24_0 = input.LA(1);
+				if ( (LA24_0==OR) ) {
+					alt24=1;
 				}
 
-				switch (alt21) {
+				switch (alt24) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:321:13: OR right= expr_factor1
+					// src/main/sqlplus/parser/SQLPlus.g:395:13: OR right= expr_factor1
 					{
-					OR26=(Token)match(input,OR,FOLLOW_OR_in_expression1269); 
-					pushFollow(FOLLOW_expr_factor1_in_expression1275);
+					OR35=(Token)match(input,OR,FOLLOW_OR_in_expression1439); 
+					pushFollow(FOLLOW_expr_factor1_in_expression1445);
 					right=expr_factor1();
 					state._fsp--;
 
 
-					                expr = new ExpressionBinary((OR26!=null?OR26.getText():null), expr, right);
+					                expr = ExpressionFactory.binary((OR35!=null?OR35.getText():null), expr, right);
 					            
 					}
 					break;
 
 				default :
-					break loop21;
+					break loop24;
 				}
 			}
 
@@ -1788,12 +2082,12 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "expr_factor1"
-	// src/main/sqlplus/parser/SQLPlus.g:327:1: expr_factor1 returns [Expression expr] : left= expr_factor2 ( XOR right= expr_factor2 )* ;
+	// src/main/sqlplus/parser/SQLPlus.g:401:1: expr_factor1 returns [Expression expr] : left= expr_factor2 ( XOR right= expr_factor2 )* ;
 	public final Expression expr_factor1() throws RecognitionException {
 		Expression expr = null;
 
 
-		Token XOR27=null;
+		Token XOR36=null;
 		Expression left =null;
 		Expression right =null;
 
@@ -1801,40 +2095,40 @@ public class SQLPlusParser extends Parser {
 		        expr = null;
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:331:5: (left= expr_factor2 ( XOR right= expr_factor2 )* )
-			// src/main/sqlplus/parser/SQLPlus.g:331:9: left= expr_factor2 ( XOR right= expr_factor2 )*
+			// src/main/sqlplus/parser/SQLPlus.g:405:5: (left= expr_factor2 ( XOR right= expr_factor2 )* )
+			// src/main/sqlplus/parser/SQLPlus.g:405:9: left= expr_factor2 ( XOR right= expr_factor2 )*
 			{
-			pushFollow(FOLLOW_expr_factor2_in_expr_factor11324);
+			pushFollow(FOLLOW_expr_factor2_in_expr_factor11494);
 			left=expr_factor2();
 			state._fsp--;
 
 			 expr = left; 
-			// src/main/sqlplus/parser/SQLPlus.g:332:9: ( XOR right= expr_factor2 )*
-			loop22:
+			// src/main/sqlplus/parser/SQLPlus.g:406:9: ( XOR right= expr_factor2 )*
+			loop25:
 			while (true) {
-				int alt22=2;
-				int LA22_0 = input.LA(1);
-				if ( (LA22_0==XOR) ) {
-					alt22=1;
+				int alt25=2;
+				int LA25_0 = input.LA(1);
+				if ( (LA25_0==XOR) ) {
+					alt25=1;
 				}
 
-				switch (alt22) {
+				switch (alt25) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:333:13: XOR right= expr_factor2
+					// src/main/sqlplus/parser/SQLPlus.g:407:13: XOR right= expr_factor2
 					{
-					XOR27=(Token)match(input,XOR,FOLLOW_XOR_in_expr_factor11350); 
-					pushFollow(FOLLOW_expr_factor2_in_expr_factor11356);
+					XOR36=(Token)match(input,XOR,FOLLOW_XOR_in_expr_factor11520); 
+					pushFollow(FOLLOW_expr_factor2_in_expr_factor11526);
 					right=expr_factor2();
 					state._fsp--;
 
 
-					                expr = new ExpressionBinary((XOR27!=null?XOR27.getText():null), expr, right);
+					                expr = ExpressionFactory.binary((XOR36!=null?XOR36.getText():null), expr, right);
 					            
 					}
 					break;
 
 				default :
-					break loop22;
+					break loop25;
 				}
 			}
 
@@ -1856,12 +2150,12 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "expr_factor2"
-	// src/main/sqlplus/parser/SQLPlus.g:339:1: expr_factor2 returns [Expression expr] : left= expr_factor3 ( AND right= expr_factor3 )* ;
+	// src/main/sqlplus/parser/SQLPlus.g:413:1: expr_factor2 returns [Expression expr] : left= expr_factor3 ( AND right= expr_factor3 )* ;
 	public final Expression expr_factor2() throws RecognitionException {
 		Expression expr = null;
 
 
-		Token AND28=null;
+		Token AND37=null;
 		Expression left =null;
 		Expression right =null;
 
@@ -1869,40 +2163,40 @@ public class SQLPlusParser extends Parser {
 		        expr = null;
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:343:5: (left= expr_factor3 ( AND right= expr_factor3 )* )
-			// src/main/sqlplus/parser/SQLPlus.g:343:9: left= expr_factor3 ( AND right= expr_factor3 )*
+			// src/main/sqlplus/parser/SQLPlus.g:417:5: (left= expr_factor3 ( AND right= expr_factor3 )* )
+			// src/main/sqlplus/parser/SQLPlus.g:417:9: left= expr_factor3 ( AND right= expr_factor3 )*
 			{
-			pushFollow(FOLLOW_expr_factor3_in_expr_factor21405);
+			pushFollow(FOLLOW_expr_factor3_in_expr_factor21575);
 			left=expr_factor3();
 			state._fsp--;
 
 			 expr = left; 
-			// src/main/sqlplus/parser/SQLPlus.g:344:9: ( AND right= expr_factor3 )*
-			loop23:
+			// src/main/sqlplus/parser/SQLPlus.g:418:9: ( AND right= expr_factor3 )*
+			loop26:
 			while (true) {
-				int alt23=2;
-				int LA23_0 = input.LA(1);
-				if ( (LA23_0==AND) ) {
-					alt23=1;
+				int alt26=2;
+				int LA26_0 = input.LA(1);
+				if ( (LA26_0==AND) ) {
+					alt26=1;
 				}
 
-				switch (alt23) {
+				switch (alt26) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:345:13: AND right= expr_factor3
+					// src/main/sqlplus/parser/SQLPlus.g:419:13: AND right= expr_factor3
 					{
-					AND28=(Token)match(input,AND,FOLLOW_AND_in_expr_factor21431); 
-					pushFollow(FOLLOW_expr_factor3_in_expr_factor21437);
+					AND37=(Token)match(input,AND,FOLLOW_AND_in_expr_factor21601); 
+					pushFollow(FOLLOW_expr_factor3_in_expr_factor21607);
 					right=expr_factor3();
 					state._fsp--;
 
 
-					                expr = new ExpressionBinary((AND28!=null?AND28.getText():null), expr, right);
+					                expr = ExpressionFactory.binary((AND37!=null?AND37.getText():null), expr, right);
 					            
 					}
 					break;
 
 				default :
-					break loop23;
+					break loop26;
 				}
 			}
 
@@ -1924,45 +2218,42 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "expr_factor3"
-	// src/main/sqlplus/parser/SQLPlus.g:351:1: expr_factor3 returns [Expression expr] : ( NOT )? expr_factor4 ;
+	// src/main/sqlplus/parser/SQLPlus.g:425:1: expr_factor3 returns [Expression expr] : ( NOT )? expr_factor4 ;
 	public final Expression expr_factor3() throws RecognitionException {
 		Expression expr = null;
 
 
-		Token NOT29=null;
-		Expression expr_factor430 =null;
+		Token NOT38=null;
+		Expression expr_factor439 =null;
 
 
 		        expr = null;
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:355:5: ( ( NOT )? expr_factor4 )
-			// src/main/sqlplus/parser/SQLPlus.g:355:9: ( NOT )? expr_factor4
+			// src/main/sqlplus/parser/SQLPlus.g:429:5: ( ( NOT )? expr_factor4 )
+			// src/main/sqlplus/parser/SQLPlus.g:429:9: ( NOT )? expr_factor4
 			{
-			// src/main/sqlplus/parser/SQLPlus.g:355:9: ( NOT )?
-			int alt24=2;
-			int LA24_0 = input.LA(1);
-			if ( (LA24_0==NOT) ) {
-				int LA24_1 = input.LA(2);
-				if ( (LA24_1==ID||LA24_1==INTEGER_NUMBER||LA24_1==MINUS||LA24_1==NOT||LA24_1==PLUS||LA24_1==REAL_NUMBER||LA24_1==TEXT_STRING) ) {
-					alt24=1;
-				}
+			// src/main/sqlplus/parser/SQLPlus.g:429:9: ( NOT )?
+			int alt27=2;
+			int LA27_0 = input.LA(1);
+			if ( (LA27_0==NOT) ) {
+				alt27=1;
 			}
-			switch (alt24) {
+			switch (alt27) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:355:10: NOT
+					// src/main/sqlplus/parser/SQLPlus.g:429:10: NOT
 					{
-					NOT29=(Token)match(input,NOT,FOLLOW_NOT_in_expr_factor31483); 
+					NOT38=(Token)match(input,NOT,FOLLOW_NOT_in_expr_factor31653); 
 					}
 					break;
 
 			}
 
-			pushFollow(FOLLOW_expr_factor4_in_expr_factor31487);
-			expr_factor430=expr_factor4();
+			pushFollow(FOLLOW_expr_factor4_in_expr_factor31657);
+			expr_factor439=expr_factor4();
 			state._fsp--;
 
-			 expr = new ExpressionBinary((NOT29!=null?NOT29.getText():null), null, expr_factor430); 
+			 expr = ExpressionFactory.binary((NOT38!=null?NOT38.getText():null), null, expr_factor439); 
 			}
 
 		}
@@ -1981,81 +2272,89 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "expr_factor4"
-	// src/main/sqlplus/parser/SQLPlus.g:358:1: expr_factor4 returns [Expression expr] : bool_primary ( IS ( NOT )? ( boolean_literal | NULL ) )? ;
+	// src/main/sqlplus/parser/SQLPlus.g:432:1: expr_factor4 returns [Expression expr] : bool_primary ( IS ( NOT )? ( boolean_literal | NULL ) )? ;
 	public final Expression expr_factor4() throws RecognitionException {
 		Expression expr = null;
 
 
-		Expression bool_primary31 =null;
+		Expression bool_primary40 =null;
+		ParserRuleReturnScope boolean_literal41 =null;
 
 
 		        expr = null;
+		        boolean negated = false;
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:362:5: ( bool_primary ( IS ( NOT )? ( boolean_literal | NULL ) )? )
-			// src/main/sqlplus/parser/SQLPlus.g:362:9: bool_primary ( IS ( NOT )? ( boolean_literal | NULL ) )?
+			// src/main/sqlplus/parser/SQLPlus.g:437:5: ( bool_primary ( IS ( NOT )? ( boolean_literal | NULL ) )? )
+			// src/main/sqlplus/parser/SQLPlus.g:437:9: bool_primary ( IS ( NOT )? ( boolean_literal | NULL ) )?
 			{
-			pushFollow(FOLLOW_bool_primary_in_expr_factor41521);
-			bool_primary31=bool_primary();
+			pushFollow(FOLLOW_bool_primary_in_expr_factor41691);
+			bool_primary40=bool_primary();
 			state._fsp--;
 
-			// src/main/sqlplus/parser/SQLPlus.g:362:22: ( IS ( NOT )? ( boolean_literal | NULL ) )?
-			int alt27=2;
-			int LA27_0 = input.LA(1);
-			if ( (LA27_0==IS) ) {
-				alt27=1;
+			 expr = bool_primary40; 
+			// src/main/sqlplus/parser/SQLPlus.g:438:9: ( IS ( NOT )? ( boolean_literal | NULL ) )?
+			int alt30=2;
+			int LA30_0 = input.LA(1);
+			if ( (LA30_0==IS) ) {
+				alt30=1;
 			}
-			switch (alt27) {
+			switch (alt30) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:362:24: IS ( NOT )? ( boolean_literal | NULL )
+					// src/main/sqlplus/parser/SQLPlus.g:439:13: IS ( NOT )? ( boolean_literal | NULL )
 					{
-					match(input,IS,FOLLOW_IS_in_expr_factor41525); 
-					// src/main/sqlplus/parser/SQLPlus.g:362:27: ( NOT )?
-					int alt25=2;
-					int LA25_0 = input.LA(1);
-					if ( (LA25_0==NOT) ) {
-						alt25=1;
-					}
-					switch (alt25) {
+					match(input,IS,FOLLOW_IS_in_expr_factor41717); 
+					// src/main/sqlplus/parser/SQLPlus.g:439:16: ( NOT )?
+					int alt28=2;
+					int LA28_0 = input.LA(1);
+					if ( (LA28_0==NOT) ) {
+						alt28=1;
+					}
+					switch (alt28) {
 						case 1 :
-							// src/main/sqlplus/parser/SQLPlus.g:362:28: NOT
+							// src/main/sqlplus/parser/SQLPlus.g:439:17: NOT
 							{
-							match(input,NOT,FOLLOW_NOT_in_expr_factor41528); 
+							match(input,NOT,FOLLOW_NOT_in_expr_factor41720); 
+							 negated = true; 
 							}
 							break;
 
 					}
 
-					// src/main/sqlplus/parser/SQLPlus.g:362:34: ( boolean_literal | NULL )
-					int alt26=2;
-					int LA26_0 = input.LA(1);
-					if ( (LA26_0==FALSE||LA26_0==TRUE) ) {
-						alt26=1;
+					// src/main/sqlplus/parser/SQLPlus.g:440:13: ( boolean_literal | NULL )
+					int alt29=2;
+					int LA29_0 = input.LA(1);
+					if ( (LA29_0==FALSE||LA29_0==TRUE) ) {
+						alt29=1;
 					}
-					else if ( (LA26_0==NULL) ) {
-						alt26=2;
+					else if ( (LA29_0==NULL) ) {
+						alt29=2;
 					}
 
 					else {
 						NoViableAltException nvae =
-							new NoViableAltException("", 26, 0, input);
+							new NoViableAltException("", 29, 0, input);
 						throw nvae;
 					}
 
-					switch (alt26) {
+					switch (alt29) {
 						case 1 :
-							// src/main/sqlplus/parser/SQLPlus.g:362:35: boolean_literal
+							// src/main/sqlplus/parser/SQLPlus.g:441:17: boolean_literal
 							{
-							pushFollow(FOLLOW_boolean_literal_in_expr_factor41533);
-							boolean_literal();
+							pushFollow(FOLLOW_boolean_literal_in_expr_factor41756);
+							boolean_literal41=boolean_literal();
 							state._fsp--;
 
+
+							                    expr = ExpressionFactory.is(expr, ExpressionIs.test((boolean_literal41!=null?input.toString(boolean_literal41.start,boolean_literal41.stop):null)), negated);
+							                
 							}
 							break;
 						case 2 :
-							// src/main/sqlplus/parser/SQLPlus.g:362:53: NULL
+							// src/main/sqlplus/parser/SQLPlus.g:444:17: NULL
 							{
-							match(input,NULL,FOLLOW_NULL_in_expr_factor41537); 
+							match(input,NULL,FOLLOW_NULL_in_expr_factor41776); 
+							 expr = ExpressionFactory.is(expr, ExpressionIs.Test.NULL, negated); 
 							}
 							break;
 
@@ -2066,7 +2365,6 @@ public class SQLPlusParser extends Parser {
 
 			}
 
-			 expr = bool_primary31; 
 			}
 
 		}
@@ -2085,473 +2383,242 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "bool_primary"
-	// src/main/sqlplus/parser/SQLPlus.g:365:1: bool_primary returns [Expression expr] : (left= predicate relational_op right= predicate | predicate relational_op ( ALL | ANY )? subquery | NOT EXISTS subquery | predicate );
+	// src/main/sqlplus/parser/SQLPlus.g:449:1: bool_primary returns [Expression expr] : (left= predicate relational_op right= predicate |left= predicate relational_op ( ALL | ANY )? subquery[type] | EXISTS subquery[ExpressionSubquery.Type.EXISTS] | predicate );
 	public final Expression bool_primary() throws RecognitionException {
 		Expression expr = null;
 
 
 		Expression left =null;
 		Expression right =null;
-		ParserRuleReturnScope relational_op32 =null;
+		ParserRuleReturnScope relational_op42 =null;
+		ParserRuleReturnScope relational_op43 =null;
+		Expression subquery44 =null;
+		Expression subquery45 =null;
+		Expression predicate46 =null;
 
 
 		        expr = null;
+		        ExpressionSubquery.Type type = ExpressionSubquery.Type.SCALAR;
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:369:5: (left= predicate relational_op right= predicate | predicate relational_op ( ALL | ANY )? subquery | NOT EXISTS subquery | predicate )
-			int alt29=4;
-			switch ( input.LA(1) ) {
-			case TEXT_STRING:
-				{
-				int LA29_1 = input.LA(2);
-				if ( (LA29_1==EQUAL||(LA29_1 >= GREATER_THAN && LA29_1 <= GREATER_THAN_EQUAL)||(LA29_1 >= LESS_THAN && LA29_1 <= LESS_THAN_EQUAL)||LA29_1==NOT_EQUAL) ) {
-					int LA29_6 = input.LA(3);
-					if ( (LA29_6==ID||LA29_6==INTEGER_NUMBER||LA29_6==MINUS||LA29_6==PLUS||LA29_6==REAL_NUMBER||LA29_6==TEXT_STRING) ) {
-						alt29=1;
-					}
-					else if ( (LA29_6==ALL||LA29_6==ANY||LA29_6==LEFT_PARENTHESIS) ) {
-						alt29=2;
-					}
+			// src/main/sqlplus/parser/SQLPlus.g:454:5: (left= predicate relational_op right= predicate |left= predicate relational_op ( ALL | ANY )? subquery[type] | EXISTS subquery[ExpressionSubquery.Type.EXISTS] | predicate )
+			int alt32=4;
+			alt32 = dfa32.predict(input);
+			switch (alt32) {
+				case 1 :
+					// src/main/sqlplus/parser/SQLPlus.g:454:9: left= predicate relational_op right= predicate
+					{
+					pushFollow(FOLLOW_predicate_in_bool_primary1839);
+					left=predicate();
+					state._fsp--;
 
-					else {
-						int nvaeMark = input.mark();
-						try {
-							for (int nvaeConsume = 0; nvaeConsume < 3 - 1; nvaeConsume++) {
-								input.consume();
-							}
-							NoViableAltException nvae =
-								new NoViableAltException("", 29, 6, input);
-							throw nvae;
-						} finally {
-							input.rewind(nvaeMark);
-						}
-					}
+					pushFollow(FOLLOW_relational_op_in_bool_primary1849);
+					relational_op42=relational_op();
+					state._fsp--;
 
-				}
-				else if ( (LA29_1==AND||LA29_1==COMMA||LA29_1==IS||LA29_1==OR||LA29_1==RIGHT_PARENTHESIS||LA29_1==SEMICOLON||LA29_1==WHERE||LA29_1==XOR) ) {
-					alt29=4;
-				}
+					pushFollow(FOLLOW_predicate_in_bool_primary1863);
+					right=predicate();
+					state._fsp--;
 
-				else {
-					int nvaeMark = input.mark();
-					try {
-						input.consume();
-						NoViableAltException nvae =
-							new NoViableAltException("", 29, 1, input);
-						throw nvae;
-					} finally {
-						input.rewind(nvaeMark);
-					}
-				}
 
-				}
-				break;
-			case MINUS:
-			case PLUS:
-				{
-				int LA29_2 = input.LA(2);
-				if ( (LA29_2==INTEGER_NUMBER||LA29_2==REAL_NUMBER) ) {
-					int LA29_3 = input.LA(3);
-					if ( (LA29_3==EQUAL||(LA29_3 >= GREATER_THAN && LA29_3 <= GREATER_THAN_EQUAL)||(LA29_3 >= LESS_THAN && LA29_3 <= LESS_THAN_EQUAL)||LA29_3==NOT_EQUAL) ) {
-						int LA29_6 = input.LA(4);
-						if ( (LA29_6==ID||LA29_6==INTEGER_NUMBER||LA29_6==MINUS||LA29_6==PLUS||LA29_6==REAL_NUMBER||LA29_6==TEXT_STRING) ) {
-							alt29=1;
-						}
-						else if ( (LA29_6==ALL||LA29_6==ANY||LA29_6==LEFT_PARENTHESIS) ) {
-							alt29=2;
-						}
+					            expr = ExpressionFactory.binary(text((relational_op42!=null?(relational_op42.start):null), (relational_op42!=null?(relational_op42.stop):null)), left, right);
+					        
+					}
+					break;
+				case 2 :
+					// src/main/sqlplus/parser/SQLPlus.g:459:9: left= predicate relational_op ( ALL | ANY )? subquery[type]
+					{
+					pushFollow(FOLLOW_predicate_in_bool_primary1879);
+					left=predicate();
+					state._fsp--;
 
-						else {
-							int nvaeMark = input.mark();
-							try {
-								for (int nvaeConsume = 0; nvaeConsume < 4 - 1; nvaeConsume++) {
-									input.consume();
-								}
-								NoViableAltException nvae =
-									new NoViableAltException("", 29, 6, input);
-								throw nvae;
-							} finally {
-								input.rewind(nvaeMark);
-							}
-						}
+					pushFollow(FOLLOW_relational_op_in_bool_primary1889);
+					relational_op43=relational_op();
+					state._fsp--;
 
+					// src/main/sqlplus/parser/SQLPlus.g:461:9: ( ALL | ANY )?
+					int alt31=3;
+					int LA31_0 = input.LA(1);
+					if ( (LA31_0==ALL) ) {
+						alt31=1;
 					}
-					else if ( (LA29_3==AND||LA29_3==COMMA||LA29_3==IS||LA29_3==OR||LA29_3==RIGHT_PARENTHESIS||LA29_3==SEMICOLON||LA29_3==WHERE||LA29_3==XOR) ) {
-						alt29=4;
+					else if ( (LA31_0==ANY) ) {
+						alt31=2;
 					}
-
-					else {
-						int nvaeMark = input.mark();
-						try {
-							for (int nvaeConsume = 0; nvaeConsume < 3 - 1; nvaeConsume++) {
-								input.consume();
+					switch (alt31) {
+						case 1 :
+							// src/main/sqlplus/parser/SQLPlus.g:462:13: ALL
+							{
+							match(input,ALL,FOLLOW_ALL_in_bool_primary1913); 
+							 type = ExpressionSubquery.Type.ALL; 
 							}
-							NoViableAltException nvae =
-								new NoViableAltException("", 29, 3, input);
-							throw nvae;
-						} finally {
-							input.rewind(nvaeMark);
-						}
+							break;
+						case 2 :
+							// src/main/sqlplus/parser/SQLPlus.g:463:13: ANY
+							{
+							match(input,ANY,FOLLOW_ANY_in_bool_primary1929); 
+							 type = ExpressionSubquery.Type.ANY; 
+							}
+							break;
+
 					}
 
-				}
+					pushFollow(FOLLOW_subquery_in_bool_primary1952);
+					subquery44=subquery(type);
+					state._fsp--;
 
-				else {
-					int nvaeMark = input.mark();
-					try {
-						input.consume();
-						NoViableAltException nvae =
-							new NoViableAltException("", 29, 2, input);
-						throw nvae;
-					} finally {
-						input.rewind(nvaeMark);
-					}
-				}
 
-				}
-				break;
-			case INTEGER_NUMBER:
-			case REAL_NUMBER:
-				{
-				int LA29_3 = input.LA(2);
-				if ( (LA29_3==EQUAL||(LA29_3 >= GREATER_THAN && LA29_3 <= GREATER_THAN_EQUAL)||(LA29_3 >= LESS_THAN && LA29_3 <= LESS_THAN_EQUAL)||LA29_3==NOT_EQUAL) ) {
-					int LA29_6 = input.LA(3);
-					if ( (LA29_6==ID||LA29_6==INTEGER_NUMBER||LA29_6==MINUS||LA29_6==PLUS||LA29_6==REAL_NUMBER||LA29_6==TEXT_STRING) ) {
-						alt29=1;
+					            expr = ExpressionFactory.binary(text((relational_op43!=null?(relational_op43.start):null), (relational_op43!=null?(relational_op43.stop):null)), left, subquery44);
+					        
 					}
-					else if ( (LA29_6==ALL||LA29_6==ANY||LA29_6==LEFT_PARENTHESIS) ) {
-						alt29=2;
+					break;
+				case 3 :
+					// src/main/sqlplus/parser/SQLPlus.g:469:9: EXISTS subquery[ExpressionSubquery.Type.EXISTS]
+					{
+					match(input,EXISTS,FOLLOW_EXISTS_in_bool_primary1974); 
+					pushFollow(FOLLOW_subquery_in_bool_primary1976);
+					subquery45=subquery(ExpressionSubquery.Type.EXISTS);
+					state._fsp--;
+
+					 expr = subquery45; 
 					}
+					break;
+				case 4 :
+					// src/main/sqlplus/parser/SQLPlus.g:470:9: predicate
+					{
+					pushFollow(FOLLOW_predicate_in_bool_primary1989);
+					predicate46=predicate();
+					state._fsp--;
 
-					else {
-						int nvaeMark = input.mark();
-						try {
-							for (int nvaeConsume = 0; nvaeConsume < 3 - 1; nvaeConsume++) {
-								input.consume();
-							}
-							NoViableAltException nvae =
-								new NoViableAltException("", 29, 6, input);
-							throw nvae;
-						} finally {
-							input.rewind(nvaeMark);
-						}
+					 expr = predicate46; 
 					}
+					break;
 
-				}
-				else if ( (LA29_3==AND||LA29_3==COMMA||LA29_3==IS||LA29_3==OR||LA29_3==RIGHT_PARENTHESIS||LA29_3==SEMICOLON||LA29_3==WHERE||LA29_3==XOR) ) {
-					alt29=4;
-				}
+			}
+		}
 
-				else {
-					int nvaeMark = input.mark();
-					try {
-						input.consume();
-						NoViableAltException nvae =
-							new NoViableAltException("", 29, 3, input);
-						throw nvae;
-					} finally {
-						input.rewind(nvaeMark);
-					}
-				}
+			catch (RecognitionException re) {
+				throw re;
+			}
 
-				}
-				break;
-			case ID:
-				{
-				switch ( input.LA(2) ) {
-				case DOT:
-					{
-					int LA29_8 = input.LA(3);
-					if ( (LA29_8==ID) ) {
-						switch ( input.LA(4) ) {
-						case DOT:
-							{
-							int LA29_12 = input.LA(5);
-							if ( (LA29_12==ID) ) {
-								int LA29_13 = input.LA(6);
-								if ( (LA29_13==EQUAL||(LA29_13 >= GREATER_THAN && LA29_13 <= GREATER_THAN_EQUAL)||(LA29_13 >= LESS_THAN && LA29_13 <= LESS_THAN_EQUAL)||LA29_13==NOT_EQUAL) ) {
-									int LA29_6 = input.LA(7);
-									if ( (LA29_6==ID||LA29_6==INTEGER_NUMBER||LA29_6==MINUS||LA29_6==PLUS||LA29_6==REAL_NUMBER||LA29_6==TEXT_STRING) ) {
-										alt29=1;
-									}
-									else if ( (LA29_6==ALL||LA29_6==ANY||LA29_6==LEFT_PARENTHESIS) ) {
-										alt29=2;
-									}
-
-									else {
-										int nvaeMark = input.mark();
-										try {
-											for (int nvaeConsume = 0; nvaeConsume < 7 - 1; nvaeConsume++) {
-												input.consume();
-											}
-											NoViableAltException nvae =
-												new NoViableAltException("", 29, 6, input);
-											throw nvae;
-										} finally {
-											input.rewind(nvaeMark);
-										}
-									}
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "bool_primary"
 
-								}
-								else if ( (LA29_13==AND||LA29_13==COMMA||LA29_13==IS||LA29_13==OR||LA29_13==RIGHT_PARENTHESIS||LA29_13==SEMICOLON||LA29_13==WHERE||LA29_13==XOR) ) {
-									alt29=4;
-								}
 
-								else {
-									int nvaeMark = input.mark();
-									try {
-										for (int nvaeConsume = 0; nvaeConsume < 6 - 1; nvaeConsume++) {
-											input.consume();
-										}
-										NoViableAltException nvae =
-											new NoViableAltException("", 29, 13, input);
-										throw nvae;
-									} finally {
-										input.rewind(nvaeMark);
-									}
-								}
 
-							}
+	// $ANTLR start "predicate"
+	// src/main/sqlplus/parser/SQLPlus.g:473:1: predicate returns [Expression expr] : operand= bit_expr ( ( NOT )? ( IN expression_list | BETWEEN lower= bit_expr AND upper= bit_expr ) )? ;
+	public final Expression predicate() throws RecognitionException {
+		Expression expr = null;
 
-							else {
-								int nvaeMark = input.mark();
-								try {
-									for (int nvaeConsume = 0; nvaeConsume < 5 - 1; nvaeConsume++) {
-										input.consume();
-									}
-									NoViableAltException nvae =
-										new NoViableAltException("", 29, 12, input);
-									throw nvae;
-								} finally {
-									input.rewind(nvaeMark);
-								}
-							}
 
-							}
-							break;
-						case EQUAL:
-						case GREATER_THAN:
-						case GREATER_THAN_EQUAL:
-						case LESS_THAN:
-						case LESS_THAN_EQUAL:
-						case NOT_EQUAL:
-							{
-							int LA29_6 = input.LA(5);
-							if ( (LA29_6==ID||LA29_6==INTEGER_NUMBER||LA29_6==MINUS||LA29_6==PLUS||LA29_6==REAL_NUMBER||LA29_6==TEXT_STRING) ) {
-								alt29=1;
-							}
-							else if ( (LA29_6==ALL||LA29_6==ANY||LA29_6==LEFT_PARENTHESIS) ) {
-								alt29=2;
-							}
+		Expression operand =null;
+		Expression lower =null;
+		Expression upper =null;
+		List<Expression> expression_list47 =null;
 
-							else {
-								int nvaeMark = input.mark();
-								try {
-									for (int nvaeConsume = 0; nvaeConsume < 5 - 1; nvaeConsume++) {
-										input.consume();
-									}
-									NoViableAltException nvae =
-										new NoViableAltException("", 29, 6, input);
-									throw nvae;
-								} finally {
-									input.rewind(nvaeMark);
-								}
-							}
 
-							}
-							break;
-						case AND:
-						case COMMA:
-						case IS:
-						case OR:
-						case RIGHT_PARENTHESIS:
-						case SEMICOLON:
-						case WHERE:
-						case XOR:
-							{
-							alt29=4;
-							}
-							break;
-						default:
-							int nvaeMark = input.mark();
-							try {
-								for (int nvaeConsume = 0; nvaeConsume < 4 - 1; nvaeConsume++) {
-									input.consume();
-								}
-								NoViableAltException nvae =
-									new NoViableAltException("", 29, 11, input);
-								throw nvae;
-							} finally {
-								input.rewind(nvaeMark);
-							}
-						}
-					}
-
-					else {
-						int nvaeMark = input.mark();
-						try {
-							for (int nvaeConsume = 0; nvaeConsume < 3 - 1; nvaeConsume++) {
-								input.consume();
-							}
-							NoViableAltException nvae =
-								new NoViableAltException("", 29, 8, input);
-							throw nvae;
-						} finally {
-							input.rewind(nvaeMark);
-						}
-					}
+		        expr = null;
+		        boolean negated = false;
+		    
+		try {
+			// src/main/sqlplus/parser/SQLPlus.g:478:5: (operand= bit_expr ( ( NOT )? ( IN expression_list | BETWEEN lower= bit_expr AND upper= bit_expr ) )? )
+			// src/main/sqlplus/parser/SQLPlus.g:478:9: operand= bit_expr ( ( NOT )? ( IN expression_list | BETWEEN lower= bit_expr AND upper= bit_expr ) )?
+			{
+			pushFollow(FOLLOW_bit_expr_in_predicate2027);
+			operand=bit_expr();
+			state._fsp--;
 
-					}
-					break;
-				case EQUAL:
-				case GREATER_THAN:
-				case GREATER_THAN_EQUAL:
-				case LESS_THAN:
-				case LESS_THAN_EQUAL:
-				case NOT_EQUAL:
+			 expr = operand; 
+			// src/main/sqlplus/parser/SQLPlus.g:479:9: ( ( NOT )? ( IN expression_list | BETWEEN lower= bit_expr AND upper= bit_expr ) )?
+			int alt35=2;
+			int LA35_0 = input.LA(1);
+			if ( (LA35_0==BETWEEN||LA35_0==IN||LA35_0==NOT) ) {
+				alt35=1;
+			}
+			switch (alt35) {
+				case 1 :
+					// src/main/sqlplus/parser/SQLPlus.g:480:13: ( NOT )? ( IN expression_list | BETWEEN lower= bit_expr AND upper= bit_expr )
 					{
-					int LA29_6 = input.LA(3);
-					if ( (LA29_6==ID||LA29_6==INTEGER_NUMBER||LA29_6==MINUS||LA29_6==PLUS||LA29_6==REAL_NUMBER||LA29_6==TEXT_STRING) ) {
-						alt29=1;
+					// src/main/sqlplus/parser/SQLPlus.g:480:13: ( NOT )?
+					int alt33=2;
+					int LA33_0 = input.LA(1);
+					if ( (LA33_0==NOT) ) {
+						alt33=1;
 					}
-					else if ( (LA29_6==ALL||LA29_6==ANY||LA29_6==LEFT_PARENTHESIS) ) {
-						alt29=2;
-					}
-
-					else {
-						int nvaeMark = input.mark();
-						try {
-							for (int nvaeConsume = 0; nvaeConsume < 3 - 1; nvaeConsume++) {
-								input.consume();
+					switch (alt33) {
+						case 1 :
+							// src/main/sqlplus/parser/SQLPlus.g:480:14: NOT
+							{
+							match(input,NOT,FOLLOW_NOT_in_predicate2054); 
+							 negated = true; 
 							}
-							NoViableAltException nvae =
-								new NoViableAltException("", 29, 6, input);
-							throw nvae;
-						} finally {
-							input.rewind(nvaeMark);
-						}
+							break;
+
 					}
 
+					// src/main/sqlplus/parser/SQLPlus.g:481:13: ( IN expression_list | BETWEEN lower= bit_expr AND upper= bit_expr )
+					int alt34=2;
+					int LA34_0 = input.LA(1);
+					if ( (LA34_0==IN) ) {
+						alt34=1;
 					}
-					break;
-				case AND:
-				case COMMA:
-				case IS:
-				case OR:
-				case RIGHT_PARENTHESIS:
-				case SEMICOLON:
-				case WHERE:
-				case XOR:
-					{
-					alt29=4;
+					else if ( (LA34_0==BETWEEN) ) {
+						alt34=2;
 					}
-					break;
-				default:
-					int nvaeMark = input.mark();
-					try {
-						input.consume();
+
+					else {
 						NoViableAltException nvae =
-							new NoViableAltException("", 29, 4, input);
+							new NoViableAltException("", 34, 0, input);
 						throw nvae;
-					} finally {
-						input.rewind(nvaeMark);
 					}
-				}
-				}
-				break;
-			case NOT:
-				{
-				alt29=3;
-				}
-				break;
-			default:
-				NoViableAltException nvae =
-					new NoViableAltException("", 29, 0, input);
-				throw nvae;
-			}
-			switch (alt29) {
-				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:369:9: left= predicate relational_op right= predicate
-					{
-					pushFollow(FOLLOW_predicate_in_bool_primary1579);
-					left=predicate();
-					state._fsp--;
 
-					pushFollow(FOLLOW_relational_op_in_bool_primary1589);
-					relational_op32=relational_op();
-					state._fsp--;
+					switch (alt34) {
+						case 1 :
+							// src/main/sqlplus/parser/SQLPlus.g:482:17: IN expression_list
+							{
+							match(input,IN,FOLLOW_IN_in_predicate2090); 
+							pushFollow(FOLLOW_expression_list_in_predicate2092);
+							expression_list47=expression_list();
+							state._fsp--;
 
-					pushFollow(FOLLOW_predicate_in_bool_primary1603);
-					right=predicate();
-					state._fsp--;
 
+							                    expr = ExpressionFactory.in(operand, expression_list47, negated);
+							                
+							}
+							break;
+						case 2 :
+							// src/main/sqlplus/parser/SQLPlus.g:485:17: BETWEEN lower= bit_expr AND upper= bit_expr
+							{
+							match(input,BETWEEN,FOLLOW_BETWEEN_in_predicate2112); 
+							pushFollow(FOLLOW_bit_expr_in_predicate2118);
+							lower=bit_expr();
+							state._fsp--;
 
-					            expr = new ExpressionBinary((relational_op32!=null?input.toString(relational_op32.start,relational_op32.stop):null), left, right);
-					        
-					}
-					break;
-				case 2 :
-					// src/main/sqlplus/parser/SQLPlus.g:374:9: predicate relational_op ( ALL | ANY )? subquery
-					{
-					pushFollow(FOLLOW_predicate_in_bool_primary1615);
-					predicate();
-					state._fsp--;
+							match(input,AND,FOLLOW_AND_in_predicate2120); 
+							pushFollow(FOLLOW_bit_expr_in_predicate2126);
+							upper=bit_expr();
+							state._fsp--;
 
-					pushFollow(FOLLOW_relational_op_in_bool_primary1617);
-					relational_op();
-					state._fsp--;
 
-					// src/main/sqlplus/parser/SQLPlus.g:374:33: ( ALL | ANY )?
-					int alt28=2;
-					int LA28_0 = input.LA(1);
-					if ( (LA28_0==ALL||LA28_0==ANY) ) {
-						alt28=1;
-					}
-					switch (alt28) {
-						case 1 :
-							// src/main/sqlplus/parser/SQLPlus.g:
-							{
-							if ( input.LA(1)==ALL||input.LA(1)==ANY ) {
-								input.consume();
-								state.errorRecovery=false;
-							}
-							else {
-								MismatchedSetException mse = new MismatchedSetException(null,input);
-								throw mse;
-							}
+							                    expr = ExpressionFactory.between(operand, lower, upper, negated);
+							                
 							}
 							break;
 
 					}
 
-					pushFollow(FOLLOW_subquery_in_bool_primary1630);
-					subquery();
-					state._fsp--;
-
-					}
-					break;
-				case 3 :
-					// src/main/sqlplus/parser/SQLPlus.g:375:9: NOT EXISTS subquery
-					{
-					match(input,NOT,FOLLOW_NOT_in_bool_primary1640); 
-					match(input,EXISTS,FOLLOW_EXISTS_in_bool_primary1642); 
-					pushFollow(FOLLOW_subquery_in_bool_primary1644);
-					subquery();
-					state._fsp--;
-
 					}
 					break;
-				case 4 :
-					// src/main/sqlplus/parser/SQLPlus.g:376:9: predicate
-					{
-					pushFollow(FOLLOW_predicate_in_bool_primary1654);
-					predicate();
-					state._fsp--;
 
-					}
-					break;
+			}
 
 			}
+
 		}
 
 			catch (RecognitionException re) {
@@ -2563,30 +2630,63 @@ public class SQLPlusParser extends Parser {
 		}
 		return expr;
 	}
-	// $ANTLR end "bool_primary"
+	// $ANTLR end "predicate"
 
 
 
-	// $ANTLR start "predicate"
-	// src/main/sqlplus/parser/SQLPlus.g:379:1: predicate returns [Expression expr] : bit_expr ;
-	public final Expression predicate() throws RecognitionException {
-		Expression expr = null;
+	// $ANTLR start "expression_list"
+	// src/main/sqlplus/parser/SQLPlus.g:492:1: expression_list returns [List<Expression> expressionList] : LEFT_PARENTHESIS value= bit_expr ( COMMA value= bit_expr )* RIGHT_PARENTHESIS ;
+	public final List<Expression> expression_list() throws RecognitionException {
+		List<Expression> expressionList = null;
 
 
-		ParserRuleReturnScope bit_expr33 =null;
+		Expression value =null;
 
 
-		        expr = null;
+		        expressionList = new ArrayList<Expression>();
 		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:383:5: ( bit_expr )
-			// src/main/sqlplus/parser/SQLPlus.g:383:9: bit_expr
+			// src/main/sqlplus/parser/SQLPlus.g:496:5: ( LEFT_PARENTHESIS value= bit_expr ( COMMA value= bit_expr )* RIGHT_PARENTHESIS )
+			// src/main/sqlplus/parser/SQLPlus.g:496:9: LEFT_PARENTHESIS value= bit_expr ( COMMA value= bit_expr )* RIGHT_PARENTHESIS
 			{
-			pushFollow(FOLLOW_bit_expr_in_predicate1686);
-			bit_expr33=bit_expr();
+			match(input,LEFT_PARENTHESIS,FOLLOW_LEFT_PARENTHESIS_in_expression_list2185); 
+			pushFollow(FOLLOW_bit_expr_in_expression_list2199);
+			value=bit_expr();
 			state._fsp--;
 
-			 expr = new ExpressionLiteral((bit_expr33!=null?input.toString(bit_expr33.start,bit_expr33.stop):null)); 
+
+			            expressionList.add(value);
+			        
+			// src/main/sqlplus/parser/SQLPlus.g:500:9: ( COMMA value= bit_expr )*
+			loop36:
+			while (true) {
+				int alt36=2;
+				int LA36_0 = input.LA(1);
+				if ( (LA36_0==COMMA) ) {
+					alt36=1;
+				}
+
+				switch (alt36) {
+				case 1 :
+					// src/main/sqlplus/parser/SQLPlus.g:501:13: COMMA value= bit_expr
+					{
+					match(input,COMMA,FOLLOW_COMMA_in_expression_list2225); 
+					pushFollow(FOLLOW_bit_expr_in_expression_list2243);
+					value=bit_expr();
+					state._fsp--;
+
+
+					                expressionList.add(value);
+					            
+					}
+					break;
+
+				default :
+					break loop36;
+				}
+			}
+
+			match(input,RIGHT_PARENTHESIS,FOLLOW_RIGHT_PARENTHESIS_in_expression_list2258); 
 			}
 
 		}
@@ -2598,33 +2698,34 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
-		return expr;
+		return expressionList;
 	}
-	// $ANTLR end "predicate"
+	// $ANTLR end "expression_list"
 
 
-	public static class bit_expr_return extends ParserRuleReturnScope {
-	};
-
 
 	// $ANTLR start "bit_expr"
-	// src/main/sqlplus/parser/SQLPlus.g:386:1: bit_expr : simple_expr ;
-	public final SQLPlusParser.bit_expr_return bit_expr() throws RecognitionException {
-		SQLPlusParser.bit_expr_return retval = new SQLPlusParser.bit_expr_return();
-		retval.start = input.LT(1);
+	// src/main/sqlplus/parser/SQLPlus.g:508:1: bit_expr returns [Expression expr] : simple_expr ;
+	public final Expression bit_expr() throws RecognitionException {
+		Expression expr = null;
+
+
+		Expression simple_expr48 =null;
 
+
+		        expr = null;
+		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:387:5: ( simple_expr )
-			// src/main/sqlplus/parser/SQLPlus.g:387:9: simple_expr
+			// src/main/sqlplus/parser/SQLPlus.g:512:5: ( simple_expr )
+			// src/main/sqlplus/parser/SQLPlus.g:512:9: simple_expr
 			{
-			pushFollow(FOLLOW_simple_expr_in_bit_expr1707);
-			simple_expr();
+			pushFollow(FOLLOW_simple_expr_in_bit_expr2290);
+			simple_expr48=simple_expr();
 			state._fsp--;
 
+			 expr = simple_expr48; 
 			}
 
-			retval.stop = input.LT(-1);
-
 		}
 
 			catch (RecognitionException re) {
@@ -2634,49 +2735,60 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
-		return retval;
+		return expr;
 	}
 	// $ANTLR end "bit_expr"
 
 
 
 	// $ANTLR start "simple_expr"
-	// src/main/sqlplus/parser/SQLPlus.g:390:1: simple_expr : ( literal_value | column_spec );
-	public final void simple_expr() throws RecognitionException {
+	// src/main/sqlplus/parser/SQLPlus.g:515:1: simple_expr returns [Expression expr] : ( literal_value | column_spec );
+	public final Expression simple_expr() throws RecognitionException {
+		Expression expr = null;
+
+
+		Expression literal_value49 =null;
+		ParserRuleReturnScope column_spec50 =null;
+
+
+		        expr = null;
+		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:391:5: ( literal_value | column_spec )
-			int alt30=2;
-			int LA30_0 = input.LA(1);
-			if ( (LA30_0==INTEGER_NUMBER||LA30_0==MINUS||LA30_0==PLUS||LA30_0==REAL_NUMBER||LA30_0==TEXT_STRING) ) {
-				alt30=1;
+			// src/main/sqlplus/parser/SQLPlus.g:519:5: ( literal_value | column_spec )
+			int alt37=2;
+			int LA37_0 = input.LA(1);
+			if ( (LA37_0==FALSE||LA37_0==INTEGER_NUMBER||LA37_0==MINUS||LA37_0==NULL||LA37_0==PLUS||LA37_0==REAL_NUMBER||(LA37_0 >= TEXT_STRING && LA37_0 <= TRUE)) ) {
+				alt37=1;
 			}
-			else if ( (LA30_0==ID) ) {
-				alt30=2;
+			else if ( (LA37_0==ID) ) {
+				alt37=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 30, 0, input);
+					new NoViableAltException("", 37, 0, input);
 				throw nvae;
 			}
 
-			switch (alt30) {
+			switch (alt37) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:391:9: literal_value
+					// src/main/sqlplus/parser/SQLPlus.g:519:9: literal_value
 					{
-					pushFollow(FOLLOW_literal_value_in_simple_expr1726);
-					literal_value();
+					pushFollow(FOLLOW_literal_value_in_simple_expr2324);
+					literal_value49=literal_value();
 					state._fsp--;
 
+					 expr = literal_value49; 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlus.g:392:9: column_spec
+					// src/main/sqlplus/parser/SQLPlus.g:520:9: column_spec
 					{
-					pushFollow(FOLLOW_column_spec_in_simple_expr1736);
-					column_spec();
+					pushFollow(FOLLOW_column_spec_in_simple_expr2336);
+					column_spec50=column_spec();
 					state._fsp--;
 
+					 expr = ExpressionFactory.column(text((column_spec50!=null?(column_spec50.start):null), (column_spec50!=null?(column_spec50.stop):null))); 
 					}
 					break;
 
@@ -2690,52 +2802,129 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
+		return expr;
 	}
 	// $ANTLR end "simple_expr"
 
 
 
 	// $ANTLR start "literal_value"
-	// src/main/sqlplus/parser/SQLPlus.g:395:1: literal_value : ( string_literal | number_literal );
-	public final void literal_value() throws RecognitionException {
+	// src/main/sqlplus/parser/SQLPlus.g:523:1: literal_value returns [Expression expr] : literal_value_text ;
+	public final Expression literal_value() throws RecognitionException {
+		Expression expr = null;
+
+
+		ParserRuleReturnScope literal_value_text51 =null;
+
+
+		        expr = null;
+		    
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:396:5: ( string_literal | number_literal )
-			int alt31=2;
-			int LA31_0 = input.LA(1);
-			if ( (LA31_0==TEXT_STRING) ) {
-				alt31=1;
+			// src/main/sqlplus/parser/SQLPlus.g:527:5: ( literal_value_text )
+			// src/main/sqlplus/parser/SQLPlus.g:527:9: literal_value_text
+			{
+			pushFollow(FOLLOW_literal_value_text_in_literal_value2370);
+			literal_value_text51=literal_value_text();
+			state._fsp--;
+
+			 expr = ExpressionFactory.literal(text((literal_value_text51!=null?(literal_value_text51.start):null), (literal_value_text51!=null?(literal_value_text51.stop):null))); 
 			}
-			else if ( (LA31_0==INTEGER_NUMBER||LA31_0==MINUS||LA31_0==PLUS||LA31_0==REAL_NUMBER) ) {
-				alt31=2;
+
+		}
+
+			catch (RecognitionException re) {
+				throw re;
 			}
 
-			else {
+		finally {
+			// do for sure before leaving
+		}
+		return expr;
+	}
+	// $ANTLR end "literal_value"
+
+
+	public static class literal_value_text_return extends ParserRuleReturnScope {
+	};
+
+
+	// $ANTLR start "literal_value_text"
+	// src/main/sqlplus/parser/SQLPlus.g:530:1: literal_value_text : ( string_literal | number_literal | boolean_literal | NULL );
+	public final SQLPlusParser.literal_value_text_return literal_value_text() throws RecognitionException {
+		SQLPlusParser.literal_value_text_return retval = new SQLPlusParser.literal_value_text_return();
+		retval.start = input.LT(1);
+
+		try {
+			// src/main/sqlplus/parser/SQLPlus.g:531:5: ( string_literal | number_literal | boolean_literal | NULL )
+			int alt38=4;
+			switch ( input.LA(1) ) {
+			case TEXT_STRING:
+				{
+				alt38=1;
+				}
+				break;
+			case INTEGER_NUMBER:
+			case MINUS:
+			case PLUS:
+			case REAL_NUMBER:
+				{
+				alt38=2;
+				}
+				break;
+			case FALSE:
+			case TRUE:
+				{
+				alt38=3;
+				}
+				break;
+			case NULL:
+				{
+				alt38=4;
+				}
+				break;
+			default:
 				NoViableAltException nvae =
-					new NoViableAltException("", 31, 0, input);
+					new NoViableAltException("", 38, 0, input);
 				throw nvae;
 			}
-
-			switch (alt31) {
+			switch (alt38) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:396:9: string_literal
+					// src/main/sqlplus/parser/SQLPlus.g:531:9: string_literal
 					{
-					pushFollow(FOLLOW_string_literal_in_literal_value1755);
+					pushFollow(FOLLOW_string_literal_in_literal_value_text2391);
 					string_literal();
 					state._fsp--;
 
 					}
 					break;
 				case 2 :
-					// src/main/sqlplus/parser/SQLPlus.g:397:9: number_literal
+					// src/main/sqlplus/parser/SQLPlus.g:532:9: number_literal
 					{
-					pushFollow(FOLLOW_number_literal_in_literal_value1765);
+					pushFollow(FOLLOW_number_literal_in_literal_value_text2401);
 					number_literal();
 					state._fsp--;
 
 					}
 					break;
+				case 3 :
+					// src/main/sqlplus/parser/SQLPlus.g:533:9: boolean_literal
+					{
+					pushFollow(FOLLOW_boolean_literal_in_literal_value_text2411);
+					boolean_literal();
+					state._fsp--;
+
+					}
+					break;
+				case 4 :
+					// src/main/sqlplus/parser/SQLPlus.g:534:9: NULL
+					{
+					match(input,NULL,FOLLOW_NULL_in_literal_value_text2421); 
+					}
+					break;
 
 			}
+			retval.stop = input.LT(-1);
+
 		}
 
 			catch (RecognitionException re) {
@@ -2745,8 +2934,9 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
+		return retval;
 	}
-	// $ANTLR end "literal_value"
+	// $ANTLR end "literal_value_text"
 
 
 	public static class relational_op_return extends ParserRuleReturnScope {
@@ -2754,13 +2944,13 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "relational_op"
-	// src/main/sqlplus/parser/SQLPlus.g:400:1: relational_op : ( EQUAL | GREATER_THAN | GREATER_THAN_EQUAL | LESS_THAN | LESS_THAN_EQUAL | NOT_EQUAL );
+	// src/main/sqlplus/parser/SQLPlus.g:537:1: relational_op : ( EQUAL | GREATER_THAN | GREATER_THAN_EQUAL | LESS_THAN | LESS_THAN_EQUAL | NOT_EQUAL );
 	public final SQLPlusParser.relational_op_return relational_op() throws RecognitionException {
 		SQLPlusParser.relational_op_return retval = new SQLPlusParser.relational_op_return();
 		retval.start = input.LT(1);
 
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:401:5: ( EQUAL | GREATER_THAN | GREATER_THAN_EQUAL | LESS_THAN | LESS_THAN_EQUAL | NOT_EQUAL )
+			// src/main/sqlplus/parser/SQLPlus.g:538:5: ( EQUAL | GREATER_THAN | GREATER_THAN_EQUAL | LESS_THAN | LESS_THAN_EQUAL | NOT_EQUAL )
 			// src/main/sqlplus/parser/SQLPlus.g:
 			{
 			if ( input.LA(1)==EQUAL||(input.LA(1) >= GREATER_THAN && input.LA(1) <= GREATER_THAN_EQUAL)||(input.LA(1) >= LESS_THAN && input.LA(1) <= LESS_THAN_EQUAL)||input.LA(1)==NOT_EQUAL ) {
@@ -2791,13 +2981,13 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "string_literal"
-	// src/main/sqlplus/parser/SQLPlus.g:409:1: string_literal : TEXT_STRING ;
+	// src/main/sqlplus/parser/SQLPlus.g:546:1: string_literal : TEXT_STRING ;
 	public final void string_literal() throws RecognitionException {
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:409:17: ( TEXT_STRING )
-			// src/main/sqlplus/parser/SQLPlus.g:409:21: TEXT_STRING
+			// src/main/sqlplus/parser/SQLPlus.g:546:17: ( TEXT_STRING )
+			// src/main/sqlplus/parser/SQLPlus.g:546:21: TEXT_STRING
 			{
-			match(input,TEXT_STRING,FOLLOW_TEXT_STRING_in_string_literal1850); 
+			match(input,TEXT_STRING,FOLLOW_TEXT_STRING_in_string_literal2506); 
 			}
 
 		}
@@ -2815,19 +3005,19 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "number_literal"
-	// src/main/sqlplus/parser/SQLPlus.g:410:1: number_literal : ( PLUS | MINUS )? ( INTEGER_NUMBER | REAL_NUMBER ) ;
+	// src/main/sqlplus/parser/SQLPlus.g:547:1: number_literal : ( PLUS | MINUS )? ( INTEGER_NUMBER | REAL_NUMBER ) ;
 	public final void number_literal() throws RecognitionException {
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:410:17: ( ( PLUS | MINUS )? ( INTEGER_NUMBER | REAL_NUMBER ) )
-			// src/main/sqlplus/parser/SQLPlus.g:410:19: ( PLUS | MINUS )? ( INTEGER_NUMBER | REAL_NUMBER )
+			// src/main/sqlplus/parser/SQLPlus.g:547:17: ( ( PLUS | MINUS )? ( INTEGER_NUMBER | REAL_NUMBER ) )
+			// src/main/sqlplus/parser/SQLPlus.g:547:19: ( PLUS | MINUS )? ( INTEGER_NUMBER | REAL_NUMBER )
 			{
-			// src/main/sqlplus/parser/SQLPlus.g:410:19: ( PLUS | MINUS )?
-			int alt32=2;
-			int LA32_0 = input.LA(1);
-			if ( (LA32_0==MINUS||LA32_0==PLUS) ) {
-				alt32=1;
+			// src/main/sqlplus/parser/SQLPlus.g:547:19: ( PLUS | MINUS )?
+			int alt39=2;
+			int LA39_0 = input.LA(1);
+			if ( (LA39_0==MINUS||LA39_0==PLUS) ) {
+				alt39=1;
 			}
-			switch (alt32) {
+			switch (alt39) {
 				case 1 :
 					// src/main/sqlplus/parser/SQLPlus.g:
 					{
@@ -2867,12 +3057,18 @@ public class SQLPlusParser extends Parser {
 	// $ANTLR end "number_literal"
 
 
+	public static class boolean_literal_return extends ParserRuleReturnScope {
+	};
+
 
 	// $ANTLR start "boolean_literal"
-	// src/main/sqlplus/parser/SQLPlus.g:411:1: boolean_literal : ( TRUE | FALSE );
-	public final void boolean_literal() throws RecognitionException {
+	// src/main/sqlplus/parser/SQLPlus.g:548:1: boolean_literal : ( TRUE | FALSE );
+	public final SQLPlusParser.boolean_literal_return boolean_literal() throws RecognitionException {
+		SQLPlusParser.boolean_literal_return retval = new SQLPlusParser.boolean_literal_return();
+		retval.start = input.LT(1);
+
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:411:17: ( TRUE | FALSE )
+			// src/main/sqlplus/parser/SQLPlus.g:548:17: ( TRUE | FALSE )
 			// src/main/sqlplus/parser/SQLPlus.g:
 			{
 			if ( input.LA(1)==FALSE||input.LA(1)==TRUE ) {
@@ -2885,6 +3081,8 @@ public class SQLPlusParser extends Parser {
 			}
 			}
 
+			retval.stop = input.LT(-1);
+
 		}
 
 			catch (RecognitionException re) {
@@ -2894,16 +3092,23 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
+		return retval;
 	}
 	// $ANTLR end "boolean_literal"
 
 
+	public static class timing_return extends ParserRuleReturnScope {
+	};
+
 
 	// $ANTLR start "timing"
-	// src/main/sqlplus/parser/SQLPlus.g:414:1: timing : ( BEFORE | AFTER );
-	public final void timing() throws RecognitionException {
+	// src/main/sqlplus/parser/SQLPlus.g:551:1: timing : ( BEFORE | AFTER );
+	public final SQLPlusParser.timing_return timing() throws RecognitionException {
+		SQLPlusParser.timing_return retval = new SQLPlusParser.timing_return();
+		retval.start = input.LT(1);
+
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:415:2: ( BEFORE | AFTER )
+			// src/main/sqlplus/parser/SQLPlus.g:552:2: ( BEFORE | AFTER )
 			// src/main/sqlplus/parser/SQLPlus.g:
 			{
 			if ( input.LA(1)==AFTER||input.LA(1)==BEFORE ) {
@@ -2916,6 +3121,8 @@ public class SQLPlusParser extends Parser {
 			}
 			}
 
+			retval.stop = input.LT(-1);
+
 		}
 
 			catch (RecognitionException re) {
@@ -2925,16 +3132,23 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
+		return retval;
 	}
 	// $ANTLR end "timing"
 
 
+	public static class data_manipulation_language_return extends ParserRuleReturnScope {
+	};
+
 
 	// $ANTLR start "data_manipulation_language"
-	// src/main/sqlplus/parser/SQLPlus.g:419:1: data_manipulation_language : ( INSERT | DELETE | UPDATE );
-	public final void data_manipulation_language() throws RecognitionException {
+	// src/main/sqlplus/parser/SQLPlus.g:556:1: data_manipulation_language : ( INSERT | DELETE | UPDATE );
+	public final SQLPlusParser.data_manipulation_language_return data_manipulation_language() throws RecognitionException {
+		SQLPlusParser.data_manipulation_language_return retval = new SQLPlusParser.data_manipulation_language_return();
+		retval.start = input.LT(1);
+
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:420:2: ( INSERT | DELETE | UPDATE )
+			// src/main/sqlplus/parser/SQLPlus.g:557:2: ( INSERT | DELETE | UPDATE )
 			// src/main/sqlplus/parser/SQLPlus.g:
 			{
 			if ( input.LA(1)==DELETE||input.LA(1)==INSERT||input.LA(1)==UPDATE ) {
@@ -2947,6 +3161,8 @@ public class SQLPlusParser extends Parser {
 			}
 			}
 
+			retval.stop = input.LT(-1);
+
 		}
 
 			catch (RecognitionException re) {
@@ -2956,16 +3172,23 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
+		return retval;
 	}
 	// $ANTLR end "data_manipulation_language"
 
 
+	public static class relational_operation_return extends ParserRuleReturnScope {
+	};
+
 
 	// $ANTLR start "relational_operation"
-	// src/main/sqlplus/parser/SQLPlus.g:425:1: relational_operation : ( EQUAL | LESS_THAN_EQUAL | GREATER_THAN_EQUAL | NOT_EQUAL | LESS_THAN | GREATER_THAN | LIKE );
-	public final void relational_operation() throws RecognitionException {
+	// src/main/sqlplus/parser/SQLPlus.g:562:1: relational_operation : ( EQUAL | LESS_THAN_EQUAL | GREATER_THAN_EQUAL | NOT_EQUAL | LESS_THAN | GREATER_THAN | LIKE );
+	public final SQLPlusParser.relational_operation_return relational_operation() throws RecognitionException {
+		SQLPlusParser.relational_operation_return retval = new SQLPlusParser.relational_operation_return();
+		retval.start = input.LT(1);
+
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:426:2: ( EQUAL | LESS_THAN_EQUAL | GREATER_THAN_EQUAL | NOT_EQUAL | LESS_THAN | GREATER_THAN | LIKE )
+			// src/main/sqlplus/parser/SQLPlus.g:563:2: ( EQUAL | LESS_THAN_EQUAL | GREATER_THAN_EQUAL | NOT_EQUAL | LESS_THAN | GREATER_THAN | LIKE )
 			// src/main/sqlplus/parser/SQLPlus.g:
 			{
 			if ( input.LA(1)==EQUAL||(input.LA(1) >= GREATER_THAN && input.LA(1) <= GREATER_THAN_EQUAL)||(input.LA(1) >= LESS_THAN && input.LA(1) <= LIKE)||input.LA(1)==NOT_EQUAL ) {
@@ -2978,6 +3201,8 @@ public class SQLPlusParser extends Parser {
 			}
 			}
 
+			retval.stop = input.LT(-1);
+
 		}
 
 			catch (RecognitionException re) {
@@ -2987,28 +3212,97 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
+		return retval;
 	}
 	// $ANTLR end "relational_operation"
 
 
 
 	// $ANTLR start "match_value"
-	// src/main/sqlplus/parser/SQLPlus.g:435:1: match_value : ( ID | QUESTION_MARK );
-	public final void match_value() throws RecognitionException {
+	// src/main/sqlplus/parser/SQLPlus.g:573:1: match_value returns [Expression expr] : ( ID | literal_value | QUESTION_MARK | subquery[ExpressionSubquery.Type.SCALAR] );
+	public final Expression match_value() throws RecognitionException {
+		Expression expr = null;
+
+
+		Token ID52=null;
+		Expression literal_value53 =null;
+		Expression subquery54 =null;
+
+
+				expr = null;
+			
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:436:2: ( ID | QUESTION_MARK )
-			// src/main/sqlplus/parser/SQLPlus.g:
-			{
-			if ( input.LA(1)==ID||input.LA(1)==QUESTION_MARK ) {
-				input.consume();
-				state.errorRecovery=false;
-			}
-			else {
-				MismatchedSetException mse = new MismatchedSetException(null,input);
-				throw mse;
-			}
+			// src/main/sqlplus/parser/SQLPlus.g:577:2: ( ID | literal_value | QUESTION_MARK | subquery[ExpressionSubquery.Type.SCALAR] )
+			int alt40=4;
+			switch ( input.LA(1) ) {
+			case ID:
+				{
+				alt40=1;
+				}
+				break;
+			case FALSE:
+			case INTEGER_NUMBER:
+			case MINUS:
+			case NULL:
+			case PLUS:
+			case REAL_NUMBER:
+			case TEXT_STRING:
+			case TRUE:
+				{
+				alt40=2;
+				}
+				break;
+			case QUESTION_MARK:
+				{
+				alt40=3;
+				}
+				break;
+			case LEFT_PARENTHESIS:
+				{
+				alt40=4;
+				}
+				break;
+			default:
+				NoViableAltException nvae =
+					new NoViableAltException("", 40, 0, input);
+				throw nvae;
 			}
+			switch (alt40) {
+				case 1 :
+					// src/main/sqlplus/parser/SQLPlus.g:577:4: ID
+					{
+					ID52=(Token)match(input,ID,FOLLOW_ID_in_match_value2640); 
+					 expr = ExpressionFactory.column((ID52!=null?ID52.getText():null)); 
+					}
+					break;
+				case 2 :
+					// src/main/sqlplus/parser/SQLPlus.g:578:4: literal_value
+					{
+					pushFollow(FOLLOW_literal_value_in_match_value2647);
+					literal_value53=literal_value();
+					state._fsp--;
+
+					 expr = literal_value53; 
+					}
+					break;
+				case 3 :
+					// src/main/sqlplus/parser/SQLPlus.g:579:4: QUESTION_MARK
+					{
+					match(input,QUESTION_MARK,FOLLOW_QUESTION_MARK_in_match_value2654); 
+					}
+					break;
+				case 4 :
+					// src/main/sqlplus/parser/SQLPlus.g:580:4: subquery[ExpressionSubquery.Type.SCALAR]
+					{
+					pushFollow(FOLLOW_subquery_in_match_value2659);
+					subquery54=subquery(ExpressionSubquery.Type.SCALAR);
+					state._fsp--;
+
+					 expr = subquery54; 
+					}
+					break;
 
+			}
 		}
 
 			catch (RecognitionException re) {
@@ -3018,35 +3312,36 @@ public class SQLPlusParser extends Parser {
 		finally {
 			// do for sure before leaving
 		}
+		return expr;
 	}
 	// $ANTLR end "match_value"
 
 
 
 	// $ANTLR start "alias"
-	// src/main/sqlplus/parser/SQLPlus.g:440:1: alias : ( AS )? ID ;
+	// src/main/sqlplus/parser/SQLPlus.g:583:1: alias : ( AS )? ID ;
 	public final void alias() throws RecognitionException {
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:440:7: ( ( AS )? ID )
-			// src/main/sqlplus/parser/SQLPlus.g:440:9: ( AS )? ID
+			// src/main/sqlplus/parser/SQLPlus.g:583:7: ( ( AS )? ID )
+			// src/main/sqlplus/parser/SQLPlus.g:583:9: ( AS )? ID
 			{
-			// src/main/sqlplus/parser/SQLPlus.g:440:9: ( AS )?
-			int alt33=2;
-			int LA33_0 = input.LA(1);
-			if ( (LA33_0==AS) ) {
-				alt33=1;
+			// src/main/sqlplus/parser/SQLPlus.g:583:9: ( AS )?
+			int alt41=2;
+			int LA41_0 = input.LA(1);
+			if ( (LA41_0==AS) ) {
+				alt41=1;
 			}
-			switch (alt33) {
+			switch (alt41) {
 				case 1 :
-					// src/main/sqlplus/parser/SQLPlus.g:440:10: AS
+					// src/main/sqlplus/parser/SQLPlus.g:583:10: AS
 					{
-					match(input,AS,FOLLOW_AS_in_alias1989); 
+					match(input,AS,FOLLOW_AS_in_alias2673); 
 					}
 					break;
 
 			}
 
-			match(input,ID,FOLLOW_ID_in_alias1993); 
+			match(input,ID,FOLLOW_ID_in_alias2677); 
 			}
 
 		}
@@ -3064,13 +3359,13 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "column_name"
-	// src/main/sqlplus/parser/SQLPlus.g:441:1: column_name : ID ;
+	// src/main/sqlplus/parser/SQLPlus.g:584:1: column_name : ID ;
 	public final void column_name() throws RecognitionException {
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:441:13: ( ID )
-			// src/main/sqlplus/parser/SQLPlus.g:441:15: ID
+			// src/main/sqlplus/parser/SQLPlus.g:584:13: ( ID )
+			// src/main/sqlplus/parser/SQLPlus.g:584:15: ID
 			{
-			match(input,ID,FOLLOW_ID_in_column_name2000); 
+			match(input,ID,FOLLOW_ID_in_column_name2684); 
 			}
 
 		}
@@ -3088,13 +3383,13 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "partition_name"
-	// src/main/sqlplus/parser/SQLPlus.g:442:1: partition_name : ID ;
+	// src/main/sqlplus/parser/SQLPlus.g:585:1: partition_name : ID ;
 	public final void partition_name() throws RecognitionException {
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:442:16: ( ID )
-			// src/main/sqlplus/parser/SQLPlus.g:442:18: ID
+			// src/main/sqlplus/parser/SQLPlus.g:585:16: ( ID )
+			// src/main/sqlplus/parser/SQLPlus.g:585:18: ID
 			{
-			match(input,ID,FOLLOW_ID_in_partition_name2007); 
+			match(input,ID,FOLLOW_ID_in_partition_name2691); 
 			}
 
 		}
@@ -3115,16 +3410,16 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "schema_name"
-	// src/main/sqlplus/parser/SQLPlus.g:443:1: schema_name : ID ;
+	// src/main/sqlplus/parser/SQLPlus.g:586:1: schema_name : ID ;
 	public final SQLPlusParser.schema_name_return schema_name() throws RecognitionException {
 		SQLPlusParser.schema_name_return retval = new SQLPlusParser.schema_name_return();
 		retval.start = input.LT(1);
 
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:443:13: ( ID )
-			// src/main/sqlplus/parser/SQLPlus.g:443:15: ID
+			// src/main/sqlplus/parser/SQLPlus.g:586:13: ( ID )
+			// src/main/sqlplus/parser/SQLPlus.g:586:15: ID
 			{
-			match(input,ID,FOLLOW_ID_in_schema_name2014); 
+			match(input,ID,FOLLOW_ID_in_schema_name2698); 
 			}
 
 			retval.stop = input.LT(-1);
@@ -3145,13 +3440,13 @@ public class SQLPlusParser extends Parser {
 
 
 	// $ANTLR start "table_name"
-	// src/main/sqlplus/parser/SQLPlus.g:444:1: table_name : ID ;
+	// src/main/sqlplus/parser/SQLPlus.g:587:1: table_name : ID ;
 	public final void table_name() throws RecognitionException {
 		try {
-			// src/main/sqlplus/parser/SQLPlus.g:444:12: ( ID )
-			// src/main/sqlplus/parser/SQLPlus.g:444:14: ID
+			// src/main/sqlplus/parser/SQLPlus.g:587:12: ( ID )
+			// src/main/sqlplus/parser/SQLPlus.g:587:14: ID
 			{
-			match(input,ID,FOLLOW_ID_in_table_name2021); 
+			match(input,ID,FOLLOW_ID_in_table_name2705); 
 			}
 
 		}
@@ -3169,130 +3464,312 @@ public class SQLPlusParser extends Parser {
 	// Delegated rules
 
 
+	protected DFA32 dfa32 = new DFA32(this);
+	static final String DFA32_eotS =
+		"\77\uffff";
+	static final String DFA32_eofS =
+		"\77\uffff";
+	static final String DFA32_minS =
+		"\1\24\1\7\1\35\4\7\1\uffff\1\14\1\40\1\25\1\6\1\uffff\1\31\1\25\1\7\1"+
+		"\35\4\7\2\uffff\1\7\1\16\1\35\4\16\1\25\2\31\1\25\1\7\1\31\1\7\1\35\6"+
+		"\7\1\16\1\35\5\16\4\31\2\7\2\16\2\31\1\7\1\16";
+	static final String DFA32_maxS =
+		"\1\65\1\74\1\55\4\74\1\uffff\1\33\1\40\2\65\1\uffff\1\31\1\65\1\7\1\55"+
+		"\3\7\1\22\2\uffff\1\74\1\56\1\55\4\56\1\65\2\31\1\65\1\74\1\31\1\74\1"+
+		"\55\4\74\1\22\1\74\1\56\1\55\5\56\4\31\1\74\1\7\2\56\2\31\1\74\1\56";
+	static final String DFA32_acceptS =
+		"\7\uffff\1\3\4\uffff\1\4\10\uffff\1\1\1\2\50\uffff";
+	static final String DFA32_specialS =
+		"\77\uffff}>";
+	static final String[] DFA32_transitionS = {
+			"\1\7\1\4\3\uffff\1\6\3\uffff\1\3\6\uffff\1\2\3\uffff\1\5\1\uffff\1\2"+
+			"\2\uffff\1\3\6\uffff\1\1\1\4",
+			"\1\14\4\uffff\1\12\1\uffff\1\14\4\uffff\1\13\3\uffff\2\13\2\uffff\1"+
+			"\11\3\uffff\1\14\1\uffff\2\13\3\uffff\1\10\1\13\1\uffff\1\14\4\uffff"+
+			"\1\14\1\uffff\1\14\11\uffff\1\14\1\uffff\1\14",
+			"\1\3\17\uffff\1\3",
+			"\1\14\4\uffff\1\12\1\uffff\1\14\4\uffff\1\13\3\uffff\2\13\2\uffff\1"+
+			"\11\3\uffff\1\14\1\uffff\2\13\3\uffff\1\10\1\13\1\uffff\1\14\4\uffff"+
+			"\1\14\1\uffff\1\14\11\uffff\1\14\1\uffff\1\14",
+			"\1\14\4\uffff\1\12\1\uffff\1\14\4\uffff\1\13\3\uffff\2\13\2\uffff\1"+
+			"\11\3\uffff\1\14\1\uffff\2\13\3\uffff\1\10\1\13\1\uffff\1\14\4\uffff"+
+			"\1\14\1\uffff\1\14\11\uffff\1\14\1\uffff\1\14",
+			"\1\14\4\uffff\1\12\1\uffff\1\14\4\uffff\1\13\3\uffff\2\13\2\uffff\1"+
+			"\11\3\uffff\1\14\1\uffff\2\13\3\uffff\1\10\1\13\1\uffff\1\14\4\uffff"+
+			"\1\14\1\uffff\1\14\11\uffff\1\14\1\uffff\1\14",
+			"\1\14\4\uffff\1\12\1\uffff\1\14\3\uffff\1\15\1\13\3\uffff\2\13\2\uffff"+
+			"\1\11\3\uffff\1\14\1\uffff\2\13\3\uffff\1\10\1\13\1\uffff\1\14\4\uffff"+
+			"\1\14\1\uffff\1\14\11\uffff\1\14\1\uffff\1\14",
+			"",
+			"\1\12\16\uffff\1\11",
+			"\1\16",
+			"\1\22\3\uffff\1\24\3\uffff\1\21\6\uffff\1\20\3\uffff\1\23\1\uffff\1"+
+			"\20\2\uffff\1\21\6\uffff\1\17\1\22",
+			"\1\26\1\uffff\1\26\14\uffff\1\25\3\uffff\1\25\3\uffff\1\25\2\uffff\1"+
+			"\26\3\uffff\1\25\3\uffff\1\25\1\uffff\1\25\2\uffff\1\25\6\uffff\2\25",
+			"",
+			"\1\27",
+			"\1\33\3\uffff\1\35\3\uffff\1\32\6\uffff\1\31\3\uffff\1\34\1\uffff\1"+
+			"\31\2\uffff\1\32\6\uffff\1\30\1\33",
+			"\1\36",
+			"\1\21\17\uffff\1\21",
+			"\1\36",
+			"\1\36",
+			"\1\36",
+			"\1\36\12\uffff\1\37",
+			"",
+			"",
+			"\1\14\4\uffff\1\12\1\uffff\1\14\3\uffff\1\40\1\13\3\uffff\2\13\2\uffff"+
+			"\1\11\3\uffff\1\14\1\uffff\2\13\3\uffff\1\10\1\13\1\uffff\1\14\4\uffff"+
+			"\1\14\1\uffff\1\14\11\uffff\1\14\1\uffff\1\14",
+			"\1\41\37\uffff\1\42",
+			"\1\32\17\uffff\1\32",
+			"\1\41\37\uffff\1\42",
+			"\1\41\37\uffff\1\42",
+			"\1\41\37\uffff\1\42",
+			"\1\41\3\uffff\1\43\33\uffff\1\42",
+			"\1\47\3\uffff\1\51\3\uffff\1\46\6\uffff\1\45\3\uffff\1\50\1\uffff\1"+
+			"\45\2\uffff\1\46\6\uffff\1\44\1\47",
+			"\1\52",
+			"\1\53",
+			"\1\57\3\uffff\1\61\3\uffff\1\56\6\uffff\1\55\3\uffff\1\60\1\uffff\1"+
+			"\55\2\uffff\1\56\6\uffff\1\54\1\57",
+			"\1\14\6\uffff\1\14\4\uffff\1\13\3\uffff\2\13\6\uffff\1\14\1\uffff\2"+
+			"\13\4\uffff\1\13\1\uffff\1\14\4\uffff\1\14\1\uffff\1\14\11\uffff\1\14"+
+			"\1\uffff\1\14",
+			"\1\62",
+			"\1\14\6\uffff\1\14\4\uffff\1\13\3\uffff\2\13\6\uffff\1\14\1\uffff\2"+
+			"\13\4\uffff\1\13\1\uffff\1\14\4\uffff\1\14\1\uffff\1\14\11\uffff\1\14"+
+			"\1\uffff\1\14",
+			"\1\46\17\uffff\1\46",
+			"\1\14\6\uffff\1\14\4\uffff\1\13\3\uffff\2\13\6\uffff\1\14\1\uffff\2"+
+			"\13\4\uffff\1\13\1\uffff\1\14\4\uffff\1\14\1\uffff\1\14\11\uffff\1\14"+
+			"\1\uffff\1\14",
+			"\1\14\6\uffff\1\14\4\uffff\1\13\3\uffff\2\13\6\uffff\1\14\1\uffff\2"+
+			"\13\4\uffff\1\13\1\uffff\1\14\4\uffff\1\14\1\uffff\1\14\11\uffff\1\14"+
+			"\1\uffff\1\14",
+			"\1\14\6\uffff\1\14\4\uffff\1\13\3\uffff\2\13\6\uffff\1\14\1\uffff\2"+
+			"\13\4\uffff\1\13\1\uffff\1\14\4\uffff\1\14\1\uffff\1\14\11\uffff\1\14"+
+			"\1\uffff\1\14",
+			"\1\14\6\uffff\1\14\3\uffff\1\63\1\13\3\uffff\2\13\6\uffff\1\14\1\uffff"+
+			"\2\13\4\uffff\1\13\1\uffff\1\14\4\uffff\1\14\1\uffff\1\14\11\uffff\1"+
+			"\14\1\uffff\1\14",
+			"\1\36\12\uffff\1\64",
+			"\1\14\4\uffff\1\12\1\uffff\1\14\4\uffff\1\13\3\uffff\2\13\2\uffff\1"+
+			"\11\3\uffff\1\14\1\uffff\2\13\3\uffff\1\10\1\13\1\uffff\1\14\4\uffff"+
+			"\1\14\1\uffff\1\14\11\uffff\1\14\1\uffff\1\14",
+			"\1\41\37\uffff\1\42",
+			"\1\56\17\uffff\1\56",
+			"\1\41\37\uffff\1\42",
+			"\1\41\37\uffff\1\42",
+			"\1\41\37\uffff\1\42",
+			"\1\41\3\uffff\1\65\33\uffff\1\42",
+			"\1\41\3\uffff\1\66\33\uffff\1\42",
+			"\1\67",
+			"\1\70",
+			"\1\71",
+			"\1\72",
+			"\1\14\6\uffff\1\14\3\uffff\1\73\1\13\3\uffff\2\13\6\uffff\1\14\1\uffff"+
+			"\2\13\4\uffff\1\13\1\uffff\1\14\4\uffff\1\14\1\uffff\1\14\11\uffff\1"+
+			"\14\1\uffff\1\14",
+			"\1\36",
+			"\1\41\3\uffff\1\74\33\uffff\1\42",
+			"\1\41\37\uffff\1\42",
+			"\1\75",
+			"\1\76",
+			"\1\14\6\uffff\1\14\4\uffff\1\13\3\uffff\2\13\6\uffff\1\14\1\uffff\2"+
+			"\13\4\uffff\1\13\1\uffff\1\14\4\uffff\1\14\1\uffff\1\14\11\uffff\1\14"+
+			"\1\uffff\1\14",
+			"\1\41\37\uffff\1\42"
+	};
+
+	static final short[] DFA32_eot = DFA.unpackEncodedString(DFA32_eotS);
+	static final short[] DFA32_eof = DFA.unpackEncodedString(DFA32_eofS);
+	static final char[] DFA32_min = DFA.unpackEncodedStringToUnsignedChars(DFA32_minS);
+	static final char[] DFA32_max = DFA.unpackEncodedStringToUnsignedChars(DFA32_maxS);
+	static final short[] DFA32_accept = DFA.unpackEncodedString(DFA32_acceptS);
+	static final short[] DFA32_special = DFA.unpackEncodedString(DFA32_specialS);
+	static final short[][] DFA32_transition;
+
+	static {
+		int numStates = DFA32_transitionS.length;
+		DFA32_transition = new short[numStates][];
+		for (int i=0; i<numStates; i++) {
+			DFA32_transition[i] = DFA.unpackEncodedString(DFA32_transitionS[i]);
+		}
+	}
+
+	protected class DFA32 extends DFA {
+
+		public DFA32(BaseRecognizer recognizer) {
+			this.recognizer = recognizer;
+			this.decisionNumber = 32;
+			this.eot = DFA32_eot;
+			this.eof = DFA32_eof;
+			this.min = DFA32_min;
+			this.max = DFA32_max;
+			this.accept = DFA32_accept;
+			this.special = DFA32_special;
+			this.transition = DFA32_transition;
+		}
+		@Override
+		public String getDescription() {
+			return "449:1: bool_primary returns [Expression expr] : (left= predicate relational_op right= predicate |left= predicate relational_op ( ALL | ANY )? subquery[type] | EXISTS subquery[ExpressionSubquery.Type.EXISTS] | predicate );";
+		}
+	}
 
-	public static final BitSet FOLLOW_sql_statement_in_sqlplus47 = new BitSet(new long[]{0x0000800000000000L});
+	public static final BitSet FOLLOW_sql_statement_in_sqlplus47 = new BitSet(new long[]{0x0001000000000000L});
 	public static final BitSet FOLLOW_SEMICOLON_in_sqlplus49 = new BitSet(new long[]{0x0000000000000002L});
 	public static final BitSet FOLLOW_sqlplus_alert_in_sqlplus59 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ALERT_in_sqlplus_alert71 = new BitSet(new long[]{0x0000000000000810L});
-	public static final BitSet FOLLOW_timing_in_sqlplus_alert73 = new BitSet(new long[]{0x0040000008010000L});
-	public static final BitSet FOLLOW_data_manipulation_language_in_sqlplus_alert75 = new BitSet(new long[]{0x0000000004000000L});
-	public static final BitSet FOLLOW_IN_in_sqlplus_alert77 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_ID_in_sqlplus_alert79 = new BitSet(new long[]{0x0000000002000000L});
-	public static final BitSet FOLLOW_IF_in_sqlplus_alert81 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_ID_in_sqlplus_alert83 = new BitSet(new long[]{0x0000004700C40000L});
-	public static final BitSet FOLLOW_relational_operation_in_sqlplus_alert85 = new BitSet(new long[]{0x0000040001000000L});
-	public static final BitSet FOLLOW_match_value_in_sqlplus_alert87 = new BitSet(new long[]{0x0000800000000000L});
-	public static final BitSet FOLLOW_SEMICOLON_in_sqlplus_alert89 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_data_manipulation_statements_in_sql_statement117 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_use_statement_in_sql_statement124 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_use_database_in_use_statement147 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_USE_in_use_database170 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_schema_name_in_use_database178 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_select_statement_in_data_manipulation_statements203 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_insert_statements_in_data_manipulation_statements215 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_update_statements_in_data_manipulation_statements227 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_select_expression_in_select_statement253 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_insert_statement1_in_insert_statements284 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_single_table_update_statement_in_update_statements310 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_SELECT_in_select_expression335 = new BitSet(new long[]{0x0000000001000400L});
-	public static final BitSet FOLLOW_select_list_in_select_expression337 = new BitSet(new long[]{0x0000000000200000L});
-	public static final BitSet FOLLOW_FROM_in_select_expression339 = new BitSet(new long[]{0x0000000001000002L});
-	public static final BitSet FOLLOW_table_references_in_select_expression342 = new BitSet(new long[]{0x0200000000000002L});
-	public static final BitSet FOLLOW_where_clause_in_select_expression345 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_insert_header_in_insert_statement1375 = new BitSet(new long[]{0x0100000080000000L});
-	public static final BitSet FOLLOW_column_list_in_insert_statement1383 = new BitSet(new long[]{0x0100000000000000L});
-	public static final BitSet FOLLOW_value_list_clause_in_insert_statement1387 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_UPDATE_in_single_table_update_statement410 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_table_reference_in_single_table_update_statement412 = new BitSet(new long[]{0x0001000000000000L});
-	public static final BitSet FOLLOW_set_columns_clause_in_single_table_update_statement414 = new BitSet(new long[]{0x0200000000000002L});
-	public static final BitSet FOLLOW_where_clause_in_single_table_update_statement417 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_displayed_column_in_select_list446 = new BitSet(new long[]{0x0000000000002002L});
-	public static final BitSet FOLLOW_COMMA_in_select_list457 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_displayed_column_in_select_list463 = new BitSet(new long[]{0x0000000000002002L});
-	public static final BitSet FOLLOW_ASTERISK_in_select_list476 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_column_spec_in_displayed_column489 = new BitSet(new long[]{0x0000000001000202L});
-	public static final BitSet FOLLOW_alias_in_displayed_column492 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_table_reference_in_table_references519 = new BitSet(new long[]{0x0000000000002002L});
-	public static final BitSet FOLLOW_COMMA_in_table_references530 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_table_reference_in_table_references539 = new BitSet(new long[]{0x0000000000002002L});
-	public static final BitSet FOLLOW_table_atom_in_table_reference557 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_INSERT_in_insert_header586 = new BitSet(new long[]{0x0000000021000000L});
-	public static final BitSet FOLLOW_INTO_in_insert_header589 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_table_spec_in_insert_header593 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_VALUES_in_value_list_clause627 = new BitSet(new long[]{0x0000000080000000L});
-	public static final BitSet FOLLOW_column_value_list_in_value_list_clause641 = new BitSet(new long[]{0x0000000000002002L});
-	public static final BitSet FOLLOW_COMMA_in_value_list_clause667 = new BitSet(new long[]{0x0000000080000000L});
-	public static final BitSet FOLLOW_column_value_list_in_value_list_clause685 = new BitSet(new long[]{0x0000000000002002L});
-	public static final BitSet FOLLOW_LEFT_PARENTHESIS_in_column_value_list730 = new BitSet(new long[]{0x0008120811000000L});
-	public static final BitSet FOLLOW_bit_expr_in_column_value_list744 = new BitSet(new long[]{0x0000200000002000L});
-	public static final BitSet FOLLOW_COMMA_in_column_value_list770 = new BitSet(new long[]{0x0008120811000000L});
-	public static final BitSet FOLLOW_bit_expr_in_column_value_list788 = new BitSet(new long[]{0x0000200000002000L});
-	public static final BitSet FOLLOW_RIGHT_PARENTHESIS_in_column_value_list803 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_SET_in_set_columns_clause835 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_set_column_clause_in_set_columns_clause849 = new BitSet(new long[]{0x0000000000002002L});
-	public static final BitSet FOLLOW_COMMA_in_set_columns_clause875 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_set_column_clause_in_set_columns_clause893 = new BitSet(new long[]{0x0000000000002002L});
-	public static final BitSet FOLLOW_column_spec_in_set_column_clause936 = new BitSet(new long[]{0x0000000000040000L});
-	public static final BitSet FOLLOW_EQUAL_in_set_column_clause938 = new BitSet(new long[]{0x0008122811008000L});
-	public static final BitSet FOLLOW_expression_in_set_column_clause954 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_DEFAULT_in_set_column_clause984 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_WHERE_in_where_clause1028 = new BitSet(new long[]{0x0008122811000000L});
-	public static final BitSet FOLLOW_expression_in_where_clause1030 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_table_spec_in_table_atom1046 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_schema_name_in_table_spec1058 = new BitSet(new long[]{0x0000000000020000L});
-	public static final BitSet FOLLOW_DOT_in_table_spec1060 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_table_name_in_table_spec1064 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_LEFT_PARENTHESIS_in_column_list1090 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_column_spec_in_column_list1101 = new BitSet(new long[]{0x0000200000002000L});
-	public static final BitSet FOLLOW_COMMA_in_column_list1127 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_column_spec_in_column_list1145 = new BitSet(new long[]{0x0000200000002000L});
-	public static final BitSet FOLLOW_RIGHT_PARENTHESIS_in_column_list1160 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_schema_name_in_column_spec1175 = new BitSet(new long[]{0x0000000000020000L});
-	public static final BitSet FOLLOW_DOT_in_column_spec1177 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_table_name_in_column_spec1181 = new BitSet(new long[]{0x0000000000020000L});
-	public static final BitSet FOLLOW_DOT_in_column_spec1183 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_column_name_in_column_spec1187 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_LEFT_PARENTHESIS_in_subquery1203 = new BitSet(new long[]{0x0000400000000000L});
-	public static final BitSet FOLLOW_select_statement_in_subquery1205 = new BitSet(new long[]{0x0000200000000000L});
-	public static final BitSet FOLLOW_RIGHT_PARENTHESIS_in_subquery1207 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_expr_factor1_in_expression1243 = new BitSet(new long[]{0x0000010000000002L});
-	public static final BitSet FOLLOW_OR_in_expression1269 = new BitSet(new long[]{0x0008122811000000L});
-	public static final BitSet FOLLOW_expr_factor1_in_expression1275 = new BitSet(new long[]{0x0000010000000002L});
-	public static final BitSet FOLLOW_expr_factor2_in_expr_factor11324 = new BitSet(new long[]{0x0800000000000002L});
-	public static final BitSet FOLLOW_XOR_in_expr_factor11350 = new BitSet(new long[]{0x0008122811000000L});
-	public static final BitSet FOLLOW_expr_factor2_in_expr_factor11356 = new BitSet(new long[]{0x0800000000000002L});
-	public static final BitSet FOLLOW_expr_factor3_in_expr_factor21405 = new BitSet(new long[]{0x0000000000000082L});
-	public static final BitSet FOLLOW_AND_in_expr_factor21431 = new BitSet(new long[]{0x0008122811000000L});
-	public static final BitSet FOLLOW_expr_factor3_in_expr_factor21437 = new BitSet(new long[]{0x0000000000000082L});
-	public static final BitSet FOLLOW_NOT_in_expr_factor31483 = new BitSet(new long[]{0x0008122811000000L});
-	public static final BitSet FOLLOW_expr_factor4_in_expr_factor31487 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_bool_primary_in_expr_factor41521 = new BitSet(new long[]{0x0000000040000002L});
-	public static final BitSet FOLLOW_IS_in_expr_factor41525 = new BitSet(new long[]{0x001000A000100000L});
-	public static final BitSet FOLLOW_NOT_in_expr_factor41528 = new BitSet(new long[]{0x0010008000100000L});
-	public static final BitSet FOLLOW_boolean_literal_in_expr_factor41533 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_NULL_in_expr_factor41537 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_predicate_in_bool_primary1579 = new BitSet(new long[]{0x0000004300C40000L});
-	public static final BitSet FOLLOW_relational_op_in_bool_primary1589 = new BitSet(new long[]{0x0008120811000000L});
-	public static final BitSet FOLLOW_predicate_in_bool_primary1603 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_predicate_in_bool_primary1615 = new BitSet(new long[]{0x0000004300C40000L});
-	public static final BitSet FOLLOW_relational_op_in_bool_primary1617 = new BitSet(new long[]{0x0000000080000140L});
-	public static final BitSet FOLLOW_subquery_in_bool_primary1630 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_NOT_in_bool_primary1640 = new BitSet(new long[]{0x0000000000080000L});
-	public static final BitSet FOLLOW_EXISTS_in_bool_primary1642 = new BitSet(new long[]{0x0000000080000000L});
-	public static final BitSet FOLLOW_subquery_in_bool_primary1644 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_predicate_in_bool_primary1654 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_bit_expr_in_predicate1686 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_simple_expr_in_bit_expr1707 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_literal_value_in_simple_expr1726 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_column_spec_in_simple_expr1736 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_string_literal_in_literal_value1755 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_number_literal_in_literal_value1765 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_TEXT_STRING_in_string_literal1850 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_number_literal1867 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_AS_in_alias1989 = new BitSet(new long[]{0x0000000001000000L});
-	public static final BitSet FOLLOW_ID_in_alias1993 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_column_name2000 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_partition_name2007 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_schema_name2014 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_table_name2021 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ALERT_in_sqlplus_alert83 = new BitSet(new long[]{0x0000000000000810L});
+	public static final BitSet FOLLOW_timing_in_sqlplus_alert85 = new BitSet(new long[]{0x0080000010020000L});
+	public static final BitSet FOLLOW_data_manipulation_language_in_sqlplus_alert87 = new BitSet(new long[]{0x0000000008000000L});
+	public static final BitSet FOLLOW_IN_in_sqlplus_alert89 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_ID_in_sqlplus_alert95 = new BitSet(new long[]{0x0000000004000000L});
+	public static final BitSet FOLLOW_IF_in_sqlplus_alert97 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_alert_condition_in_sqlplus_alert99 = new BitSet(new long[]{0x0001000000000000L});
+	public static final BitSet FOLLOW_SEMICOLON_in_sqlplus_alert101 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_alert_conjunction_in_alert_condition131 = new BitSet(new long[]{0x0000020000000002L});
+	public static final BitSet FOLLOW_OR_in_alert_condition142 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_alert_conjunction_in_alert_condition148 = new BitSet(new long[]{0x0000020000000002L});
+	public static final BitSet FOLLOW_alert_comparison_in_alert_conjunction180 = new BitSet(new long[]{0x0000000000000082L});
+	public static final BitSet FOLLOW_AND_in_alert_conjunction191 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_alert_comparison_in_alert_conjunction197 = new BitSet(new long[]{0x0000000000000082L});
+	public static final BitSet FOLLOW_ID_in_alert_comparison229 = new BitSet(new long[]{0x0000008E01880000L});
+	public static final BitSet FOLLOW_relational_operation_in_alert_comparison231 = new BitSet(new long[]{0x00302D1122200000L});
+	public static final BitSet FOLLOW_match_value_in_alert_comparison233 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_data_manipulation_statements_in_sql_statement261 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_use_statement_in_sql_statement268 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_use_database_in_use_statement291 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_USE_in_use_database314 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_schema_name_in_use_database322 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_select_statement_in_data_manipulation_statements347 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_insert_statements_in_data_manipulation_statements359 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_update_statements_in_data_manipulation_statements371 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_select_expression_in_select_statement397 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_insert_statement1_in_insert_statements428 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_single_table_update_statement_in_update_statements454 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_SELECT_in_select_expression479 = new BitSet(new long[]{0x0000000002000400L});
+	public static final BitSet FOLLOW_select_list_in_select_expression481 = new BitSet(new long[]{0x0000000000400000L});
+	public static final BitSet FOLLOW_FROM_in_select_expression483 = new BitSet(new long[]{0x0000000002000002L});
+	public static final BitSet FOLLOW_table_references_in_select_expression486 = new BitSet(new long[]{0x0400000000000002L});
+	public static final BitSet FOLLOW_where_clause_in_select_expression489 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_insert_header_in_insert_statement1519 = new BitSet(new long[]{0x0200000100000000L});
+	public static final BitSet FOLLOW_column_list_in_insert_statement1527 = new BitSet(new long[]{0x0200000000000000L});
+	public static final BitSet FOLLOW_value_list_clause_in_insert_statement1531 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_UPDATE_in_single_table_update_statement554 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_table_reference_in_single_table_update_statement556 = new BitSet(new long[]{0x0002000000000000L});
+	public static final BitSet FOLLOW_set_columns_clause_in_single_table_update_statement558 = new BitSet(new long[]{0x0400000000000002L});
+	public static final BitSet FOLLOW_where_clause_in_single_table_update_statement561 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_displayed_column_in_select_list590 = new BitSet(new long[]{0x0000000000004002L});
+	public static final BitSet FOLLOW_COMMA_in_select_list601 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_displayed_column_in_select_list607 = new BitSet(new long[]{0x0000000000004002L});
+	public static final BitSet FOLLOW_ASTERISK_in_select_list620 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_column_spec_in_displayed_column633 = new BitSet(new long[]{0x0000000002000202L});
+	public static final BitSet FOLLOW_alias_in_displayed_column636 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_table_reference_in_table_references663 = new BitSet(new long[]{0x0000000000004002L});
+	public static final BitSet FOLLOW_COMMA_in_table_references674 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_table_reference_in_table_references683 = new BitSet(new long[]{0x0000000000004002L});
+	public static final BitSet FOLLOW_table_atom_in_table_reference701 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_INSERT_in_insert_header730 = new BitSet(new long[]{0x0000000042000000L});
+	public static final BitSet FOLLOW_INTO_in_insert_header733 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_table_spec_in_insert_header737 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_VALUES_in_value_list_clause771 = new BitSet(new long[]{0x0000000100000000L});
+	public static final BitSet FOLLOW_column_value_list_in_value_list_clause781 = new BitSet(new long[]{0x0000000000004002L});
+	public static final BitSet FOLLOW_COMMA_in_value_list_clause806 = new BitSet(new long[]{0x0000000100000000L});
+	public static final BitSet FOLLOW_column_value_list_in_value_list_clause820 = new BitSet(new long[]{0x0000000000004002L});
+	public static final BitSet FOLLOW_LEFT_PARENTHESIS_in_column_value_list852 = new BitSet(new long[]{0x0030251022200000L});
+	public static final BitSet FOLLOW_column_value_in_column_value_list866 = new BitSet(new long[]{0x0000400000004000L});
+	public static final BitSet FOLLOW_COMMA_in_column_value_list892 = new BitSet(new long[]{0x0030251022200000L});
+	public static final BitSet FOLLOW_column_value_in_column_value_list910 = new BitSet(new long[]{0x0000400000004000L});
+	public static final BitSet FOLLOW_RIGHT_PARENTHESIS_in_column_value_list925 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_literal_value_text_in_column_value947 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_column_spec_in_column_value957 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_SET_in_set_columns_clause989 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_set_column_clause_in_set_columns_clause1003 = new BitSet(new long[]{0x0000000000004002L});
+	public static final BitSet FOLLOW_COMMA_in_set_columns_clause1029 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_set_column_clause_in_set_columns_clause1047 = new BitSet(new long[]{0x0000000000004002L});
+	public static final BitSet FOLLOW_column_spec_in_set_column_clause1090 = new BitSet(new long[]{0x0000000000080000L});
+	public static final BitSet FOLLOW_EQUAL_in_set_column_clause1092 = new BitSet(new long[]{0x0030255022310000L});
+	public static final BitSet FOLLOW_expression_in_set_column_clause1108 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_DEFAULT_in_set_column_clause1138 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_WHERE_in_where_clause1182 = new BitSet(new long[]{0x0030255022300000L});
+	public static final BitSet FOLLOW_expression_in_where_clause1184 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_table_spec_in_table_atom1200 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_schema_name_in_table_spec1212 = new BitSet(new long[]{0x0000000000040000L});
+	public static final BitSet FOLLOW_DOT_in_table_spec1214 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_table_name_in_table_spec1218 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LEFT_PARENTHESIS_in_column_list1244 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_column_spec_in_column_list1255 = new BitSet(new long[]{0x0000400000004000L});
+	public static final BitSet FOLLOW_COMMA_in_column_list1281 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_column_spec_in_column_list1299 = new BitSet(new long[]{0x0000400000004000L});
+	public static final BitSet FOLLOW_RIGHT_PARENTHESIS_in_column_list1314 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_schema_name_in_column_spec1329 = new BitSet(new long[]{0x0000000000040000L});
+	public static final BitSet FOLLOW_DOT_in_column_spec1331 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_table_name_in_column_spec1335 = new BitSet(new long[]{0x0000000000040000L});
+	public static final BitSet FOLLOW_DOT_in_column_spec1337 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_column_name_in_column_spec1341 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LEFT_PARENTHESIS_in_subquery1371 = new BitSet(new long[]{0x0000800000000000L});
+	public static final BitSet FOLLOW_select_statement_in_subquery1373 = new BitSet(new long[]{0x0000400000000000L});
+	public static final BitSet FOLLOW_RIGHT_PARENTHESIS_in_subquery1375 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_expr_factor1_in_expression1413 = new BitSet(new long[]{0x0000020000000002L});
+	public static final BitSet FOLLOW_OR_in_expression1439 = new BitSet(new long[]{0x0030255022300000L});
+	public static final BitSet FOLLOW_expr_factor1_in_expression1445 = new BitSet(new long[]{0x0000020000000002L});
+	public static final BitSet FOLLOW_expr_factor2_in_expr_factor11494 = new BitSet(new long[]{0x1000000000000002L});
+	public static final BitSet FOLLOW_XOR_in_expr_factor11520 = new BitSet(new long[]{0x0030255022300000L});
+	public static final BitSet FOLLOW_expr_factor2_in_expr_factor11526 = new BitSet(new long[]{0x1000000000000002L});
+	public static final BitSet FOLLOW_expr_factor3_in_expr_factor21575 = new BitSet(new long[]{0x0000000000000082L});
+	public static final BitSet FOLLOW_AND_in_expr_factor21601 = new BitSet(new long[]{0x0030255022300000L});
+	public static final BitSet FOLLOW_expr_factor3_in_expr_factor21607 = new BitSet(new long[]{0x0000000000000082L});
+	public static final BitSet FOLLOW_NOT_in_expr_factor31653 = new BitSet(new long[]{0x0030251022300000L});
+	public static final BitSet FOLLOW_expr_factor4_in_expr_factor31657 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_bool_primary_in_expr_factor41691 = new BitSet(new long[]{0x0000000080000002L});
+	public static final BitSet FOLLOW_IS_in_expr_factor41717 = new BitSet(new long[]{0x0020014000200000L});
+	public static final BitSet FOLLOW_NOT_in_expr_factor41720 = new BitSet(new long[]{0x0020010000200000L});
+	public static final BitSet FOLLOW_boolean_literal_in_expr_factor41756 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_NULL_in_expr_factor41776 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_predicate_in_bool_primary1839 = new BitSet(new long[]{0x0000008601880000L});
+	public static final BitSet FOLLOW_relational_op_in_bool_primary1849 = new BitSet(new long[]{0x0030251022200000L});
+	public static final BitSet FOLLOW_predicate_in_bool_primary1863 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_predicate_in_bool_primary1879 = new BitSet(new long[]{0x0000008601880000L});
+	public static final BitSet FOLLOW_relational_op_in_bool_primary1889 = new BitSet(new long[]{0x0000000100000140L});
+	public static final BitSet FOLLOW_ALL_in_bool_primary1913 = new BitSet(new long[]{0x0000000100000000L});
+	public static final BitSet FOLLOW_ANY_in_bool_primary1929 = new BitSet(new long[]{0x0000000100000000L});
+	public static final BitSet FOLLOW_subquery_in_bool_primary1952 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_EXISTS_in_bool_primary1974 = new BitSet(new long[]{0x0000000100000000L});
+	public static final BitSet FOLLOW_subquery_in_bool_primary1976 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_predicate_in_bool_primary1989 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_bit_expr_in_predicate2027 = new BitSet(new long[]{0x0000004008001002L});
+	public static final BitSet FOLLOW_NOT_in_predicate2054 = new BitSet(new long[]{0x0000000008001000L});
+	public static final BitSet FOLLOW_IN_in_predicate2090 = new BitSet(new long[]{0x0000000100000000L});
+	public static final BitSet FOLLOW_expression_list_in_predicate2092 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_BETWEEN_in_predicate2112 = new BitSet(new long[]{0x0030251022200000L});
+	public static final BitSet FOLLOW_bit_expr_in_predicate2118 = new BitSet(new long[]{0x0000000000000080L});
+	public static final BitSet FOLLOW_AND_in_predicate2120 = new BitSet(new long[]{0x0030251022200000L});
+	public static final BitSet FOLLOW_bit_expr_in_predicate2126 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LEFT_PARENTHESIS_in_expression_list2185 = new BitSet(new long[]{0x0030251022200000L});
+	public static final BitSet FOLLOW_bit_expr_in_expression_list2199 = new BitSet(new long[]{0x0000400000004000L});
+	public static final BitSet FOLLOW_COMMA_in_expression_list2225 = new BitSet(new long[]{0x0030251022200000L});
+	public static final BitSet FOLLOW_bit_expr_in_expression_list2243 = new BitSet(new long[]{0x0000400000004000L});
+	public static final BitSet FOLLOW_RIGHT_PARENTHESIS_in_expression_list2258 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_simple_expr_in_bit_expr2290 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_literal_value_in_simple_expr2324 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_column_spec_in_simple_expr2336 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_literal_value_text_in_literal_value2370 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_string_literal_in_literal_value_text2391 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_number_literal_in_literal_value_text2401 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_boolean_literal_in_literal_value_text2411 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_NULL_in_literal_value_text2421 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_TEXT_STRING_in_string_literal2506 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_number_literal2523 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_match_value2640 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_literal_value_in_match_value2647 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_QUESTION_MARK_in_match_value2654 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_subquery_in_match_value2659 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_AS_in_alias2673 = new BitSet(new long[]{0x0000000002000000L});
+	public static final BitSet FOLLOW_ID_in_alias2677 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_column_name2684 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_partition_name2691 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_schema_name2698 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_table_name2705 = new BitSet(new long[]{0x0000000000000002L});
 }
@@ -0,0 +1,61 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+
+/**
+ * Parse the commands of a SQL script into statements one by one. Each command is read from the script only when the
+ * next statement is requested, so a script of any size can be parsed without holding it in memory.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class ScriptParser implements Closeable {
+    private static final Logger logger = LogManager.getLogger(ScriptParser.class);
+
+    private ScriptReader scriptReader;
+    private SessionParser parser;
+
+    public ScriptParser(ScriptReader scriptReader, SessionParser parser) {
+        this.scriptReader = scriptReader;
+        this.parser = parser;
+        ScriptParser.logger.info("Created a ScriptParser");
+    }
+
+    public ScriptParser(Reader reader, SessionParser parser) {
+        this(new ScriptReader(reader), parser);
+    }
+
+    /**
+     * Read and parse the next command of the script.
+     *
+     * @return the statement of the next command or null if there are no more commands.
+     *
+     * @throws IOException if there is an I/O error while reading the script.
+     */
+    public Statement nextStatement() throws IOException {
+        String command = this.scriptReader.readCommand();
+
+        if (command == null) {
+            return null;
+        }
+
+        return this.parser.parseStatement(command);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.scriptReader.close();
+    }
+
+    @Override
+    public String toString() {
+        return "ScriptParser [scriptReader=" + this.scriptReader + "]";
+    }
+}
@@ -0,0 +1,77 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.messages.Messages;
+
+/**
+ * Read the commands of a SQL script one by one. The script is read in small chunks and split by a
+ * {@link StatementSplitter}, so only the commands of the chunk that is being read are held in memory, never the whole
+ * script.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class ScriptReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final Logger logger = LogManager.getLogger(ScriptReader.class);
+
+    private Reader reader;
+    private char[] buffer;
+    private StatementSplitter splitter;
+    private Queue<String> commands;
+
+    public ScriptReader(Reader reader) {
+        this.reader = reader;
+        this.buffer = new char[ScriptReader.BUFFER_SIZE];
+        this.splitter = new StatementSplitter();
+        this.commands = new ArrayDeque<String>();
+        ScriptReader.logger.info("Created a ScriptReader");
+    }
+
+    /**
+     * Read the next command of the script. Empty commands are skipped.
+     *
+     * @return the next command, ending with the end of command symbol, or null if there are no more commands.
+     *
+     * @throws IOException if there is an I/O error while reading the script.
+     */
+    public String readCommand() throws IOException {
+        while (this.commands.isEmpty()) {
+            int read = this.reader.read(this.buffer, 0, this.buffer.length);
+
+            if (read < 0) {
+                String pending = this.splitter.finish();
+
+                if (pending != null) {
+                    ScriptReader.logger.warn(Messages.WARNING + "The script ended without finishing the last command: "
+                            + pending);
+                }
+
+                return null;
+            }
+
+            this.splitter.append(this.buffer, 0, read, this.commands);
+        }
+
+        return this.commands.poll();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    @Override
+    public String toString() {
+        return "ScriptReader [splitter=" + this.splitter + "]";
+    }
+}
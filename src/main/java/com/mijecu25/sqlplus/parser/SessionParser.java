@@ -0,0 +1,164 @@
+package com.mijecu25.sqlplus.parser;
+
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.RecognitionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.mijecu25.messages.Messages;
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementDefault;
+
+/**
+ * Session scoped parser. The character stream, lexer, token stream and parser, along with the DFA objects of the
+ * lexer and parser, are created once and reset onto each new command instead of being allocated for every command.
+ * Commands go through two stages: the most common commands are parsed by a {@link FastPathParser} and only the rest
+ * reach the grammar. The time spent in each stage is recorded in {@link ParseStatistics}.
+ *
+ * This class is not thread safe. Each session or thread must use its own instance. The parse cache can be shared.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.7
+ */
+public class SessionParser {
+    private static final int DEFAULT_PARSE_CACHE_CAPACITY = 1024;
+
+    private static final Logger logger = LogManager.getLogger(SessionParser.class);
+
+    private ParseCache parseCache;
+    private ReusableStringStream input;
+    private SQLPlusLex lexer;
+    private CommonTokenStream tokens;
+    private SQLPlusParser parser;
+    private FastPathParser fastPathParser;
+    private ParseStatistics statistics;
+
+    public SessionParser(ParseCache parseCache) {
+        this.parseCache = parseCache;
+        this.input = new ReusableStringStream();
+        this.lexer = new SQLPlusLex(this.input);
+        this.tokens = new CommonTokenStream(this.lexer);
+        this.parser = new SQLPlusParser(this.tokens);
+        this.fastPathParser = new FastPathParser();
+        this.statistics = new ParseStatistics();
+        SessionParser.logger.info("Created a SessionParser");
+    }
+
+    public SessionParser() {
+        this(new ParseCache(SessionParser.DEFAULT_PARSE_CACHE_CAPACITY));
+    }
+
+    /**
+     * Parse a command into a statement. Commands that the grammar does not recognize are returned as a default
+     * statement, which is sent to the server as is, and the user is warned about the syntax error.
+     *
+     * @param query the command to parse.
+     *
+     * @return the statement that represents the command.
+     */
+    public Statement parseStatement(String query) {
+        Statement statement;
+        long startTime = System.nanoTime();
+
+        if(!StatementClassifier.isParseable(query)) {
+            SessionParser.logger.info("The command does not start with a keyword that can be parsed");
+            statement = new StatementDefault();
+            statement.setStatement(query);
+            this.statistics.record(ParseStatistics.Stage.BYPASSED, System.nanoTime() - startTime);
+
+            return statement;
+        }
+
+        StatementFingerprint fingerprint = new StatementFingerprint(query);
+        statement = this.parseCache.get(fingerprint);
+
+        if(statement != null) {
+            SessionParser.logger.info("Bound the command to a cached statement without parsing it");
+            statement.setStatement(query);
+            statement.setFingerprint(fingerprint);
+            this.statistics.record(ParseStatistics.Stage.CACHED, System.nanoTime() - startTime);
+
+            return statement;
+        }
+
+        long stageTime = System.nanoTime();
+        statement = this.fastPathParser.parse(query);
+
+        if(statement != null) {
+            SessionParser.logger.info("Parsed the command with the fast path parser");
+            this.statistics.record(ParseStatistics.Stage.FAST_PATH, System.nanoTime() - stageTime);
+        }
+        else {
+            this.statistics.record(ParseStatistics.Stage.FAST_PATH_MISS, System.nanoTime() - stageTime);
+            stageTime = System.nanoTime();
+
+            try {
+                SessionParser.logger.info("Will parse the command to determine what to execute");
+                statement = this.parse(query);
+            }
+            catch (RecognitionException re) {
+                SessionParser.logger.warn(Messages.WARNING + "Syntax error at " + re.line + ":"
+                        + re.charPositionInLine + " in the command " + query, re);
+                System.out.println(Messages.WARNING + "Syntax error at " + re.line + ":" + re.charPositionInLine
+                        + ". The command will be sent to the server as is");
+            }
+
+            if(statement != null) {
+                this.statistics.record(ParseStatistics.Stage.GRAMMAR, System.nanoTime() - stageTime);
+            }
+            else {
+                SessionParser.logger.info("The grammar did not build a statement, so the command is sent as is");
+                statement = new StatementDefault();
+                statement.setStatement(query);
+                statement.setFingerprint(fingerprint);
+                this.statistics.record(ParseStatistics.Stage.GRAMMAR_FAILED, System.nanoTime() - stageTime);
+
+                // Failed commands are not cached so that the user is warned every time
+                return statement;
+            }
+        }
+
+        this.parseCache.put(fingerprint, statement);
+        statement.setStatement(query);
+        statement.setFingerprint(fingerprint);
+
+        return statement;
+    }
+
+    /**
+     * Parse a command with the grammar by resetting the lexer and parser onto it.
+     *
+     * @param query the command to parse.
+     *
+     * @return the statement that represents the command.
+     *
+     * @throws RecognitionException if the command is not recognized by the grammar.
+     */
+    public Statement parse(String query) throws RecognitionException {
+        this.input.reset(query);
+        this.lexer.setCharStream(this.input);
+        this.tokens.setTokenSource(this.lexer);
+        this.parser.setTokenStream(this.tokens);
+
+        return this.parser.sqlplus();
+    }
+
+    /**
+     * Return the cache of parsed statements used by this parser.
+     *
+     * @return the cache of parsed statements.
+     */
+    public ParseCache getParseCache() { return this.parseCache; }
+
+    /**
+     * Return the number of commands and time spent in each stage of parsing.
+     *
+     * @return the statistics of this parser.
+     */
+    public ParseStatistics getStatistics() { return this.statistics; }
+
+    @Override
+    public String toString() {
+        return "SessionParser [input=" + this.input + "]";
+    }
+}
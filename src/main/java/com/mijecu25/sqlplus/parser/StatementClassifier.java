@@ -0,0 +1,60 @@
+package com.mijecu25.sqlplus.parser;
+
+/**
+ * Classify a command by its leading keyword before it reaches ANTLR. The grammar can only recognize commands that
+ * start with one of the keywords in {@link #KEYWORDS}. Any other command, such as SHOW, CREATE or DESCRIBE, would be
+ * lexed and end in a RecognitionException, so it can be sent to the server as a default statement right away.
+ *
+ * Only the leading identifier of the command is scanned.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class StatementClassifier {
+    // The lexer only matches the lowercase and uppercase spelling of each keyword
+    private static final String[] KEYWORDS = {
+            "select", "SELECT",
+            "insert", "INSERT",
+            "update", "UPDATE",
+            "use", "USE",
+            "alert", "ALERT"
+    };
+
+    /**
+     * Return whether the command starts with a keyword that the grammar can recognize.
+     *
+     * @param query the command.
+     *
+     * @return true if the command should be parsed or false if it should be sent to the server as is.
+     */
+    public static boolean isParseable(String query) {
+        int length = query.length();
+        int start = 0;
+
+        while (start < length && Character.isWhitespace(query.charAt(start))) {
+            start++;
+        }
+
+        int end = start;
+
+        while (end < length && StatementClassifier.isIdentifierPart(query.charAt(end))) {
+            end++;
+        }
+
+        int keywordLength = end - start;
+
+        for (String keyword : StatementClassifier.KEYWORDS) {
+            if (keyword.length() == keywordLength && query.regionMatches(start, keyword, 0, keywordLength)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isIdentifierPart(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z')
+                || (character >= '0' && character <= '9') || character == '_' || character == '$';
+    }
+
+}
@@ -0,0 +1,280 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents the fingerprint of a command. The fingerprint is the text of the command with every string
+ * and number literal replaced by {@value #LITERAL_SLOT} and every run of spaces and tabs collapsed into a single
+ * space. Commands that only differ in their literal values have the same fingerprint and are parsed into statements
+ * with the same shape.
+ *
+ * The same scan computes the digest of the command, a 64 bit FNV-1a hash of its normalized text. The normalized text
+ * is the fingerprint in lower case, with spaces only kept between two words, so commands that only differ in their
+ * literals, spacing or case have the same digest.
+ *
+ * The command is scanned once by hand. It is not lexed by ANTLR.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class StatementFingerprint {
+    public static final char LITERAL_SLOT = '?';
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private String fingerprint;
+    private List<String> literals;
+    private boolean cacheable;
+    private long digest;
+    private String normalizedText;
+
+    /**
+     * Builder of the normalized text of a command and of its digest. The characters of the fingerprint are fed in
+     * order and spaces are only written when they separate two words.
+     */
+    private static class Normalizer {
+        private long digest;
+        private boolean space;
+        private boolean word;
+        private StringBuilder text;
+
+        private Normalizer(StringBuilder text) {
+            this.digest = StatementFingerprint.FNV_OFFSET_BASIS;
+            this.space = false;
+            this.word = false;
+            this.text = text;
+        }
+
+        private void space() {
+            this.space = true;
+        }
+
+        private void append(char character) {
+            if(character >= 'A' && character <= 'Z') {
+                character = (char) (character + ('a' - 'A'));
+            }
+
+            boolean word = StatementFingerprint.isIdentifierPart(character)
+                    || character == StatementFingerprint.LITERAL_SLOT;
+
+            if(this.space && this.word && word) {
+                this.hash(' ');
+            }
+
+            this.hash(character);
+            this.space = false;
+            this.word = word;
+        }
+
+        private void hash(char character) {
+            this.digest = (this.digest ^ character) * StatementFingerprint.FNV_PRIME;
+
+            if(this.text != null) {
+                this.text.append(character);
+            }
+        }
+    }
+
+    public StatementFingerprint(String query) {
+        this.literals = new ArrayList<String>();
+        this.cacheable = true;
+        this.normalizedText = null;
+        this.fingerprint = this.scan(query);
+    }
+
+    /**
+     * Scan the command, collecting the literals and building the fingerprint.
+     *
+     * @param query the command to scan.
+     *
+     * @return the fingerprint of the command.
+     */
+    private String scan(String query) {
+        StringBuilder fingerprint = new StringBuilder(query.length());
+        Normalizer normalizer = new Normalizer(null);
+        int length = query.length();
+        int index = 0;
+
+        while (index < length) {
+            char character = query.charAt(index);
+            int end;
+
+            if (character == ' ' || character == '\t') {
+                end = index + 1;
+
+                while (end < length && (query.charAt(end) == ' ' || query.charAt(end) == '\t')) {
+                    end++;
+                }
+
+                fingerprint.append(' ');
+                normalizer.space();
+            }
+            else if (character == '\'' || character == '"') {
+                // The lexer does not support escaped quotes, so a string ends with the next matching quote
+                end = query.indexOf(character, index + 1);
+                end = end < 0 ? length : end + 1;
+
+                this.literals.add(query.substring(index, end));
+                fingerprint.append(StatementFingerprint.LITERAL_SLOT);
+                normalizer.append(StatementFingerprint.LITERAL_SLOT);
+            }
+            else if (StatementFingerprint.isDigit(character)
+                    || (character == '.' && index + 1 < length && StatementFingerprint.isDigit(query.charAt(index + 1)))) {
+                end = StatementFingerprint.scanNumber(query, index);
+
+                this.literals.add(query.substring(index, end));
+                fingerprint.append(StatementFingerprint.LITERAL_SLOT);
+                normalizer.append(StatementFingerprint.LITERAL_SLOT);
+            }
+            else if (StatementFingerprint.isIdentifierStart(character)) {
+                // Consume the whole identifier so that the digits in names like t1 are not taken as numbers
+                end = index + 1;
+
+                while (end < length && StatementFingerprint.isIdentifierPart(query.charAt(end))) {
+                    end++;
+                }
+
+                fingerprint.append(query, index, end);
+
+                for (int i = index; i < end; i++) {
+                    normalizer.append(query.charAt(i));
+                }
+            }
+            else {
+                if (character == StatementFingerprint.LITERAL_SLOT) {
+                    // A question mark in the command would be confused with a literal slot
+                    this.cacheable = false;
+                }
+
+                end = index + 1;
+                fingerprint.append(character);
+                normalizer.append(character);
+            }
+
+            index = end;
+        }
+
+        this.digest = normalizer.digest;
+
+        return fingerprint.toString();
+    }
+
+    /**
+     * Return the index after the number that starts at the provided index. Numbers have the same shape as the
+     * INTEGER_NUMBER and REAL_NUMBER tokens of the lexer.
+     *
+     * @param query the command.
+     * @param start the index where the number starts.
+     *
+     * @return the index of the first character after the number.
+     */
+    private static int scanNumber(String query, int start) {
+        int length = query.length();
+        int index = start;
+
+        while (index < length && StatementFingerprint.isDigit(query.charAt(index))) {
+            index++;
+        }
+
+        if (index < length && query.charAt(index) == '.') {
+            index++;
+
+            while (index < length && StatementFingerprint.isDigit(query.charAt(index))) {
+                index++;
+            }
+        }
+
+        if (index < length && (query.charAt(index) == 'e' || query.charAt(index) == 'E')) {
+            int exponent = index + 1;
+
+            if (exponent < length && (query.charAt(exponent) == '+' || query.charAt(exponent) == '-')) {
+                exponent++;
+            }
+
+            if (exponent < length && StatementFingerprint.isDigit(query.charAt(exponent))) {
+                index = exponent;
+
+                while (index < length && StatementFingerprint.isDigit(query.charAt(index))) {
+                    index++;
+                }
+            }
+        }
+
+        return index;
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isIdentifierStart(char character) {
+        return (character >= 'a' && character <= 'z') || (character >= 'A' && character <= 'Z') || character == '_'
+                || character == '$';
+    }
+
+    private static boolean isIdentifierPart(char character) {
+        return StatementFingerprint.isIdentifierStart(character) || StatementFingerprint.isDigit(character);
+    }
+
+    /**
+     * Return the fingerprint of the command.
+     *
+     * @return the fingerprint of the command.
+     */
+    public String getFingerprint() { return this.fingerprint; }
+
+    /**
+     * Return the literals of the command in the order in which they appear.
+     *
+     * @return the literals of the command.
+     */
+    public List<String> getLiterals() { return this.literals; }
+
+    /**
+     * Return the digest of the command, which is the hash of its normalized text.
+     *
+     * @return the digest of the command.
+     */
+    public long getDigest() { return this.digest; }
+
+    /**
+     * Return the normalized text of the command. The text is built from the fingerprint the first time that it is
+     * needed, since most commands only need their digest.
+     *
+     * @return the normalized text of the command.
+     */
+    public String getNormalizedText() {
+        if(this.normalizedText == null) {
+            Normalizer normalizer = new Normalizer(new StringBuilder(this.fingerprint.length()));
+
+            for (int i = 0; i < this.fingerprint.length(); i++) {
+                char character = this.fingerprint.charAt(i);
+
+                if (character == ' ') {
+                    normalizer.space();
+                }
+                else {
+                    normalizer.append(character);
+                }
+            }
+
+            this.normalizedText = normalizer.text.toString();
+        }
+
+        return this.normalizedText;
+    }
+
+    /**
+     * Return whether statements with this fingerprint can be cached.
+     *
+     * @return true if statements with this fingerprint can be cached.
+     */
+    public boolean isCacheable() { return this.cacheable; }
+
+    @Override
+    public String toString() {
+        return "StatementFingerprint [fingerprint=" + this.fingerprint + ", literals=" + this.literals + "]";
+    }
+}
@@ -0,0 +1,315 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.util.Collection;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Incremental splitter of input into commands. The input can be fed in chunks of any size, such as lines typed by the
+ * user or blocks read from a script, and each character is looked at once. The splitter keeps track of string
+ * literals, quoted identifiers, comments and the current delimiter, so a delimiter inside any of them does not end a
+ * command.
+ *
+ * Line comments are removed, since new lines in a command are replaced by spaces and the comment would otherwise
+ * swallow the rest of the command. Block comments are kept because MySQL executes the ones that start with
+ * <code>/*!</code>. A line that starts with {@value #DELIMITER_COMMAND} changes the delimiter like in the MySQL client.
+ * Every command is returned with the end of command symbol {@value #END_OF_COMMAND} instead of the delimiter.
+ *
+ * This class is not thread safe.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class StatementSplitter {
+    public static final String DELIMITER_COMMAND = "delimiter";
+    public static final char END_OF_COMMAND = ';';
+
+    private static final int NORMAL = 0;
+    private static final int QUOTED = 1;
+    private static final int QUOTED_ESCAPE = 2;
+    private static final int LINE_COMMENT = 3;
+    private static final int BLOCK_COMMENT = 4;
+
+    private static final Logger logger = LogManager.getLogger(StatementSplitter.class);
+
+    private StringBuilder command;
+    private String delimiter;
+    private int state;
+    private char quote;
+    private int blockCommentStart;
+    private boolean firstLine;
+    private boolean delimiterCommand;
+
+    public StatementSplitter() {
+        this.command = new StringBuilder();
+        this.delimiter = String.valueOf(StatementSplitter.END_OF_COMMAND);
+        this.reset();
+        StatementSplitter.logger.info("Created a StatementSplitter");
+    }
+
+    /**
+     * Feed input to the splitter.
+     *
+     * @param input the input.
+     * @param commands the collection where the commands that are completed by the input are added.
+     */
+    public void append(CharSequence input, Collection<String> commands) {
+        for (int i = 0; i < input.length(); i++) {
+            this.append(input.charAt(i), commands);
+        }
+    }
+
+    /**
+     * Feed input to the splitter.
+     *
+     * @param buffer the buffer with the input.
+     * @param offset the index of the first character of the input.
+     * @param length the number of characters of the input.
+     * @param commands the collection where the commands that are completed by the input are added.
+     */
+    public void append(char[] buffer, int offset, int length, Collection<String> commands) {
+        for (int i = offset; i < offset + length; i++) {
+            this.append(buffer[i], commands);
+        }
+    }
+
+    /**
+     * Feed a single character to the splitter.
+     *
+     * @param character the character.
+     * @param commands the collection where the command is added if the character completes it.
+     */
+    private void append(char character, Collection<String> commands) {
+        switch (this.state) {
+            case StatementSplitter.QUOTED:
+                this.command.append(character);
+
+                if (character == this.quote) {
+                    this.state = StatementSplitter.NORMAL;
+                }
+                else if (character == '\\') {
+                    this.state = StatementSplitter.QUOTED_ESCAPE;
+                }
+                break;
+            case StatementSplitter.QUOTED_ESCAPE:
+                this.command.append(character);
+                this.state = StatementSplitter.QUOTED;
+                break;
+            case StatementSplitter.LINE_COMMENT:
+                if (character == '\n') {
+                    this.state = StatementSplitter.NORMAL;
+                    this.appendNormal(character, commands);
+                }
+                break;
+            case StatementSplitter.BLOCK_COMMENT:
+                this.command.append(character);
+
+                if (character == '/' && this.command.length() - 2 >= this.blockCommentStart
+                        && this.command.charAt(this.command.length() - 2) == '*') {
+                    this.state = StatementSplitter.NORMAL;
+                }
+                break;
+            default:
+                this.appendNormal(character, commands);
+        }
+    }
+
+    /**
+     * Feed a character that is not inside a literal or a comment.
+     *
+     * @param character the character.
+     * @param commands the collection where the command is added if the character completes it.
+     */
+    private void appendNormal(char character, Collection<String> commands) {
+        int length = this.command.length();
+
+        if (character == '\n') {
+            if (this.firstLine && this.delimiterCommand) {
+                this.changeDelimiter();
+                return;
+            }
+
+            if (length > 0) {
+                this.firstLine = false;
+            }
+        }
+
+        if (Character.isWhitespace(character)) {
+            if (length > 1 && this.command.charAt(length - 1) == '-' && this.command.charAt(length - 2) == '-') {
+                // A double dash followed by a whitespace starts a comment
+                length -= 2;
+                this.command.setLength(length);
+                this.state = character == '\n' ? StatementSplitter.NORMAL : StatementSplitter.LINE_COMMENT;
+            }
+
+            // New lines are replaced by spaces since the lexer does not skip them
+            if (length > 0 && this.command.charAt(length - 1) != ' ') {
+                this.command.append(' ');
+            }
+
+            return;
+        }
+
+        if (character == '#') {
+            this.state = StatementSplitter.LINE_COMMENT;
+            return;
+        }
+
+        this.command.append(character);
+        length++;
+
+        if (character == '\'' || character == '"' || character == '`') {
+            this.quote = character;
+            this.state = StatementSplitter.QUOTED;
+        }
+        else if (character == '*' && length > 1 && this.command.charAt(length - 2) == '/') {
+            this.blockCommentStart = length;
+            this.state = StatementSplitter.BLOCK_COMMENT;
+        }
+        else {
+            if (this.firstLine && length == StatementSplitter.DELIMITER_COMMAND.length()) {
+                this.delimiterCommand = this.startsWithDelimiterCommand();
+            }
+            else if (this.firstLine && length == StatementSplitter.DELIMITER_COMMAND.length() + 1) {
+                // The delimiter command must be followed by a whitespace
+                this.delimiterCommand = false;
+            }
+
+            if (!(this.firstLine && this.delimiterCommand) && this.endsWithDelimiter()) {
+                this.command.setLength(length - this.delimiter.length());
+                this.emit(commands);
+            }
+        }
+    }
+
+    /**
+     * Return whether the current command starts with the delimiter command, ignoring case.
+     *
+     * @return true if the current command starts with the delimiter command.
+     */
+    private boolean startsWithDelimiterCommand() {
+        for (int i = 0; i < StatementSplitter.DELIMITER_COMMAND.length(); i++) {
+            if (Character.toLowerCase(this.command.charAt(i)) != StatementSplitter.DELIMITER_COMMAND.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Return whether the current command ends with the delimiter. Only the last characters are compared.
+     *
+     * @return true if the current command ends with the delimiter.
+     */
+    private boolean endsWithDelimiter() {
+        int start = this.command.length() - this.delimiter.length();
+
+        if (start < 0) {
+            return false;
+        }
+
+        for (int i = 0; i < this.delimiter.length(); i++) {
+            if (this.command.charAt(start + i) != this.delimiter.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Change the delimiter to the one in the current command, which is a delimiter command.
+     */
+    private void changeDelimiter() {
+        String delimiter = this.command.substring(StatementSplitter.DELIMITER_COMMAND.length()).trim();
+
+        if (!delimiter.isEmpty() && !Character.isLetterOrDigit(delimiter.charAt(0))) {
+            StatementSplitter.logger.info("Changed the delimiter from " + this.delimiter + " to " + delimiter);
+            this.delimiter = delimiter;
+        }
+
+        this.command.setLength(0);
+        this.reset();
+    }
+
+    /**
+     * Add the current command to the collection of commands if it is not empty.
+     *
+     * @param commands the collection where the command is added.
+     */
+    private void emit(Collection<String> commands) {
+        int end = this.command.length();
+
+        while (end > 0 && this.command.charAt(end - 1) == ' ') {
+            end--;
+        }
+
+        if (end > 0) {
+            if (this.command.charAt(end - 1) != StatementSplitter.END_OF_COMMAND) {
+                this.command.setLength(end);
+                this.command.append(StatementSplitter.END_OF_COMMAND);
+                end++;
+            }
+
+            commands.add(this.command.substring(0, end));
+        }
+
+        this.command.setLength(0);
+        this.reset();
+    }
+
+    /**
+     * Reset the state of the splitter for a new command.
+     */
+    private void reset() {
+        this.state = StatementSplitter.NORMAL;
+        this.quote = 0;
+        this.blockCommentStart = 0;
+        this.firstLine = true;
+        this.delimiterCommand = false;
+    }
+
+    /**
+     * Finish the input. A pending delimiter command is applied and any unfinished command is discarded.
+     *
+     * @return the unfinished command or null if there was none.
+     */
+    public String finish() {
+        String pending = null;
+
+        if (this.firstLine && this.delimiterCommand) {
+            this.changeDelimiter();
+        }
+        else if (!this.isEmpty()) {
+            pending = this.command.toString().trim();
+        }
+
+        this.command.setLength(0);
+        this.reset();
+
+        return pending;
+    }
+
+    /**
+     * Return whether there is no unfinished command.
+     *
+     * @return true if there is no unfinished command.
+     */
+    public boolean isEmpty() {
+        return this.command.length() == 0 && this.state == StatementSplitter.NORMAL;
+    }
+
+    /**
+     * Return the current delimiter.
+     *
+     * @return the current delimiter.
+     */
+    public String getDelimiter() { return this.delimiter; }
+
+    @Override
+    public String toString() {
+        return "StatementSplitter [delimiter=" + this.delimiter + ", command=" + this.command + "]";
+    }
+}
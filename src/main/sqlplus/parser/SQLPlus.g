@@ -7,15 +7,19 @@ import SQLPlusLex;
 
     import java.util.Map;
     import java.util.HashMap;
+    import java.util.LinkedHashMap;
 
 	import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+	import com.mijecu25.sqlplus.compiler.core.statement.StatementAlert;
 	import com.mijecu25.sqlplus.compiler.core.statement.StatementUseDatabase;
 	import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
 	import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
 	import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSingleTableUpdateStatement;
+	import com.mijecu25.sqlplus.compiler.core.expression.ColumnarValues;
 	import com.mijecu25.sqlplus.compiler.core.expression.Expression;
-	import com.mijecu25.sqlplus.compiler.core.expression.ExpressionBinary;
-	import com.mijecu25.sqlplus.compiler.core.expression.ExpressionLiteral;
+	import com.mijecu25.sqlplus.compiler.core.expression.ExpressionFactory;
+	import com.mijecu25.sqlplus.compiler.core.expression.ExpressionIs;
+	import com.mijecu25.sqlplus.compiler.core.expression.ExpressionSubquery;
 }
 
 @members {
@@ -31,6 +35,24 @@ import SQLPlusLex;
 	protected Object recoverFromMismatchedToken(IntStream input, int ttype, BitSet follow) throws RecognitionException {
 		throw new MismatchedTokenException(ttype, input);
 	}
+
+	/**
+	 * Return the text matched by a rule. The text is copied once from the input, instead of concatenating the text
+	 * of each token like the text attribute of a rule does.
+	 *
+	 * @param start the first token matched by the rule.
+	 * @param stop the last token matched by the rule.
+	 *
+	 * @return the text matched by the rule.
+	 */
+	protected String text(Token start, Token stop) {
+		if(stop == null || stop.getTokenIndex() < start.getTokenIndex()) {
+			return "";
+		}
+
+		return start.getInputStream().substring(((CommonToken) start).getStartIndex(),
+				((CommonToken) stop).getStopIndex());
+	}
 }
 
 @rulecatch {
@@ -48,14 +70,55 @@ sqlplus returns [Statement statement]
 			statement = $sql_statement.sqlStatement;
 		}
 		// TODO this should be optional
-	|	sqlplus_alert
+	|	sqlplus_alert {
+			statement = $sqlplus_alert.alert;
+		}
 	;
 
 
-sqlplus_alert
-	:	ALERT timing data_manipulation_language IN ID IF ID relational_operation match_value SEMICOLON
+sqlplus_alert returns [StatementAlert alert]
+	@init {
+		$alert = null;
+	}
+	:	ALERT timing data_manipulation_language IN table = ID IF alert_condition SEMICOLON
 			{
-				System.out.println("Created SQLPlus alert");
+				$alert = new StatementAlert($timing.text, $data_manipulation_language.text, $table.text,
+						$alert_condition.expr);
+			}
+	;
+
+alert_condition returns [Expression expr]
+	@init {
+		$expr = null;
+	}
+	:	left = alert_conjunction { $expr = $left.expr; }
+		(
+			OR right = alert_conjunction {
+				$expr = ExpressionFactory.binary($OR.text, $expr, $right.expr);
+			}
+		)*
+	;
+
+alert_conjunction returns [Expression expr]
+	@init {
+		$expr = null;
+	}
+	:	left = alert_comparison { $expr = $left.expr; }
+		(
+			AND right = alert_comparison {
+				$expr = ExpressionFactory.binary($AND.text, $expr, $right.expr);
+			}
+		)*
+	;
+
+alert_comparison returns [Expression expr]
+	@init {
+		$expr = null;
+	}
+	:	column = ID relational_operation match_value
+			{
+				$expr = ExpressionFactory.binary(text($relational_operation.start, $relational_operation.stop),
+						ExpressionFactory.column($column.text), $match_value.expr);
 			}
 	;
 
@@ -86,7 +149,7 @@ use_database returns [Statement useDatabaseStatement]
 	}
 	:	USE
 		database = schema_name {
-			$useDatabaseStatement = new StatementUseDatabase($database.text);
+			$useDatabaseStatement = new StatementUseDatabase(text($database.start, $database.stop));
 		}
 	;
 
@@ -157,7 +220,7 @@ single_table_update_statement returns [Statement singleTableUpdateStatement]
 		$singleTableUpdateStatement = null;
 	}
 	:	UPDATE table_reference set_columns_clause (where_clause)? {
-			$singleTableUpdateStatement = new StatementSingleTableUpdateStatement($table_reference.text, $set_columns_clause.columnsValuesMap, $where_clause.expr);
+			$singleTableUpdateStatement = new StatementSingleTableUpdateStatement(text($table_reference.start, $table_reference.stop), $set_columns_clause.columnsValuesMap, $where_clause.expr);
 		}
 	;
 
@@ -166,11 +229,11 @@ select_list returns [List<String> selectList]
 		$selectList = new ArrayList<String>();
 	}
 	:	column = displayed_column {
-	 		$selectList.add($column.text);
+	 		$selectList.add(text($column.start, $column.stop));
 		}
 		(
 			COMMA column = displayed_column {
-				$selectList.add($column.text);
+				$selectList.add(text($column.start, $column.stop));
 			}
 		)*
 	| 	ASTERISK {
@@ -187,12 +250,12 @@ table_references returns [List<String> tableReferences]
 		$tableReferences = new ArrayList<String>();
 	}
 	:	table = table_reference {
-			$tableReferences.add($table.text);
+			$tableReferences.add(text($table.start, $table.stop));
 		}
 		(
 			COMMA
 			table = table_reference {
-				$tableReferences.add($table.text);
+				$tableReferences.add(text($table.start, $table.stop));
 			}
 		)*
 	;
@@ -206,45 +269,50 @@ insert_header returns [String table]
         $table = null;
     }
     :   INSERT (INTO)? table_spec {
-            $table = $table_spec.text;
+            $table = text($table_spec.start, $table_spec.stop);
         }
     ;
 
-value_list_clause returns [List<List<String>> valueListClause]
+value_list_clause returns [ColumnarValues valueListClause]
     @init {
-        $valueListClause = new ArrayList<List<String>>();
+        $valueListClause = new ColumnarValues();
     }
     :   VALUES
-        value = column_value_list {
-            $valueListClause.add($value.columnValueList);
-        }
+        column_value_list[$valueListClause]
         (
             COMMA
-            value = column_value_list {
-                $valueListClause.add($value.columnValueList);
-            }
+            column_value_list[$valueListClause]
         )*
     ;
 
-column_value_list returns [List<String> columnValueList]
-    @init {
-        $columnValueList = new ArrayList<String>();
-    }
+column_value_list[ColumnarValues values]
     :   LEFT_PARENTHESIS
-        expr = bit_expr {
-            $columnValueList.add($expr.text);
+        value = column_value {
+            $values.add(text($value.start, $value.stop));
         }
         (
             COMMA
-            expr = bit_expr {
-                $columnValueList.add($expr.text);
+            value = column_value {
+                if(!$values.add(text($value.start, $value.stop))) {
+                    throw new FailedPredicateException(input, "column_value_list", "same number of values in each row");
+                }
             }
-        )* RIGHT_PARENTHESIS
+        )* RIGHT_PARENTHESIS {
+            if(!$values.endRow()) {
+                throw new FailedPredicateException(input, "column_value_list", "same number of values in each row");
+            }
+        }
+    ;
+
+// Same as bit_expr, but the values are stored as text so that no expressions are created for them
+column_value
+    :   literal_value_text
+    |   column_spec
     ;
 
 set_columns_clause returns [Map<String, Expression> columnsValuesMap]
     @init {
-        $columnsValuesMap = new HashMap<String, Expression>();
+        $columnsValuesMap = new LinkedHashMap<String, Expression>();
     }
     :   SET
         columnValue = set_column_clause {
@@ -264,11 +332,11 @@ set_column_clause returns [Map<String, Expression> columnValueMap]
     }
     :	column_spec EQUAL (
             expression {
-                $columnValueMap.put($column_spec.text, $expression.expr);
+                $columnValueMap.put(text($column_spec.start, $column_spec.stop), $expression.expr);
             }
             |
             DEFAULT {
-                $columnValueMap.put($column_spec.text, new ExpressionLiteral($DEFAULT.text));
+                $columnValueMap.put(text($column_spec.start, $column_spec.stop), ExpressionFactory.literal($DEFAULT.text));
             }
         )
     ;
@@ -294,12 +362,12 @@ column_list returns [List<String> columnList]
     }
 	:   LEFT_PARENTHESIS
 	    column = column_spec {
-	        $columnList.add($column.text);
+	        $columnList.add(text($column.start, $column.stop));
 	    }
         (
             COMMA
             column = column_spec {
-                $columnList.add($column.text);
+                $columnList.add(text($column.start, $column.stop));
             }
         )* RIGHT_PARENTHESIS
 	;
@@ -308,8 +376,14 @@ column_spec
 	:   ((schema_name DOT)? table_name DOT)? column_name
 	;
 
-subquery
-    :   LEFT_PARENTHESIS select_statement RIGHT_PARENTHESIS
+subquery[ExpressionSubquery.Type type] returns [Expression expr]
+    @init {
+        $expr = null;
+    }
+    :   LEFT_PARENTHESIS select_statement RIGHT_PARENTHESIS {
+            $expr = ExpressionFactory.subquery(text($select_statement.start, $select_statement.stop),
+                    (StatementSelectExpression) $select_statement.selectStatement, $type);
+        }
     ;
 
 expression returns [Expression expr]
@@ -319,7 +393,7 @@ expression returns [Expression expr]
     :   left = expr_factor1 { $expr = $left.expr; }
         (
             OR right = expr_factor1 {
-                $expr = new ExpressionBinary($OR.text, $expr, $right.expr);
+                $expr = ExpressionFactory.binary($OR.text, $expr, $right.expr);
             }
         )*
     ;
@@ -331,7 +405,7 @@ expr_factor1 returns [Expression expr]
     :   left = expr_factor2 { $expr = $left.expr; }
         (
             XOR right = expr_factor2 {
-                $expr = new ExpressionBinary($XOR.text, $expr, $right.expr);
+                $expr = ExpressionFactory.binary($XOR.text, $expr, $right.expr);
             }
         )*
     ;
@@ -343,7 +417,7 @@ expr_factor2 returns [Expression expr]
     :   left = expr_factor3 { $expr = $left.expr; }
         (
             AND right = expr_factor3 {
-                $expr = new ExpressionBinary($AND.text, $expr, $right.expr);
+                $expr = ExpressionFactory.binary($AND.text, $expr, $right.expr);
             }
         )*
     ;
@@ -352,49 +426,112 @@ expr_factor3 returns [Expression expr]
     @init {
         $expr = null;
     }
-    :   (NOT)? expr_factor4 { $expr = new ExpressionBinary($NOT.text, null, $expr_factor4.expr); }
+    :   (NOT)? expr_factor4 { $expr = ExpressionFactory.binary($NOT.text, null, $expr_factor4.expr); }
     ;
 
 expr_factor4 returns [Expression expr]
     @init {
         $expr = null;
+        boolean negated = false;
     }
-    :   bool_primary ( IS (NOT)? (boolean_literal | NULL) )? { $expr = $bool_primary.expr; }
+    :   bool_primary { $expr = $bool_primary.expr; }
+        (
+            IS (NOT { negated = true; })?
+            (
+                boolean_literal {
+                    $expr = ExpressionFactory.is($expr, ExpressionIs.test($boolean_literal.text), negated);
+                }
+            |   NULL { $expr = ExpressionFactory.is($expr, ExpressionIs.Test.NULL, negated); }
+            )
+        )?
     ;
 
 bool_primary returns [Expression expr]
     @init {
         $expr = null;
+        ExpressionSubquery.Type type = ExpressionSubquery.Type.SCALAR;
     }
     :   left = predicate
         relational_op
         right = predicate {
-            $expr = new ExpressionBinary($relational_op.text, $left.expr, $right.expr);
+            $expr = ExpressionFactory.binary(text($relational_op.start, $relational_op.stop), $left.expr, $right.expr);
+        }
+    |   left = predicate
+        relational_op
+        (
+            ALL { type = ExpressionSubquery.Type.ALL; }
+        |   ANY { type = ExpressionSubquery.Type.ANY; }
+        )?
+        subquery[type] {
+            $expr = ExpressionFactory.binary(text($relational_op.start, $relational_op.stop), $left.expr, $subquery.expr);
         }
-    |   predicate relational_op ( ALL | ANY )? subquery
-    |   NOT EXISTS subquery
-    |   predicate
+        // NOT EXISTS is matched by expr_factor3
+    |   EXISTS subquery[ExpressionSubquery.Type.EXISTS] { $expr = $subquery.expr; }
+    |   predicate { $expr = $predicate.expr; }
     ;
 
 predicate returns [Expression expr]
     @init {
         $expr = null;
+        boolean negated = false;
     }
-    :   bit_expr { $expr = new ExpressionLiteral($bit_expr.text); }
+    :   operand = bit_expr { $expr = $operand.expr; }
+        (
+            (NOT { negated = true; })?
+            (
+                IN expression_list {
+                    $expr = ExpressionFactory.in($operand.expr, $expression_list.expressionList, negated);
+                }
+            |   BETWEEN lower = bit_expr AND upper = bit_expr {
+                    $expr = ExpressionFactory.between($operand.expr, $lower.expr, $upper.expr, negated);
+                }
+            )
+        )?
     ;
 
-bit_expr
-    :   simple_expr
+expression_list returns [List<Expression> expressionList]
+    @init {
+        $expressionList = new ArrayList<Expression>();
+    }
+    :   LEFT_PARENTHESIS
+        value = bit_expr {
+            $expressionList.add($value.expr);
+        }
+        (
+            COMMA
+            value = bit_expr {
+                $expressionList.add($value.expr);
+            }
+        )* RIGHT_PARENTHESIS
     ;
 
-simple_expr
-    :   literal_value
-    |   column_spec
+bit_expr returns [Expression expr]
+    @init {
+        $expr = null;
+    }
+    :   simple_expr { $expr = $simple_expr.expr; }
     ;
 
-literal_value
+simple_expr returns [Expression expr]
+    @init {
+        $expr = null;
+    }
+    :   literal_value { $expr = $literal_value.expr; }
+    |   column_spec { $expr = ExpressionFactory.column(text($column_spec.start, $column_spec.stop)); }
+    ;
+
+literal_value returns [Expression expr]
+    @init {
+        $expr = null;
+    }
+    :   literal_value_text { $expr = ExpressionFactory.literal(text($literal_value_text.start, $literal_value_text.stop)); }
+    ;
+
+literal_value_text
     :   string_literal
     |   number_literal
+    |   boolean_literal
+    |   NULL
     ;
 
 relational_op
@@ -432,9 +569,15 @@ relational_operation
 	|	LIKE // Not part of mysql standard
 	;
 
-match_value
-	:	ID
+// The value of a question mark is only known when the alert fires
+match_value returns [Expression expr]
+	@init {
+		$expr = null;
+	}
+	:	ID { $expr = ExpressionFactory.column($ID.text); }
+	|	literal_value { $expr = $literal_value.expr; }
 	|	QUESTION_MARK
+	|	subquery[ExpressionSubquery.Type.SCALAR] { $expr = $subquery.expr; }
 	;
 
 alias : (AS)? ID;
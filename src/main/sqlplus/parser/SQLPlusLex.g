@@ -55,7 +55,7 @@ ALERT
 
 ALL
     :   'all'
-    |   'any'
+    |   'ALL'
     ;
 
 AFTER
@@ -78,6 +78,11 @@ BEFORE
 	|	'BEFORE'
 	;
 
+BETWEEN
+    :   'between'
+    |   'BETWEEN'
+    ;
+
 DATABASES
 	:	'databases'
 	|	'DATABASES'
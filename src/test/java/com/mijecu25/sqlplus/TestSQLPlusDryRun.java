@@ -0,0 +1,158 @@
+package com.mijecu25.sqlplus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for SQLPlusDryRun class.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.5
+ */
+public class TestSQLPlusDryRun {
+
+    private static final String SCRIPT = "use courses;\n"
+            + "select * from classes where a = 1;\n"
+            + "select name\n"
+            + "  from classes;\n"
+            + "\n"
+            + "insert into classes (name, year) values ('a', 1), ('b', 2);\n"
+            + "show tables;\n";
+
+    @Test
+    public void testRun() throws IOException {
+        SQLPlusDryRun dryRun = new SQLPlusDryRun();
+        dryRun.run(new BufferedReader(new StringReader(TestSQLPlusDryRun.SCRIPT)));
+
+        Assert.assertEquals(5, dryRun.getStatements());
+        Assert.assertEquals(1, dryRun.getStatementCount("StatementUseDatabase"));
+        Assert.assertEquals(2, dryRun.getStatementCount("StatementSelectExpression"));
+        Assert.assertEquals(1, dryRun.getStatementCount("StatementInsertStatement1"));
+        Assert.assertEquals(1, dryRun.getStatementCount("StatementDefault"));
+    }
+
+    @Test
+    public void testRunWorkers() throws IOException {
+        SQLPlusDryRun dryRun = new SQLPlusDryRun(1);
+        dryRun.run(new BufferedReader(new StringReader(TestSQLPlusDryRun.SCRIPT + "select a from t, u;\n")));
+
+        Assert.assertEquals(6, dryRun.getStatements());
+        Assert.assertEquals(2, dryRun.getStatementCount("StatementSelectExpression"));
+        Assert.assertEquals(1, dryRun.getStatementCount("Unsupported"));
+        Assert.assertTrue(dryRun.getReport().contains("p99"));
+    }
+
+    @Test
+    public void testRunAlertInsert() throws IOException {
+        SQLPlusDryRun dryRun = new SQLPlusDryRun(2);
+        dryRun.run(new BufferedReader(new StringReader("insert into t (name, year) values ('a', 2010);\n"
+                + "alert before insert in t if year > 2000;\n"
+                + "insert into t (name, year) values ('b', 1999), ('c', 2001), ('d', 2005), ('e', null);\n"
+                + "insert into u (name, year) values ('f', 2010);\n"
+                + "insert into t values ('g', 2010);\n")));
+
+        Assert.assertEquals(4, dryRun.getEvaluations(0));
+        Assert.assertEquals(2, dryRun.getMatches(0));
+        Assert.assertEquals(1, dryRun.getSkipped(0));
+        Assert.assertTrue(dryRun.getReport().contains("ALERT BEFORE INSERT IN t IF year > 2000: 2 matches in 4 rows"));
+    }
+
+    @Test
+    public void testRunAlertUpdate() throws IOException {
+        SQLPlusDryRun dryRun = new SQLPlusDryRun(2);
+        dryRun.loadFixture(new StringReader("insert into t (name, year) values ('a', 1999), ('b', 2001), ('c', 2005);\n"
+                + "insert into t (name) values ('d');\n"
+                + "select * from t;\n"));
+        dryRun.run(new BufferedReader(new StringReader("alert before update in t if year > 2000;\n"
+                + "alert after update in t if year > 2000;\n"
+                + "alert before update in t if year = ?;\n"
+                + "update t set year = 2010 where name = 'a' or name = 'd';\n"
+                + "update t set year = 1990 where year > 2000;\n"
+                + "update t set year = 1990 where year < 1900;\n"
+                + "update u set year = 1990;\n")));
+
+        // The first update matches a and d, the second b and c, the third none
+        Assert.assertEquals(4, dryRun.getEvaluations(0));
+        Assert.assertEquals(2, dryRun.getMatches(0));
+        Assert.assertEquals(1, dryRun.getPruned(0));
+        Assert.assertEquals(4, dryRun.getEvaluations(1));
+        Assert.assertEquals(2, dryRun.getMatches(1));
+        Assert.assertEquals(0, dryRun.getPruned(1));
+        Assert.assertEquals(0, dryRun.getEvaluations(2));
+        Assert.assertEquals(3, dryRun.getSkipped(2));
+        Assert.assertTrue(dryRun.getReport().contains("ALERT BEFORE UPDATE IN t IF year = ?"));
+    }
+
+    @Test
+    public void testRunAlertChain() throws IOException {
+        StringBuilder script = new StringBuilder("alert before insert in t if year > 1000 and name = 'x' or year < 0;\n");
+
+        for(int i = 0; i < 300; i++) {
+            script.append("insert into t (name, year) values ('").append(i % 2 == 0 ? "x" : "y").append("', 2000);\n");
+        }
+
+        SQLPlusDryRun dryRun = new SQLPlusDryRun(2);
+        dryRun.run(new BufferedReader(new StringReader(script.toString())));
+
+        // year > 1000 is true for every row, so name = 'x' rules out more rows and runs first, while year < 0 is never
+        // true, so the AND decides the OR more often
+        Assert.assertEquals(300, dryRun.getEvaluations(0));
+        Assert.assertEquals(150, dryRun.getMatches(0));
+        Assert.assertEquals("name = 'x' AND year > 1000 OR year < 0", dryRun.getOrder(0));
+        Assert.assertTrue(dryRun.getReport().contains(", order name = 'x' AND year > 1000 OR year < 0"));
+    }
+
+    @Test
+    public void testRunAlertUnsatisfiable() throws IOException {
+        SQLPlusDryRun dryRun = new SQLPlusDryRun(2);
+        dryRun.run(new BufferedReader(new StringReader("alert before insert in t if year > 2000 and year < 1000;\n"
+                + "insert into t (name, year) values ('a', 1500), ('b', 2500);\n"
+                + "insert into t (name, year) values ('c', 1500);\n")));
+
+        Assert.assertEquals(0, dryRun.getEvaluations(0));
+        Assert.assertEquals(2, dryRun.getPruned(0));
+        Assert.assertTrue(dryRun.getReport().contains("IF year > 2000 AND year < 1000 (unsatisfiable): 0 matches"));
+    }
+
+    @Test
+    public void testRunAlertUpdateWithoutFixture() throws IOException {
+        SQLPlusDryRun dryRun = new SQLPlusDryRun();
+        dryRun.run(new BufferedReader(new StringReader("alert after update in t if year > 2000;\n"
+                + "update t set year = 2010;\n")));
+
+        Assert.assertEquals(0, dryRun.getEvaluations(0));
+        Assert.assertEquals(1, dryRun.getSkipped(0));
+    }
+
+    @Test
+    public void testRunUnsupported() throws IOException {
+        SQLPlusDryRun dryRun = new SQLPlusDryRun();
+        dryRun.run(new BufferedReader(new StringReader("select name from classes, classes;")));
+
+        Assert.assertEquals(1, dryRun.getStatements());
+        Assert.assertEquals(0, dryRun.getStatementCount("StatementSelectExpression"));
+    }
+
+    @Test
+    public void testGetReport() throws IOException {
+        SQLPlusDryRun dryRun = new SQLPlusDryRun();
+        dryRun.run(new BufferedReader(new StringReader(TestSQLPlusDryRun.SCRIPT)));
+
+        String report = dryRun.getReport();
+
+        Assert.assertTrue(report.contains("5 statements parsed"));
+        Assert.assertTrue(report.contains("p99"));
+    }
+
+    @Test
+    public void testGetReportEmpty() {
+        SQLPlusDryRun dryRun = new SQLPlusDryRun();
+
+        Assert.assertTrue(dryRun.getReport().contains("0 statements parsed"));
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.util.Arrays;
+
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementDML;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Test AdaptiveCondition
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class TestAdaptiveCondition {
+
+    private static final int ROWS = 4 * AdaptiveCondition.REOPTIMIZE_INTERVAL;
+
+    private static Expression whereClause(String condition) throws RecognitionException {
+        return ((StatementDML) new SessionParser().parse("select * from t where " + condition + ";")).getWhereClause();
+    }
+
+    /**
+     * Return rows where a is always 1, b is 1 in one row out of ten and c is NULL in one row out of three.
+     */
+    private static ValuesRow rows() {
+        ColumnarValues values = new ColumnarValues();
+
+        for(int i = 0; i < TestAdaptiveCondition.ROWS; i++) {
+            values.add("1");
+            values.add(i % 10 == 0 ? "1" : "0");
+            values.add(i % 3 == 0 ? "null" : String.valueOf(i));
+            values.endRow();
+        }
+
+        return new ValuesRow(Arrays.asList("a", "b", "c"), values);
+    }
+
+    @Test
+    public void testEvalBoolean() throws RecognitionException {
+        String[] conditions = { "a = 1 and b = 1", "b = 1 or c > 5", "c > 5 and b = 0 or a = 2",
+                "a = 1 and b = 1 or c < 100 and c is not null", "c > 5 or c < 5 or b = 1", "a = 1" };
+        ValuesRow row = TestAdaptiveCondition.rows();
+
+        for(String text : conditions) {
+            Expression expression = TestAdaptiveCondition.whereClause(text);
+            AdaptiveCondition condition = new AdaptiveCondition(expression);
+
+            for(int i = 0; i < TestAdaptiveCondition.ROWS; i++) {
+                row.setRow(i);
+                boolean expected = expression.evalBoolean(row);
+                boolean expectedNull = row.wasNull();
+
+                Assert.assertEquals(text + " in row " + i, expected, condition.evalBoolean(row));
+                Assert.assertEquals(text + " in row " + i, expectedNull, row.wasNull());
+            }
+        }
+    }
+
+    @Test
+    public void testReorderAnd() throws RecognitionException {
+        AdaptiveCondition condition = new AdaptiveCondition(TestAdaptiveCondition.whereClause("a = 1 and b = 1"));
+        ValuesRow row = TestAdaptiveCondition.rows();
+        Assert.assertEquals("a = 1 AND b = 1", condition.getCondition().toSQL());
+
+        for(int i = 0; i < TestAdaptiveCondition.ROWS; i++) {
+            row.setRow(i);
+            condition.evalBoolean(row);
+        }
+
+        // a = 1 never rules out a row, while b = 1 rules out nine rows out of ten
+        Assert.assertEquals("b = 1 AND a = 1", condition.getCondition().toSQL());
+        Assert.assertEquals("b = 1", condition.getOrder().get(0).toSQL());
+    }
+
+    @Test
+    public void testReorderOr() throws RecognitionException {
+        AdaptiveCondition condition = new AdaptiveCondition(TestAdaptiveCondition.whereClause(
+                "b = 1 or c = 0 and a = 0 or a = 1"));
+        ValuesRow row = TestAdaptiveCondition.rows();
+
+        for(int i = 0; i < TestAdaptiveCondition.ROWS; i++) {
+            row.setRow(i);
+            Assert.assertTrue(condition.evalBoolean(row));
+        }
+
+        Assert.assertEquals("a = 1", condition.getOrder().get(0).toSQL());
+        Assert.assertEquals(3, condition.getOrder().size());
+        Assert.assertTrue(condition.getCondition().toSQL().startsWith("a = 1 OR "));
+    }
+
+    @Test
+    public void testNestedChain() throws RecognitionException {
+        AdaptiveCondition condition = new AdaptiveCondition(TestAdaptiveCondition.whereClause(
+                "a = 2 or c > 5 and b = 1"));
+        ValuesRow row = TestAdaptiveCondition.rows();
+
+        for(int i = 0; i < TestAdaptiveCondition.ROWS; i++) {
+            row.setRow(i);
+            condition.evalBoolean(row);
+        }
+
+        Assert.assertEquals("b = 1 AND c > 5 OR a = 2", condition.getCondition().toSQL());
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.StatementDefault;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Test ColumnarValues
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class TestColumnarValues {
+
+    @Test
+    public void testAdd() {
+        ColumnarValues values = new ColumnarValues();
+        int rows = 1000;
+
+        for(int i = 0; i < rows; i++) {
+            Assert.assertTrue(values.add(String.valueOf(i)));
+            Assert.assertTrue(values.add(i % 2 == 0 ? "null" : "'" + i + "'"));
+            Assert.assertTrue(values.add(i % 3 == 0 ? "1.5e1" : "-2.25"));
+            Assert.assertTrue(values.endRow());
+        }
+
+        Assert.assertEquals(rows, values.getRowCount());
+        Assert.assertEquals(3, values.getColumnCount());
+
+        for(int i = 0; i < rows; i++) {
+            Assert.assertEquals(i, values.getLong(i, 0));
+            Assert.assertEquals(i % 2 == 0, values.isNull(i, 1));
+
+            if(i % 2 != 0) {
+                Assert.assertEquals(String.valueOf(i), values.getString(i, 1));
+            }
+
+            if(i % 3 == 0) {
+                Assert.assertEquals(ExpressionLiteral.Type.DOUBLE, values.getType(i, 2));
+                Assert.assertEquals(15.0, values.getDouble(i, 2), 0);
+            }
+            else {
+                Assert.assertEquals(new BigDecimal("-2.25"), values.getDecimal(i, 2));
+            }
+        }
+    }
+
+    @Test
+    public void testRowSize() {
+        ColumnarValues values = new ColumnarValues();
+        values.add("1");
+        values.add("2");
+        values.endRow();
+        values.add("3");
+
+        Assert.assertFalse(values.endRow());
+        Assert.assertTrue(values.add("4"));
+        Assert.assertFalse(values.add("5"));
+    }
+
+    @Test
+    public void testBind() {
+        ColumnarValues values = new ColumnarValues();
+        values.add("- 1");
+        values.add("'a'");
+        values.add("true");
+        values.add("c");
+        values.endRow();
+
+        ColumnarValues bound = values.bind(Arrays.asList("2", "'b'").iterator());
+
+        Assert.assertEquals(-2, bound.getLong(0, 0));
+        Assert.assertEquals("b", bound.getString(0, 1));
+        Assert.assertTrue(bound.getLong(0, 2) == 1);
+        Assert.assertEquals("c", bound.getExpression(0, 3));
+    }
+
+    @Test
+    public void testParse() throws RecognitionException {
+        SessionParser parser = new SessionParser();
+        ColumnarValues values = ((StatementInsertStatement1) parser.parse("insert into t values (1, 'a'), (2, null);"))
+                .getValues();
+
+        Assert.assertEquals(2, values.getRowCount());
+        Assert.assertEquals(2, values.getLong(1, 0));
+        Assert.assertTrue(values.isNull(1, 1));
+        Assert.assertTrue(parser.parseStatement("insert into t values (1, 'a'), (2);") instanceof StatementDefault);
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementDML;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSingleTableUpdateStatement;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Test the evaluation of expressions
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.4
+ */
+public class TestExpressionEval {
+
+    /**
+     * Row with the values kept in maps.
+     */
+    private static class MapRow extends RowAccessor {
+        private Map<String, ExpressionLiteral.Type> types = new HashMap<String, ExpressionLiteral.Type>();
+        private Map<String, Object> values = new HashMap<String, Object>();
+
+        private MapRow put(String column, ExpressionLiteral.Type type, Object value) {
+            this.types.put(column, type);
+            this.values.put(column, value);
+
+            return this;
+        }
+
+        @Override
+        public ExpressionLiteral.Type getType(String column) { return this.types.get(column); }
+
+        @Override
+        public long getLong(String column) {
+            Object value = this.values.get(column);
+            this.setWasNull(value == null);
+
+            return value == null ? 0 : (Long) value;
+        }
+
+        @Override
+        public double getDouble(String column) {
+            Object value = this.values.get(column);
+            this.setWasNull(value == null);
+
+            return value == null ? 0 : (Double) value;
+        }
+
+        @Override
+        public BigDecimal getDecimal(String column) {
+            Object value = this.values.get(column);
+            this.setWasNull(value == null);
+
+            return (BigDecimal) value;
+        }
+
+        @Override
+        public String getString(String column) {
+            Object value = this.values.get(column);
+            this.setWasNull(value == null);
+
+            return (String) value;
+        }
+    }
+
+    private static MapRow row() {
+        return new MapRow().put("id", ExpressionLiteral.Type.LONG, 150L)
+                .put("price", ExpressionLiteral.Type.DECIMAL, new BigDecimal("9.99"))
+                .put("weight", ExpressionLiteral.Type.DOUBLE, 2.5)
+                .put("name", ExpressionLiteral.Type.STRING, "widget")
+                .put("code", ExpressionLiteral.Type.STRING, "42abc")
+                .put("active", ExpressionLiteral.Type.BOOLEAN, 1L)
+                .put("missing", ExpressionLiteral.Type.LONG, null);
+    }
+
+    private static Expression whereClause(String condition) throws RecognitionException {
+        return ((StatementDML) new SessionParser().parse("select * from t where " + condition + ";")).getWhereClause();
+    }
+
+    /**
+     * Evaluate a condition and return TRUE, FALSE or NULL.
+     */
+    private static String eval(String condition) throws RecognitionException {
+        RowAccessor row = TestExpressionEval.row();
+        boolean value = TestExpressionEval.whereClause(condition).evalBoolean(row);
+
+        if(row.wasNull()) {
+            Assert.assertFalse(value);
+            return "NULL";
+        }
+
+        return value ? "TRUE" : "FALSE";
+    }
+
+    @Test
+    public void testComparisons() throws RecognitionException {
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("id = 150"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("id > 100 and id <= 150"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("price < 10"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("price = 9.990"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("weight >= 2.5e0 and weight <> 2"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("name = 'widget' and name > 'apple'"));
+        Assert.assertEquals("FALSE", TestExpressionEval.eval("name = 'Widget'"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("active = true and active"));
+    }
+
+    @Test
+    public void testCoercion() throws RecognitionException {
+        // Strings compared with numbers are read as numbers from their numeric prefix
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("code = 42"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("name = 0"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("id = '150'"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("'1e2' = 100"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("code"));
+        Assert.assertEquals("FALSE", TestExpressionEval.eval("name"));
+
+        RowAccessor row = TestExpressionEval.row();
+        Assert.assertEquals(10, ExpressionFactory.column("price").evalLong(row));
+        Assert.assertEquals(3, ExpressionFactory.literal("2.5e0").evalLong(row));
+        Assert.assertEquals(-3, ExpressionFactory.literal("-2.5").evalLong(row));
+        Assert.assertEquals("150", ExpressionFactory.column("id").evalString(row));
+        Assert.assertEquals("2.5", ExpressionFactory.column("weight").evalString(row));
+        Assert.assertEquals(42.0, ExpressionFactory.column("code").evalDouble(row), 0);
+    }
+
+    @Test
+    public void testThreeValuedLogic() throws RecognitionException {
+        Assert.assertEquals("NULL", TestExpressionEval.eval("missing = 1"));
+        Assert.assertEquals("NULL", TestExpressionEval.eval("not missing = 1"));
+        Assert.assertEquals("NULL", TestExpressionEval.eval("missing = 1 and id = 150"));
+        Assert.assertEquals("FALSE", TestExpressionEval.eval("missing = 1 and id = 1"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("missing = 1 or id = 150"));
+        Assert.assertEquals("NULL", TestExpressionEval.eval("missing = 1 or id = 1"));
+        Assert.assertEquals("NULL", TestExpressionEval.eval("missing = 1 xor id = 150"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("id = 150 xor id = 1"));
+        Assert.assertEquals("NULL", TestExpressionEval.eval("id = null"));
+        Assert.assertEquals("FALSE", TestExpressionEval.eval("null and false"));
+    }
+
+    @Test
+    public void testInAndBetween() throws RecognitionException {
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("id in (1, 150, 3)"));
+        Assert.assertEquals("FALSE", TestExpressionEval.eval("id not in (1, 150, 3)"));
+        Assert.assertEquals("NULL", TestExpressionEval.eval("id in (1, null)"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("id in (1, null, 150)"));
+        Assert.assertEquals("NULL", TestExpressionEval.eval("missing in (1, 2)"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("name in ('gadget', 'widget')"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("weight in (1, 2.5)"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("id between 100 and 200"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("id not between 1 and 149"));
+        Assert.assertEquals("FALSE", TestExpressionEval.eval("id between 200 and null"));
+        Assert.assertEquals("NULL", TestExpressionEval.eval("id between 100 and null"));
+    }
+
+    @Test
+    public void testLike() {
+        Assert.assertTrue(TypeCoercion.like("widget", "w%t"));
+        Assert.assertTrue(TypeCoercion.like("widget", "_idg%"));
+        Assert.assertTrue(TypeCoercion.like("widget", "%"));
+        Assert.assertTrue(TypeCoercion.like("50%", "50\\%"));
+        Assert.assertFalse(TypeCoercion.like("500", "50\\%"));
+        Assert.assertFalse(TypeCoercion.like("widget", "w%x"));
+        Assert.assertTrue(TypeCoercion.like("abcabd", "%abd"));
+
+        RowAccessor row = TestExpressionEval.row();
+        Assert.assertTrue(ExpressionFactory.binary("like", ExpressionFactory.column("name"),
+                ExpressionFactory.literal("'wid%'")).evalBoolean(row));
+    }
+
+    @Test
+    public void testEval() {
+        RowAccessor row = TestExpressionEval.row();
+
+        Assert.assertEquals(150L, ExpressionFactory.column("id").eval(row));
+        Assert.assertEquals(new BigDecimal("9.99"), ExpressionFactory.column("price").eval(row));
+        Assert.assertNull(ExpressionFactory.column("missing").eval(row));
+        Assert.assertTrue(row.wasNull());
+        Assert.assertEquals(1L, ExpressionFactory.binary("=", ExpressionFactory.column("id"),
+                ExpressionFactory.literal("150")).eval(row));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSubqueryNotEvaluable() throws RecognitionException {
+        TestExpressionEval.whereClause("id > (select id from u)").evalBoolean(TestExpressionEval.row());
+    }
+
+    @Test
+    public void testGreaterThanEqual() {
+        Assert.assertTrue(ExpressionFactory.binary(">=", ExpressionFactory.column("id"),
+                ExpressionFactory.literal("150")).evalBoolean(TestExpressionEval.row()));
+    }
+
+    @Test
+    public void testValuesRow() throws RecognitionException {
+        StatementInsertStatement1 insert = (StatementInsertStatement1) new SessionParser().parse(
+                "insert into t (id, Name, price) values (150, 'widget', null), (1, 'gadget', 9.99);");
+        ValuesRow row = new ValuesRow(insert.getColumns(), insert.getValues());
+
+        Assert.assertTrue(TestExpressionEval.whereClause("id = 150 and t.name = 'widget'").evalBoolean(row));
+        Assert.assertFalse(TestExpressionEval.whereClause("price = 1").evalBoolean(row));
+        Assert.assertTrue(row.wasNull());
+        Assert.assertFalse(TestExpressionEval.whereClause("missing = 1").evalBoolean(row));
+        Assert.assertTrue(row.wasNull());
+
+        row.setRow(1);
+        Assert.assertTrue(TestExpressionEval.whereClause("id < 150 and name = 'gadget'").evalBoolean(row));
+        Assert.assertTrue(TestExpressionEval.whereClause("price < 10").evalBoolean(row));
+    }
+
+    @Test
+    public void testAssignedRow() throws RecognitionException {
+        StatementSingleTableUpdateStatement update = (StatementSingleTableUpdateStatement) new SessionParser().parse(
+                "update t set id = 2010, missing = id where id = 150;");
+        AssignedRow row = new AssignedRow(update.getColumnValues());
+        row.setRow(TestExpressionEval.row());
+
+        Assert.assertTrue(TestExpressionEval.whereClause("id = 2010 and missing = 150").evalBoolean(row));
+        Assert.assertTrue(TestExpressionEval.whereClause("name = 'widget'").evalBoolean(row));
+        Assert.assertEquals(2010L, ExpressionFactory.column("id").eval(row));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownOperator() {
+        ExpressionFactory.binary("<=>", ExpressionFactory.column("id"), ExpressionFactory.literal("150"));
+    }
+
+    @Test
+    public void testIs() throws RecognitionException {
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("missing is null"));
+        Assert.assertEquals("FALSE", TestExpressionEval.eval("missing is not null"));
+        Assert.assertEquals("FALSE", TestExpressionEval.eval("id is null"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("id is not null and id is true"));
+        Assert.assertEquals("FALSE", TestExpressionEval.eval("missing is true or missing is false"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("missing = 1 is null"));
+        Assert.assertEquals("TRUE", TestExpressionEval.eval("id = 1 is false and name is not true"));
+        Assert.assertEquals("FALSE", TestExpressionEval.eval("not id > 100 is true"));
+    }
+}
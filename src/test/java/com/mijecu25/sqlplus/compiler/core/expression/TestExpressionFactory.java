@@ -0,0 +1,103 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Test ExpressionFactory
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class TestExpressionFactory {
+
+    @Test
+    public void testIntern() {
+        Expression left = ExpressionFactory.binary("=", ExpressionFactory.column("a"), ExpressionFactory.literal("1"));
+        Expression right = ExpressionFactory.binary("=", ExpressionFactory.column("a"), ExpressionFactory.literal("1"));
+
+        Assert.assertSame(left, right);
+        Assert.assertNotSame(left, ExpressionFactory.binary("=", ExpressionFactory.column("a"), ExpressionFactory.literal("2")));
+        Assert.assertNotSame(ExpressionFactory.column("1"), ExpressionFactory.literal("1"));
+    }
+
+    @Test
+    public void testEquals() {
+        Expression interned = ExpressionFactory.binary("<", ExpressionFactory.column("b"), ExpressionFactory.literal("'x'"));
+        Expression created = new ExpressionBinary("<", new ExpressionColumn("b"), new ExpressionLiteral("'x'"));
+
+        Assert.assertEquals(interned, created);
+        Assert.assertEquals(interned.hashCode(), created.hashCode());
+        Assert.assertSame(interned, ExpressionFactory.intern(created));
+    }
+
+    @Test
+    public void testParse() throws RecognitionException {
+        SessionParser parser = new SessionParser();
+        StatementSelectExpression first = (StatementSelectExpression) parser.parse("select * from t where a = 1 and b = 'x';");
+        StatementSelectExpression second = (StatementSelectExpression) parser.parse("select c from u where a = 1 and b = 'x';");
+
+        Assert.assertSame(first.getWhereClause(), second.getWhereClause());
+    }
+
+    @Test
+    public void testBind() {
+        Expression template = ExpressionFactory.binary("=", ExpressionFactory.column("a"), ExpressionFactory.literal("1"));
+
+        Assert.assertSame(template, template.bind(Arrays.asList("1").iterator()));
+    }
+
+    @Test
+    public void testInternIn() {
+        List<Expression> values = new ArrayList<Expression>(Arrays.asList(ExpressionFactory.literal("1"),
+                ExpressionFactory.literal("2")));
+        Expression in = ExpressionFactory.in(ExpressionFactory.column("a"), values, false);
+        values.add(ExpressionFactory.literal("3"));
+
+        Assert.assertSame(in, ExpressionFactory.in(ExpressionFactory.column("a"), Arrays.asList(
+                ExpressionFactory.literal("1"), ExpressionFactory.literal("2")), false));
+        Assert.assertNotSame(in, ExpressionFactory.in(ExpressionFactory.column("a"), values, false));
+        Assert.assertNotSame(in, ExpressionFactory.in(ExpressionFactory.column("a"), Arrays.asList(
+                ExpressionFactory.literal("1"), ExpressionFactory.literal("2")), true));
+    }
+
+    @Test
+    public void testConcurrentIntern() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Expression>> futures = new ArrayList<Future<Expression>>();
+
+        try {
+            for(int i = 0; i < 16; i++) {
+                futures.add(executor.submit(new Callable<Expression>() {
+                    @Override
+                    public Expression call() {
+                        return ExpressionFactory.binary("and", ExpressionFactory.binary("=",
+                                ExpressionFactory.column("concurrent"), ExpressionFactory.literal("1")),
+                                ExpressionFactory.between(ExpressionFactory.column("b"), ExpressionFactory.literal("1"),
+                                        ExpressionFactory.literal("9"), false));
+                    }
+                }));
+            }
+
+            for(Future<Expression> future : futures) {
+                Assert.assertSame(futures.get(0).get(), future.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+}
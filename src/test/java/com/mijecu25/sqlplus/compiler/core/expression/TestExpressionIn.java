@@ -0,0 +1,108 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Test ExpressionIn and ExpressionBetween
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class TestExpressionIn {
+
+    private static List<Expression> literals(String... values) {
+        List<Expression> literals = new ArrayList<Expression>();
+
+        for(String value : values) {
+            literals.add(ExpressionFactory.literal(value));
+        }
+
+        return literals;
+    }
+
+    @Test
+    public void testContainsLongSorted() {
+        ExpressionIn in = new ExpressionIn(ExpressionFactory.column("a"), TestExpressionIn.literals("5", "-1", "3"), false);
+
+        Assert.assertTrue(in.isLongList());
+        Assert.assertTrue(in.containsLong(-1));
+        Assert.assertTrue(in.containsLong(5));
+        Assert.assertFalse(in.containsLong(4));
+        Assert.assertFalse(in.containsNull());
+    }
+
+    @Test
+    public void testContainsLongHashed() {
+        List<String> values = new ArrayList<String>();
+
+        for(int i = 0; i < 1000; i++) {
+            values.add(String.valueOf(i * 7));
+        }
+
+        values.add("null");
+        ExpressionIn in = new ExpressionIn(ExpressionFactory.column("a"),
+                TestExpressionIn.literals(values.toArray(new String[values.size()])), true);
+
+        for(int i = 0; i < 7000; i++) {
+            Assert.assertEquals(i % 7 == 0, in.containsLong(i));
+        }
+
+        Assert.assertTrue(in.containsLong(0));
+        Assert.assertFalse(in.containsLong(-7));
+        Assert.assertTrue(in.containsNull());
+        Assert.assertTrue(in.isNegated());
+    }
+
+    @Test
+    public void testContainsString() {
+        ExpressionIn in = new ExpressionIn(ExpressionFactory.column("a"), TestExpressionIn.literals("'x'", "\"y\""), false);
+
+        Assert.assertTrue(in.isStringList());
+        Assert.assertFalse(in.isLongList());
+        Assert.assertTrue(in.containsString("y"));
+        Assert.assertFalse(in.containsString("z"));
+    }
+
+    @Test
+    public void testMixed() {
+        ExpressionIn in = new ExpressionIn(ExpressionFactory.column("a"), TestExpressionIn.literals("1", "'x'"), false);
+
+        Assert.assertFalse(in.isLongList());
+        Assert.assertFalse(in.isStringList());
+        Assert.assertEquals(2, in.getValues().size());
+    }
+
+    @Test
+    public void testParse() throws RecognitionException {
+        SessionParser parser = new SessionParser();
+        StatementSelectExpression statement = (StatementSelectExpression) parser.parse(
+                "select * from t where a not in (1, 2, 3) and b between 1 and 10;");
+        ExpressionBinary and = (ExpressionBinary) statement.getWhereClause();
+
+        Assert.assertEquals("and(notina(1,2,3))(betweenb(1,10))", and.toString());
+        Assert.assertTrue(statement.getWhereClause().toString().contains("notina(1,2,3)"));
+    }
+
+    @Test
+    public void testParseStatement() {
+        SessionParser parser = new SessionParser();
+        parser.parseStatement("select * from t where a in (1, 2) and b between 'a' and 'c';");
+        Statement statement = parser.parseStatement("select * from t where a in (3, 4) and b between 'd' and 'f';");
+
+        Assert.assertEquals(1, parser.getParseCache().getHits());
+        Assert.assertEquals(((StatementSelectExpression) statement).getWhereClause(), ((StatementSelectExpression) parser
+                .parseStatement("select * from t where a in (3, 5) and b between 'd' and 'f';")).getWhereClause().bind(
+                        Arrays.asList("3", "4", "'d'", "'f'").iterator()));
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Test ExpressionLiteral
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class TestExpressionLiteral {
+
+    @Test
+    public void testLong() {
+        ExpressionLiteral literal = new ExpressionLiteral("- 42");
+
+        Assert.assertEquals(ExpressionLiteral.Type.LONG, literal.getType());
+        Assert.assertEquals(-42, literal.getLong());
+        Assert.assertEquals(-42.0, literal.getDouble(), 0);
+        Assert.assertEquals("- 42", literal.toString());
+
+        Assert.assertEquals(Long.MIN_VALUE, new ExpressionLiteral("-9223372036854775808").getLong());
+        Assert.assertEquals(ExpressionLiteral.Type.DECIMAL, new ExpressionLiteral("9223372036854775808").getType());
+    }
+
+    @Test
+    public void testDecimal() {
+        ExpressionLiteral literal = new ExpressionLiteral("-1.50");
+
+        Assert.assertEquals(ExpressionLiteral.Type.DECIMAL, literal.getType());
+        Assert.assertEquals(new BigDecimal("-1.50"), literal.getDecimal());
+        Assert.assertEquals(new BigDecimal(".5"), new ExpressionLiteral(".5").getDecimal());
+    }
+
+    @Test
+    public void testDouble() {
+        ExpressionLiteral literal = new ExpressionLiteral("1.5e3");
+
+        Assert.assertEquals(ExpressionLiteral.Type.DOUBLE, literal.getType());
+        Assert.assertEquals(1500.0, literal.getDouble(), 0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testLongOfDouble() {
+        new ExpressionLiteral("1e3").getLong();
+    }
+
+    @Test
+    public void testString() {
+        Assert.assertEquals(ExpressionLiteral.Type.STRING, new ExpressionLiteral("'a'").getType());
+        Assert.assertEquals("a b", new ExpressionLiteral("'a b'").getString());
+        Assert.assertEquals("", new ExpressionLiteral("\"\"").getString());
+        Assert.assertEquals("a\tb\nc\\d\\%", new ExpressionLiteral("'a\\tb\\nc\\\\d\\%'").getString());
+    }
+
+    @Test
+    public void testUnquote() {
+        Assert.assertEquals("it's", ExpressionLiteral.unquote("'it''s'"));
+        Assert.assertEquals("say \"hi\"", ExpressionLiteral.unquote("\"say \\\"hi\\\"\""));
+    }
+
+    @Test
+    public void testBooleanAndNull() {
+        Assert.assertTrue(new ExpressionLiteral("TRUE").getBoolean());
+        Assert.assertEquals(0, new ExpressionLiteral("false").getLong());
+        Assert.assertTrue(new ExpressionLiteral("null").isNull());
+        Assert.assertEquals(ExpressionLiteral.Type.DEFAULT, new ExpressionLiteral("DEFAULT").getType());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotLiteral() {
+        new ExpressionLiteral("name");
+    }
+
+    @Test
+    public void testBind() {
+        Expression bound = new ExpressionLiteral("-1").bind(Arrays.asList("2.5").iterator());
+
+        Assert.assertEquals(ExpressionLiteral.Type.DECIMAL, ((ExpressionLiteral) bound).getType());
+        Assert.assertEquals(new BigDecimal("-2.5"), ((ExpressionLiteral) bound).getDecimal());
+    }
+
+    @Test
+    public void testParse() throws RecognitionException {
+        SessionParser parser = new SessionParser();
+        StatementSelectExpression statement = (StatementSelectExpression) parser.parse("select * from t where a = null;");
+
+        Assert.assertEquals("=anull", statement.getWhereClause().toString());
+    }
+
+    @Test
+    public void testDoubleOutOfRange() {
+        ExpressionLiteral literal = new ExpressionLiteral("- 1e400");
+
+        Assert.assertEquals(ExpressionLiteral.Type.DECIMAL, literal.getType());
+        Assert.assertEquals(new BigDecimal("-1e400"), literal.getDecimal());
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, literal.getDouble(), 0);
+        Assert.assertEquals(0.0, new ExpressionLiteral("1e-400").getDouble(), 0);
+    }
+}
@@ -0,0 +1,147 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementDML;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Test ExpressionSimplifier
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.3
+ */
+public class TestExpressionSimplifier {
+
+    private static Expression whereClause(String condition) throws RecognitionException {
+        return ((StatementDML) new SessionParser().parse("select * from t where " + condition + ";")).getWhereClause();
+    }
+
+    private static String simplify(String condition) throws RecognitionException {
+        return ExpressionSimplifier.simplify(TestExpressionSimplifier.whereClause(condition)).toSQL();
+    }
+
+    @Test
+    public void testWrappers() throws RecognitionException {
+        Expression expression = ExpressionSimplifier.simplify(TestExpressionSimplifier.whereClause("a = 1"));
+
+        Assert.assertTrue(expression instanceof ExpressionBinary);
+        Assert.assertEquals("=", ((ExpressionBinary) expression).getRelationalOperator());
+        Assert.assertTrue(((ExpressionBinary) expression).getLeftExpression() instanceof ExpressionColumn);
+        Assert.assertNull(ExpressionSimplifier.simplify(null));
+    }
+
+    @Test
+    public void testFoldComparisons() throws RecognitionException {
+        Assert.assertEquals("a = 2", TestExpressionSimplifier.simplify("1 = 1 and a = 2"));
+        Assert.assertEquals("FALSE", TestExpressionSimplifier.simplify("1 = 1.5 and a = 2"));
+        Assert.assertEquals("a = 2", TestExpressionSimplifier.simplify("1 > 2 or a = 2"));
+        Assert.assertEquals("TRUE", TestExpressionSimplifier.simplify("2.5e0 >= 2.50 or a = 2"));
+        Assert.assertEquals("NULL", TestExpressionSimplifier.simplify("a = null"));
+        Assert.assertEquals("'a' = 'A'", TestExpressionSimplifier.simplify("'a' = 'A'"));
+    }
+
+    @Test
+    public void testNot() throws RecognitionException {
+        Assert.assertEquals("a <> 1 AND b >= 2", TestExpressionSimplifier.simplify("not a = 1 and ! b < 2"));
+        Assert.assertEquals("a NOT IN (1, 2) OR b BETWEEN 1 AND 2",
+                TestExpressionSimplifier.simplify("not a in (1, 2) or not b not between 1 and 2"));
+        Assert.assertEquals("TRUE", TestExpressionSimplifier.simplify("not false"));
+        Assert.assertEquals("NOT a > ALL (select b from u)",
+                TestExpressionSimplifier.simplify("not a > all (select b from u)"));
+    }
+
+    @Test
+    public void testNestedNot() {
+        Expression a = ExpressionFactory.binary("=", ExpressionFactory.column("a"), ExpressionFactory.literal("1"));
+        Expression b = ExpressionFactory.binary("=", ExpressionFactory.column("b"), ExpressionFactory.literal("2"));
+
+        Assert.assertEquals("a = 1", ExpressionSimplifier.simplify(ExpressionFactory.binary("not", null,
+                ExpressionFactory.binary("!", null, a))).toSQL());
+        Assert.assertEquals("NOT (a = 1 OR b = 2)", ExpressionSimplifier.simplify(ExpressionFactory.binary("not", null,
+                ExpressionFactory.binary("or", a, b))).toSQL());
+    }
+
+    @Test
+    public void testChains() throws RecognitionException {
+        Expression a = ExpressionFactory.binary("=", ExpressionFactory.column("a"), ExpressionFactory.literal("1"));
+        Expression b = ExpressionFactory.binary("=", ExpressionFactory.column("b"), ExpressionFactory.literal("2"));
+        Expression c = ExpressionFactory.binary("=", ExpressionFactory.column("c"), ExpressionFactory.literal("3"));
+        Expression and = ExpressionFactory.binary("and", ExpressionFactory.binary("and", a,
+                ExpressionFactory.binary("&&", b, ExpressionFactory.binary("and", c, a))), ExpressionFactory.literal("true"));
+        Expression or = ExpressionFactory.binary("or", ExpressionFactory.binary("or", a, ExpressionFactory.literal("false")),
+                ExpressionFactory.binary("||", b, a));
+
+        Assert.assertEquals("a = 1 AND b = 2 AND c = 3", ExpressionSimplifier.simplify(and).toSQL());
+        Assert.assertEquals("a = 1 OR b = 2", ExpressionSimplifier.simplify(or).toSQL());
+        Assert.assertEquals("a = 1 AND b = 2", TestExpressionSimplifier.simplify("a = 1 && b = 2 and a = 1"));
+        Assert.assertEquals("FALSE", TestExpressionSimplifier.simplify("a = 1 and null and 0"));
+        Assert.assertEquals("TRUE", TestExpressionSimplifier.simplify("a = 1 or 2"));
+        Assert.assertEquals("a = 1 AND NULL", TestExpressionSimplifier.simplify("a = 1 and null"));
+        Assert.assertEquals("TRUE", TestExpressionSimplifier.simplify("1 = 1 and true"));
+    }
+
+    @Test
+    public void testValuesKept() {
+        Expression a = ExpressionFactory.column("a");
+
+        // The value of a AND TRUE is 1, 0 or NULL, so the operator cannot be removed when the value is compared
+        Expression and = ExpressionFactory.binary("=", ExpressionFactory.binary("and", a, ExpressionFactory.literal("1")),
+                ExpressionFactory.literal("5"));
+        Assert.assertEquals("(a AND TRUE) = 5", ExpressionSimplifier.simplify(and).toSQL());
+
+        Expression not = ExpressionFactory.binary("=", ExpressionFactory.binary("not", null,
+                ExpressionFactory.binary("not", null, a)), ExpressionFactory.literal("5"));
+        Assert.assertEquals("(NOT NOT a) = 5", ExpressionSimplifier.simplify(not).toSQL());
+
+        Assert.assertEquals("a", ExpressionSimplifier.simplify(ExpressionFactory.binary("and", a,
+                ExpressionFactory.literal("true"))).toSQL());
+    }
+
+    @Test
+    public void testXor() throws RecognitionException {
+        Assert.assertEquals("FALSE", TestExpressionSimplifier.simplify("true xor 1"));
+        Assert.assertEquals("a <> 1", TestExpressionSimplifier.simplify("a = 1 xor true"));
+        Assert.assertEquals("a = 1", TestExpressionSimplifier.simplify("false xor a = 1"));
+        Assert.assertEquals("NULL", TestExpressionSimplifier.simplify("a = 1 xor null"));
+    }
+
+    @Test
+    public void testInAndBetween() throws RecognitionException {
+        Assert.assertEquals("a = 1", TestExpressionSimplifier.simplify("a in (1)"));
+        Assert.assertEquals("a <> 'x'", TestExpressionSimplifier.simplify("a not in ('x', 'x')"));
+        Assert.assertEquals("a IN (1, 2)", TestExpressionSimplifier.simplify("a in (1, 2, 1)"));
+        Assert.assertEquals("TRUE", TestExpressionSimplifier.simplify("2 in (1, 2.0)"));
+        Assert.assertEquals("TRUE", TestExpressionSimplifier.simplify("3 not in (1, 2)"));
+        Assert.assertEquals("FALSE", TestExpressionSimplifier.simplify("5 between 1 and 4"));
+        Assert.assertEquals("a = 2", TestExpressionSimplifier.simplify("1.5 between 1 and 2 and a = 2"));
+    }
+
+    @Test
+    public void testStatement() throws RecognitionException {
+        StatementDML statement = (StatementDML) new SessionParser().parse("update t set b = 1 where 1 = 1 and a = 2;");
+
+        Assert.assertEquals("a = 2", statement.getSimplifiedWhereClause().toSQL());
+        Assert.assertSame(statement.getSimplifiedWhereClause(), statement.getSimplifiedWhereClause());
+        Assert.assertNull(((StatementDML) new SessionParser().parse("update t set b = 1;")).getSimplifiedWhereClause());
+    }
+
+    @Test
+    public void testIs() throws RecognitionException {
+        Assert.assertEquals("a IS NULL AND a IS NOT NULL", TestExpressionSimplifier.simplify("a is null and a is not null"));
+        Assert.assertEquals("a IS NOT NULL", TestExpressionSimplifier.simplify("not a is null"));
+        Assert.assertEquals("a = 1", TestExpressionSimplifier.simplify("a = 1 is true"));
+        Assert.assertEquals("a = 1 IS NOT TRUE", TestExpressionSimplifier.simplify("a = 1 is not true"));
+        Assert.assertEquals("TRUE", TestExpressionSimplifier.simplify("null is null"));
+        Assert.assertEquals("FALSE", TestExpressionSimplifier.simplify("1 is false or null is true"));
+        Assert.assertEquals("TRUE", TestExpressionSimplifier.simplify("1 = 2 is not true"));
+    }
+
+    @Test
+    public void testDoubleOutOfRange() throws RecognitionException {
+        Assert.assertEquals("FALSE", TestExpressionSimplifier.simplify("1e400 < 1e300"));
+        Assert.assertEquals("a", TestExpressionSimplifier.simplify("1e400 and a"));
+    }
+}
@@ -0,0 +1,116 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Test SQLWriter
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.3
+ */
+public class TestSQLWriter {
+
+    private static Expression whereClause(String condition) throws RecognitionException {
+        return ((StatementSelectExpression) new SessionParser().parse("select * from t where " + condition + ";"))
+                .getWhereClause();
+    }
+
+    private static String write(String condition) throws RecognitionException {
+        return TestSQLWriter.whereClause(condition).toSQL();
+    }
+
+    @Test
+    public void testWrite() throws RecognitionException {
+        Assert.assertEquals("a = 1", TestSQLWriter.write("a=1"));
+        Assert.assertEquals("a <> 1 AND b <> 2", TestSQLWriter.write("a != 1 and b ^= 2"));
+        Assert.assertEquals("a = 1 OR b = 2 AND c = 3", TestSQLWriter.write("a = 1 || b = 2 && c = 3"));
+        Assert.assertEquals("a = 1 XOR NOT b = 2", TestSQLWriter.write("a = 1 xor ! b = 2"));
+        Assert.assertEquals("t.a IN (1, 2) AND b NOT BETWEEN 'x' AND 'y'",
+                TestSQLWriter.write("t.a in (1,2) and b not between 'x' and 'y'"));
+        Assert.assertEquals("a > ALL (select b from u) AND EXISTS (select * from v)",
+                TestSQLWriter.write("a > all (select b from u) and exists (select * from v)"));
+    }
+
+    @Test
+    public void testParentheses() {
+        Expression a = ExpressionFactory.column("a");
+        Expression b = ExpressionFactory.column("b");
+        Expression or = ExpressionFactory.binary("or", a, b);
+        Expression equal = ExpressionFactory.binary("=", a, b);
+        List<Expression> values = new ArrayList<Expression>();
+        values.add(ExpressionFactory.literal("1"));
+
+        Assert.assertEquals("(a OR b) AND a", ExpressionFactory.binary("and", or, a).toSQL());
+        Assert.assertEquals("a AND b OR a", ExpressionFactory.binary("or", ExpressionFactory.binary("and", a, b), a)
+                .toSQL());
+        Assert.assertEquals("a OR b OR a OR b", ExpressionFactory.binary("or", or, or).toSQL());
+        Assert.assertEquals("NOT (a OR b)", ExpressionFactory.binary("not", null, or).toSQL());
+        Assert.assertEquals("a = b = a", ExpressionFactory.binary("=", equal, a).toSQL());
+        Assert.assertEquals("a = (a = b)", ExpressionFactory.binary("=", a, equal).toSQL());
+        Assert.assertEquals("(a BETWEEN a AND b) = a",
+                ExpressionFactory.binary("=", ExpressionFactory.between(a, a, b, false), a).toSQL());
+        Assert.assertEquals("(a = b) IN (1)", ExpressionFactory.in(equal, values, false).toSQL());
+        Assert.assertEquals("a BETWEEN (a OR b) AND b", ExpressionFactory.between(a, or, b, false).toSQL());
+    }
+
+    @Test
+    public void testLiterals() throws RecognitionException {
+        Assert.assertEquals("a = 10 AND b = -5", TestSQLWriter.write("a = +10 and b = - 5"));
+        Assert.assertEquals("a = 1.50 AND b = 1000.0E0 AND c = 1.5E20",
+                TestSQLWriter.write("a = 1.50 and b = 1e3 and c = 1.5e20"));
+        Assert.assertEquals("a = TRUE AND b = FALSE AND c = NULL",
+                TestSQLWriter.write("a = true and b = FALSE and c = null"));
+        Assert.assertEquals("a = 'it\\'s' AND b = 'x\\\\y\\n'", TestSQLWriter.write("a = \"it's\" and b = 'x\\\\y\\n'"));
+    }
+
+    @Test
+    public void testRoundTrip() throws RecognitionException {
+        String[] conditions = { "a = 1 or b = 2 and not c = 3", "a in (1, 'x', null) xor b not between 1.5 and 2e3",
+                "a = 'back\\\\slash' and b <= -7", "a != true or b > c" };
+
+        for(String condition : conditions) {
+            Expression expression = TestSQLWriter.whereClause(condition);
+
+            Assert.assertEquals(expression.toSQL(), TestSQLWriter.whereClause(expression.toSQL()).toSQL());
+        }
+    }
+
+    @Test
+    public void testCache() throws RecognitionException {
+        Expression expression = TestSQLWriter.whereClause("a = 1 and b = 2");
+        String sql = expression.toSQL();
+
+        Assert.assertSame(sql, expression.toSQL());
+
+        StringBuilder builder = new StringBuilder("where ");
+        SQLWriter.append(expression, builder);
+        Assert.assertEquals("where a = 1 AND b = 2", builder.toString());
+    }
+
+    @Test
+    public void testIs() throws RecognitionException {
+        Assert.assertEquals("a IS NULL AND b IS NOT TRUE", TestSQLWriter.write("a is null and b is not true"));
+        Assert.assertEquals("a = 1 IS FALSE", TestSQLWriter.write("a = 1 is false"));
+        Assert.assertEquals("NOT a IS NOT NULL", TestSQLWriter.write("not a is not null"));
+
+        Expression a = ExpressionFactory.column("a");
+        Assert.assertEquals("(a BETWEEN 1 AND 2) IS TRUE", ExpressionFactory.is(ExpressionFactory.between(a,
+                ExpressionFactory.literal("1"), ExpressionFactory.literal("2"), false), ExpressionIs.Test.TRUE,
+                false).toSQL());
+        Assert.assertEquals("a = (a IS NULL)", ExpressionFactory.binary("=", a, ExpressionFactory.is(a,
+                ExpressionIs.Test.NULL, false)).toSQL());
+    }
+
+    @Test
+    public void testDoubleOutOfRange() throws RecognitionException {
+        Assert.assertEquals("a > 1E+400 AND b < -1.5E+400", TestSQLWriter.write("a > 1e400 and b < -1.5e400"));
+    }
+}
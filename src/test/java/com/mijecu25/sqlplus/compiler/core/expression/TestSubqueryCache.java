@@ -0,0 +1,201 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.StatementAlert;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementUseDatabase;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementDML;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
+import com.mijecu25.sqlplus.parser.SQLPlusLex;
+import com.mijecu25.sqlplus.parser.SQLPlusParser;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Test ExpressionSubquery and SubqueryCache
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.3
+ */
+public class TestSubqueryCache {
+
+    /**
+     * Cache that counts the executed subqueries instead of sending them to a server.
+     */
+    private static class CountingSubqueryCache extends SubqueryCache {
+        private int executions;
+        private long time;
+
+        private CountingSubqueryCache() {
+            super(16, 10, TimeUnit.SECONDS);
+            this.executions = 0;
+            this.time = 0;
+        }
+
+        @Override
+        protected List<Object[]> execute(ExpressionSubquery subquery, Connection connection) {
+            this.executions++;
+            List<Object[]> rows = new ArrayList<Object[]>();
+            rows.add(new Object[] { this.executions });
+
+            return rows;
+        }
+
+        @Override
+        protected long now() { return this.time; }
+    }
+
+    private static ExpressionSubquery parseSubquery(String query) throws RecognitionException {
+        StatementSelectExpression statement = (StatementSelectExpression) new SessionParser().parse(query);
+        Expression expression = statement.getWhereClause();
+
+        // The subquery is the rightmost child of the where clause
+        while(expression instanceof ExpressionBinary) {
+            expression = ((ExpressionBinary) expression).getRightExpression();
+        }
+
+        return (ExpressionSubquery) expression;
+    }
+
+    @Test
+    public void testParseScalar() throws RecognitionException {
+        ExpressionSubquery subquery = TestSubqueryCache.parseSubquery(
+                "select * from items where price > (select avg_price from prices);");
+
+        Assert.assertEquals(ExpressionSubquery.Type.SCALAR, subquery.getType());
+        Assert.assertEquals("select avg_price from prices", subquery.getQuery());
+        Assert.assertEquals("prices", subquery.getTables().get(0));
+        Assert.assertFalse(subquery.isCorrelated());
+    }
+
+    @Test
+    public void testParseQuantified() throws RecognitionException {
+        Assert.assertEquals(ExpressionSubquery.Type.ALL, TestSubqueryCache.parseSubquery(
+                "select * from t where a > all (select b from u where c = 1);").getType());
+        Assert.assertEquals(ExpressionSubquery.Type.ANY, TestSubqueryCache.parseSubquery(
+                "select * from t where a = ANY (select b from u);").getType());
+
+        ExpressionSubquery exists = TestSubqueryCache.parseSubquery(
+                "select * from t where not exists (select * from u);");
+        Assert.assertEquals(ExpressionSubquery.Type.EXISTS, exists.getType());
+        Assert.assertEquals("exists(select * from u)", exists.toString());
+    }
+
+    @Test
+    public void testCorrelated() throws RecognitionException {
+        Assert.assertTrue(TestSubqueryCache.parseSubquery(
+                "select * from t where a in (1) and b = any (select c from u where u.d = t.d);").isCorrelated());
+        Assert.assertTrue(TestSubqueryCache.parseSubquery(
+                "select * from t where exists (select t.a from u);").isCorrelated());
+        Assert.assertTrue(TestSubqueryCache.parseSubquery(
+                "select * from t where exists (select * from u where exists (select * from v where v.a = t.a));")
+                .isCorrelated());
+        Assert.assertFalse(TestSubqueryCache.parseSubquery(
+                "select * from t where exists (select * from db.u where db.u.a = u.b and a between 1 and 2);")
+                .isCorrelated());
+    }
+
+    @Test
+    public void testNotTemplate() {
+        SessionParser parser = new SessionParser();
+        parser.parseStatement("select * from t where a > (select b from u where c = 1);");
+        parser.parseStatement("select * from t where a > (select b from u where c = 2);");
+
+        Assert.assertEquals(0, parser.getParseCache().getHits());
+        Assert.assertEquals(0, parser.getParseCache().size());
+    }
+
+    @Test
+    public void testParseAlert() throws RecognitionException {
+        SQLPlusParser parser = new SQLPlusParser(new CommonTokenStream(new SQLPlusLex(new ANTLRStringStream(
+                "alert before update in items if price > (select avg_price from prices);"))));
+        ExpressionBinary condition = (ExpressionBinary) parser.sqlplus_alert().getCondition();
+
+        Assert.assertEquals(">", condition.getRelationalOperator());
+        Assert.assertEquals("price", condition.getLeftExpression().toString());
+        Assert.assertTrue(condition.getRightExpression() instanceof ExpressionSubquery);
+    }
+
+    @Test
+    public void testAlertMayFire() throws SQLException {
+        CountingSubqueryCache cache = new CountingSubqueryCache();
+        SessionParser parser = new SessionParser();
+        StatementAlert alert = (StatementAlert) parser.parseStatement(
+                "alert before update in items if price > (select avg_price from prices);");
+
+        // The subquery returns 1
+        Assert.assertTrue(alert.mayFire((StatementDML) parser.parseStatement(
+                "update items set price = 1 where price between 5 and 10;"), cache, null));
+        Assert.assertFalse(alert.mayFire((StatementDML) parser.parseStatement(
+                "update items set price = 1 where price < 1;"), cache, null));
+        Assert.assertFalse(alert.mayFire((StatementDML) parser.parseStatement(
+                "update prices set price = 1 where price between 5 and 10;"), cache, null));
+        Assert.assertEquals(1, cache.executions);
+        Assert.assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void testCache() throws RecognitionException, SQLException {
+        CountingSubqueryCache cache = new CountingSubqueryCache();
+        ExpressionSubquery subquery = TestSubqueryCache.parseSubquery(
+                "select * from items where price > (select avg_price from prices);");
+
+        Assert.assertEquals(1, cache.get(subquery, null).get(0)[0]);
+        Assert.assertEquals(1, cache.get(subquery, null).get(0)[0]);
+        Assert.assertEquals(1, cache.executions);
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(1, cache.getMisses());
+
+        cache.time = TimeUnit.SECONDS.toNanos(11);
+        Assert.assertEquals(2, cache.get(subquery, null).get(0)[0]);
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testCorrelatedNotCached() throws RecognitionException, SQLException {
+        CountingSubqueryCache cache = new CountingSubqueryCache();
+        ExpressionSubquery subquery = TestSubqueryCache.parseSubquery(
+                "select * from t where exists (select * from u where u.a = t.a);");
+
+        cache.get(subquery, null);
+        cache.get(subquery, null);
+
+        Assert.assertEquals(2, cache.executions);
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidate() throws RecognitionException, SQLException {
+        CountingSubqueryCache cache = new CountingSubqueryCache();
+        SessionParser parser = new SessionParser();
+        ExpressionSubquery subquery = TestSubqueryCache.parseSubquery(
+                "select * from items where price > (select avg_price from prices);");
+
+        cache.get(subquery, null);
+        cache.invalidate(parser.parse("select * from prices;"));
+        cache.invalidate(parser.parse("update items set price = 1;"));
+        Assert.assertEquals(1, cache.size());
+
+        cache.invalidate(parser.parse("update prices set avg_price = 1;"));
+        Assert.assertEquals(0, cache.size());
+
+        cache.get(subquery, null);
+        cache.invalidate("shop.PRICES");
+        Assert.assertEquals(0, cache.size());
+
+        cache.get(subquery, null);
+        cache.invalidate(new StatementUseDatabase("shop"));
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(3, cache.executions);
+    }
+
+}
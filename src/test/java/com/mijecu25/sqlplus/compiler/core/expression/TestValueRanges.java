@@ -0,0 +1,124 @@
+package com.mijecu25.sqlplus.compiler.core.expression;
+
+import java.math.BigDecimal;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementDML;
+import com.mijecu25.sqlplus.parser.SQLPlusLex;
+import com.mijecu25.sqlplus.parser.SQLPlusParser;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Test ValueRanges
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.4
+ */
+public class TestValueRanges {
+
+    private static Expression whereClause(String condition) throws RecognitionException {
+        return ((StatementDML) new SessionParser().parse("select * from t where " + condition + ";")).getWhereClause();
+    }
+
+    private static ValueRanges ranges(String condition) throws RecognitionException {
+        return ValueRanges.of(TestValueRanges.whereClause(condition));
+    }
+
+    private static boolean disjoint(String first, String second) throws RecognitionException {
+        return ValueRanges.disjoint(TestValueRanges.whereClause(first), TestValueRanges.whereClause(second));
+    }
+
+    private static Expression alert(String alert) throws RecognitionException {
+        return new SQLPlusParser(new CommonTokenStream(new SQLPlusLex(new ANTLRStringStream(alert)))).sqlplus_alert()
+                .getCondition();
+    }
+
+    @Test
+    public void testDerive() throws RecognitionException {
+        Assert.assertEquals("[100, 200]", TestValueRanges.ranges("id between 100 and 200").get("id").toString());
+        Assert.assertEquals("(10, 20]", TestValueRanges.ranges("t.id > 10 and 20 >= id and id > 5").get("ID")
+                .toString());
+        Assert.assertEquals("{1, 2.5, 3}", TestValueRanges.ranges("id in (3, 1, 2.5, null, 1.0)").get("id").toString());
+        Assert.assertEquals("[5, 5]", TestValueRanges.ranges("not id < 5 and id <= 5").get("id").toString());
+        Assert.assertNull(TestValueRanges.ranges("id <> 5 and name = 'x' and id not in (1, 2)").get("id"));
+        Assert.assertNull(TestValueRanges.ranges("id = 5 or name = 'x'").get("id"));
+        Assert.assertNull(ValueRanges.of(null).get("id"));
+    }
+
+    @Test
+    public void testUnion() throws RecognitionException {
+        Assert.assertEquals("{1, 2, 3}", TestValueRanges.ranges("id in (1, 2) or id = 3").get("id").toString());
+        Assert.assertEquals("[1, 30)", TestValueRanges.ranges("id between 1 and 10 or id > 20 and id < 30").get("id")
+                .toString());
+        Assert.assertEquals("(-inf, 10]", TestValueRanges.ranges("id < 5 or id <= 10").get("id").toString());
+    }
+
+    @Test
+    public void testEmpty() throws RecognitionException {
+        Assert.assertTrue(TestValueRanges.ranges("id > 5 and id < 5").isEmpty());
+        Assert.assertTrue(TestValueRanges.ranges("id >= 5 and id < 5").isEmpty());
+        Assert.assertFalse(TestValueRanges.ranges("id >= 5 and id <= 5").isEmpty());
+        Assert.assertTrue(TestValueRanges.ranges("id in (1, 2) and id > 2").isEmpty());
+        Assert.assertTrue(TestValueRanges.ranges("id = null").isEmpty());
+        Assert.assertTrue(TestValueRanges.ranges("1 = 2 and name = 'x'").isEmpty());
+        Assert.assertFalse(TestValueRanges.ranges("id > 5 and id < 5 or name = 'x'").isEmpty());
+    }
+
+    @Test
+    public void testDisjoint() throws RecognitionException {
+        Assert.assertTrue(TestValueRanges.disjoint("id between 100 and 200", "id > 10000"));
+        Assert.assertFalse(TestValueRanges.disjoint("id between 100 and 200", "id > 150"));
+        Assert.assertTrue(TestValueRanges.disjoint("id in (1, 2, 3)", "id >= 3.5"));
+        Assert.assertFalse(TestValueRanges.disjoint("id in (1, 2, 3)", "price > 100"));
+        Assert.assertFalse(TestValueRanges.disjoint("id between 100 and 200", "id > 10000 or name = 'x'"));
+    }
+
+    @Test
+    public void testRange() {
+        ValueRanges.Range interval = ValueRanges.Range.interval(BigDecimal.ONE, true, BigDecimal.TEN, false);
+
+        Assert.assertTrue(interval.contains(BigDecimal.ONE));
+        Assert.assertFalse(interval.contains(BigDecimal.TEN));
+        Assert.assertTrue(interval.intersect(ValueRanges.Range.interval(BigDecimal.TEN, true, null, false)).isEmpty());
+        Assert.assertEquals("[1, +inf)", interval.union(ValueRanges.Range.interval(BigDecimal.TEN, true, null, false))
+                .toString());
+    }
+
+    @Test
+    public void testAlert() throws RecognitionException {
+        SessionParser parser = new SessionParser();
+        StatementDML update = (StatementDML) parser.parse("update items set price = 1 where id between 100 and 200;");
+
+        Assert.assertFalse(update.mayMatch(TestValueRanges.alert("alert before update in items if id > 10000;")));
+        Assert.assertTrue(update.mayMatch(TestValueRanges.alert("alert before update in items if id > 150;")));
+        Assert.assertTrue(update.mayMatch(TestValueRanges.alert("alert before update in items if id = ?;")));
+        Assert.assertTrue(update.mayMatch(TestValueRanges.alert("alert before update in items if id > price;")));
+        Assert.assertTrue(((StatementDML) parser.parse("update items set price = 1;")).mayMatch(
+                TestValueRanges.alert("alert before update in items if id > 10000;")));
+    }
+
+    @Test
+    public void testIs() throws RecognitionException {
+        Assert.assertFalse(TestValueRanges.ranges("id is null").isEmpty());
+        Assert.assertTrue(TestValueRanges.ranges("id is null and id is not null").isEmpty());
+        Assert.assertTrue(TestValueRanges.ranges("id is null and id > 5").isEmpty());
+        Assert.assertFalse(TestValueRanges.ranges("id is null or id > 5").isEmpty());
+        Assert.assertEquals("(5, +inf) or NULL", TestValueRanges.ranges("id is null or id > 5").get("id").toString());
+        Assert.assertEquals("{0}", TestValueRanges.ranges("id is false").get("id").toString());
+        Assert.assertTrue(TestValueRanges.disjoint("id is false", "id > 5"));
+        Assert.assertFalse(TestValueRanges.disjoint("id is not false", "id > 5"));
+        Assert.assertTrue(TestValueRanges.disjoint("id is null", "id between 1 and 2"));
+    }
+
+    @Test
+    public void testDoubleOutOfRange() throws RecognitionException {
+        Assert.assertFalse(TestValueRanges.ranges("id > 1e400").isEmpty());
+        Assert.assertTrue(TestValueRanges.ranges("id > 1e400 and id < 5").isEmpty());
+        Assert.assertTrue(TestValueRanges.disjoint("id in (1e400, 2e400)", "id < 1e300"));
+    }
+}
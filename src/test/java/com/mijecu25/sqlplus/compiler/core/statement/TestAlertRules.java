@@ -0,0 +1,95 @@
+package com.mijecu25.sqlplus.compiler.core.statement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.expression.SubqueryCache;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementDML;
+import com.mijecu25.sqlplus.parser.SessionParser;
+
+/**
+ * Test AlertRules
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class TestAlertRules {
+
+    private static StatementAlert alert(String condition) {
+        return (StatementAlert) new SessionParser().parseStatement("alert before update in t if " + condition + ";");
+    }
+
+    /**
+     * Return the conditions of the alerts that might fire for an UPDATE statement.
+     */
+    private static List<String> mayFire(AlertRules rules, String whereClause) {
+        StatementDML update = (StatementDML) new SessionParser().parseStatement("update t set x = 1 where "
+                + whereClause + ";");
+        List<String> conditions = new ArrayList<String>();
+
+        for(StatementAlert alert : rules.mayFire(update, new SubqueryCache(1, 1, TimeUnit.SECONDS), null)) {
+            conditions.add(alert.getCondition().toSQL());
+        }
+
+        return conditions;
+    }
+
+    @Test
+    public void testUnsatisfiable() {
+        AlertRules rules = new AlertRules();
+
+        Assert.assertTrue(AlertRules.isUnsatisfiable(TestAlertRules.alert("a > 5 and a < 3")));
+        Assert.assertEquals(AlertRules.Registration.UNSATISFIABLE, rules.add(TestAlertRules.alert("a > 5 and a < 3")));
+        Assert.assertEquals(AlertRules.Registration.UNSATISFIABLE,
+                rules.add(TestAlertRules.alert("a = 1 and b > 2 and a = 2 or a < 0 and a > 0")));
+        Assert.assertEquals(AlertRules.Registration.ADDED, rules.add(TestAlertRules.alert("a > 5 and a < 3 or b = 1")));
+        Assert.assertEquals(AlertRules.Registration.ADDED, rules.add(TestAlertRules.alert("a > 5 and b = ?")));
+        Assert.assertEquals(2, rules.size());
+    }
+
+    @Test
+    public void testSubsumed() {
+        AlertRules rules = new AlertRules();
+
+        Assert.assertEquals(AlertRules.Registration.ADDED, rules.add(TestAlertRules.alert("a > 5")));
+        Assert.assertEquals(AlertRules.Registration.SUBSUMED, rules.add(TestAlertRules.alert("b = 1 and a > 5")));
+        Assert.assertEquals(AlertRules.Registration.SUBSUMED, rules.add(TestAlertRules.alert("a > 5")));
+        Assert.assertEquals(AlertRules.Registration.SUBSUMED, rules.add(TestAlertRules.alert("a > 5 and c = ?")));
+        Assert.assertEquals(AlertRules.Registration.ADDED, rules.add(TestAlertRules.alert("a > 5 or b = 1")));
+        Assert.assertEquals(AlertRules.Registration.ADDED, rules.add((StatementAlert) new SessionParser()
+                .parseStatement("alert after update in t if a > 5 and b = 1;")));
+
+        // A comparison with a question mark cannot cover other alerts
+        Assert.assertEquals(AlertRules.Registration.ADDED, rules.add(TestAlertRules.alert("c = ?")));
+        Assert.assertEquals(AlertRules.Registration.ADDED, rules.add(TestAlertRules.alert("c = ? and d = 1")));
+        Assert.assertEquals(8, rules.size());
+    }
+
+    @Test
+    public void testBroaderAlert() {
+        AlertRules rules = new AlertRules();
+        rules.add(TestAlertRules.alert("a > 5 and b = 1"));
+        rules.add(TestAlertRules.alert("b = 1 and c < 0"));
+
+        Assert.assertEquals(AlertRules.Registration.ADDED, rules.add(TestAlertRules.alert("b = 1")));
+        Assert.assertEquals("AlertRules [size=3, groups=1]", rules.toString());
+    }
+
+    @Test
+    public void testMayFire() {
+        AlertRules rules = new AlertRules();
+        rules.add(TestAlertRules.alert("a > 5"));
+        rules.add(TestAlertRules.alert("a > 5 and b = 1"));
+        rules.add(TestAlertRules.alert("a > 5"));
+        rules.add(TestAlertRules.alert("c = 1"));
+
+        Assert.assertEquals("[c = 1]", TestAlertRules.mayFire(rules, "a < 2").toString());
+        Assert.assertEquals("[a > 5, a > 5, c = 1]", TestAlertRules.mayFire(rules, "a = 10 and b = 2").toString());
+        Assert.assertEquals("[a > 5, a > 5 AND b = 1, a > 5]", TestAlertRules.mayFire(rules, "c = 2").toString());
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.mijecu25.sqlplus.connection;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.parser.StatementFingerprint;
+
+/**
+ * Test DigestStatistics
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class TestDigestStatistics {
+
+    @Test
+    public void testRecord() {
+        DigestStatistics statistics = new DigestStatistics();
+        StatementFingerprint fingerprint = new StatementFingerprint("select * from t where a = 1;");
+
+        statistics.record(fingerprint, 100, 3, 0, false);
+        statistics.record(new StatementFingerprint("SELECT * FROM t WHERE a = 2;"), 300, 1, 0, true);
+
+        DigestStatistics.Digest digest = statistics.get(fingerprint.getDigest());
+
+        Assert.assertEquals(1, statistics.size());
+        Assert.assertEquals("select*from t where a=?;", digest.getText());
+        Assert.assertEquals(2, digest.getCount());
+        Assert.assertEquals(400, digest.getTotalTime());
+        Assert.assertEquals(100, digest.getMinTime());
+        Assert.assertEquals(300, digest.getMaxTime());
+        Assert.assertEquals(200, digest.getAverageTime(), 0);
+        Assert.assertEquals(4, digest.getRowsReturned());
+        Assert.assertEquals(1, digest.getErrors());
+    }
+
+    @Test
+    public void testPercentile() {
+        DigestStatistics statistics = new DigestStatistics();
+        StatementFingerprint fingerprint = new StatementFingerprint("update t set a = 1;");
+
+        for(int i = 1; i <= 1000; i++) {
+            statistics.record(fingerprint, i * 1000L, 0, 1, false);
+        }
+
+        DigestStatistics.Digest digest = statistics.get(fingerprint.getDigest());
+        long p99 = digest.getP99Time();
+
+        Assert.assertEquals(1000, digest.getRowsAffected());
+        Assert.assertTrue(p99 >= 990000);
+        Assert.assertTrue(p99 <= 990000 * 1.125);
+        Assert.assertEquals(1000, digest.getPercentileTime(0.1), 1000 * 0.125);
+        Assert.assertEquals(1000000, digest.getPercentileTime(100));
+    }
+
+    @Test
+    public void testTopByTotalTime() {
+        DigestStatistics statistics = new DigestStatistics(2);
+
+        statistics.record(new StatementFingerprint("select * from a;"), 10, 0, 0, false);
+        statistics.record(new StatementFingerprint("select * from b;"), 30, 0, 0, false);
+        statistics.record(new StatementFingerprint("select * from c;"), 50, 0, 0, false);
+        statistics.record(new StatementFingerprint("select * from a;"), 5, 0, 0, false);
+
+        List<DigestStatistics.Digest> top = statistics.getTopByTotalTime(1);
+
+        Assert.assertEquals(1, top.size());
+        Assert.assertEquals("select*from b;", top.get(0).getText());
+        Assert.assertEquals(2, statistics.size());
+        Assert.assertEquals(1, statistics.getDropped());
+    }
+
+    @Test
+    public void testConcurrentRecord() throws InterruptedException {
+        final DigestStatistics statistics = new DigestStatistics();
+        final StatementFingerprint fingerprint = new StatementFingerprint("select * from t;");
+        Thread[] threads = new Thread[4];
+
+        for(int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for(int j = 1; j <= 10000; j++) {
+                        statistics.record(fingerprint, j, 1, 0, false);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+
+        for(Thread thread : threads) {
+            thread.join();
+        }
+
+        DigestStatistics.Digest digest = statistics.get(fingerprint.getDigest());
+
+        Assert.assertEquals(40000, digest.getCount());
+        Assert.assertEquals(40000, digest.getRowsReturned());
+        Assert.assertEquals(1, digest.getMinTime());
+        Assert.assertEquals(10000, digest.getMaxTime());
+    }
+
+    @Test
+    public void testConcurrentMaxDigests() throws InterruptedException {
+        final DigestStatistics statistics = new DigestStatistics(10);
+        Thread[] threads = new Thread[4];
+
+        for(int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for(int j = 0; j < 1000; j++) {
+                        statistics.record(new StatementFingerprint("select * from t" + j + ";"), j, 0, 0, false);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+
+        for(Thread thread : threads) {
+            thread.join();
+        }
+
+        long recorded = 0;
+
+        for(DigestStatistics.Digest digest : statistics.getTopByTotalTime(Integer.MAX_VALUE)) {
+            recorded += digest.getCount();
+        }
+
+        Assert.assertEquals(10, statistics.size());
+        Assert.assertEquals(4000, recorded + statistics.getDropped());
+    }
+
+    @Test
+    public void testClear() {
+        DigestStatistics statistics = new DigestStatistics(1);
+
+        statistics.record(new StatementFingerprint("select * from a;"), 10, 0, 0, false);
+        statistics.record(new StatementFingerprint("select * from b;"), 10, 0, 0, false);
+        statistics.clear();
+        statistics.record(new StatementFingerprint("select * from b;"), 10, 0, 0, false);
+
+        Assert.assertEquals(1, statistics.size());
+        Assert.assertEquals(0, statistics.getDropped());
+        Assert.assertNotNull(statistics.get(new StatementFingerprint("select * from b;").getDigest()));
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.util.Random;
+
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.expression.ColumnarValues;
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementUseDatabase;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementDML;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSingleTableUpdateStatement;
+
+/**
+ * Test FastPathParser. Every command that the fast path parser accepts must be parsed into an equivalent statement
+ * by the grammar.
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.3
+ */
+public class TestFastPathParser {
+
+    private static final String[] ACCEPTED = {
+            "use courses;",
+            "USE courses ;",
+            "select * from classes;",
+            "select name, year from db.classes where year >= 2016;",
+            "select c.name as n, year y from classes where not a = 1 and b <> 'x' or c is not null;",
+            "select a from t where a = - 5 xor b != 1.5e3 || c && d;",
+            "select a from t where a <= .5 and b ^= \"x\" and c ~= true;",
+            "insert into t values (1, 'a'), (-2, null);",
+            "INSERT t (a, b, s.t.c) VALUES (+ 1.5, c);",
+            "insert into db.t values ('a b', true, x.y);",
+            "update t set a = 1, b = default where c = 'x';",
+            "UPDATE db.t SET a = b, c = 'y' WHERE d > 1 AND e < 2;",
+            "update t set a = 1 is null where b is false;",
+            "select * from t where a = 1;   ",
+    };
+
+    private static final String[] REJECTED = {
+            "select * from t",
+            "Select * from t;",
+            "select * From t;",
+            "select * from t; use d;",
+            "select * from t where a = (select b from u);",
+            "select * from t where a = any (select b from u);",
+            "select * from t where not exists (select b from u);",
+            "select * from t\nwhere a = 1;",
+            "select * from t where a = 'it''s';",
+            "select * from t where a = 1a;",
+            "select a from;",
+            "select * from t where a = - - 1;",
+            "insert into t values (1, 2), (3);",
+            "insert into t values (_);",
+            "update t set a = 1 where;",
+            "use tables;",
+            "select between from t;",
+            "select * from t where a in (1, 2);",
+            "select * from t where a > (select b from u);",
+            "show tables;",
+    };
+
+    private static final String[] WORDS = { "select", "SELECT", "Select", "from", "FROM", "where", "WHERE", "insert",
+            "into", "values", "update", "set", "use", "as", "AS", "and", "AND", "&&", "or", "||", "xor", "not", "!",
+            "is", "in", "between", "null", "NULL", "true", "false", "default", "any", "all", "ALL", "exists", "tables", "a", "b", "c1",
+            "_x", "$y", "t", "db", "1", "25", "1.5", ".5", "1e3", "2.5E-2", "'x'", "'a b'", "\"q\"", "''", "*", ",",
+            ",", ".", "(", ")", "=", "=", "<", "<=", ">", ">=", "<>", "!=", "~=", "^=", "+", "-", "1a", "_" };
+
+    @Test
+    public void testAccepted() throws RecognitionException {
+        for(String query : TestFastPathParser.ACCEPTED) {
+            Statement statement = new FastPathParser().parse(query);
+
+            Assert.assertNotNull(query, statement);
+            TestFastPathParser.assertEquivalent(query, new SessionParser().parse(query), statement);
+        }
+    }
+
+    @Test
+    public void testRejected() {
+        for(String query : TestFastPathParser.REJECTED) {
+            Assert.assertNull(query, new FastPathParser().parse(query));
+        }
+    }
+
+    @Test
+    public void testUnsupported() {
+        try {
+            new FastPathParser().parse("select a from t, u;");
+            Assert.fail();
+        }
+        catch (UnsupportedOperationException uoe) {
+            // The grammar throws the same exception
+        }
+    }
+
+    @Test
+    public void testDifferential() {
+        Random random = new Random(25);
+        FastPathParser fastPathParser = new FastPathParser();
+        SessionParser sessionParser = new SessionParser();
+        String[] starts = { "select * from t where ", "select a, b c from db.t where ", "update t set a = ",
+                "insert into t (a, b) values (", "insert t values (1, ", "use " };
+        int accepted = 0;
+
+        for(int i = 0; i < 20000; i++) {
+            StringBuilder query = new StringBuilder(starts[random.nextInt(starts.length)]);
+            int words = 1 + random.nextInt(8);
+
+            for(int j = 0; j < words; j++) {
+                query.append(TestFastPathParser.WORDS[random.nextInt(TestFastPathParser.WORDS.length)]);
+
+                if(random.nextInt(3) > 0) {
+                    query.append(random.nextBoolean() ? " " : "\t ");
+                }
+            }
+
+            query.append(';');
+
+            Statement statement = fastPathParser.parse(query.toString());
+
+            if(statement == null) {
+                continue;
+            }
+
+            accepted++;
+
+            try {
+                TestFastPathParser.assertEquivalent(query.toString(), sessionParser.parse(query.toString()), statement);
+            }
+            catch (RecognitionException re) {
+                Assert.fail("The grammar does not recognize " + query);
+            }
+        }
+
+        Assert.assertTrue(accepted > 500);
+    }
+
+    private static void assertEquivalent(String query, Statement expected, Statement actual) {
+        Assert.assertNotNull(query, expected);
+        Assert.assertEquals(query, expected.getClass(), actual.getClass());
+
+        if(expected instanceof StatementUseDatabase) {
+            Assert.assertEquals(query, ((StatementUseDatabase) expected).getDatabase(),
+                    ((StatementUseDatabase) actual).getDatabase());
+
+            return;
+        }
+
+        StatementDML expectedDML = (StatementDML) expected;
+        StatementDML actualDML = (StatementDML) actual;
+        Assert.assertEquals(query, expectedDML.getColumns(), actualDML.getColumns());
+        Assert.assertEquals(query, expectedDML.getTables(), actualDML.getTables());
+        // Interned expressions are the same instance
+        Assert.assertSame(query, expectedDML.getWhereClause(), actualDML.getWhereClause());
+
+        if(expected instanceof StatementSingleTableUpdateStatement) {
+            Assert.assertEquals(query, ((StatementSingleTableUpdateStatement) expected).getColumnValues(),
+                    ((StatementSingleTableUpdateStatement) actual).getColumnValues());
+        }
+        else if(expected instanceof StatementInsertStatement1) {
+            ColumnarValues expectedValues = ((StatementInsertStatement1) expected).getValues();
+            ColumnarValues actualValues = ((StatementInsertStatement1) actual).getValues();
+            Assert.assertEquals(query, expectedValues.getRowCount(), actualValues.getRowCount());
+            Assert.assertEquals(query, expectedValues.getColumnCount(), actualValues.getColumnCount());
+
+            for(int row = 0; row < expectedValues.getRowCount(); row++) {
+                for(int column = 0; column < expectedValues.getColumnCount(); column++) {
+                    Assert.assertEquals(query, expectedValues.getType(row, column), actualValues.getType(row, column));
+                    Assert.assertEquals(query, expectedValues.isNull(row, column), actualValues.isNull(row, column));
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementDefault;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementUseDatabase;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
+
+/**
+ * Test ParallelScriptParser
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class TestParallelScriptParser {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelScriptParserWorkers() {
+        new ParallelScriptParser(new ScriptReader(new StringReader("")), 0);
+    }
+
+    @Test
+    public void testNextStatementInOrder() throws IOException {
+        StringBuilder script = new StringBuilder();
+        int commands = 2000;
+
+        for(int i = 0; i < commands; i++) {
+            switch(i % 3) {
+                case 0:
+                    script.append("use d").append(i).append(";\n");
+                    break;
+                case 1:
+                    script.append("insert into t values (").append(i).append(");\n");
+                    break;
+                default:
+                    script.append("show tables;\n");
+            }
+        }
+
+        ParallelScriptParser parser = new ParallelScriptParser(new ScriptReader(new StringReader(script.toString())), 4);
+
+        for(int i = 0; i < commands; i++) {
+            Statement statement = parser.nextStatement();
+
+            switch(i % 3) {
+                case 0:
+                    Assert.assertTrue(statement instanceof StatementUseDatabase);
+                    Assert.assertEquals("StatementUseDatabase [statement=use d" + i + ";]", statement.toString());
+                    break;
+                case 1:
+                    Assert.assertTrue(statement instanceof StatementInsertStatement1);
+                    Assert.assertEquals(i, ((StatementInsertStatement1) statement).getValues().getLong(0, 0));
+                    break;
+                default:
+                    Assert.assertTrue(statement instanceof StatementDefault);
+            }
+        }
+
+        Assert.assertNull(parser.nextStatement());
+
+        parser.close();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testNextStatementUnsupported() throws IOException {
+        ParallelScriptParser parser = new ParallelScriptParser(new ScriptReader(new StringReader("select a from t, u;")), 2);
+
+        try {
+            parser.nextStatement();
+        }
+        finally {
+            parser.close();
+        }
+    }
+
+    @Test
+    public void testSharedParseCache() throws IOException {
+        ParseCache parseCache = new ParseCache(16);
+        ParallelScriptParser parser = new ParallelScriptParser(new ScriptReader(new StringReader(
+                "use a;\nselect * from t where a = 1;\nselect * from t where a = 2;\nshow tables;\n")), 1, parseCache);
+
+        while(parser.nextStatement() != null) {
+            Assert.assertTrue(parser.getParseTime() > 0);
+        }
+
+        parser.close();
+        ParseStatistics statistics = parser.getStatistics();
+
+        Assert.assertEquals(1, parseCache.getHits());
+        Assert.assertEquals(1, statistics.getCount(ParseStatistics.Stage.CACHED));
+        Assert.assertEquals(1, statistics.getCount(ParseStatistics.Stage.BYPASSED));
+        Assert.assertEquals(2, statistics.getCount(ParseStatistics.Stage.FAST_PATH));
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.mijecu25.sqlplus.parser;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CommonTokenStream;
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.expression.ColumnarValues;
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementDefault;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSingleTableUpdateStatement;
+
+/**
+ * Test ParseCache
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class TestParseCache {
+
+    private static Statement parse(String query) throws RecognitionException {
+        SQLPlusParser parser = new SQLPlusParser(new CommonTokenStream(new SQLPlusLex(new ANTLRStringStream(query))));
+
+        return parser.sqlplus();
+    }
+
+    private static Statement cache(ParseCache cache, String query) throws RecognitionException {
+        StatementFingerprint fingerprint = new StatementFingerprint(query);
+        Statement statement = cache.get(fingerprint);
+
+        if(statement == null) {
+            statement = TestParseCache.parse(query);
+            cache.put(fingerprint, statement);
+        }
+
+        return statement;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseCacheCapacity() {
+        new ParseCache(0);
+    }
+
+    @Test
+    public void testGetSelect() throws RecognitionException {
+        ParseCache cache = new ParseCache(4);
+        Statement first = TestParseCache.cache(cache, "select * from t where a = 1 or b = 'x';");
+        Statement second = TestParseCache.cache(cache, "select * from t where a = 2 or b = 'y';");
+
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(1, cache.getMisses());
+        Assert.assertNotSame(first, second);
+        Assert.assertTrue(second instanceof StatementSelectExpression);
+        Assert.assertEquals(TestParseCache.parse("select * from t where a = 2 or b = 'y';").getClass(), second.getClass());
+        Assert.assertEquals(((StatementSelectExpression) TestParseCache.parse("select * from t where a = 2 or b = 'y';"))
+                .getWhereClause().toString(), ((StatementSelectExpression) second).getWhereClause().toString());
+    }
+
+    @Test
+    public void testGetInsert() throws RecognitionException {
+        ParseCache cache = new ParseCache(4);
+        TestParseCache.cache(cache, "insert into t (a, b) values (1, 'x'), (-2, c);");
+        Statement statement = TestParseCache.cache(cache, "insert into t (a, b) values (3, 'y'), (-4, c);");
+
+        Assert.assertEquals(1, cache.getHits());
+        ColumnarValues values = ((StatementInsertStatement1) statement).getValues();
+
+        Assert.assertEquals(2, values.getRowCount());
+        Assert.assertEquals(3, values.getLong(0, 0));
+        Assert.assertEquals("y", values.getString(0, 1));
+        Assert.assertEquals(-4, values.getLong(1, 0));
+        Assert.assertEquals("c", values.getExpression(1, 1));
+    }
+
+    @Test
+    public void testGetUpdate() throws RecognitionException {
+        ParseCache cache = new ParseCache(4);
+        TestParseCache.cache(cache, "update t set a = 1, b = default where c = 'x';");
+        Statement statement = TestParseCache.cache(cache, "update t set a = 2, b = default where c = 'y';");
+
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertTrue(statement instanceof StatementSingleTableUpdateStatement);
+        Assert.assertEquals("=c'y'", ((StatementSingleTableUpdateStatement) statement).getWhereClause().toString());
+    }
+
+    @Test
+    public void testGetDefault() {
+        ParseCache cache = new ParseCache(4);
+        cache.put(new StatementFingerprint("show tables like 'a';"), new StatementDefault());
+
+        Assert.assertTrue(cache.get(new StatementFingerprint("show tables like 'b';")) instanceof StatementDefault);
+    }
+
+    @Test
+    public void testGetLeastRecentlyUsed() throws RecognitionException {
+        ParseCache cache = new ParseCache(2);
+        TestParseCache.cache(cache, "use a;");
+        TestParseCache.cache(cache, "use b;");
+        TestParseCache.cache(cache, "use a;");
+        TestParseCache.cache(cache, "use c;");
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertNotNull(cache.get(new StatementFingerprint("use a;")));
+        Assert.assertNull(cache.get(new StatementFingerprint("use b;")));
+    }
+
+    @Test
+    public void testGetHitRate() throws RecognitionException {
+        ParseCache cache = new ParseCache(4);
+
+        Assert.assertEquals(0, cache.getHitRate(), 0);
+
+        TestParseCache.cache(cache, "select a from t where a = 1;");
+        TestParseCache.cache(cache, "select a from t where a = 2;");
+        TestParseCache.cache(cache, "select a from t where a = 3;");
+        TestParseCache.cache(cache, "select a from t where a = 4;");
+
+        Assert.assertEquals(0.75, cache.getHitRate(), 0);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementDefault;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementUseDatabase;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
+
+/**
+ * Test ScriptParser
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class TestScriptParser {
+
+    @Test
+    public void testNextStatement() throws IOException {
+        ScriptParser scriptParser = new ScriptParser(new StringReader("use courses;\nshow tables;\n"
+                + "insert into classes\nvalues ('a', 1);\n"), new SessionParser());
+
+        Assert.assertTrue(scriptParser.nextStatement() instanceof StatementUseDatabase);
+        Assert.assertTrue(scriptParser.nextStatement() instanceof StatementDefault);
+
+        Statement statement = scriptParser.nextStatement();
+
+        Assert.assertTrue(statement instanceof StatementInsertStatement1);
+        Assert.assertNull(scriptParser.nextStatement());
+
+        scriptParser.close();
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test ScriptReader
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class TestScriptReader {
+
+    @Test
+    public void testReadCommand() throws IOException {
+        ScriptReader scriptReader = new ScriptReader(new StringReader("use courses;\nselect *\nfrom classes;\n"));
+
+        Assert.assertEquals("use courses;", scriptReader.readCommand());
+        Assert.assertEquals("select * from classes;", scriptReader.readCommand());
+        Assert.assertNull(scriptReader.readCommand());
+    }
+
+    @Test
+    public void testReadCommandQuotes() throws IOException {
+        ScriptReader scriptReader = new ScriptReader(new StringReader("insert into t values ('a;b', \"c';\");use d;"));
+
+        Assert.assertEquals("insert into t values ('a;b', \"c';\");", scriptReader.readCommand());
+        Assert.assertEquals("use d;", scriptReader.readCommand());
+        Assert.assertNull(scriptReader.readCommand());
+    }
+
+    @Test
+    public void testReadCommandEmpty() throws IOException {
+        ScriptReader scriptReader = new ScriptReader(new StringReader(" ;\n;use d;\n  select"));
+
+        Assert.assertEquals("use d;", scriptReader.readCommand());
+        Assert.assertNull(scriptReader.readCommand());
+    }
+
+    @Test
+    public void testReadCommandLargeScript() throws IOException {
+        final int commands = 100000;
+
+        // Generate the script while it is read so that it is never held in memory
+        Reader script = new Reader() {
+            private int index = 0;
+
+            @Override
+            public int read(char[] buffer, int offset, int length) {
+                if(this.index == commands * 2) {
+                    return -1;
+                }
+
+                buffer[offset] = this.index % 2 == 0 ? 'x' : ';';
+                this.index++;
+
+                return 1;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        ScriptReader scriptReader = new ScriptReader(script);
+        int read = 0;
+
+        while(scriptReader.readCommand() != null) {
+            read++;
+        }
+
+        Assert.assertEquals(commands, read);
+    }
+
+}
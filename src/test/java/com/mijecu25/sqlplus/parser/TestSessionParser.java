@@ -0,0 +1,130 @@
+package com.mijecu25.sqlplus.parser;
+
+import org.antlr.runtime.RecognitionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.mijecu25.sqlplus.compiler.core.statement.Statement;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementAlert;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementDefault;
+import com.mijecu25.sqlplus.compiler.core.statement.StatementUseDatabase;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementInsertStatement1;
+import com.mijecu25.sqlplus.compiler.core.statement.dml.StatementSelectExpression;
+
+/**
+ * Test SessionParser
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.7
+ */
+public class TestSessionParser {
+
+    @Test
+    public void testParse() throws RecognitionException {
+        SessionParser parser = new SessionParser();
+
+        Assert.assertTrue(parser.parse("use courses;") instanceof StatementUseDatabase);
+        Assert.assertTrue(parser.parse("select * from classes where a = 1;") instanceof StatementSelectExpression);
+        Assert.assertTrue(parser.parse("insert into classes values ('a', 1);") instanceof StatementInsertStatement1);
+    }
+
+    @Test
+    public void testParseShorterAfterLonger() throws RecognitionException {
+        SessionParser parser = new SessionParser();
+        parser.parse("select name, year, created_at from classes where name = 'a very long name' and year = 2016;");
+        Statement statement = parser.parse("select * from t where a = 1;");
+
+        Assert.assertEquals("=a1", ((StatementSelectExpression) statement).getWhereClause().toString());
+    }
+
+    @Test
+    public void testParseAfterError() throws RecognitionException {
+        SessionParser parser = new SessionParser();
+
+        try {
+            parser.parse("select * feom classes;");
+            Assert.fail();
+        }
+        catch (RecognitionException re) {
+            // The parser must recover for the next command
+        }
+
+        Assert.assertTrue(parser.parse("use courses;") instanceof StatementUseDatabase);
+    }
+
+    @Test
+    public void testParseRuleText() throws RecognitionException {
+        SessionParser parser = new SessionParser();
+        StatementInsertStatement1 statement = (StatementInsertStatement1) parser.parse("insert into db . t values (- 5, 'a  b', c);");
+
+        Assert.assertEquals(-5, statement.getValues().getLong(0, 0));
+        Assert.assertEquals("a  b", statement.getValues().getString(0, 1));
+        Assert.assertEquals("c", statement.getValues().getExpression(0, 2));
+    }
+
+    @Test
+    public void testParseStatementStatistics() {
+        SessionParser parser = new SessionParser();
+        parser.parseStatement("show tables;");
+        parser.parseStatement("select * from t where a = 1;");
+        parser.parseStatement("select * from t where a = 2;");
+        parser.parseStatement("select * from t where a = (select b from u);");
+        parser.parseStatement("select * feom t;");
+        ParseStatistics statistics = parser.getStatistics();
+
+        Assert.assertEquals(1, statistics.getCount(ParseStatistics.Stage.BYPASSED));
+        Assert.assertEquals(1, statistics.getCount(ParseStatistics.Stage.FAST_PATH));
+        Assert.assertEquals(1, statistics.getCount(ParseStatistics.Stage.CACHED));
+        Assert.assertEquals(2, statistics.getCount(ParseStatistics.Stage.FAST_PATH_MISS));
+        Assert.assertEquals(1, statistics.getCount(ParseStatistics.Stage.GRAMMAR_FAILED));
+        Assert.assertEquals(1, statistics.getCount(ParseStatistics.Stage.GRAMMAR));
+    }
+
+    @Test
+    public void testParseStatementAlert() {
+        SessionParser parser = new SessionParser();
+        Statement statement = parser.parseStatement("ALERT BEFORE INSERT IN t IF id > 5;");
+
+        Assert.assertTrue(statement instanceof StatementAlert);
+        StatementAlert alert = (StatementAlert) statement;
+        Assert.assertEquals("BEFORE", alert.getTiming());
+        Assert.assertEquals("INSERT", alert.getDataManipulationLanguage());
+        Assert.assertEquals("t", alert.getTable());
+        Assert.assertEquals("id > 5", alert.getCondition().toSQL());
+        Assert.assertEquals("StatementAlert [statement=ALERT BEFORE INSERT IN t IF id > 5;]", alert.toString());
+
+        Assert.assertTrue(parser.parseStatement("alert after update in t if id = ?;") instanceof StatementAlert);
+        Assert.assertTrue(parser.parseStatement("alert before update in t if id = (select id from u);")
+                instanceof StatementAlert);
+        Assert.assertEquals(3, parser.getStatistics().getCount(ParseStatistics.Stage.GRAMMAR));
+    }
+
+    @Test
+    public void testParseStatementAlertChain() {
+        SessionParser parser = new SessionParser();
+        StatementAlert alert = (StatementAlert) parser.parseStatement(
+                "alert before insert in t if id > 5 and id < 10 or name = ?;");
+
+        Assert.assertEquals("ALERT BEFORE INSERT IN t IF id > 5 AND id < 10 OR name = ?", alert.getDescription());
+        Assert.assertFalse(alert.isEvaluable());
+
+        alert = (StatementAlert) parser.parseStatement("alert before insert in t if id > 5 or id < 1 and name = 'a';");
+        Assert.assertEquals("id > 5 OR id < 1 AND name = 'a'", alert.getCondition().toSQL());
+        Assert.assertTrue(alert.isEvaluable());
+    }
+
+    @Test
+    public void testParseStatementSyntaxError() {
+        SessionParser parser = new SessionParser();
+        Statement statement = parser.parseStatement("alert before insert in t;");
+
+        Assert.assertTrue(statement instanceof StatementDefault);
+        Assert.assertEquals("StatementDefault [statement=alert before insert in t;]", statement.toString());
+
+        parser.parseStatement("select * feom t where a = 1;");
+        parser.parseStatement("select * feom t where a = 2;");
+        Assert.assertEquals(0, parser.getParseCache().size());
+        Assert.assertEquals(3, parser.getStatistics().getCount(ParseStatistics.Stage.GRAMMAR_FAILED));
+    }
+
+}
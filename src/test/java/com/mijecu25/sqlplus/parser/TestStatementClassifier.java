@@ -0,0 +1,39 @@
+package com.mijecu25.sqlplus.parser;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test StatementClassifier
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class TestStatementClassifier {
+
+    @Test
+    public void testIsParseable() {
+        Assert.assertTrue(StatementClassifier.isParseable("select * from classes;"));
+        Assert.assertTrue(StatementClassifier.isParseable("  INSERT into classes values (1);"));
+        Assert.assertTrue(StatementClassifier.isParseable("update classes set a = 1;"));
+        Assert.assertTrue(StatementClassifier.isParseable("use courses;"));
+        Assert.assertTrue(StatementClassifier.isParseable("alert before insert in t if a = b;"));
+    }
+
+    @Test
+    public void testIsParseableDefault() {
+        Assert.assertFalse(StatementClassifier.isParseable("show tables;"));
+        Assert.assertFalse(StatementClassifier.isParseable("create table t (a int);"));
+        Assert.assertFalse(StatementClassifier.isParseable("describe classes;"));
+        Assert.assertFalse(StatementClassifier.isParseable("(select * from classes);"));
+        Assert.assertFalse(StatementClassifier.isParseable(""));
+    }
+
+    @Test
+    public void testIsParseableKeywordPrefix() {
+        Assert.assertFalse(StatementClassifier.isParseable("user;"));
+        Assert.assertFalse(StatementClassifier.isParseable("Select * from classes;"));
+        Assert.assertTrue(StatementClassifier.isParseable("select;"));
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test StatementFingerprint
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.2
+ */
+public class TestStatementFingerprint {
+
+    @Test
+    public void testStatementFingerprint() {
+        StatementFingerprint fingerprint = new StatementFingerprint("select * from t where a = 1 and b = 'x';");
+
+        Assert.assertEquals("select * from t where a = ? and b = ?;", fingerprint.getFingerprint());
+        Assert.assertEquals(Arrays.asList("1", "'x'"), fingerprint.getLiterals());
+        Assert.assertTrue(fingerprint.isCacheable());
+    }
+
+    @Test
+    public void testStatementFingerprintSameShape() {
+        StatementFingerprint first = new StatementFingerprint("insert into t values (1, \"a\"), (2.5e3, 'b');");
+        StatementFingerprint second = new StatementFingerprint("insert into t  values (30,\t'c'), (.5, \"d\");");
+
+        Assert.assertEquals(first.getFingerprint().replace(" ", ""), second.getFingerprint().replace(" ", ""));
+        Assert.assertEquals(Arrays.asList("30", "'c'", ".5", "\"d\""), second.getLiterals());
+    }
+
+    @Test
+    public void testStatementFingerprintWhitespace() {
+        StatementFingerprint first = new StatementFingerprint("use   courses;");
+        StatementFingerprint second = new StatementFingerprint("use\tcourses;");
+
+        Assert.assertEquals(first.getFingerprint(), second.getFingerprint());
+    }
+
+    @Test
+    public void testStatementFingerprintIdentifiers() {
+        StatementFingerprint fingerprint = new StatementFingerprint("select t1.a2 from t1 where a2 = -3;");
+
+        Assert.assertEquals("select t1.a2 from t1 where a2 = -?;", fingerprint.getFingerprint());
+        Assert.assertEquals(Arrays.asList("3"), fingerprint.getLiterals());
+    }
+
+    @Test
+    public void testStatementFingerprintQuotes() {
+        StatementFingerprint fingerprint = new StatementFingerprint("select * from t where a = 'x;y' and b = 'z");
+
+        Assert.assertEquals("select * from t where a = ? and b = ?", fingerprint.getFingerprint());
+        Assert.assertEquals(Arrays.asList("'x;y'", "'z"), fingerprint.getLiterals());
+    }
+
+    @Test
+    public void testStatementFingerprintQuestionMark() {
+        StatementFingerprint fingerprint = new StatementFingerprint("alert before insert in t if a = ?;");
+
+        Assert.assertFalse(fingerprint.isCacheable());
+    }
+
+    @Test
+    public void testStatementFingerprintDigest() {
+        StatementFingerprint first = new StatementFingerprint("SELECT * FROM T WHERE a=1 AND b IN ('x', 2);");
+        StatementFingerprint second = new StatementFingerprint("select  *  from t where A = 25 and B in (\"y\",3.5);");
+        StatementFingerprint other = new StatementFingerprint("select * from t where a = 1 or b in ('x', 2);");
+
+        Assert.assertEquals("select*from t where a=? and b in(?,?);", first.getNormalizedText());
+        Assert.assertEquals(first.getNormalizedText(), second.getNormalizedText());
+        Assert.assertEquals(first.getDigest(), second.getDigest());
+        Assert.assertNotEquals(first.getDigest(), other.getDigest());
+    }
+
+    @Test
+    public void testStatementFingerprintDigestText() {
+        String[] queries = { "select * from t1 where a = 'x' and b = ?;", "update t set a = .5e3, b=\tnull;",
+                "Insert Into t (a, b) values (1, 'a'), (2, 'b');", "show tables;" };
+
+        for(String query : queries) {
+            StatementFingerprint fingerprint = new StatementFingerprint(query);
+            String text = fingerprint.getNormalizedText();
+
+            // The digest is the hash of the normalized text, which is built in a different pass
+            Assert.assertEquals(text, new StatementFingerprint(text).getNormalizedText());
+            Assert.assertEquals(fingerprint.getDigest(), new StatementFingerprint(text).getDigest());
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.mijecu25.sqlplus.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test StatementSplitter
+ *
+ * @author Miguel Velez - miguelvelezmj25
+ * @version 0.1.0.1
+ */
+public class TestStatementSplitter {
+
+    private static List<String> split(String... chunks) {
+        StatementSplitter splitter = new StatementSplitter();
+        List<String> commands = new ArrayList<String>();
+
+        for(String chunk : chunks) {
+            splitter.append(chunk, commands);
+        }
+
+        return commands;
+    }
+
+    @Test
+    public void testAppend() {
+        Assert.assertEquals(Arrays.asList("use courses;", "select * from classes;"),
+                TestStatementSplitter.split("use courses; select *\n  from classes;\n"));
+    }
+
+    @Test
+    public void testAppendChunks() {
+        Assert.assertEquals(Arrays.asList("select 'a;b' from t;"), TestStatementSplitter.split("sel", "ect 'a;", "b' from t", ";"));
+    }
+
+    @Test
+    public void testAppendQuotes() {
+        Assert.assertEquals(Arrays.asList("insert into t values ('it''s;', \"a;b\", 'c\\';');", "select `a;b` from t;"),
+                TestStatementSplitter.split("insert into t values ('it''s;', \"a;b\", 'c\\';'); select `a;b` from t;"));
+    }
+
+    @Test
+    public void testAppendQuotesKeepNewLines() {
+        Assert.assertEquals(Arrays.asList("insert into t values ('a\nb');"),
+                TestStatementSplitter.split("insert into t\nvalues ('a\nb');"));
+    }
+
+    @Test
+    public void testAppendComments() {
+        Assert.assertEquals(Arrays.asList("select a from t where a = 1;", "select 2;"),
+                TestStatementSplitter.split("-- first; comment\nselect a # second; comment\nfrom t -- third;\nwhere a = 1;",
+                        "select 2; -- trailing"));
+    }
+
+    @Test
+    public void testAppendDoubleDashWithoutSpace() {
+        Assert.assertEquals(Arrays.asList("select 1--1;"), TestStatementSplitter.split("select 1--1;"));
+    }
+
+    @Test
+    public void testAppendBlockComments() {
+        Assert.assertEquals(Arrays.asList("/*!40101 SET NAMES utf8 */;", "select /* a; */ 1;", "select /**/ 2;"),
+                TestStatementSplitter.split("/*!40101 SET NAMES utf8 */;\nselect /* a; */ 1;select /**/ 2;"));
+    }
+
+    @Test
+    public void testAppendDelimiter() {
+        StatementSplitter splitter = new StatementSplitter();
+        List<String> commands = new ArrayList<String>();
+        splitter.append("DELIMITER //\ncreate procedure p() begin select 1; end//\ndelimiter ;\nselect 2;", commands);
+
+        Assert.assertEquals(Arrays.asList("create procedure p() begin select 1; end;", "select 2;"), commands);
+        Assert.assertEquals(";", splitter.getDelimiter());
+    }
+
+    @Test
+    public void testAppendDelimiterNotCommand() {
+        StatementSplitter splitter = new StatementSplitter();
+        List<String> commands = new ArrayList<String>();
+        splitter.append("delimiters;\nselect delimiter from t;", commands);
+
+        Assert.assertEquals(Arrays.asList("delimiters;", "select delimiter from t;"), commands);
+        Assert.assertEquals(";", splitter.getDelimiter());
+    }
+
+    @Test
+    public void testAppendDelimiterAtEnd() {
+        StatementSplitter splitter = new StatementSplitter();
+        splitter.append("delimiter $$", new ArrayList<String>());
+
+        Assert.assertNull(splitter.finish());
+        Assert.assertEquals("$$", splitter.getDelimiter());
+    }
+
+    @Test
+    public void testIsEmpty() {
+        StatementSplitter splitter = new StatementSplitter();
+        List<String> commands = new ArrayList<String>();
+
+        Assert.assertTrue(splitter.isEmpty());
+
+        splitter.append("select 'a;\n", commands);
+
+        Assert.assertFalse(splitter.isEmpty());
+        Assert.assertTrue(commands.isEmpty());
+
+        splitter.append("';\n", commands);
+
+        Assert.assertTrue(splitter.isEmpty());
+        Assert.assertEquals(Arrays.asList("select 'a;\n';"), commands);
+    }
+
+    @Test
+    public void testFinish() {
+        StatementSplitter splitter = new StatementSplitter();
+        splitter.append("select 1; select", new ArrayList<String>());
+
+        Assert.assertEquals("select", splitter.finish());
+        Assert.assertTrue(splitter.isEmpty());
+    }
+
+    @Test
+    public void testAppendLargeCommand() {
+        StringBuilder input = new StringBuilder("insert into t values (0)");
+
+        for(int i = 1; i < 100000; i++) {
+            input.append(", (").append(i).append(")");
+        }
+
+        input.append(";");
+
+        List<String> commands = TestStatementSplitter.split(input.toString());
+
+        Assert.assertEquals(1, commands.size());
+        Assert.assertEquals(input.toString(), commands.get(0));
+    }
+
+}